@@ -24,6 +24,7 @@ import static org.eclipse.wst.server.core.IServer.STATE_UNKNOWN;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.jface.resource.ImageRegistry;
 import org.eclipse.payara.tools.server.PayaraServer;
+import org.eclipse.payara.tools.ui.serverview.dynamicnodes.ServerNodeCache;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.ui.plugin.AbstractUIPlugin;
 import org.eclipse.wst.server.core.IServer;
@@ -56,7 +57,8 @@ public class PayaraToolsUIPlugin extends AbstractUIPlugin {
     }
 
     /**
-     * Start a UpdateServerJob to update status when GF server is added
+     * Start a UpdateServerJob to update status when GF server is added, drop what is cached for
+     * a server when it is removed
      */
     private void addServerLifecycleListener() {
 
@@ -77,6 +79,7 @@ public class PayaraToolsUIPlugin extends AbstractUIPlugin {
 
             @Override
             public void serverRemoved(IServer server) {
+                ServerNodeCache.removeCache(server);
             }
         };
 
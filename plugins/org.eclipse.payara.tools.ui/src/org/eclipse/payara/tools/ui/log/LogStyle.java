@@ -18,16 +18,23 @@
 
 package org.eclipse.payara.tools.ui.log;
 
+import static org.eclipse.payara.tools.log.LogRingBuffer.STYLE_ERROR;
+import static org.eclipse.payara.tools.log.LogRingBuffer.STYLE_NONE;
+import static org.eclipse.payara.tools.log.LogRingBuffer.styleKind;
+import static org.eclipse.payara.tools.log.LogRingBuffer.styleLength;
+import static org.eclipse.payara.tools.log.LogRingBuffer.styleStart;
 import static org.eclipse.payara.tools.preferences.PreferenceConstants.ENABLE_COLORS_CONSOLE;
 
 import java.util.Arrays;
-import java.util.logging.Level;
 
 import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.jface.preference.JFacePreferences;
+import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.util.IPropertyChangeListener;
 import org.eclipse.jface.util.PropertyChangeEvent;
 import org.eclipse.payara.tools.PayaraToolsPlugin;
+import org.eclipse.payara.tools.log.AbstractPayaraConsole;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.LineStyleEvent;
 import org.eclipse.swt.custom.LineStyleListener;
@@ -35,62 +42,66 @@ import org.eclipse.swt.custom.StyleRange;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.PlatformUI;
 
+/**
+ * Colors the level of warnings and errors. Styles of the lines are computed when the lines are added
+ * to the console, painting a line only looks its style up.
+ */
 public class LogStyle implements LineStyleListener, IPropertyChangeListener {
     Display display = Display.getCurrent();
 
     IPreferenceStore store = PayaraToolsPlugin.getInstance().getPreferenceStore();
     boolean colorInConsole = store.getBoolean(ENABLE_COLORS_CONSOLE);
 
-    // private IDocument document;
+    private final AbstractPayaraConsole console;
+    private final IDocument document;
 
-    public LogStyle(IDocument document) {
+    public LogStyle(AbstractPayaraConsole console) {
+        this.console = console;
+        this.document = console.getDocument();
         store.addPropertyChangeListener(this);
     }
 
     @Override
     public void lineGetStyle(LineStyleEvent event) {
-        StyleRange styleRange = null;
-        String buf = event.lineText;
-        int start;
-
-        if (colorInConsole) {
-            if ((start = buf.indexOf(Level.WARNING.getName())) != -1) {
-                styleRange = new StyleRange();
-                styleRange.start = event.lineOffset + start;
-                styleRange.length = 6;
-                styleRange.foreground = display.getSystemColor(SWT.COLOR_DARK_YELLOW);
-            } else if ((start = buf.indexOf(Level.SEVERE.getName())) != -1) {
-                // Makr severe error and exception stack trace as error color
-                styleRange = new StyleRange();
-                String errorColorName = org.eclipse.jface.preference.JFacePreferences.ERROR_COLOR;
-                styleRange.foreground = PlatformUI.getWorkbench().getThemeManager().getCurrentTheme().getColorRegistry()
-                        .get(errorColorName);
-                styleRange.start = event.lineOffset + start;
-                styleRange.length = 5;
-                styleRange.fontStyle = SWT.BOLD;
-            } else if ((start = buf.indexOf("FATAL")) != -1) {
-                styleRange = new StyleRange();
-                String errorColorName = org.eclipse.jface.preference.JFacePreferences.ERROR_COLOR;
-                styleRange.foreground = PlatformUI.getWorkbench().getThemeManager().getCurrentTheme().getColorRegistry()
-                        .get(errorColorName);
-                styleRange.start = event.lineOffset + start;
-                styleRange.length = 4;
-                styleRange.fontStyle = SWT.BOLD;
-            }
-
-            if (styleRange != null) {
-                StyleRange[] styles;
-                if (event.styles != null) {
-                    styles = Arrays.copyOf(event.styles, event.styles.length + 1);
-                } else {
-                    styles = new StyleRange[1];
-                }
-                styles[styles.length - 1] = styleRange;
-
-                // Set the styles for the line
-                event.styles = styles;
-            }
+        if (!colorInConsole) {
+            return;
         }
+
+        long style;
+        try {
+            style = console.getLineStyle(document.getLineOfOffset(event.lineOffset));
+        } catch (BadLocationException e) {
+            return;
+        }
+
+        int kind = styleKind(style);
+        int length = Math.min(styleLength(style), event.lineText.length() - styleStart(style));
+        if (kind == STYLE_NONE || length <= 0) {
+            return;
+        }
+
+        StyleRange styleRange = new StyleRange();
+        styleRange.start = event.lineOffset + styleStart(style);
+        styleRange.length = length;
+        if (kind == STYLE_ERROR) {
+            // Mark severe error and exception stack trace as error color
+            styleRange.foreground = PlatformUI.getWorkbench().getThemeManager().getCurrentTheme().getColorRegistry()
+                    .get(JFacePreferences.ERROR_COLOR);
+            styleRange.fontStyle = SWT.BOLD;
+        } else {
+            styleRange.foreground = display.getSystemColor(SWT.COLOR_DARK_YELLOW);
+        }
+
+        StyleRange[] styles;
+        if (event.styles != null) {
+            styles = Arrays.copyOf(event.styles, event.styles.length + 1);
+        } else {
+            styles = new StyleRange[1];
+        }
+        styles[styles.length - 1] = styleRange;
+
+        // Set the styles for the line
+        event.styles = styles;
     }
 
     @Override
@@ -18,32 +18,105 @@
 
 package org.eclipse.payara.tools.ui.log;
 
+import static java.util.stream.Collectors.joining;
+
+import java.util.List;
+
+import org.eclipse.jface.action.IStatusLineManager;
+import org.eclipse.jface.action.StatusLineContributionItem;
+import org.eclipse.payara.tools.log.AbstractPayaraConsole;
+import org.eclipse.payara.tools.log.IPayaraConsole;
+import org.eclipse.payara.tools.log.LogMetrics;
 import org.eclipse.swt.custom.StyledText;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.ui.IActionBars;
 import org.eclipse.ui.console.IConsole;
 import org.eclipse.ui.console.IConsolePageParticipant;
-import org.eclipse.ui.console.TextConsole;
 import org.eclipse.ui.part.IPageBookViewPage;
 
+/**
+ * Adds log styles to the console page and shows the throughput and lag of the log sources of the
+ * console in the status line while the page is active.
+ */
 public class PayaraLogPageParticipant implements IConsolePageParticipant {
 
+    private static final String METRICS_ID = "org.eclipse.payara.tools.ui.log.metrics";
+
+    // Width of the status line item [characters]
+    private static final int METRICS_WIDTH = 80;
+
+    // Delay between updates of the metrics [ms]
+    private static final int METRICS_DELAY = 1000;
+
+    private IPayaraConsole console;
+    private Display display;
+    private IActionBars actionBars;
+    private StatusLineContributionItem metricsItem;
+    private boolean active;
+
+    // Same instance every time, so a pending update can be cancelled
+    private final Runnable metricsUpdate = this::updateMetrics;
+
     @Override
     public void init(IPageBookViewPage page, IConsole console) {
-        if (page.getControl() instanceof StyledText) {
+        if (page.getControl() instanceof StyledText && console instanceof AbstractPayaraConsole) {
             StyledText viewer = (StyledText) page.getControl();
-            viewer.addLineStyleListener(new LogStyle(((TextConsole) console).getDocument()));
+            viewer.addLineStyleListener(new LogStyle((AbstractPayaraConsole) console));
+        }
+
+        if (console instanceof IPayaraConsole && page.getControl() != null) {
+            this.console = (IPayaraConsole) console;
+            this.display = page.getControl().getDisplay();
+            this.metricsItem = new StatusLineContributionItem(METRICS_ID, METRICS_WIDTH);
+
+            this.actionBars = page.getSite().getActionBars();
+            IStatusLineManager statusLine = actionBars.getStatusLineManager();
+            statusLine.add(metricsItem);
+            actionBars.updateActionBars();
         }
     }
 
     @Override
     public void activated() {
+        active = true;
+        if (display != null && !display.isDisposed()) {
+            display.timerExec(-1, metricsUpdate);
+        }
+        updateMetrics();
     }
 
     @Override
     public void deactivated() {
+        active = false;
     }
 
     @Override
     public void dispose() {
+        active = false;
+        if (display != null && !display.isDisposed()) {
+            display.timerExec(-1, metricsUpdate);
+        }
+
+        // The status line is shared by all pages of the console view
+        if (metricsItem != null) {
+            actionBars.getStatusLineManager().remove(metricsItem);
+            actionBars.updateActionBars();
+            metricsItem.dispose();
+            metricsItem = null;
+        }
+    }
+
+    private void updateMetrics() {
+        if (!active || metricsItem == null || display.isDisposed()) {
+            return;
+        }
+
+        List<LogMetrics> metrics = console.getMetrics();
+        metricsItem.setText(metrics.stream()
+                .map(sourceMetrics -> sourceMetrics.sample().toString())
+                .collect(joining(" | ")));
+
+        display.timerExec(METRICS_DELAY, metricsUpdate);
     }
 
     @Override
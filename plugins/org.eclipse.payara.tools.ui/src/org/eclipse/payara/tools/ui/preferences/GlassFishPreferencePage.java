@@ -18,12 +18,20 @@
 
 package org.eclipse.payara.tools.ui.preferences;
 
+import static org.eclipse.payara.tools.preferences.PreferenceConstants.CONSOLE_EXCLUDE_LOGGERS;
+import static org.eclipse.payara.tools.preferences.PreferenceConstants.CONSOLE_INCLUDE_LOGGERS;
+import static org.eclipse.payara.tools.preferences.PreferenceConstants.CONSOLE_MIN_LEVEL;
 import static org.eclipse.payara.tools.preferences.PreferenceConstants.ENABLE_COLORS_CONSOLE;
 import static org.eclipse.payara.tools.preferences.PreferenceConstants.ENABLE_LOG;
 import static org.eclipse.payara.tools.preferences.PreferenceConstants.ENABLE_START_VERBOSE;
+import static org.eclipse.payara.tools.preferences.PreferenceConstants.LOG_STORE_MIN_LEVEL;
+
+import java.util.logging.Level;
 
 import org.eclipse.jface.preference.BooleanFieldEditor;
+import org.eclipse.jface.preference.ComboFieldEditor;
 import org.eclipse.jface.preference.FieldEditorPreferencePage;
+import org.eclipse.jface.preference.StringFieldEditor;
 import org.eclipse.payara.tools.PayaraToolsPlugin;
 import org.eclipse.ui.IWorkbench;
 import org.eclipse.ui.IWorkbenchPreferencePage;
@@ -69,6 +77,40 @@ public class GlassFishPreferencePage extends FieldEditorPreferencePage implement
                         ENABLE_COLORS_CONSOLE,
                         "Enable colored rendering in the Payara Log Viewer",
                         getFieldEditorParent()));
+
+        addField(
+                new ComboFieldEditor(
+                        CONSOLE_MIN_LEVEL,
+                        "&Minimum level of records in the Payara Log Viewer",
+                        levels(Level.ALL, Level.FINEST, Level.FINER, Level.FINE, Level.CONFIG,
+                                Level.INFO, Level.WARNING, Level.SEVERE),
+                        getFieldEditorParent()));
+        addField(
+                new StringFieldEditor(
+                        CONSOLE_INCLUDE_LOGGERS,
+                        "Show only &loggers starting with (comma separated)",
+                        getFieldEditorParent()));
+        addField(
+                new StringFieldEditor(
+                        CONSOLE_EXCLUDE_LOGGERS,
+                        "&Hide loggers starting with (comma separated)",
+                        getFieldEditorParent()));
+        addField(
+                new ComboFieldEditor(
+                        LOG_STORE_MIN_LEVEL,
+                        "Minimum level of records kept in the log s&tore",
+                        levels(Level.ALL, Level.FINEST, Level.FINER, Level.FINE, Level.CONFIG,
+                                Level.INFO, Level.WARNING, Level.SEVERE),
+                        getFieldEditorParent()));
+    }
+
+    private static String[][] levels(Level... levels) {
+        String[][] entries = new String[levels.length][];
+        for (int i = 0; i < levels.length; i++) {
+            entries[i] = new String[] { levels[i].getName(), levels[i].getName() };
+        }
+
+        return entries;
     }
 
     /*
@@ -19,6 +19,7 @@
 package org.eclipse.payara.tools.ui.serverview;
 
 import static org.eclipse.payara.tools.ui.serverview.ServerViewDynamicNodeProvider.GLASSFISH_MANAGEMENT;
+import static org.eclipse.payara.tools.ui.serverview.dynamicnodes.ServerNodeCache.getCache;
 
 import org.eclipse.jface.action.IMenuManager;
 import org.eclipse.jface.action.Separator;
@@ -30,7 +31,7 @@ import org.eclipse.payara.tools.ui.serverview.actions.UndeployAction;
 import org.eclipse.payara.tools.ui.serverview.actions.UnregisterResourceAction;
 import org.eclipse.payara.tools.ui.serverview.actions.WSDLInfoWebServiceAction;
 import org.eclipse.payara.tools.ui.serverview.dynamicnodes.ApplicationNode;
-import org.eclipse.payara.tools.ui.serverview.dynamicnodes.DeployedApplicationsNode;
+import org.eclipse.payara.tools.ui.serverview.dynamicnodes.DeferredTreeNode;
 import org.eclipse.payara.tools.ui.serverview.dynamicnodes.ResourcesNode;
 import org.eclipse.payara.tools.ui.serverview.dynamicnodes.TreeNode;
 import org.eclipse.payara.tools.ui.serverview.dynamicnodes.WebServiceNode;
@@ -112,26 +113,20 @@ public class ServerViewActionProvider extends GenericActionProvider {
     protected void refresh(Object selection) {
         super.refresh(selection);
 
-        DeployedApplicationsNode root = null;
-
-        if (selection instanceof DeployedApplicationsNode) {
-            root = (DeployedApplicationsNode) selection;
+        if (selection instanceof DeferredTreeNode) {
+            ((DeferredTreeNode<?>) selection).refresh();
         } else if (selection instanceof TreeNode) {
             TreeNode treeNode = (TreeNode) selection;
             if (treeNode.getName().equals(GLASSFISH_MANAGEMENT)) {
                 for (Object child : treeNode.getChildren()) {
-                    if (child instanceof DeployedApplicationsNode) {
-                        root = (DeployedApplicationsNode) child;
+                    if (child instanceof DeferredTreeNode && ((DeferredTreeNode<?>) child).getServer() != null) {
+                        getCache(((DeferredTreeNode<?>) child).getServer()).invalidateAll();
                         break;
                     }
                 }
             }
         }
 
-        if (root != null) {
-            root.refresh();
-        }
-
     }
 
 }
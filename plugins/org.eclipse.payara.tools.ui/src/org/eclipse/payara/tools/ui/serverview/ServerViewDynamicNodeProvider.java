@@ -22,13 +22,20 @@ import static org.eclipse.payara.tools.PayaraToolsPlugin.is31OrAbove;
 import static org.eclipse.payara.tools.utils.WtpUtil.load;
 import static org.eclipse.wst.server.core.IServer.STATE_STARTED;
 
+import java.util.function.Consumer;
+
 import org.eclipse.jface.viewers.ITreeContentProvider;
+import org.eclipse.jface.viewers.StructuredViewer;
+import org.eclipse.jface.viewers.Viewer;
 import org.eclipse.payara.tools.server.PayaraServer;
 import org.eclipse.payara.tools.ui.serverview.dynamicnodes.ApplicationNode;
+import org.eclipse.payara.tools.ui.serverview.dynamicnodes.DeferredTreeNode;
 import org.eclipse.payara.tools.ui.serverview.dynamicnodes.DeployedApplicationsNode;
 import org.eclipse.payara.tools.ui.serverview.dynamicnodes.DeployedWebServicesNode;
 import org.eclipse.payara.tools.ui.serverview.dynamicnodes.ResourcesNode;
+import org.eclipse.payara.tools.ui.serverview.dynamicnodes.ServerNodeCache;
 import org.eclipse.payara.tools.ui.serverview.dynamicnodes.TreeNode;
+import org.eclipse.swt.widgets.Control;
 import org.eclipse.wst.server.core.IServer;
 import org.eclipse.wst.server.ui.internal.viewers.BaseContentProvider;
 
@@ -36,6 +43,11 @@ import org.eclipse.wst.server.ui.internal.viewers.BaseContentProvider;
  * This provides provides the dynamic nodes; the tree nodes that are inserted underneath a running
  * Payara / GlassFish server node in the Servers view.
  *
+ * <p>
+ * Children fetched from the server are provided by {@link DeferredTreeNode}s in the background; the
+ * viewer is refreshed when they arrive or when the {@link ServerNodeCache} of a server is cleared.
+ * </p>
+ *
  * @see org.eclipse.payara.tools.ui.serverview.dynamicnodes
  *
  */
@@ -44,10 +56,51 @@ public class ServerViewDynamicNodeProvider extends BaseContentProvider implement
 
     static String GLASSFISH_MANAGEMENT = "GlassFish Management"; //$NON-NLS-1$
 
+    private final Consumer<Object> cacheListener = this::refreshLater;
+    private volatile StructuredViewer viewer;
+
     public ServerViewDynamicNodeProvider() {
         return;
     }
 
+    @Override
+    public void inputChanged(Viewer viewer, Object oldInput, Object newInput) {
+        super.inputChanged(viewer, oldInput, newInput);
+
+        if (viewer instanceof StructuredViewer && this.viewer == null) {
+            this.viewer = (StructuredViewer) viewer;
+            ServerNodeCache.addListener(cacheListener);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        ServerNodeCache.removeListener(cacheListener);
+        viewer = null;
+        super.dispose();
+    }
+
+    /**
+     * Refreshes element in the UI thread, called by the cache in a background thread.
+     */
+    private void refreshLater(Object element) {
+        StructuredViewer viewer = this.viewer;
+        if (viewer == null) {
+            return;
+        }
+
+        Control control = viewer.getControl();
+        if (control == null || control.isDisposed()) {
+            return;
+        }
+
+        control.getDisplay().asyncExec(() -> {
+            if (!control.isDisposed()) {
+                viewer.refresh(element);
+            }
+        });
+    }
+
     @Override
     public Object[] getChildren(Object parentElement) {
 
@@ -127,6 +180,11 @@ public class ServerViewDynamicNodeProvider extends BaseContentProvider implement
             return true;
         }
 
+        // Deferred nodes do not fetch their children until expanded
+        if (element instanceof DeferredTreeNode) {
+            return ((DeferredTreeNode<?>) element).hasChildren();
+        }
+
         if (element instanceof TreeNode) {
             return ((TreeNode) element).getChildren().length > 0;
         }
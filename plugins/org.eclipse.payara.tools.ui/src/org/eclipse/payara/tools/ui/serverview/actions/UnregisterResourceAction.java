@@ -135,6 +135,7 @@ public class UnregisterResourceAction extends Action {
                         new ProgressMonitorDialog(shell).run(true, false, op);
                     }
 
+                    currentResource.refresh();
                     StructuredViewer view = actionSite.getStructuredViewer();
                     view.refresh(currentResource.getParent());
 
@@ -0,0 +1,118 @@
+/******************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.ui.serverview.dynamicnodes;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.payara.tools.server.PayaraServer;
+
+/**
+ * Node whose children are fetched from the running server in the background.
+ *
+ * <p>
+ * The thread expanding the node, usually the UI thread, never waits for the server. Until the
+ * values are in the {@link ServerNodeCache} of the server the node shows a single "Fetching..."
+ * child and a background job fetches them; the node is passed to the listeners of the cache when they
+ * are available, so the viewer can refresh it.
+ * </p>
+ *
+ * @param <T> type of the values fetched from the server, one child node is created for each
+ */
+public abstract class DeferredTreeNode<T> extends TreeNode {
+
+    private final TreeNode[] fetching = { new TreeNode("Fetching...", null, this) };
+
+    private List<T> childValues;
+    private TreeNode[] children;
+
+    public DeferredTreeNode(String name, String type, TreeNode parent) {
+        super(name, type, parent);
+    }
+
+    public abstract PayaraServer getServer();
+
+    /**
+     * @return key of the values of this node in the cache of the server
+     */
+    protected abstract String getCacheKey();
+
+    /**
+     * @return key of the request fetching the values, nodes fetched by one request share it
+     */
+    protected String getFetchKey() {
+        return getCacheKey();
+    }
+
+    /**
+     * Fetches the values from the server, called in a background job.
+     */
+    protected abstract List<T> fetch() throws Exception;
+
+    /**
+     * Fetches the values of this node and of the other nodes with the same fetch key, called in a
+     * background job.
+     *
+     * @return values indexed by cache key
+     */
+    protected Map<String, ? extends List<?>> fetchAll() throws Exception {
+        return Collections.singletonMap(getCacheKey(), fetch());
+    }
+
+    protected abstract TreeNode createChild(T value);
+
+    @Override
+    public Object[] getChildren() {
+        if (getServer() == null) {
+            return new TreeNode[0];
+        }
+
+        ServerNodeCache cache = ServerNodeCache.getCache(getServer());
+        List<T> values = cache.get(getCacheKey());
+        if (values == null) {
+            cache.fetch(this);
+            return fetching;
+        }
+
+        if (values != childValues) {
+            TreeNode[] nodes = new TreeNode[values.size()];
+            for (int i = 0; i < nodes.length; i++) {
+                nodes[i] = createChild(values.get(i));
+            }
+            children = nodes;
+            childValues = values;
+        }
+
+        return children;
+    }
+
+    /**
+     * Tells whether the node can be expanded without fetching the values.
+     */
+    public boolean hasChildren() {
+        if (getServer() == null) {
+            return false;
+        }
+
+        List<T> values = ServerNodeCache.getCache(getServer()).get(getCacheKey());
+        return values == null || !values.isEmpty();
+    }
+
+    /**
+     * Clears the cached values, they are fetched again when the node is expanded.
+     */
+    public void refresh() {
+        if (getServer() != null) {
+            ServerNodeCache.getCache(getServer()).invalidate(getCacheKey());
+        }
+    }
+
+}
@@ -20,10 +20,7 @@ package org.eclipse.payara.tools.ui.serverview.dynamicnodes;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 
-import org.eclipse.payara.tools.PayaraToolsPlugin;
 import org.eclipse.payara.tools.server.PayaraServer;
 import org.eclipse.payara.tools.serverview.AppDesc;
 import org.eclipse.payara.tools.utils.NodesUtils;
@@ -53,70 +50,42 @@ import org.eclipse.payara.tools.utils.NodesUtils;
  *
  * <p>
  * Payara / GlassFish is dynamically queried for this list, hence it can only be retrieved for a
- * running server.
+ * running server. The list is fetched in the background and kept in the {@link ServerNodeCache}.
  * </p>
  *
  */
-public class DeployedApplicationsNode extends TreeNode {
+public class DeployedApplicationsNode extends DeferredTreeNode<AppDesc> {
 
     PayaraServer server;
-    ApplicationNode[] deployedapps;
 
     public DeployedApplicationsNode(PayaraServer server) {
         super("Deployed Applications", null, null);
         this.server = server;
     }
 
+    @Override
     public PayaraServer getServer() {
         return server;
     }
 
     @Override
-    public Object[] getChildren() {
-
-        ArrayList<ApplicationNode> appsList = new ArrayList<>();
-
-        if (deployedapps == null) {
-
-            try {
-
-                if (server == null) {
-                    deployedapps = appsList.toArray(new ApplicationNode[appsList.size()]);
-                    return deployedapps;
-                }
-
-                try {
-                    Map<String, List<AppDesc>> appMap = NodesUtils.getApplications(server, null);
-
-                    for (Entry<String, List<AppDesc>> entry : appMap.entrySet()) {
-
-                        List<AppDesc> apps = entry.getValue();
-
-                        for (AppDesc app : apps) {
-                            ApplicationNode t = new ApplicationNode(this, server, app);
-                            appsList.add(t);
-                        }
-
-                    }
-
-                } catch (Exception ex) {
-                    PayaraToolsPlugin.logError("get Applications is failing=", ex); //$NON-NLS-1$
-                }
-
-            } catch (Exception e) {
-
-            }
-
-            this.deployedapps = appsList.toArray(new ApplicationNode[appsList.size()]);
+    protected String getCacheKey() {
+        return "applications";
+    }
 
+    @Override
+    protected List<AppDesc> fetch() {
+        List<AppDesc> apps = new ArrayList<>();
+        for (List<AppDesc> containerApps : NodesUtils.getApplications(server, null).values()) {
+            apps.addAll(containerApps);
         }
 
-        return this.deployedapps;
-
+        return apps;
     }
 
-    public void refresh() {
-        deployedapps = null;
+    @Override
+    protected TreeNode createChild(AppDesc app) {
+        return new ApplicationNode(this, server, app);
     }
 
 }
@@ -20,10 +20,8 @@ package org.eclipse.payara.tools.ui.serverview.dynamicnodes;
 
 import static org.eclipse.payara.tools.utils.NodesUtils.getWebServices;
 
-import java.util.ArrayList;
 import java.util.List;
 
-import org.eclipse.payara.tools.PayaraToolsPlugin;
 import org.eclipse.payara.tools.server.PayaraServer;
 import org.eclipse.payara.tools.serverview.WSDesc;
 
@@ -50,71 +48,33 @@ import org.eclipse.payara.tools.serverview.WSDesc;
  * running server. </>
  *
  */
-public class DeployedWebServicesNode extends TreeNode {
+public class DeployedWebServicesNode extends DeferredTreeNode<WSDesc> {
 
     private PayaraServer server;
-    private WebServiceNode[] deployedapps;
 
     public DeployedWebServicesNode(PayaraServer server) {
         super("Deployed Web Services", null, null);
         this.server = server;
     }
 
+    @Override
     public PayaraServer getServer() {
         return server;
     }
 
     @Override
-    public Object[] getChildren() {
-
-        ArrayList<WebServiceNode> appsList = new ArrayList<>();
-
-        if (deployedapps == null) {
-
-            try {
-
-                if (server == null) {
-                    deployedapps = appsList.toArray(new WebServiceNode[appsList.size()]);
-                    return deployedapps;
-                }
-
-                try {
-                    List<WSDesc> wss = getWebServices(server);
-
-                    for (WSDesc app : wss) {
-
-                        WebServiceNode t = new WebServiceNode(this, server,
-
-                                app);
-
-                        appsList.add(t);
-
-                    }
-
-                } catch (Exception ex) {
-
-                    PayaraToolsPlugin.logError("get Applications is failing=", ex); //$NON-NLS-1$
-
-                }
-
-            } catch (Exception e) {
-
-            }
-
-            this.deployedapps = appsList
-
-                    .toArray(new WebServiceNode[appsList.size()]);
-
-        }
-
-        return this.deployedapps;
-
+    protected String getCacheKey() {
+        return "webservices";
     }
 
-    public void refresh() {
-
-        this.deployedapps = null;
+    @Override
+    protected List<WSDesc> fetch() {
+        return getWebServices(server);
+    }
 
+    @Override
+    protected TreeNode createChild(WSDesc ws) {
+        return new WebServiceNode(this, server, ws);
     }
 
 }
@@ -18,7 +18,10 @@
 
 package org.eclipse.payara.tools.ui.serverview.dynamicnodes;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 
 public class NodeTypes {
 
@@ -76,6 +79,20 @@ public class NodeTypes {
     private NodeTypes() {
     }
 
+    /**
+     * Returns all resource types shown below the resources node.
+     *
+     * @return Types of the leaf resource nodes.
+     */
+    static String[] getResourceTypes() {
+        List<String> types = new ArrayList<>();
+        for (String group : RESOURCES_TREE) {
+            types.addAll(Arrays.asList(nodeTree.get(group)));
+        }
+
+        return types.toArray(new String[types.size()]);
+    }
+
     /**
      * Returns an array of tree children as strings given a particular parent name.
      *
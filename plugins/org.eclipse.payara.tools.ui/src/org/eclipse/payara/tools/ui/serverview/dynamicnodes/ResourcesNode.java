@@ -20,9 +20,11 @@ package org.eclipse.payara.tools.ui.serverview.dynamicnodes;
 
 import static org.eclipse.payara.tools.PayaraToolsPlugin.logError;
 import static org.eclipse.payara.tools.ui.serverview.dynamicnodes.NodeTypes.RESOURCES;
+import static org.eclipse.payara.tools.utils.NodesUtils.getAllResources;
 import static org.eclipse.payara.tools.utils.NodesUtils.getResourceData;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -57,10 +59,9 @@ import org.eclipse.ui.views.properties.TextPropertyDescriptor;
  * running server. </>
  *
  */
-public class ResourcesNode extends TreeNode {
+public class ResourcesNode extends DeferredTreeNode<ResourceDesc> {
 
     private PayaraServer server;
-    private ResourcesNode[] children;
     private boolean containerNode;
     private ResourceDesc resDescriptor;
     private Map<String, String> map;
@@ -92,6 +93,7 @@ public class ResourcesNode extends TreeNode {
         }
     }
 
+    @Override
     public PayaraServer getServer() {
         return server;
     }
@@ -118,38 +120,68 @@ public class ResourcesNode extends TreeNode {
             return childModules.toArray();
         }
 
-        ArrayList<ResourcesNode> list = new ArrayList<>();
+        return super.getChildren();
+    }
 
-        if (children == null) {
+    @Override
+    public boolean hasChildren() {
+        if (containerNode || resDescriptor != null) {
+            return !childModules.isEmpty();
+        }
 
-            try {
-                if (server == null) {
-                    children = list.toArray(new ResourcesNode[list.size()]);
-                    return children;
-                }
+        return super.hasChildren();
+    }
 
-                try {
-                    List<ResourceDesc> resourcesList = NodesUtils.getResources(server, type);
+    @Override
+    public void refresh() {
+        if (containerNode) {
+            for (TreeNode child : childModules) {
+                ((ResourcesNode) child).refresh();
+            }
+        } else {
+            super.refresh();
+        }
+    }
 
-                    for (ResourceDesc resource : resourcesList) {
-                        list.add(new ResourcesNode(resource.getName(), type, server, resource));
-                    }
+    /**
+     * Resources of the same type share the key, so refreshing a resource node refreshes its siblings.
+     */
+    @Override
+    protected String getCacheKey() {
+        return cacheKey(type);
+    }
 
-                } catch (Exception ex) {
-                    logError("get GlassFish Resources is failing=", ex); //$NON-NLS-1$
-                }
-            } catch (Exception e) {
-            }
+    private static String cacheKey(String type) {
+        return "resources/" + type;
+    }
+
+    /**
+     * Resources of all types are fetched by one request.
+     */
+    @Override
+    protected String getFetchKey() {
+        return "resources";
+    }
 
-            children = list.toArray(new ResourcesNode[list.size()]);
+    @Override
+    protected List<ResourceDesc> fetch() {
+        return NodesUtils.getResources(server, type);
+    }
 
+    @Override
+    protected Map<String, List<ResourceDesc>> fetchAll() {
+        String[] types = NodeTypes.getResourceTypes();
+        Map<String, List<ResourceDesc>> resources = new HashMap<>();
+        for (Map.Entry<String, List<ResourceDesc>> entry : getAllResources(server, types).entrySet()) {
+            resources.put(cacheKey(entry.getKey()), entry.getValue());
         }
 
-        return children;
+        return resources;
     }
 
-    public void refresh() {
-        children = null;
+    @Override
+    protected TreeNode createChild(ResourceDesc resource) {
+        return new ResourcesNode(resource.getName(), type, server, resource);
     }
 
     @Override
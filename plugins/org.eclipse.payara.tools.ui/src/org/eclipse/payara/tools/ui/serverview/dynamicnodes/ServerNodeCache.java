@@ -0,0 +1,201 @@
+/******************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.ui.serverview.dynamicnodes;
+
+import static org.eclipse.payara.tools.PayaraToolsPlugin.logError;
+import static org.eclipse.payara.tools.utils.Jobs.scheduleShortJob;
+import static org.eclipse.wst.server.core.ServerEvent.MODULE_CHANGE;
+import static org.eclipse.wst.server.core.ServerEvent.PUBLISH_STATE_CHANGE;
+import static org.eclipse.wst.server.core.ServerEvent.STATE_CHANGE;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.eclipse.payara.tools.server.PayaraServer;
+import org.eclipse.wst.server.core.IServer;
+import org.eclipse.wst.server.core.IServerListener;
+import org.eclipse.wst.server.core.ServerEvent;
+
+/**
+ * Cache of the artefacts fetched from a running server for the dynamic nodes.
+ *
+ * <p>
+ * The nodes below a server are created again every time the server is refreshed in the "Servers"
+ * view, so the fetched artefacts (applications, resources, web services) are kept per server and
+ * later expansions are served from here. Every kind of artefact is fetched by a background job at
+ * most once at the time; nodes expanded while the job runs wait for its result.
+ * </p>
+ *
+ * <p>
+ * The cache is cleared when the server changes state, publishes (deploys or undeploys modules,
+ * registers resources) or when the user refreshes or unregisters something in the view. Listeners
+ * are told about every node whose children have been fetched and every server whose cache has been
+ * cleared, so the viewer can be refreshed.
+ * </p>
+ */
+public class ServerNodeCache implements IServerListener {
+
+    private static final Map<String, ServerNodeCache> caches = new ConcurrentHashMap<>();
+    private static final List<Consumer<Object>> listeners = new CopyOnWriteArrayList<>();
+
+    private final IServer server;
+
+    // Guarded by this
+    private final Map<String, List<?>> values = new HashMap<>();
+    private final Map<String, List<DeferredTreeNode<?>>> waiting = new HashMap<>();
+    private long generation;
+
+    private ServerNodeCache(IServer server) {
+        this.server = server;
+    }
+
+    /**
+     * Returns cache of the given server, it starts listening to the server when first requested.
+     */
+    public static ServerNodeCache getCache(PayaraServer payaraServer) {
+        IServer server = payaraServer.getServer();
+        return caches.computeIfAbsent(server.getId(), id -> {
+            ServerNodeCache cache = new ServerNodeCache(server);
+            server.addServerListener(cache);
+            return cache;
+        });
+    }
+
+    /**
+     * Drops cache of the given server and stops listening to it, to be called when the server is
+     * removed.
+     */
+    public static void removeCache(IServer server) {
+        ServerNodeCache cache = caches.remove(server.getId());
+        if (cache != null) {
+            server.removeServerListener(cache);
+        }
+    }
+
+    /**
+     * Adds listener called with a {@link DeferredTreeNode} whose children have been fetched or with an
+     * {@link IServer} whose cache has been cleared. Listener is called in a background thread.
+     */
+    public static void addListener(Consumer<Object> listener) {
+        listeners.add(listener);
+    }
+
+    public static void removeListener(Consumer<Object> listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * @return cached values of the given key, null if not fetched yet
+     */
+    @SuppressWarnings("unchecked")
+    synchronized <T> List<T> get(String key) {
+        return (List<T>) values.get(key);
+    }
+
+    /**
+     * Fetches children values of the node in a background job unless they are being fetched already.
+     * The node is passed to the listeners when the values are available.
+     */
+    synchronized void fetch(DeferredTreeNode<?> node) {
+        String fetchKey = node.getFetchKey();
+        List<DeferredTreeNode<?>> nodes = waiting.get(fetchKey);
+        if (nodes != null) {
+            if (!nodes.contains(node)) {
+                nodes.add(node);
+            }
+            return;
+        }
+
+        nodes = new ArrayList<>();
+        nodes.add(node);
+        waiting.put(fetchKey, nodes);
+        long fetchGeneration = generation;
+
+        scheduleShortJob("Fetching " + node.getName() + " of " + server.getName(), monitor -> {
+            Map<String, List<?>> fetched = new HashMap<>();
+            try {
+                for (Map.Entry<String, ? extends List<?>> entry : node.fetchAll().entrySet()) {
+                    fetched.put(entry.getKey(), entry.getValue() != null ? entry.getValue() : Collections.emptyList());
+                }
+            } catch (Exception e) {
+                logError("Fetching " + node.getName() + " is failing=", e); //$NON-NLS-1$
+            }
+            fetched.putIfAbsent(node.getCacheKey(), Collections.emptyList());
+
+            fetched(fetchKey, fetched, fetchGeneration);
+        });
+    }
+
+    private void fetched(String fetchKey, Map<String, List<?>> fetched, long fetchGeneration) {
+        List<DeferredTreeNode<?>> nodes;
+        synchronized (this) {
+            // Values fetched before the cache has been cleared may be stale, the nodes fetch again
+            if (fetchGeneration == generation) {
+                values.putAll(fetched);
+            }
+            nodes = waiting.remove(fetchKey);
+        }
+
+        for (DeferredTreeNode<?> node : nodes) {
+            notifyListeners(node);
+        }
+    }
+
+    /**
+     * Clears the values of the given key.
+     */
+    public void invalidate(String key) {
+        boolean cached;
+        synchronized (this) {
+            cached = values.remove(key) != null;
+            generation++;
+        }
+
+        if (cached) {
+            notifyListeners(server);
+        }
+    }
+
+    /**
+     * Clears all values of the server.
+     */
+    public void invalidateAll() {
+        boolean cached;
+        synchronized (this) {
+            cached = !values.isEmpty();
+            values.clear();
+            generation++;
+        }
+
+        if (cached) {
+            notifyListeners(server);
+        }
+    }
+
+    @Override
+    public void serverChanged(ServerEvent event) {
+        if ((event.getKind() & (STATE_CHANGE | PUBLISH_STATE_CHANGE | MODULE_CHANGE)) != 0) {
+            invalidateAll();
+        }
+    }
+
+    private static void notifyListeners(Object element) {
+        for (Consumer<Object> listener : listeners) {
+            listener.accept(element);
+        }
+    }
+
+}
@@ -37,6 +37,7 @@ import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.jface.resource.ImageRegistry;
+import org.eclipse.payara.tools.log.LogStore;
 import org.eclipse.payara.tools.server.events.RuntimeLifecycleListener;
 import org.eclipse.payara.tools.server.events.ServerLifecycleListener;
 import org.eclipse.ui.plugin.AbstractUIPlugin;
@@ -83,6 +84,8 @@ public class PayaraToolsPlugin extends AbstractUIPlugin {
     public void stop(BundleContext v) throws Exception {
         logMessage("STOP IS CALLED!!!!!!!!!!!!!!!!");
 
+        LogStore.closeAll();
+
         for (String[] command : commandsToExecuteAtExit) {
             try {
                 logMessage(">>> " + command[0]);
@@ -19,6 +19,7 @@
 package org.eclipse.payara.tools.handlers;
 
 import static org.eclipse.payara.tools.PayaraToolsPlugin.logMessage;
+import static org.eclipse.payara.tools.log.PayaraConsoleManager.getLogFilter;
 import static org.eclipse.payara.tools.log.PayaraConsoleManager.getServerLogFileConsole;
 import static org.eclipse.payara.tools.log.PayaraConsoleManager.removeServerLogFileConsole;
 import static org.eclipse.payara.tools.log.PayaraConsoleManager.showConsole;
@@ -50,7 +51,7 @@ public class ViewLogHandler extends AbstractPayaraSelectionHandler {
             showConsole(getServerLogFileConsole(serverAdapter));
 
             if (!console.isLogging()) {
-                console.startLogging(FetchLogPiped.create(serverAdapter, false));
+                console.startLogging(FetchLogPiped.create(serverAdapter, false, getLogFilter()));
             }
 
         } catch (Exception e) {
@@ -18,73 +18,153 @@
 
 package org.eclipse.payara.tools.internal;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.eclipse.payara.tools.PayaraToolsPlugin.logError;
 import static org.eclipse.payara.tools.server.ServerStatus.NOT_DEFINED;
+import static org.eclipse.wst.server.core.IServer.STATE_STARTING;
+import static org.eclipse.wst.server.core.IServer.STATE_STOPPING;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 
+import org.eclipse.payara.tools.sdk.GlassFishStatus;
+import org.eclipse.payara.tools.sdk.GlassFishStatusListener;
+import org.eclipse.payara.tools.sdk.TaskEvent;
+import org.eclipse.payara.tools.sdk.data.GlassFishStatusCheck;
+import org.eclipse.payara.tools.sdk.data.GlassFishStatusCheckResult;
+import org.eclipse.payara.tools.sdk.data.GlassFishStatusTask;
+import org.eclipse.payara.tools.sdk.server.state.StatusScheduler;
+import org.eclipse.payara.tools.sdk.utils.ServerUtils;
 import org.eclipse.payara.tools.server.PayaraServer;
 import org.eclipse.payara.tools.server.ServerStatus;
 import org.eclipse.payara.tools.utils.ServerStatusHelper;
 
-public class ServerStatusMonitor implements Runnable {
+/**
+ * Status state machine of a single server.
+ *
+ * <p>
+ * There is one monitor per server, shared by the server behaviour and the SDK
+ * {@link StatusScheduler}. The monitor probes the server while at least one of its users has
+ * started it and is dropped once the last of them stops it.
+ * </p>
+ *
+ * <p>
+ * All monitors schedule their probes on the shared timer of {@link StatusScheduler}. A probe starts
+ * with an admin port check driven by the shared port prober selector, so no thread waits for a
+ * connect timeout. The rest of the probe runs on a separate pool as the location request blocks on
+ * the network, so an unreachable server does not hold up probes of other servers or other status
+ * checks. The probe interval backs off while the status of the server stays the same and tightens
+ * while the server is starting or stopping.
+ * Only one probe per server runs at a time; forced updates requested while a probe is running
+ * share its result. Every probe result is pushed to all registered {@link ServerStateListener}
+ * and {@link GlassFishStatusListener} subscribers.
+ * </p>
+ */
+public class ServerStatusMonitor {
 
     private static final int DEFAULT_DELAY_IN_SEC = 5;
 
-    private ScheduledExecutorService scheduler;
-    private PayaraServer server;
-    private int delay;
-    private ScheduledFuture<?> scheduledTask;
+    // Factor the probe interval of a stable server backs off to
+    private static final int MAX_BACKOFF = 8;
 
-    private volatile ServerStatus status = NOT_DEFINED;
-    private CopyOnWriteArrayList<ServerStateListener> listeners;
+    // Probe interval while the server is starting or stopping [ms]
+    private static final long TRANSITION_DELAY = 500;
 
-    private ServerStatusMonitor(PayaraServer server) {
-        this(server, DEFAULT_DELAY_IN_SEC);
-    }
+    // Admin port connect timeout [ms]
+    private static final int PORT_TIMEOUT = 5000;
 
-    private ServerStatusMonitor(PayaraServer server, ServerStateListener... listeners) {
-        this(server, DEFAULT_DELAY_IN_SEC, listeners);
-    }
+    // Pool running the blocking location requests, it grows with the number of servers being probed at a time
+    private static final ExecutorService probeExecutor = Executors.newCachedThreadPool(
+        runnable -> {
+            Thread thread = new Thread(runnable, "Payara server status probe");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+    // Monitors of servers being probed
+    private static final ConcurrentMap<PayaraServer, ServerStatusMonitor> monitors = new ConcurrentHashMap<>();
+
+    private final PayaraServer server;
+    private final long minDelay;
+    private final long maxDelay;
+
+    private final CopyOnWriteArrayList<ServerStateListener> listeners;
+    private final CopyOnWriteArrayList<GlassFishStatusListener> statusListeners = new CopyOnWriteArrayList<>();
+
+    private volatile ServerStatus status = NOT_DEFINED;
+
+    // Guarded by this
+    private int clients;
+    private boolean running;
+    private GlassFishStatus glassFishStatus = GlassFishStatus.UNKNOWN;
+    private long delay;
+    private ScheduledFuture<?> scheduledProbe;
+    private CompletableFuture<ServerStatus> probe;
 
-    private ServerStatusMonitor(PayaraServer server, int checkInterval, ServerStateListener... listeners) {
+    private ServerStatusMonitor(PayaraServer server, int checkInterval) {
         this.server = server;
-        this.delay = checkInterval;
-        this.listeners = new CopyOnWriteArrayList<>(listeners);
+        this.minDelay = SECONDS.toMillis(checkInterval);
+        this.maxDelay = minDelay * MAX_BACKOFF;
+        this.delay = minDelay;
+        this.listeners = new CopyOnWriteArrayList<>();
     }
 
+    /**
+     * Returns the status monitor of the given server, creating it when the server has none yet.
+     */
     public static ServerStatusMonitor getInstance(PayaraServer server) {
-        return new ServerStatusMonitor(server);
+        return monitors.computeIfAbsent(server, key -> new ServerStatusMonitor(key, DEFAULT_DELAY_IN_SEC));
     }
 
     public static ServerStatusMonitor getInstance(PayaraServer server, ServerStateListener... listeners) {
-        return new ServerStatusMonitor(server, listeners);
-    }
+        ServerStatusMonitor monitor = getInstance(server);
+        for (ServerStateListener listener : listeners) {
+            monitor.registerServerStatusListener(listener);
+        }
 
-    public static ServerStatusMonitor getInstance(PayaraServer server, int checkInterval) {
-        return new ServerStatusMonitor(server, checkInterval);
+        return monitor;
     }
 
+    /**
+     * Starts probing on behalf of one more user of this monitor. Every call must be paired with a
+     * call to {@link #stop()}.
+     */
     public void start() {
-        scheduler = Executors.newSingleThreadScheduledExecutor();
-        scheduledTask = scheduler.scheduleWithFixedDelay(this, 0, delay, SECONDS);
-    }
+        synchronized (this) {
+            if (clients++ > 0) {
+                return;
+            }
+            running = true;
+            delay = minDelay;
+        }
 
-    public void stop() {
-        scheduledTask.cancel(true);
-        scheduler.shutdown();
+        probe();
     }
 
-    @Override
-    public void run() {
-        status = ServerStatusHelper.checkServerStatus(server);
-        notifyListeners(status);
+    /**
+     * Stops probing on behalf of one user of this monitor. Probing stops, and the monitor is dropped,
+     * when the last user stops it.
+     */
+    public synchronized void stop() {
+        if (clients == 0 || --clients > 0) {
+            return;
+        }
+
+        running = false;
+        if (scheduledProbe != null) {
+            scheduledProbe.cancel(false);
+            scheduledProbe = null;
+        }
+        monitors.remove(server, this);
     }
-    
+
     public ServerStatus getServerStatus() {
         return getServerStatus(false);
     }
@@ -92,26 +172,176 @@ public class ServerStatusMonitor implements Runnable {
     public ServerStatus getServerStatus(boolean forceUpdate) {
         if (forceUpdate) {
             try {
-                scheduler.submit(this).get();
+                return probe().get();
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
             } catch (ExecutionException e) {
             }
         }
-        
+
         return status;
     }
-    
+
     public void registerServerStatusListener(ServerStateListener listener) {
-        listeners.add(listener);
+        listeners.addIfAbsent(listener);
+    }
+
+    public void removeServerStatusListener(ServerStateListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Registers SDK status listener. It gets the current status after every probe, the new status
+     * when it changes and an error when the server is reachable but the probe failed.
+     *
+     * @param listener listener to be notified about status checks and status changes
+     */
+    public void registerStatusListener(GlassFishStatusListener listener) {
+        if (statusListeners.addIfAbsent(listener)) {
+            listener.added();
+        }
+    }
+
+    public void removeStatusListener(GlassFishStatusListener listener) {
+        if (statusListeners.remove(listener)) {
+            listener.removed();
+        }
+    }
+
+    /*
+     * Starts a probe unless one is already running, in which case the caller shares its result.
+     */
+    private synchronized CompletableFuture<ServerStatus> probe() {
+        if (probe == null) {
+            if (scheduledProbe != null) {
+                scheduledProbe.cancel(false);
+                scheduledProbe = null;
+            }
+
+            CompletableFuture<ServerStatus> newProbe = new CompletableFuture<>();
+            probe = newProbe;
+            ServerUtils.probeAdminPort(server, PORT_TIMEOUT)
+                       .thenAcceptAsync(listening -> runProbe(newProbe, listening), probeExecutor);
+        }
+
+        return probe;
+    }
+
+    private void runProbe(CompletableFuture<ServerStatus> currentProbe, boolean adminPortListening) {
+        ServerStatus newStatus;
+        try {
+            newStatus = ServerStatusHelper.checkServerStatus(server, adminPortListening);
+        } catch (RuntimeException e) {
+            logError("ServerStatusMonitor for " + server.getName() + " probe failed", e);
+            newStatus = NOT_DEFINED;
+        }
+
+        ServerStatus oldStatus;
+        synchronized (this) {
+            oldStatus = status;
+            status = newStatus;
+            probe = null;
+            delay = oldStatus == newStatus ? Math.min(delay * 2, maxDelay) : minDelay;
+            if (running) {
+                scheduledProbe = StatusScheduler.getExecutor().schedule(this::probe, nextDelay(), MILLISECONDS);
+            }
+        }
+
+        // Release callers waiting for a forced update before listeners, which may need their locks, run
+        currentProbe.complete(newStatus);
+
+        notifyListeners(newStatus);
+    }
+
+    private long nextDelay() {
+        int serverState = server.getServer().getServerState();
+        if (serverState == STATE_STARTING || serverState == STATE_STOPPING) {
+            return TRANSITION_DELAY;
+        }
+
+        return delay;
     }
 
     private void notifyListeners(ServerStatus newStatus) {
         for (ServerStateListener listener : listeners) {
             listener.serverStatusChanged(newStatus);
         }
+
+        if (statusListeners.isEmpty()) {
+            return;
+        }
+
+        GlassFishStatus newGlassFishStatus = toGlassFishStatus(newStatus);
+        boolean changed;
+        synchronized (this) {
+            changed = glassFishStatus != newGlassFishStatus;
+            glassFishStatus = newGlassFishStatus;
+        }
+
+        GlassFishStatusTask task = new ProbeTask(newStatus);
+        for (GlassFishStatusListener listener : statusListeners) {
+            listener.currentState(server, newGlassFishStatus, task);
+            if (changed) {
+                listener.newState(server, newGlassFishStatus, task);
+            }
+            if (task.getStatus() == GlassFishStatusCheckResult.FAILED && newGlassFishStatus != GlassFishStatus.OFFLINE) {
+                listener.error(server, task);
+            }
+        }
     }
 
-    
+    private GlassFishStatus toGlassFishStatus(ServerStatus serverStatus) {
+        int serverState = server.getServer().getServerState();
+
+        switch (serverStatus) {
+        case RUNNING_DOMAIN_MATCHING:
+            return serverState == STATE_STOPPING ? GlassFishStatus.SHUTDOWN : GlassFishStatus.ONLINE;
+        case STOPPED_NOT_LISTENING:
+        case STOPPED_DOMAIN_NOT_MATCHING:
+            return serverState == STATE_STARTING ? GlassFishStatus.STARTUP : GlassFishStatus.OFFLINE;
+        default:
+            if (serverState == STATE_STARTING) {
+                return GlassFishStatus.STARTUP;
+            }
+            if (serverState == STATE_STOPPING) {
+                return GlassFishStatus.SHUTDOWN;
+            }
+            return GlassFishStatus.UNKNOWN;
+        }
+    }
+
+    /*
+     * Status check details passed to SDK status listeners.
+     */
+    private static class ProbeTask implements GlassFishStatusTask {
+
+        private final ServerStatus serverStatus;
+
+        ProbeTask(ServerStatus serverStatus) {
+            this.serverStatus = serverStatus;
+        }
+
+        @Override
+        public GlassFishStatusCheck getType() {
+            return serverStatus == ServerStatus.STOPPED_NOT_LISTENING ? GlassFishStatusCheck.PORT : GlassFishStatusCheck.LOCATIONS;
+        }
+
+        @Override
+        public GlassFishStatusCheckResult getStatus() {
+            return serverStatus == ServerStatus.RUNNING_DOMAIN_MATCHING ? GlassFishStatusCheckResult.SUCCESS : GlassFishStatusCheckResult.FAILED;
+        }
+
+        @Override
+        public TaskEvent getEvent() {
+            switch (serverStatus) {
+            case RUNNING_CREDENTIAL_PROBLEM:
+                return TaskEvent.AUTH_FAILED;
+            case RUNNING_PROXY_ERROR:
+                return TaskEvent.BAD_GATEWAY;
+            default:
+                return null;
+            }
+        }
+    }
 
 }
@@ -18,6 +18,10 @@
 
 package org.eclipse.payara.tools.log;
 
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+import org.eclipse.payara.tools.sdk.server.LogFilterSpec;
 import org.eclipse.payara.tools.server.PayaraServer;
 
 /**
@@ -40,6 +44,12 @@ public abstract class AbstractLogFilter implements ILogFilter {
 
     protected ILogFormatter formatter;
 
+    private Consumer<LogRecord> recordListener;
+
+    private LogFilterSpec recordFilter = LogFilterSpec.ALL;
+
+    private long recordTime;
+
     protected AbstractLogFilter() {
         this(new LogFormatterSimple(), new LevelResolver(), DEFAULT_DELIMETER);
     }
@@ -67,6 +77,57 @@ public abstract class AbstractLogFilter implements ILogFilter {
         buffer.setLength(0);
     }
 
+    /**
+     * Sets listener called with every complete log record before the filter is reset, e.g. to keep
+     * the records in a {@link LogStore}.
+     */
+    public void setRecordListener(Consumer<LogRecord> recordListener) {
+        this.recordListener = recordListener;
+    }
+
+    /**
+     * Sets filter of the records returned by {@link #process(String)}. The record listener still gets
+     * every record, so the filter does not change what is kept in the log store.
+     */
+    public void setRecordFilter(LogFilterSpec recordFilter) {
+        this.recordFilter = recordFilter != null ? recordFilter : LogFilterSpec.ALL;
+    }
+
+    /**
+     * Passes the complete record to the record listener.
+     *
+     * @return true if the record is accepted by the record filter and is to be returned
+     */
+    protected boolean recordCompleted() {
+        if (recordListener != null) {
+            recordListener.accept(record);
+        }
+        if (!recordFilter.acceptsAll()
+                && !recordFilter.accepts(record.getLevelValue(), record.getClassInfo())) {
+            return false;
+        }
+        recordTime = record.getTimeMillis();
+        return true;
+    }
+
+    @Override
+    public long pollRecordTime() {
+        long time = recordTime;
+        recordTime = 0;
+        return time;
+    }
+
+    /**
+     * @return value of the level with the given name, value of INFO for an unknown level
+     */
+    protected static int levelValue(String level) {
+        try {
+            return Level.parse(level).intValue();
+        } catch (IllegalArgumentException e) {
+            return Level.INFO.intValue();
+        }
+    }
+
     protected abstract boolean isReadingUserMessage();
 
     /**
@@ -78,12 +139,13 @@ public abstract class AbstractLogFilter implements ILogFilter {
     @Override
     public abstract String process(String line);
 
+    /**
+     * Creates filter of the log of the given server. The log format, ODL, uniform log format or JSON,
+     * is detected from the first log record, as it depends on the formatter configured in the domain
+     * rather than on the server version.
+     */
     public static AbstractLogFilter createFilter(PayaraServer server) {
-        if (server.getVersion().matches("[4")) {
-            return new PatternLogFilterV4();
-        } else {
-            return new StateLogFilterV3();
-        }
+        return new AutoDetectLogFilter();
     }
 
     public static interface ILevelResolver {
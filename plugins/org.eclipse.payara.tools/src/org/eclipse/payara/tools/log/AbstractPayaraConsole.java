@@ -19,25 +19,135 @@
 package org.eclipse.payara.tools.log;
 
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ScheduledFuture;
+import java.util.function.Supplier;
 
 import org.eclipse.jface.resource.ImageDescriptor;
-import org.eclipse.ui.console.MessageConsole;
-import org.eclipse.ui.console.MessageConsoleStream;
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.payara.tools.PayaraToolsPlugin;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.console.IConsoleDocumentPartitioner;
+import org.eclipse.ui.console.TextConsole;
 
-public abstract class AbstractPayaraConsole extends MessageConsole implements IPayaraConsole {
+/**
+ * Console showing the lines kept in a {@link LogRingBuffer}.
+ *
+ * <p>
+ * Log readers only add lines to the ring buffer. The document is updated by a {@link LogRenderer} in
+ * the UI thread at most every {@value #RENDER_DELAY} ms. The viewer paints only the visible lines and
+ * their styles are computed when the lines are added.
+ * </p>
+ */
+public abstract class AbstractPayaraConsole extends TextConsole implements IPayaraConsole {
+
+    private static final String CONSOLE_TYPE = "org.eclipse.payara.tools.console";
+
+    // Number of lines kept in the console
+    private static final int CAPACITY = 20_000;
+
+    // Delay between updates of the document [ms]
+    private static final int RENDER_DELAY = 100;
 
     protected List<LogReader> readers;
-    protected MessageConsoleStream out;
+    protected final LogRingBuffer buffer;
     protected CountDownLatch latch;
-    protected ILogFilter filter;
+    protected LogPipeline pipeline;
+    protected Supplier<ILogFilter> filterFactory;
     protected ScheduledFuture<?> stopJobResult;
+    protected final List<ILogListener> logListeners = new CopyOnWriteArrayList<>();
+
+    private final LogPartitioner partitioner = new LogPartitioner();
+
+    // Used in the UI thread only
+    private final LogRenderer renderer;
+
+    private volatile boolean disposed;
+
+    /**
+     * @param filterFactory - creates the filter of each log reader, readers must not share a filter
+     */
+    public AbstractPayaraConsole(String name, ImageDescriptor imageDescriptor, Supplier<ILogFilter> filterFactory) {
+        super(name, CONSOLE_TYPE, imageDescriptor, true);
+        this.filterFactory = filterFactory;
+        this.buffer = new LogRingBuffer(CAPACITY, this::scheduleRender);
+        this.renderer = new LogRenderer(buffer);
+
+        IDocument document = getDocument();
+        partitioner.connect(document);
+        document.setDocumentPartitioner(partitioner);
+    }
+
+    @Override
+    public void addLogListener(ILogListener listener) {
+        logListeners.add(listener);
+    }
+
+    @Override
+    public void removeLogListener(ILogListener listener) {
+        logListeners.remove(listener);
+    }
+
+    /**
+     * Returns style of a document line, see {@link LogRingBuffer} for its decoding. Must be called in
+     * the UI thread.
+     */
+    public long getLineStyle(int line) {
+        return renderer.getLineStyle(line);
+    }
+
+    @Override
+    public void clearConsole() {
+        runInUIThread(() -> {
+            super.clearConsole();
+            renderer.clear();
+        });
+    }
+
+    @Override
+    protected IConsoleDocumentPartitioner getPartitioner() {
+        return partitioner;
+    }
+
+    @Override
+    protected void dispose() {
+        disposed = true;
+        super.dispose();
+    }
+
+    private static void runInUIThread(Runnable runnable) {
+        if (Display.getCurrent() != null || !PlatformUI.isWorkbenchRunning()) {
+            runnable.run();
+        } else {
+            PlatformUI.getWorkbench().getDisplay().asyncExec(runnable);
+        }
+    }
+
+    private void scheduleRender() {
+        if (disposed || !PlatformUI.isWorkbenchRunning()) {
+            return;
+        }
+
+        Display display = PlatformUI.getWorkbench().getDisplay();
+        display.asyncExec(() -> display.timerExec(RENDER_DELAY, this::render));
+    }
+
+    /**
+     * Moves the lines added since the last update to the document.
+     */
+    private void render() {
+        if (disposed) {
+            return;
+        }
 
-    public AbstractPayaraConsole(String name, ImageDescriptor imageDescriptor, ILogFilter filter) {
-        super(name, imageDescriptor);
-        this.filter = filter;
-        this.out = newMessageStream();
+        try {
+            renderer.render(getDocument());
+        } catch (BadLocationException e) {
+            PayaraToolsPlugin.logError("Console " + getName() + " could not be updated", e);
+        }
     }
 
 }
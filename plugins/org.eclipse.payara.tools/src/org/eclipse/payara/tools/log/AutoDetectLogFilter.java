@@ -0,0 +1,121 @@
+/******************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.log;
+
+import java.util.function.Consumer;
+
+import org.eclipse.payara.tools.sdk.server.LogFilterSpec;
+
+/**
+ * Filter choosing the log format from the first log record read.
+ *
+ * <p>
+ * A JSON object starts a log written by the JSON log formatter, <code>[#|</code> starts a uniform log
+ * format record and <code>[</code> followed by the time starts an ODL record. The filter of the
+ * detected format then reads the rest of the log. Lines read before the first record are passed
+ * through.
+ * </p>
+ */
+public class AutoDetectLogFilter extends AbstractLogFilter {
+
+    private AbstractLogFilter delegate;
+    private Consumer<LogRecord> recordListener;
+    private LogFilterSpec recordFilter;
+
+    AutoDetectLogFilter() {
+        super();
+    }
+
+    /**
+     * @return filter of the format of the record starting with the given line, null if the line does
+     *         not start a record
+     */
+    static AbstractLogFilter detect(String line) {
+        int first = 0;
+        while (first < line.length() && Character.isWhitespace(line.charAt(first))) {
+            first++;
+        }
+        if (first == line.length()) {
+            return null;
+        }
+        if (line.charAt(first) == '{') {
+            return new JSONLogFilter();
+        }
+        if (line.startsWith("[#|", first)) {
+            return new StateLogFilterV3();
+        }
+        if (line.charAt(first) == '[' && first + 1 < line.length() && Character.isDigit(line.charAt(first + 1))) {
+            return new ODLLogFilter();
+        }
+
+        return null;
+    }
+
+    @Override
+    public String process(String line) {
+        if (delegate == null) {
+            delegate = detect(line);
+            if (delegate == null) {
+                return line.isEmpty() ? null : line;
+            }
+            delegate.setRecordListener(recordListener);
+            delegate.setRecordFilter(recordFilter);
+        }
+
+        return delegate.process(line);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        if (delegate != null) {
+            delegate.reset();
+        }
+    }
+
+    @Override
+    public void setRecordListener(Consumer<LogRecord> recordListener) {
+        this.recordListener = recordListener;
+        if (delegate != null) {
+            delegate.setRecordListener(recordListener);
+        }
+    }
+
+    @Override
+    public void setRecordFilter(LogFilterSpec recordFilter) {
+        this.recordFilter = recordFilter;
+        if (delegate != null) {
+            delegate.setRecordFilter(recordFilter);
+        }
+    }
+
+    @Override
+    public boolean hasProcessedPayara() {
+        return delegate != null && delegate.hasProcessedPayara();
+    }
+
+    @Override
+    public long pollRecordTime() {
+        return delegate != null ? delegate.pollRecordTime() : 0;
+    }
+
+    @Override
+    protected boolean isReadingUserMessage() {
+        return delegate != null && delegate.isReadingUserMessage();
+    }
+
+    /**
+     * @return filter of the detected log format, null until the first record has been read
+     */
+    AbstractLogFilter getDelegate() {
+        return delegate;
+    }
+
+}
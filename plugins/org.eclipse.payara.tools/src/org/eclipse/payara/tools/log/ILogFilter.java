@@ -36,4 +36,14 @@ public interface ILogFilter {
     default boolean hasProcessedPayara() {
         return false;
     }
+
+    /**
+     * Returns timestamp of the record completed by the last processed line. The timestamp is returned
+     * only once.
+     *
+     * @return Time of the record in ms or 0 if the line didn't complete a record or its time is unknown.
+     */
+    default long pollRecordTime() {
+        return 0;
+    }
 }
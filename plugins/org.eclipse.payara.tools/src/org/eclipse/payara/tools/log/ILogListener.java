@@ -0,0 +1,20 @@
+/******************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.log;
+
+public interface ILogListener {
+
+    /**
+     * Called for every line read by a console, before it is processed by the log filter.
+     *
+     * @param line - read line without the new line character
+     */
+    void lineRead(String line);
+}
@@ -18,6 +18,9 @@
 
 package org.eclipse.payara.tools.log;
 
+import java.util.List;
+import java.util.function.Supplier;
+
 import org.eclipse.payara.tools.sdk.server.FetchLog;
 import org.eclipse.ui.console.IConsole;
 
@@ -27,13 +30,40 @@ public interface IPayaraConsole extends IConsole {
 
     void startLogging(FetchLog... logFetchers);
     
-    void setLogFilter(ILogFilter filter);
+    /**
+     * Sets factory of the log filters. Every log reader gets its own filter when logging is started.
+     */
+    void setLogFilter(Supplier<ILogFilter> filterFactory);
     
     boolean isLogging();
     
     boolean hasLogged();
     
     boolean hasLoggedPayara();
+    
+    /**
+     * Registers listener receiving every line read by this console. Listener stays registered when
+     * logging is restarted.
+     */
+    void addLogListener(ILogListener listener);
+    
+    void removeLogListener(ILogListener listener);
+
+    /**
+     * @return number of log records dropped since logging was started because the console could not
+     * keep up
+     */
+    long getDroppedRecords();
+
+    /**
+     * @return number of times a log reader had to wait for the console since logging was started
+     */
+    long getBackpressureWaits();
+
+    /**
+     * @return throughput and lag of every log source of the console, empty list if not logging
+     */
+    List<LogMetrics> getMetrics();
 
     void stopLogging();
 
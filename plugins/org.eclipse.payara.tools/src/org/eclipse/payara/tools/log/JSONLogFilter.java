@@ -0,0 +1,527 @@
+/******************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.log;
+
+import static org.eclipse.payara.tools.log.AbstractLogFilter.GlassfishLogFields.CLASSINFO;
+import static org.eclipse.payara.tools.log.AbstractLogFilter.GlassfishLogFields.DATETIME;
+import static org.eclipse.payara.tools.log.AbstractLogFilter.GlassfishLogFields.MESSAGE;
+import static org.eclipse.payara.tools.log.AbstractLogFilter.GlassfishLogFields.THREADINFO;
+import static org.eclipse.payara.tools.log.AbstractLogFilter.GlassfishLogFields.VERSION;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.payara.tools.PayaraToolsPlugin;
+
+/**
+ * Streaming parser of log records written by the Payara JSON log formatter, one JSON object per
+ * record.
+ *
+ * <pre>
+ * {"Timestamp":"2020-04-23T10:53:40.123+0200","Level":"INFO","Version":"Payara 5.201",
+ *  "LoggerName":"javax.enterprise.web","ThreadID":"1","ThreadName":"main","TimeMillis":"1587635620123",
+ *  "LevelValue":"800","LogMessage":"Context path is not set"}
+ * </pre>
+ *
+ * <p>
+ * Lines are collected into a reused char buffer until the braces of the object are balanced, so an
+ * object split over several lines is read as well. The object is then tokenized in place: string
+ * values are unescaped inside the buffer and record fields are kept as offsets into it, only the
+ * formatted record is turned into a string. Stack trace of the <code>Throwable</code> object is
+ * appended to the message. Text outside of objects is passed through.
+ * </p>
+ */
+public class JSONLogFilter extends AbstractLogFilter {
+
+    // Keys written by the JSON log formatter
+    private static final String TIMESTAMP = "Timestamp";
+    private static final String LEVEL = "Level";
+    private static final String VERSION_KEY = "Version";
+    private static final String LOGGER_NAME = "LoggerName";
+    private static final String THREAD_NAME = "ThreadName";
+    private static final String THREAD_ID = "ThreadID";
+    private static final String TIME_MILLIS = "TimeMillis";
+    private static final String LEVEL_VALUE = "LevelValue";
+    private static final String LOG_MESSAGE = "LogMessage";
+    private static final String STACK_TRACE = "StackTrace";
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // Buffer grown by a long record is released after the record
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    // Longer objects are not parsed but passed through
+    private static final int MAX_RECORD_LENGTH = 4 * 1024 * 1024;
+
+    private static final int MAX_LEVELS = 32;
+
+    private static final int FIELDS = GlassfishLogFields.values().length;
+
+    private char[] chars = new char[INITIAL_CAPACITY];
+    private int length;
+
+    // Nesting of the object being read, zero outside of objects
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+    private int recordEnd;
+
+    // Ranges of the record fields in the buffer, start is -1 when the field is missing
+    private final int[] fieldStarts = new int[FIELDS];
+    private final int[] fieldEnds = new int[FIELDS];
+    private int levelStart;
+    private int levelEnd;
+    private int threadIdStart;
+    private int threadIdEnd;
+    private int stackStart;
+    private int stackEnd;
+
+    private long timeMillis;
+    private int levelValue;
+    private boolean hasLevelValue;
+
+    // Level names read so far, so that a level is not created as a new string for every record
+    private final List<String> levels = new ArrayList<>();
+
+    private boolean hasProcessedPayara;
+    private boolean reportedMalformed;
+
+    JSONLogFilter() {
+        super();
+        clearFields();
+    }
+
+    @Override
+    public boolean hasProcessedPayara() {
+        return hasProcessedPayara;
+    }
+
+    @Override
+    public String process(String line) {
+        if (depth == 0) {
+            int first = skipWhitespace(line, 0);
+            if (first == line.length()) {
+                // Blank lines are not part of the console output
+                return null;
+            }
+            if (line.charAt(first) != '{') {
+                return line;
+            }
+        }
+
+        int from = length;
+        append(line);
+        scan(from);
+
+        if (depth == 0) {
+            return completeRecord();
+        }
+        if (length > MAX_RECORD_LENGTH) {
+            return malformedRecord();
+        }
+
+        return null;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        length = 0;
+        depth = 0;
+        inString = false;
+        escaped = false;
+        timeMillis = 0;
+        hasLevelValue = false;
+        clearFields();
+        if (chars.length > MAX_RETAINED_CAPACITY) {
+            chars = new char[INITIAL_CAPACITY];
+        }
+    }
+
+    @Override
+    protected boolean isReadingUserMessage() {
+        return depth > 0;
+    }
+
+    private void clearFields() {
+        Arrays.fill(fieldStarts, -1);
+        levelStart = -1;
+        threadIdStart = -1;
+        stackStart = -1;
+    }
+
+    private void append(String line) {
+        int required = length + line.length() + 1;
+        if (required > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(required, chars.length * 2));
+        }
+        line.getChars(0, line.length(), chars, length);
+        length += line.length();
+        chars[length++] = '\n';
+    }
+
+    /**
+     * Follows strings and nesting of the object to find its end. Text following the object on its
+     * last line is ignored.
+     */
+    private void scan(int from) {
+        for (int i = from; i < length; i++) {
+            char c = chars[i];
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    inString = false;
+                }
+            } else if (c == '"') {
+                inString = true;
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if ((c == '}' || c == ']') && --depth == 0) {
+                recordEnd = i + 1;
+                return;
+            }
+        }
+    }
+
+    private String completeRecord() {
+        int start = skipWhitespace(0);
+        if (parseObject(start, 0) < 0) {
+            return malformedRecord();
+        }
+
+        setField(DATETIME);
+        setField(VERSION);
+        setField(CLASSINFO);
+        if (fieldStarts[THREADINFO.ordinal()] < 0 && threadIdStart >= 0) {
+            record.setFieldRange(THREADINFO, chars, threadIdStart, threadIdEnd);
+        } else {
+            setField(THREADINFO);
+        }
+        String level = levelStart < 0 ? "" : levelName(levelStart, levelEnd);
+        record.setLevel(levelResolver.resolve(level));
+        record.setLevelValue(hasLevelValue ? levelValue : levelValue(level));
+        record.setTimeMillis(timeMillis);
+        if (stackStart < 0) {
+            setField(MESSAGE);
+        } else {
+            // Exceptions are rare enough to build the message as a string
+            StringBuilder message = new StringBuilder(stackEnd - stackStart + 256);
+            int messageStart = fieldStarts[MESSAGE.ordinal()];
+            if (messageStart >= 0) {
+                message.append(chars, messageStart, fieldEnds[MESSAGE.ordinal()] - messageStart).append('\n');
+            }
+            message.append(chars, stackStart, stackEnd - stackStart);
+            record.setMessage(message.toString());
+        }
+
+        hasProcessedPayara = true;
+        String result = recordCompleted() ? formatter.formatLogRecord(record) : null;
+        reset();
+
+        return result;
+    }
+
+    private String malformedRecord() {
+        String text = new String(chars, 0, length - 1);
+        if (!reportedMalformed) {
+            // Reported once, the console shows the text anyway
+            PayaraToolsPlugin.logMessage("Log record that does not match expected format detected!");
+            PayaraToolsPlugin.logMessage(text);
+            reportedMalformed = true;
+        }
+        reset();
+        return text;
+    }
+
+    private void setField(GlassfishLogFields field) {
+        int i = field.ordinal();
+        if (fieldStarts[i] >= 0) {
+            record.setFieldRange(field, chars, fieldStarts[i], fieldEnds[i]);
+        }
+    }
+
+    /**
+     * Parses object starting at the given position.
+     *
+     * @return position following the object, -1 when the object is malformed
+     */
+    private int parseObject(int pos, int nesting) {
+        if (pos >= recordEnd || chars[pos] != '{') {
+            return -1;
+        }
+        pos = skipWhitespace(pos + 1);
+        if (pos < recordEnd && chars[pos] == '}') {
+            return pos + 1;
+        }
+        while (pos < recordEnd && chars[pos] == '"') {
+            int keyStart = pos + 1;
+            int keyEnd = stringEnd(keyStart);
+            if (keyEnd < 0) {
+                return -1;
+            }
+            pos = skipWhitespace(keyEnd + 1);
+            if (pos >= recordEnd || chars[pos] != ':') {
+                return -1;
+            }
+            pos = parseValue(skipWhitespace(pos + 1), nesting, keyStart, keyEnd);
+            if (pos < 0) {
+                return -1;
+            }
+            pos = skipWhitespace(pos);
+            if (pos < recordEnd && chars[pos] == '}') {
+                return pos + 1;
+            }
+            if (pos >= recordEnd || chars[pos] != ',') {
+                return -1;
+            }
+            pos = skipWhitespace(pos + 1);
+        }
+
+        return -1;
+    }
+
+    /**
+     * Parses array starting at the given position, its values are not used.
+     *
+     * @return position following the array, -1 when the array is malformed
+     */
+    private int parseArray(int pos, int nesting) {
+        pos = skipWhitespace(pos + 1);
+        if (pos < recordEnd && chars[pos] == ']') {
+            return pos + 1;
+        }
+        while (pos < recordEnd) {
+            pos = parseValue(pos, nesting, 0, 0);
+            if (pos < 0) {
+                return -1;
+            }
+            pos = skipWhitespace(pos);
+            if (pos < recordEnd && chars[pos] == ']') {
+                return pos + 1;
+            }
+            if (pos >= recordEnd || chars[pos] != ',') {
+                return -1;
+            }
+            pos = skipWhitespace(pos + 1);
+        }
+
+        return -1;
+    }
+
+    /**
+     * Parses value of the given key starting at the given position.
+     *
+     * @return position following the value, -1 when the value is malformed
+     */
+    private int parseValue(int pos, int nesting, int keyStart, int keyEnd) {
+        if (pos >= recordEnd) {
+            return -1;
+        }
+        switch (chars[pos]) {
+        case '{':
+            return parseObject(pos, nesting + 1);
+        case '[':
+            return parseArray(pos, nesting + 1);
+        case '"':
+            int close = stringEnd(pos + 1);
+            if (close < 0) {
+                return -1;
+            }
+            setValue(nesting, keyStart, keyEnd, pos + 1, unescape(pos + 1, close));
+            return close + 1;
+        default:
+            // Number, true, false or null
+            int start = pos;
+            while (pos < recordEnd && !isValueEnd(chars[pos])) {
+                pos++;
+            }
+            if (pos == start) {
+                return -1;
+            }
+            setValue(nesting, keyStart, keyEnd, start, pos);
+            return pos;
+        }
+    }
+
+    private void setValue(int nesting, int keyStart, int keyEnd, int start, int end) {
+        if (nesting > 0) {
+            if (isKey(STACK_TRACE, keyStart, keyEnd)) {
+                stackStart = start;
+                stackEnd = end;
+            }
+        } else if (isKey(TIMESTAMP, keyStart, keyEnd)) {
+            setRange(DATETIME, start, end);
+        } else if (isKey(LEVEL, keyStart, keyEnd)) {
+            levelStart = start;
+            levelEnd = end;
+        } else if (isKey(VERSION_KEY, keyStart, keyEnd)) {
+            setRange(VERSION, start, end);
+        } else if (isKey(LOGGER_NAME, keyStart, keyEnd)) {
+            setRange(CLASSINFO, start, end);
+        } else if (isKey(THREAD_NAME, keyStart, keyEnd)) {
+            setRange(THREADINFO, start, end);
+        } else if (isKey(THREAD_ID, keyStart, keyEnd)) {
+            threadIdStart = start;
+            threadIdEnd = end;
+        } else if (isKey(TIME_MILLIS, keyStart, keyEnd)) {
+            timeMillis = parseNumber(start, end);
+        } else if (isKey(LEVEL_VALUE, keyStart, keyEnd)) {
+            levelValue = (int) parseNumber(start, end);
+            hasLevelValue = true;
+        } else if (isKey(LOG_MESSAGE, keyStart, keyEnd)) {
+            setRange(MESSAGE, start, end);
+        }
+    }
+
+    private void setRange(GlassfishLogFields field, int start, int end) {
+        fieldStarts[field.ordinal()] = start;
+        fieldEnds[field.ordinal()] = end;
+    }
+
+    /**
+     * @return position of the quote ending the string starting at the given position, -1 when the
+     *         string is not terminated
+     */
+    private int stringEnd(int pos) {
+        for (int i = pos; i < recordEnd; i++) {
+            if (chars[i] == '\\') {
+                i++;
+            } else if (chars[i] == '"') {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Unescapes string in place, the unescaped string is never longer than the escaped one.
+     *
+     * @return end of the unescaped string
+     */
+    private int unescape(int start, int end) {
+        int out = start;
+        for (int i = start; i < end; i++) {
+            char c = chars[i];
+            if (c == '\\' && i + 1 < end) {
+                c = chars[++i];
+                switch (c) {
+                case 'n':
+                    c = '\n';
+                    break;
+                case 't':
+                    c = '\t';
+                    break;
+                case 'r':
+                    c = '\r';
+                    break;
+                case 'b':
+                    c = '\b';
+                    break;
+                case 'f':
+                    c = '\f';
+                    break;
+                case 'u':
+                    if (i + 4 < end) {
+                        c = (char) parseHex(i + 1, i + 5);
+                        i += 4;
+                    }
+                    break;
+                default:
+                    // Quote, backslash and slash stand for themselves
+                }
+            }
+            chars[out++] = c;
+        }
+
+        return out;
+    }
+
+    private int parseHex(int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 16 + Character.digit(chars[i], 16);
+        }
+
+        return value;
+    }
+
+    private long parseNumber(int start, int end) {
+        long value = 0;
+        boolean negative = false;
+        for (int i = start; i < end; i++) {
+            char c = chars[i];
+            if (c >= '0' && c <= '9') {
+                value = value * 10 + c - '0';
+            } else if (c == '-') {
+                negative = true;
+            } else if (c == '.') {
+                break;
+            }
+        }
+
+        return negative ? -value : value;
+    }
+
+    private String levelName(int start, int end) {
+        int levelLength = end - start;
+        for (String level : levels) {
+            if (level.length() == levelLength && matches(level, start)) {
+                return level;
+            }
+        }
+
+        String level = new String(chars, start, levelLength);
+        if (levels.size() < MAX_LEVELS) {
+            levels.add(level);
+        }
+
+        return level;
+    }
+
+    private boolean isKey(String key, int start, int end) {
+        return end - start == key.length() && matches(key, start);
+    }
+
+    private boolean matches(String text, int start) {
+        for (int i = 0; i < text.length(); i++) {
+            if (chars[start + i] != text.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private int skipWhitespace(int pos) {
+        while (pos < recordEnd && Character.isWhitespace(chars[pos])) {
+            pos++;
+        }
+
+        return pos;
+    }
+
+    private static int skipWhitespace(String line, int pos) {
+        while (pos < line.length() && Character.isWhitespace(line.charAt(pos))) {
+            pos++;
+        }
+
+        return pos;
+    }
+
+    private static boolean isValueEnd(char c) {
+        return c == ',' || c == '}' || c == ']' || Character.isWhitespace(c);
+    }
+
+}
@@ -22,7 +22,7 @@ import static org.eclipse.payara.tools.log.AbstractLogFilter.GlassfishLogFields.
 import static org.eclipse.payara.tools.log.AbstractLogFilter.GlassfishLogFields.LEVEL;
 import static org.eclipse.payara.tools.log.AbstractLogFilter.GlassfishLogFields.MESSAGE;
 
-import java.util.Formatter;
+import java.util.Arrays;
 
 import org.eclipse.payara.tools.log.AbstractLogFilter.GlassfishLogFields;
 import org.eclipse.payara.tools.log.AbstractLogFilter.ILogFormatter;
@@ -30,25 +30,32 @@ import org.eclipse.payara.tools.log.AbstractLogFilter.ILogFormatter;
 public class LogFormatterSimple implements ILogFormatter {
 
     private GlassfishLogFields[] fields;
-    private String format;
+    // Text written before each field
+    private String[] separators;
     private StringBuilder logRecordBuilder = new StringBuilder(1024);
 
     public LogFormatterSimple() {
-        format = "%s|%s: %s";
         fields = new GlassfishLogFields[] { DATETIME, LEVEL, MESSAGE };
+        separators = new String[] { "", "|", ": " };
     }
 
     public LogFormatterSimple(String delimeter, GlassfishLogFields[] fields) {
         this.fields = fields;
+        separators = new String[fields.length];
+        Arrays.fill(separators, delimeter);
+        if (fields.length > 0) {
+            separators[0] = "";
+        }
     }
 
     @Override
     public String formatLogRecord(LogRecord record) {
         logRecordBuilder.setLength(0);
-        Formatter logRecorFormatter = new Formatter(logRecordBuilder);
-        logRecorFormatter.format(format, record.getRecordFieldValues(fields));
-        logRecorFormatter.close();
-        
+        for (int i = 0; i < fields.length; i++) {
+            logRecordBuilder.append(separators[i]);
+            record.appendRecordFieldValue(fields[i], logRecordBuilder);
+        }
+
         return logRecordBuilder.toString();
     }
 
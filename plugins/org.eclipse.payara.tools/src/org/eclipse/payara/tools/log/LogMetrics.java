@@ -0,0 +1,196 @@
+/******************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.log;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import org.eclipse.payara.tools.sdk.server.FetchLog;
+import org.eclipse.payara.tools.sdk.server.FetchLogPiped;
+import org.eclipse.payara.tools.sdk.server.FetchLogRemote;
+
+/**
+ * Throughput and lag of a single log source of a console.
+ *
+ * <p>
+ * Counters are updated by the {@link LogReader} of the source and by the {@link LogPipeline} writer
+ * thread. Rates are computed by {@link #sample()} from the counters changed since the previous sample,
+ * so whoever shows the metrics samples them in regular intervals. The lag is the time from the
+ * timestamp of a record to the moment it was written to the console; for a remote server it includes
+ * the difference of the clocks and the refresh delay of the log fetcher.
+ * </p>
+ */
+public class LogMetrics {
+
+    private final FetchLog fetcher;
+
+    // Written by the reader thread only
+    private volatile long bytes;
+    private volatile long records;
+    private volatile long parseTime;
+
+    // Written by the writer thread only, -1 until a record with timestamp is written
+    private volatile long lag = -1;
+
+    // Guarded by this
+    private long sampleTime;
+    private long sampleBytes;
+    private long sampleRecords;
+    private long sampleParseTime;
+    private long bytesPerSecond;
+    private long recordsPerSecond;
+    private long parseTimePerRecord;
+
+    LogMetrics(FetchLog fetcher) {
+        this.fetcher = fetcher;
+        this.sampleTime = System.nanoTime();
+    }
+
+    void bytesRead(int count) {
+        bytes += count;
+    }
+
+    void recordParsed(long time) {
+        records++;
+        parseTime += time;
+    }
+
+    void recordWritten(long recordTimeMillis) {
+        if (recordTimeMillis != 0) {
+            lag = Math.max(0, System.currentTimeMillis() - recordTimeMillis);
+        }
+    }
+
+    /**
+     * Computes the rates from the counters changed since the previous sample.
+     */
+    public synchronized LogMetrics sample() {
+        long now = System.nanoTime();
+        long elapsed = now - sampleTime;
+        if (elapsed <= 0) {
+            return this;
+        }
+
+        long bytesNow = bytes;
+        long recordsNow = records;
+        long parseTimeNow = parseTime;
+        bytesPerSecond = (bytesNow - sampleBytes) * SECONDS.toNanos(1) / elapsed;
+        recordsPerSecond = (recordsNow - sampleRecords) * SECONDS.toNanos(1) / elapsed;
+        if (recordsNow > sampleRecords) {
+            parseTimePerRecord = (parseTimeNow - sampleParseTime) / (recordsNow - sampleRecords);
+        }
+
+        sampleTime = now;
+        sampleBytes = bytesNow;
+        sampleRecords = recordsNow;
+        sampleParseTime = parseTimeNow;
+        return this;
+    }
+
+    /**
+     * @return number of bytes read from the log since logging was started
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * @return number of records read from the log since logging was started
+     */
+    public long getRecords() {
+        return records;
+    }
+
+    public synchronized long getBytesPerSecond() {
+        return bytesPerSecond;
+    }
+
+    public synchronized long getRecordsPerSecond() {
+        return recordsPerSecond;
+    }
+
+    /**
+     * @return average time the filter spent on a record in the last sample [ns]
+     */
+    public synchronized long getParseTimePerRecord() {
+        return parseTimePerRecord;
+    }
+
+    /**
+     * @return time from the timestamp of the last record to its write to the console [ms], -1 if not
+     *         known
+     */
+    public long getLag() {
+        return lag;
+    }
+
+    /**
+     * @return bytes waiting in the pipe of the log fetcher, -1 if the fetcher does not use a pipe
+     */
+    public int getPipeBufferUsed() {
+        return fetcher instanceof FetchLogPiped ? ((FetchLogPiped) fetcher).getPipeBufferUsed() : -1;
+    }
+
+    /**
+     * @return size of the pipe of the log fetcher, -1 if the fetcher does not use a pipe
+     */
+    public int getPipeBufferSize() {
+        return fetcher instanceof FetchLogPiped ? ((FetchLogPiped) fetcher).getPipeBufferSize() : -1;
+    }
+
+    /**
+     * @return time the log fetcher was blocked by a full pipe [ms], -1 if the fetcher does not use a pipe
+     */
+    public long getPipeBlockedTime() {
+        return fetcher instanceof FetchLogPiped ? NANOSECONDS.toMillis(((FetchLogPiped) fetcher).getBlockedTime()) : -1;
+    }
+
+    /**
+     * @return delay between requests of a remote log fetcher [ms], -1 for a local log
+     */
+    public long getRefreshDelay() {
+        return fetcher instanceof FetchLogRemote ? ((FetchLogRemote) fetcher).getRefreshDelay() : -1;
+    }
+
+    /**
+     * @return metrics of the last sample in a single line, e.g. for a status line
+     */
+    @Override
+    public synchronized String toString() {
+        StringBuilder text = new StringBuilder();
+        text.append(formatBytes(bytesPerSecond)).append("/s, ")
+                .append(recordsPerSecond).append(" rec/s, ")
+                .append(NANOSECONDS.toMicros(parseTimePerRecord)).append(" \u00b5s/rec");
+        int size = getPipeBufferSize();
+        if (size > 0) {
+            text.append(", pipe ").append(getPipeBufferUsed() * 100 / size).append('%');
+            long blocked = getPipeBlockedTime();
+            if (blocked > 0) {
+                text.append(" (blocked ").append(blocked).append(" ms)");
+            }
+        }
+        if (lag >= 0) {
+            text.append(", lag ").append(lag).append(" ms");
+        }
+
+        return text.toString();
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        if (bytes < 1024 * 1024) {
+            return bytes / 1024 + " kB";
+        }
+        return bytes / (1024 * 1024) + " MB";
+    }
+
+}
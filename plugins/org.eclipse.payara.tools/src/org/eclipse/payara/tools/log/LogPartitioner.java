@@ -0,0 +1,82 @@
+/******************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.log;
+
+import static org.eclipse.jface.text.IDocument.DEFAULT_CONTENT_TYPE;
+
+import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.ITypedRegion;
+import org.eclipse.jface.text.TypedRegion;
+import org.eclipse.swt.custom.StyleRange;
+import org.eclipse.ui.console.IConsoleDocumentPartitioner;
+
+/**
+ * Partitioner of a read only console document made of a single partition. Styles of the lines are
+ * provided by the console page participants, see {@link AbstractPayaraConsole#getLineStyle(int)}.
+ */
+class LogPartitioner implements IConsoleDocumentPartitioner {
+
+    private static final String[] CONTENT_TYPES = { DEFAULT_CONTENT_TYPE };
+    private static final StyleRange[] NO_STYLES = new StyleRange[0];
+
+    private IDocument document;
+
+    @Override
+    public void connect(IDocument document) {
+        this.document = document;
+    }
+
+    @Override
+    public void disconnect() {
+        document = null;
+    }
+
+    @Override
+    public void documentAboutToBeChanged(DocumentEvent event) {
+    }
+
+    @Override
+    public boolean documentChanged(DocumentEvent event) {
+        // The single partition always covers the whole document
+        return false;
+    }
+
+    @Override
+    public String[] getLegalContentTypes() {
+        return CONTENT_TYPES;
+    }
+
+    @Override
+    public String getContentType(int offset) {
+        return DEFAULT_CONTENT_TYPE;
+    }
+
+    @Override
+    public ITypedRegion[] computePartitioning(int offset, int length) {
+        return new ITypedRegion[] { new TypedRegion(offset, length, DEFAULT_CONTENT_TYPE) };
+    }
+
+    @Override
+    public ITypedRegion getPartition(int offset) {
+        return new TypedRegion(0, document == null ? 0 : document.getLength(), DEFAULT_CONTENT_TYPE);
+    }
+
+    @Override
+    public boolean isReadOnly(int offset) {
+        return true;
+    }
+
+    @Override
+    public StyleRange[] getStyleRanges(int offset, int length) {
+        return NO_STYLES;
+    }
+
+}
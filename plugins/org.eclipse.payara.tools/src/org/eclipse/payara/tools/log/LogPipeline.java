@@ -0,0 +1,233 @@
+/******************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.log;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Moves the records parsed by the log readers of a console to the {@link LogRingBuffer} of the console.
+ *
+ * <p>
+ * Every reader owns a {@link Source} with its own bounded queue. A single writer thread merges the
+ * queues by the timestamps of the records, or by the time they were read for records without a
+ * timestamp, and is the only thread writing to the ring buffer, so records of different sources are
+ * never interleaved. While a source reporting timestamps has nothing queued, the records of the other
+ * sources are held back for a short time, as it may still deliver an earlier record. Records of a
+ * single source are written in the order they were read. When a queue is full the reader waits for a
+ * while; if the console still can not keep up the record is dropped and the writer reports the
+ * number of dropped records in the console. The lag of every written record is reported to the
+ * {@link LogMetrics} of its source.
+ * </p>
+ */
+public class LogPipeline implements Runnable {
+
+    private static final int QUEUE_CAPACITY = 4096;
+
+    // Longest time a reader waits for space in its queue before a record is dropped [ms]
+    private static final long MAX_WAIT = 500;
+
+    // Longest time a record is held back for an earlier record of another source [ms]
+    private static final long REORDER_WINDOW = 100;
+
+    private final LogRingBuffer output;
+    private final CountDownLatch latch;
+    private final List<Source> sources = new ArrayList<>();
+
+    // Released for every queued record and for every closed source to wake up the writer
+    private final Semaphore available = new Semaphore(0);
+    private final AtomicInteger openSources = new AtomicInteger();
+
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong waits = new AtomicLong();
+    private long reportedDropped;
+
+    LogPipeline(LogRingBuffer output, CountDownLatch latch) {
+        this.output = output;
+        this.latch = latch;
+    }
+
+    /**
+     * Adds source for a new reader. All sources must be added before the writer thread is started.
+     */
+    Source addSource() {
+        return addSource(null);
+    }
+
+    /**
+     * Adds source for a new reader reporting the lag of its records to the given metrics.
+     */
+    Source addSource(LogMetrics metrics) {
+        Source source = new Source(metrics);
+        sources.add(source);
+        openSources.incrementAndGet();
+        return source;
+    }
+
+    /**
+     * @return number of records dropped because the console could not keep up
+     */
+    public long getDroppedRecords() {
+        return dropped.get();
+    }
+
+    /**
+     * @return number of times a reader had to wait for the console to catch up
+     */
+    public long getBackpressureWaits() {
+        return waits.get();
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                Source next = null;
+                for (Source source : sources) {
+                    Record head = source.queue.peek();
+                    if (head != null && (next == null || head.isBefore(next.queue.peek()))) {
+                        next = source;
+                    }
+                }
+
+                if (next == null) {
+                    if (openSources.get() == 0) {
+                        break;
+                    }
+                    // Wait for a record or a closed source
+                    available.acquire();
+                    available.drainPermits();
+                    continue;
+                }
+
+                long holdTime = holdTime(next);
+                if (holdTime > 0) {
+                    available.tryAcquire(holdTime, MILLISECONDS);
+                    available.drainPermits();
+                    continue;
+                }
+
+                reportDropped();
+                Record record = next.queue.poll();
+                available.tryAcquire();
+                output.add(record.text);
+                if (next.metrics != null) {
+                    next.metrics.recordWritten(record.recordTime);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            reportDropped();
+            latch.countDown();
+        }
+    }
+
+    /*
+     * Time the head record of the given source still has to be held back because another source may
+     * deliver an earlier record. Only idle sources reporting timestamps can, records of the others are
+     * merged by the time they are read.
+     */
+    private long holdTime(Source next) {
+        for (Source source : sources) {
+            if (source != next && source.timed && !source.closed && source.queue.isEmpty()) {
+                long held = NANOSECONDS.toMillis(System.nanoTime() - next.queue.peek().readTime);
+                return Math.max(0, REORDER_WINDOW - held);
+            }
+        }
+        return 0;
+    }
+
+    private void reportDropped() {
+        long droppedNow = dropped.get();
+        if (droppedNow != reportedDropped) {
+            output.add("[" + (droppedNow - reportedDropped) + " log records dropped, the console could not keep up]");
+            reportedDropped = droppedNow;
+        }
+    }
+
+    /**
+     * Queue of the records of a single reader.
+     */
+    class Source {
+
+        private final ArrayBlockingQueue<Record> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private final LogMetrics metrics;
+
+        // Set once a record with timestamp has been put
+        private volatile boolean timed;
+        private volatile boolean closed;
+
+        Source(LogMetrics metrics) {
+            this.metrics = metrics;
+        }
+
+        void put(String text) throws InterruptedException {
+            put(text, 0);
+        }
+
+        /**
+         * @param recordTime - timestamp of the record in ms, 0 if not known
+         */
+        void put(String text, long recordTime) throws InterruptedException {
+            if (recordTime != 0 && !timed) {
+                timed = true;
+            }
+            Record record = new Record(System.nanoTime(), text, recordTime);
+            if (!queue.offer(record)) {
+                waits.incrementAndGet();
+                if (!queue.offer(record, MAX_WAIT, MILLISECONDS)) {
+                    dropped.incrementAndGet();
+                    return;
+                }
+            }
+            available.release();
+        }
+
+        void close() {
+            closed = true;
+            openSources.decrementAndGet();
+            available.release();
+        }
+    }
+
+    private static class Record {
+
+        private final long readTime;
+        private final String text;
+        private final long recordTime;
+
+        // Record timestamp, or the time the record was read when the record has none [ms]
+        private final long mergeTime;
+
+        Record(long readTime, String text, long recordTime) {
+            this.readTime = readTime;
+            this.text = text;
+            this.recordTime = recordTime;
+            this.mergeTime = recordTime != 0 ? recordTime : System.currentTimeMillis();
+        }
+
+        boolean isBefore(Record other) {
+            if (mergeTime != other.mergeTime) {
+                return mergeTime < other.mergeTime;
+            }
+            return readTime - other.readTime < 0;
+        }
+    }
+
+}
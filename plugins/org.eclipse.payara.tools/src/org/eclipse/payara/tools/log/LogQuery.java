@@ -0,0 +1,103 @@
+/******************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.log;
+
+import java.util.logging.Level;
+
+/**
+ * Criteria of a {@link LogStore} query. All criteria are optional, a record must match all given
+ * criteria.
+ */
+public class LogQuery {
+
+    private static final int DEFAULT_LIMIT = 1000;
+
+    private long from = Long.MIN_VALUE;
+    private long to = Long.MAX_VALUE;
+    private int minLevel = Integer.MIN_VALUE;
+    private String classInfoPrefix;
+    private String messageText;
+    private int limit = DEFAULT_LIMIT;
+
+    /**
+     * @param from earliest time of a record in milliseconds since the epoch, inclusive
+     */
+    public LogQuery from(long from) {
+        this.from = from;
+        return this;
+    }
+
+    /**
+     * @param to latest time of a record in milliseconds since the epoch, inclusive
+     */
+    public LogQuery to(long to) {
+        this.to = to;
+        return this;
+    }
+
+    public LogQuery minLevel(Level minLevel) {
+        this.minLevel = minLevel.intValue();
+        return this;
+    }
+
+    public LogQuery minLevel(int minLevel) {
+        this.minLevel = minLevel;
+        return this;
+    }
+
+    /**
+     * @param classInfoPrefix prefix of the logger name, e.g. <code>javax.enterprise.web</code>
+     */
+    public LogQuery classInfoPrefix(String classInfoPrefix) {
+        this.classInfoPrefix = classInfoPrefix;
+        return this;
+    }
+
+    /**
+     * @param messageText text the message must contain, case sensitive
+     */
+    public LogQuery messageContains(String messageText) {
+        this.messageText = messageText;
+        return this;
+    }
+
+    /**
+     * @param limit maximal number of returned records, the oldest matching records are returned
+     */
+    public LogQuery limit(int limit) {
+        this.limit = limit;
+        return this;
+    }
+
+    public long getFrom() {
+        return from;
+    }
+
+    public long getTo() {
+        return to;
+    }
+
+    public int getMinLevel() {
+        return minLevel;
+    }
+
+    public String getClassInfoPrefix() {
+        return classInfoPrefix;
+    }
+
+    public String getMessageText() {
+        return messageText;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+}
@@ -19,53 +19,72 @@
 package org.eclipse.payara.tools.log;
 
 import java.io.BufferedReader;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
-import java.util.concurrent.CountDownLatch;
+import java.util.List;
 
 import org.eclipse.payara.tools.sdk.server.FetchLog;
-import org.eclipse.ui.console.MessageConsoleStream;
 
 public class LogReader implements Runnable {
 
     private FetchLog logFetcher;
-    private MessageConsoleStream output;
-    private CountDownLatch latch;
+    private LogPipeline.Source output;
     private ILogFilter filter;
+    private List<ILogListener> listeners;
+    private final LogMetrics metrics;
     
     private boolean hasLogged;
     private boolean hasProcessedPayara;
 
-    LogReader(FetchLog logFetcher, MessageConsoleStream outputStream, CountDownLatch latch, ILogFilter filter) {
+    /**
+     * @param metrics - metrics of the source, the same as the metrics of the output
+     * @param filter - filter used by this reader only, filters keep the state of the record being read
+     */
+    LogReader(FetchLog logFetcher, LogPipeline.Source output, LogMetrics metrics, ILogFilter filter,
+            List<ILogListener> listeners) {
         this.logFetcher = logFetcher;
-        this.output = outputStream;
-        this.latch = latch;
+        this.output = output;
         this.filter = filter;
+        this.listeners = listeners;
+        this.metrics = metrics;
     }
 
     @Override
     public void run() {
         try {
-            BufferedReader reader = new BufferedReader(new InputStreamReader(logFetcher.getInputStream(), StandardCharsets.UTF_8));
+            InputStream in = new CountingInputStream(logFetcher.getInputStream());
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
 
+            // Filter time of all lines of the record being read, continuation lines included
+            long parseTime = 0;
             for (String line = null; (line = reader.readLine()) != null;) {
+                for (ILogListener listener : listeners) {
+                    listener.lineRead(line);
+                }
+                long start = System.nanoTime();
                 line = filter.process(line);
+                parseTime += System.nanoTime() - start;
                 if (line != null) {
+                    metrics.recordParsed(parseTime);
+                    parseTime = 0;
                     hasLogged = true;
                     if (!hasProcessedPayara) {
                         hasProcessedPayara = filter.hasProcessedPayara();
                     }
-                    output.println(line);
+                    output.put(line, filter.pollRecordTime());
                 }
             }
-            output.flush();
         } catch (IOException e) {
             // this happens when input stream is closed, no need to print
             // e.printStackTrace();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         } finally {
             logFetcher.close();
-            latch.countDown();
+            output.close();
         }
     }
     
@@ -81,4 +100,36 @@ public class LogReader implements Runnable {
         logFetcher.close();
     }
 
+    public LogMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Counts bytes read from the log fetcher.
+     */
+    private class CountingInputStream extends FilterInputStream {
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                metrics.bytesRead(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int count = super.read(b, off, len);
+            if (count > 0) {
+                metrics.bytesRead(count);
+            }
+            return count;
+        }
+    }
+
 }
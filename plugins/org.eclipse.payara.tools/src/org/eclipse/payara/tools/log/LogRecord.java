@@ -18,91 +18,128 @@
 
 package org.eclipse.payara.tools.log;
 
+import static org.eclipse.payara.tools.log.AbstractLogFilter.GlassfishLogFields.CLASSINFO;
+import static org.eclipse.payara.tools.log.AbstractLogFilter.GlassfishLogFields.DATETIME;
+import static org.eclipse.payara.tools.log.AbstractLogFilter.GlassfishLogFields.LEVEL;
+import static org.eclipse.payara.tools.log.AbstractLogFilter.GlassfishLogFields.MESSAGE;
+import static org.eclipse.payara.tools.log.AbstractLogFilter.GlassfishLogFields.THREADINFO;
+import static org.eclipse.payara.tools.log.AbstractLogFilter.GlassfishLogFields.VERSION;
+
+import java.util.Arrays;
+
 import org.eclipse.payara.tools.log.AbstractLogFilter.GlassfishLogFields;
 
 class LogRecord {
 
-    private String time;
-    private String level;
-    private String version;
-    private String classinfo;
-    private String threadinfo;
-    private String message;
+    private static final int FIELDS = GlassfishLogFields.values().length;
+
+    // Field values, null for fields given as a range of the raw record text
+    private final String[] values = new String[FIELDS];
+    private final int[] starts = new int[FIELDS];
+    private final int[] ends = new int[FIELDS];
+    private char[] chars;
+
+    // Time of the record in milliseconds since the epoch and value of its level, 0 when unknown
+    private long timeMillis;
+    private int levelValue;
 
     LogRecord() {
-        time = level = version = classinfo = threadinfo = message = "";
+        reset();
     }
 
     public void reset() {
-        time = level = version = classinfo = threadinfo = message = "";
+        Arrays.fill(values, "");
+        chars = null;
+        timeMillis = 0;
+        levelValue = 0;
     }
 
     public String getTime() {
-        return time;
+        return getRecordFieldValue(DATETIME);
     }
 
     public void setTime(String time) {
-        this.time = time;
+        values[DATETIME.ordinal()] = time;
+    }
+
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    public void setTimeMillis(long timeMillis) {
+        this.timeMillis = timeMillis;
+    }
+
+    public int getLevelValue() {
+        return levelValue;
+    }
+
+    public void setLevelValue(int levelValue) {
+        this.levelValue = levelValue;
     }
 
     public String getLevel() {
-        return level;
+        return getRecordFieldValue(LEVEL);
     }
 
     public void setLevel(String level) {
-        this.level = level;
+        values[LEVEL.ordinal()] = level;
     }
 
     public String getClassInfo() {
-        return classinfo;
+        return getRecordFieldValue(CLASSINFO);
     }
 
     public void setClassInfo(String classinfo) {
-        this.classinfo = classinfo;
+        values[CLASSINFO.ordinal()] = classinfo;
     }
 
     public String getThreadInfo() {
-        return threadinfo;
+        return getRecordFieldValue(THREADINFO);
     }
 
     public void setThreadInfo(String threadinfo) {
-        this.threadinfo = threadinfo;
+        values[THREADINFO.ordinal()] = threadinfo;
     }
 
     public String getMessage() {
-        return message;
+        return getRecordFieldValue(MESSAGE);
     }
 
     public void setMessage(String message) {
-        this.message = message;
+        values[MESSAGE.ordinal()] = message;
     }
 
     public String getVersion() {
-        return version;
+        return getRecordFieldValue(VERSION);
     }
 
     public void setVersion(String version) {
-        this.version = version;
+        values[VERSION.ordinal()] = version;
+    }
+
+    /**
+     * Sets field value as a range of the raw record text. No string is created for the field unless
+     * its value is requested as a string.
+     *
+     * @param field record field
+     * @param chars raw record text, must not be modified until the record is reset
+     * @param start start of the field value in the raw text
+     * @param end end of the field value in the raw text, exclusive
+     */
+    public void setFieldRange(GlassfishLogFields field, char[] chars, int start, int end) {
+        this.chars = chars;
+        values[field.ordinal()] = null;
+        starts[field.ordinal()] = start;
+        ends[field.ordinal()] = end;
     }
 
     public String getRecordFieldValue(GlassfishLogFields field) {
-        switch (field) {
-        case CLASSINFO:
-            return getClassInfo();
-        case VERSION:
-            return getVersion();
-        case THREADINFO:
-            return getThreadInfo();
-        case DATETIME:
-            return getTime();
-        case MESSAGE:
-            return getMessage();
-        case LEVEL:
-            return getLevel();
-
-        default:
-            throw new IllegalArgumentException();
+        int i = field.ordinal();
+        if (values[i] == null) {
+            values[i] = new String(chars, starts[i], ends[i] - starts[i]);
         }
+        return values[i];
     }
 
     public String[] getRecordFieldValues(GlassfishLogFields... fields) {
@@ -113,4 +150,16 @@ class LogRecord {
         }
         return res;
     }
+
+    /**
+     * Appends field value to the builder without creating a string for it.
+     */
+    public void appendRecordFieldValue(GlassfishLogFields field, StringBuilder builder) {
+        int i = field.ordinal();
+        if (values[i] == null) {
+            builder.append(chars, starts[i], ends[i] - starts[i]);
+        } else {
+            builder.append(values[i]);
+        }
+    }
 }
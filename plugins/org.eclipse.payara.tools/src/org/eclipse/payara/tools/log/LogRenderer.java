@@ -0,0 +1,94 @@
+/******************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.log;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.IDocument;
+
+/**
+ * Moves the lines of a {@link LogRingBuffer} to a console document and keeps the styles of the
+ * document lines.
+ *
+ * <p>
+ * The new lines are appended in one change and as many lines are removed from the start, so the
+ * document never grows over the capacity of the buffer and is never trimmed in one large change.
+ * Not thread safe, the console uses it in the UI thread only.
+ * </p>
+ */
+class LogRenderer {
+
+    private final LogRingBuffer buffer;
+
+    // Styles of the document lines, line n of the buffer at index n % capacity
+    private final long[] lineStyles;
+
+    // Buffer numbers of the first document line and of the line following the last one
+    private long firstLine;
+    private long nextLine;
+
+    LogRenderer(LogRingBuffer buffer) {
+        this.buffer = buffer;
+        this.lineStyles = new long[buffer.getCapacity()];
+    }
+
+    /**
+     * Returns style of a document line, see {@link LogRingBuffer} for its decoding.
+     */
+    long getLineStyle(int line) {
+        long number = firstLine + line;
+        if (line < 0 || number >= nextLine) {
+            return LogRingBuffer.STYLE_NONE;
+        }
+
+        return lineStyles[(int) (number % lineStyles.length)];
+    }
+
+    /**
+     * Forgets the lines of the document, to be called when the document has been cleared.
+     */
+    void clear() {
+        firstLine = nextLine;
+    }
+
+    /**
+     * Moves the lines added since the last update to the document.
+     *
+     * @throws BadLocationException when the document does not hold the rendered lines any more, the
+     *         document is set to the new lines then
+     */
+    void render(IDocument document) throws BadLocationException {
+        int capacity = lineStyles.length;
+        StringBuilder text = new StringBuilder();
+        long next = buffer.drain(nextLine, text, lineStyles);
+        long start = Math.max(nextLine, next - capacity);
+        long first = Math.max(firstLine, next - capacity);
+
+        try {
+            if (start > nextLine || first >= nextLine) {
+                // All lines of the document have been overwritten
+                document.set(text.toString());
+                first = start;
+            } else {
+                document.replace(document.getLength(), 0, text.toString());
+                if (first > firstLine) {
+                    document.replace(0, document.getLineOffset((int) (first - firstLine)), "");
+                }
+            }
+        } catch (BadLocationException e) {
+            document.set(text.toString());
+            first = start;
+            throw e;
+        } finally {
+            firstLine = first;
+            nextLine = next;
+        }
+    }
+
+}
@@ -0,0 +1,160 @@
+/******************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.log;
+
+import java.util.logging.Level;
+
+/**
+ * Fixed-capacity ring of the lines shown in a console.
+ *
+ * <p>
+ * The style of a line is computed once when the line is added, so painting a line only looks its
+ * style up. A style is packed into a <code>long</code> holding its kind and the range of the line it
+ * applies to. When the lines are added faster than the console takes them, the oldest lines are
+ * overwritten, so neither the readers nor the console ever wait for each other and the console never
+ * holds more than the capacity.
+ * </p>
+ */
+public class LogRingBuffer {
+
+    public static final int STYLE_NONE = 0;
+    public static final int STYLE_WARNING = 1;
+    public static final int STYLE_ERROR = 2;
+
+    private static final String WARNING = Level.WARNING.getName();
+    private static final String SEVERE = Level.SEVERE.getName();
+    private static final String FATAL = "FATAL";
+
+    // Bits of the start and of the length of a style range
+    private static final int RANGE_BITS = 24;
+    private static final int RANGE_MASK = (1 << RANGE_BITS) - 1;
+
+    private final int capacity;
+    private final String[] lines;
+    private final long[] styles;
+    private final Runnable pendingListener;
+
+    // Number of lines added so far, line n is kept at index n % capacity
+    private long next;
+
+    // Lines have been added since the last drain
+    private boolean pending;
+
+    /**
+     * @param capacity maximal number of kept lines
+     * @param pendingListener called when a line is added after the buffer has been drained, i.e. at
+     *            most once per drain
+     */
+    public LogRingBuffer(int capacity, Runnable pendingListener) {
+        this.capacity = capacity;
+        this.lines = new String[capacity];
+        this.styles = new long[capacity];
+        this.pendingListener = pendingListener;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Adds text of a log record, every line of the text is kept as a separate line.
+     */
+    public void add(String text) {
+        boolean notify;
+        synchronized (this) {
+            int start = 0;
+            int end;
+            while ((end = text.indexOf('\n', start)) >= 0) {
+                addLine(text.substring(start, end));
+                start = end + 1;
+            }
+            addLine(start == 0 ? text : text.substring(start));
+
+            notify = !pending;
+            pending = true;
+        }
+
+        if (notify && pendingListener != null) {
+            pendingListener.run();
+        }
+    }
+
+    /**
+     * Copies the lines added since the given line, each followed by new line, and their styles.
+     *
+     * @param from number of the first line to copy, lines overwritten in the meantime are skipped
+     * @param text receives the lines
+     * @param lineStyles receives the style of line n at index n % capacity, may be null
+     * @return number of the line following the last copied line, the first copied line is the
+     *         maximum of <code>from</code> and the returned number minus the capacity
+     */
+    public synchronized long drain(long from, StringBuilder text, long[] lineStyles) {
+        for (long line = Math.max(from, next - capacity); line < next; line++) {
+            int index = (int) (line % capacity);
+            text.append(lines[index]).append('\n');
+            if (lineStyles != null) {
+                lineStyles[index] = styles[index];
+            }
+        }
+        pending = false;
+
+        return next;
+    }
+
+    public synchronized long getNextLine() {
+        return next;
+    }
+
+    public static int styleKind(long style) {
+        return (int) (style >>> 2 * RANGE_BITS);
+    }
+
+    public static int styleStart(long style) {
+        return (int) (style >>> RANGE_BITS) & RANGE_MASK;
+    }
+
+    public static int styleLength(long style) {
+        return (int) style & RANGE_MASK;
+    }
+
+    private void addLine(String line) {
+        int index = (int) (next % capacity);
+        lines[index] = line;
+        styles[index] = computeStyle(line);
+        next++;
+    }
+
+    /**
+     * Marks the level of a warning and of an error, the first marker found in the line wins.
+     */
+    static long computeStyle(String line) {
+        int start;
+        if ((start = line.indexOf(WARNING)) >= 0) {
+            return style(STYLE_WARNING, start, WARNING.length());
+        }
+        if ((start = line.indexOf(SEVERE)) >= 0) {
+            return style(STYLE_ERROR, start, SEVERE.length());
+        }
+        if ((start = line.indexOf(FATAL)) >= 0) {
+            return style(STYLE_ERROR, start, FATAL.length());
+        }
+
+        return STYLE_NONE;
+    }
+
+    private static long style(int kind, int start, int length) {
+        if (start > RANGE_MASK) {
+            return STYLE_NONE;
+        }
+
+        return (long) kind << 2 * RANGE_BITS | (long) start << RANGE_BITS | length;
+    }
+
+}
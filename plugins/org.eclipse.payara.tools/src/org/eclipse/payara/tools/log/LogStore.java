@@ -0,0 +1,768 @@
+/******************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.log;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.payara.tools.PayaraToolsPlugin;
+import org.eclipse.payara.tools.server.PayaraServer;
+import org.eclipse.wst.server.core.IServer;
+
+/**
+ * On-disk store of the log records of a server, searchable by time, level, logger and message.
+ *
+ * <p>
+ * Records are appended to segment files of limited size. For every segment a small index is kept in
+ * memory and written next to the segment: the time range, the highest level and the loggers of its
+ * records, and the offset, time range and highest level of every block of {@value #BLOCK_SIZE}
+ * records. A query skips the segments and the blocks ruled out by the index and streams the
+ * remaining blocks comparing the raw bytes, so only the matching records are created on the heap.
+ * The oldest segments are deleted when the store grows over {@value #MAX_SEGMENTS} segments.
+ * </p>
+ */
+public class LogStore {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String DATA_SUFFIX = ".log";
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int INDEX_VERSION = 1;
+
+    private static final long MAX_SEGMENT_SIZE = 16 * 1024 * 1024;
+    private static final int MAX_SEGMENTS = 32;
+
+    // Number of records summarized by single entry of the segment index
+    private static final int BLOCK_SIZE = 128;
+
+    // Segment with more loggers can not be ruled out by a logger prefix
+    private static final int MAX_INDEXED_LOGGERS = 512;
+
+    // Longest time appended records may stay in the buffer [ms]
+    private static final long FLUSH_INTERVAL = 1000;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // Size of the record header: body size, time and level value
+    private static final int HEADER_SIZE = 4 + 8 + 4;
+
+    // Fields of the record body
+    private static final int LEVEL = 0;
+    private static final int CLASSINFO = 1;
+    private static final int THREADINFO = 2;
+    private static final int MESSAGE = 3;
+    private static final int BODY_FIELDS = 4;
+
+    private static final Map<String, LogStore> stores = new ConcurrentHashMap<>();
+
+    private final File directory;
+    private final long maxSegmentSize;
+    private final int maxSegments;
+
+    private final List<Segment> segments = new ArrayList<>();
+    private Segment current;
+    private DataOutputStream output;
+    private long lastFlush;
+    private boolean opened;
+    private boolean failed;
+    private boolean removed;
+
+    /**
+     * @return log store of the server kept in its temp directory
+     */
+    public static LogStore getStore(PayaraServer server) {
+        return stores.computeIfAbsent(server.getServer().getId(), id -> new LogStore(
+            server.getServerBehaviourAdapter().getServerTempDirectory().append("log-store").toFile()));
+    }
+
+    /**
+     * Closes the store of a removed server and forgets it.
+     */
+    public static void removeStore(IServer server) {
+        LogStore store = stores.remove(server.getId());
+        if (store != null) {
+            store.remove();
+        }
+    }
+
+    /**
+     * Flushes all stores and writes the index of their current segments.
+     */
+    public static void closeAll() {
+        for (LogStore store : stores.values()) {
+            store.close();
+        }
+    }
+
+    LogStore(File directory) {
+        this(directory, MAX_SEGMENT_SIZE, MAX_SEGMENTS);
+    }
+
+    LogStore(File directory, long maxSegmentSize, int maxSegments) {
+        this.directory = directory;
+        this.maxSegmentSize = maxSegmentSize;
+        this.maxSegments = maxSegments;
+    }
+
+    /**
+     * Appends complete log record. Records without time are stored with the current time. When the
+     * store can not be written it is disabled, the failure is logged only once.
+     */
+    synchronized void append(LogRecord record) {
+        if (failed || removed) {
+            return;
+        }
+
+        try {
+            open();
+            ensureWritable();
+
+            long time = record.getTimeMillis() != 0 ? record.getTimeMillis() : System.currentTimeMillis();
+            String classInfo = record.getClassInfo();
+            byte[][] body = {
+                    record.getLevel().getBytes(UTF_8),
+                    classInfo.getBytes(UTF_8),
+                    record.getThreadInfo().getBytes(UTF_8),
+                    record.getMessage().getBytes(UTF_8) };
+
+            int size = HEADER_SIZE - 4 + 4 * BODY_FIELDS;
+            for (byte[] field : body) {
+                size += field.length;
+            }
+
+            output.writeInt(size);
+            output.writeLong(time);
+            output.writeInt(record.getLevelValue());
+            for (byte[] field : body) {
+                output.writeInt(field.length);
+                output.write(field);
+            }
+            current.add(current.length, time, record.getLevelValue(), classInfo, current.length + 4 + size);
+
+            long now = System.currentTimeMillis();
+            if (now - lastFlush >= FLUSH_INTERVAL) {
+                output.flush();
+                lastFlush = now;
+            }
+        } catch (IOException e) {
+            failed = true;
+            closeOutput();
+            PayaraToolsPlugin.logError("Log store " + directory + " failed, log records are not stored any more", e);
+        }
+    }
+
+    /**
+     * Returns stored records matching the query in the order they were stored.
+     */
+    public List<StoredLogRecord> query(LogQuery query) throws IOException {
+        List<Range> ranges = new ArrayList<>();
+        synchronized (this) {
+            if (removed) {
+                return new ArrayList<>();
+            }
+            open();
+            if (output != null) {
+                output.flush();
+                lastFlush = System.currentTimeMillis();
+            }
+            for (Segment segment : segments) {
+                segment.addRanges(query, ranges);
+            }
+        }
+
+        // Segments are read without the lock, appended records are beyond the ranges
+        byte[] prefix = query.getClassInfoPrefix() == null ? null : query.getClassInfoPrefix().getBytes(UTF_8);
+        byte[] text = query.getMessageText() == null ? null : query.getMessageText().getBytes(UTF_8);
+        List<StoredLogRecord> result = new ArrayList<>();
+        int i = 0;
+        while (i < ranges.size() && result.size() < query.getLimit()) {
+            Segment segment = ranges.get(i).segment;
+            try (SegmentInput input = new SegmentInput(segment.data)) {
+                for (; i < ranges.size() && ranges.get(i).segment == segment; i++) {
+                    input.seek(ranges.get(i).start, ranges.get(i).end);
+                    while (result.size() < query.getLimit() && input.next()) {
+                        if (input.time < query.getFrom() || input.time > query.getTo()
+                                || input.levelValue < query.getMinLevel()) {
+                            continue;
+                        }
+
+                        input.readBody();
+                        if ((prefix == null || input.startsWith(CLASSINFO, prefix))
+                                && (text == null || input.contains(MESSAGE, text))) {
+                            result.add(input.toRecord());
+                        }
+                    }
+                }
+            } catch (NoSuchFileException e) {
+                // Segment has been deleted in the meantime
+                while (i < ranges.size() && ranges.get(i).segment == segment) {
+                    i++;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Flushes appended records and writes the index of the current segment.
+     */
+    public synchronized void close() {
+        if (output != null) {
+            try {
+                output.close();
+                current.writeIndex();
+            } catch (IOException e) {
+                PayaraToolsPlugin.logError("Log store " + directory + " could not be closed", e);
+            }
+            output = null;
+        }
+    }
+
+    /**
+     * Closes the store of a removed server. Records still coming from its console are ignored, so no
+     * segment is opened again in the directory of the removed server.
+     */
+    synchronized void remove() {
+        close();
+        removed = true;
+    }
+
+    private void open() throws IOException {
+        if (opened) {
+            return;
+        }
+
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Can not create directory " + directory);
+        }
+
+        File[] files = directory.listFiles((dir, name) -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(DATA_SUFFIX));
+        if (files != null) {
+            Arrays.sort(files);
+            for (File file : files) {
+                String name = file.getName();
+                try {
+                    Segment segment = new Segment(directory,
+                            Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - DATA_SUFFIX.length())));
+                    if (!segment.readIndex()) {
+                        segment.rebuildIndex();
+                    }
+                    segments.add(segment);
+                } catch (NumberFormatException e) {
+                    // Not a segment
+                }
+            }
+        }
+
+        if (!segments.isEmpty()) {
+            current = segments.get(segments.size() - 1);
+        }
+        opened = true;
+    }
+
+    private void ensureWritable() throws IOException {
+        if (output != null && current.length < maxSegmentSize) {
+            return;
+        }
+
+        if (output != null) {
+            output.close();
+            output = null;
+            current.writeIndex();
+        }
+
+        if (current == null || current.length >= maxSegmentSize) {
+            current = new Segment(directory, current == null ? 0 : current.sequence + 1);
+            segments.add(current);
+            while (segments.size() > maxSegments) {
+                Segment oldest = segments.remove(0);
+                oldest.data.delete();
+                oldest.index.delete();
+            }
+        }
+
+        output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(current.data, true), BUFFER_SIZE));
+    }
+
+    private void closeOutput() {
+        if (output != null) {
+            try {
+                output.close();
+            } catch (IOException e) {
+                // Store is disabled already
+            }
+            output = null;
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * Segment file with its index.
+     */
+    private static class Segment {
+
+        private final long sequence;
+        private final File data;
+        private final File index;
+
+        private long length;
+        private int count;
+        private long minTime = Long.MAX_VALUE;
+        private long maxTime = Long.MIN_VALUE;
+        private int maxLevel = Integer.MIN_VALUE;
+        private final Set<String> loggers = new HashSet<>();
+        private boolean allLoggers;
+
+        // Offset, time range and highest level of every block of records
+        private long[] blockOffsets = new long[16];
+        private long[] blockMinTimes = new long[16];
+        private long[] blockMaxTimes = new long[16];
+        private int[] blockMaxLevels = new int[16];
+        private int blocks;
+
+        Segment(File directory, long sequence) {
+            this.sequence = sequence;
+            String name = SEGMENT_PREFIX + String.format("%010d", sequence);
+            data = new File(directory, name + DATA_SUFFIX);
+            index = new File(directory, name + INDEX_SUFFIX);
+        }
+
+        void add(long offset, long time, int level, String logger, long end) {
+            if (count % BLOCK_SIZE == 0) {
+                addBlock(offset, time, time, level);
+            } else {
+                int block = blocks - 1;
+                blockMinTimes[block] = Math.min(blockMinTimes[block], time);
+                blockMaxTimes[block] = Math.max(blockMaxTimes[block], time);
+                blockMaxLevels[block] = Math.max(blockMaxLevels[block], level);
+            }
+
+            count++;
+            minTime = Math.min(minTime, time);
+            maxTime = Math.max(maxTime, time);
+            maxLevel = Math.max(maxLevel, level);
+            if (!allLoggers && loggers.add(logger) && loggers.size() > MAX_INDEXED_LOGGERS) {
+                allLoggers = true;
+                loggers.clear();
+            }
+            length = end;
+        }
+
+        private void addBlock(long offset, long minTime, long maxTime, int maxLevel) {
+            if (blocks == blockOffsets.length) {
+                blockOffsets = Arrays.copyOf(blockOffsets, blocks * 2);
+                blockMinTimes = Arrays.copyOf(blockMinTimes, blocks * 2);
+                blockMaxTimes = Arrays.copyOf(blockMaxTimes, blocks * 2);
+                blockMaxLevels = Arrays.copyOf(blockMaxLevels, blocks * 2);
+            }
+            blockOffsets[blocks] = offset;
+            blockMinTimes[blocks] = minTime;
+            blockMaxTimes[blocks] = maxTime;
+            blockMaxLevels[blocks] = maxLevel;
+            blocks++;
+        }
+
+        private boolean mayMatch(LogQuery query) {
+            if (count == 0 || maxTime < query.getFrom() || minTime > query.getTo() || maxLevel < query.getMinLevel()) {
+                return false;
+            }
+            if (query.getClassInfoPrefix() == null || allLoggers) {
+                return true;
+            }
+            for (String logger : loggers) {
+                if (logger.startsWith(query.getClassInfoPrefix())) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        /**
+         * Adds the parts of the segment that may contain matching records, adjacent blocks are
+         * merged.
+         */
+        void addRanges(LogQuery query, List<Range> ranges) {
+            if (!mayMatch(query)) {
+                return;
+            }
+
+            Range last = null;
+            for (int block = 0; block < blocks; block++) {
+                if (blockMaxTimes[block] < query.getFrom() || blockMinTimes[block] > query.getTo()
+                        || blockMaxLevels[block] < query.getMinLevel()) {
+                    continue;
+                }
+
+                long start = blockOffsets[block];
+                long end = block + 1 < blocks ? blockOffsets[block + 1] : length;
+                if (last != null && last.end == start) {
+                    last.end = end;
+                } else {
+                    last = new Range(this, start, end);
+                    ranges.add(last);
+                }
+            }
+        }
+
+        private void reset() {
+            length = 0;
+            count = 0;
+            minTime = Long.MAX_VALUE;
+            maxTime = Long.MIN_VALUE;
+            maxLevel = Integer.MIN_VALUE;
+            loggers.clear();
+            allLoggers = false;
+            blocks = 0;
+        }
+
+        /**
+         * Writes the index to a temporary file first and moves it over the old index, so a crash
+         * never leaves a partially written index behind.
+         */
+        void writeIndex() throws IOException {
+            File temp = new File(index.getPath() + TEMP_SUFFIX);
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+                output.writeInt(INDEX_VERSION);
+                output.writeLong(length);
+                output.writeInt(count);
+                output.writeLong(minTime);
+                output.writeLong(maxTime);
+                output.writeInt(maxLevel);
+                output.writeBoolean(allLoggers);
+                output.writeInt(loggers.size());
+                for (String logger : loggers) {
+                    writeString(output, logger);
+                }
+                output.writeInt(blocks);
+                for (int i = 0; i < blocks; i++) {
+                    output.writeLong(blockOffsets[i]);
+                    output.writeLong(blockMinTimes[i]);
+                    output.writeLong(blockMaxTimes[i]);
+                    output.writeInt(blockMaxLevels[i]);
+                }
+            }
+
+            try {
+                Files.move(temp.toPath(), index.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp.toPath(), index.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        /**
+         * @return false when the index is missing or does not describe the whole segment
+         */
+        boolean readIndex() {
+            if (!index.isFile()) {
+                return false;
+            }
+
+            try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(index)))) {
+                if (input.readInt() != INDEX_VERSION) {
+                    return false;
+                }
+                length = input.readLong();
+                if (length != data.length()) {
+                    return false;
+                }
+                count = input.readInt();
+                minTime = input.readLong();
+                maxTime = input.readLong();
+                maxLevel = input.readInt();
+                allLoggers = input.readBoolean();
+                for (int i = input.readInt(); i > 0; i--) {
+                    loggers.add(readString(input));
+                }
+                for (int i = input.readInt(); i > 0; i--) {
+                    addBlock(input.readLong(), input.readLong(), input.readLong(), input.readInt());
+                }
+
+                return true;
+            } catch (IOException e) {
+                return false;
+            }
+        }
+
+        /**
+         * Scans the whole segment. A record only partially written, e.g. when the IDE crashed, and
+         * everything after it is truncated. Whatever a failed {@link #readIndex()} has read already
+         * is dropped first.
+         */
+        void rebuildIndex() throws IOException {
+            reset();
+            long fileLength = data.length();
+            try (SegmentInput input = new SegmentInput(data)) {
+                input.seek(0, fileLength);
+                while (input.next()) {
+                    long offset = input.recordStart;
+                    try {
+                        input.readBody();
+                    } catch (IOException e) {
+                        break;
+                    }
+                    add(offset, input.time, input.levelValue, input.getString(CLASSINFO), input.position);
+                }
+            }
+
+            if (length < fileLength) {
+                try (RandomAccessFile file = new RandomAccessFile(data, "rw")) {
+                    file.setLength(length);
+                }
+            }
+            writeIndex();
+        }
+    }
+
+    /**
+     * Reader of the records in parts of a segment. Parts close to each other are read through the
+     * same buffer.
+     */
+    private static class SegmentInput implements Closeable {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+        // Offset in the segment of the buffer position
+        private long position;
+        private long end;
+
+        private long recordStart;
+        private long time;
+        private int levelValue;
+
+        private byte[] body = new byte[1024];
+        private int bodyLength;
+        private boolean bodyRead = true;
+        private final int[] starts = new int[BODY_FIELDS];
+        private final int[] lengths = new int[BODY_FIELDS];
+
+        SegmentInput(File data) throws IOException {
+            channel = FileChannel.open(data.toPath(), READ);
+            buffer.limit(0);
+        }
+
+        /**
+         * Restricts reading to the given part of the segment.
+         */
+        void seek(long start, long end) {
+            long bufferStart = position - buffer.position();
+            if (start >= bufferStart && start <= bufferStart + buffer.limit()) {
+                buffer.position((int) (start - bufferStart));
+            } else {
+                buffer.limit(0);
+            }
+            position = start;
+            this.end = end;
+            bodyRead = true;
+        }
+
+        /**
+         * Reads header of the next record, the body of the previous record is skipped unless read.
+         *
+         * @return false at the end of the part or of a truncated segment
+         */
+        boolean next() throws IOException {
+            if (!bodyRead) {
+                skip(bodyLength);
+            }
+            if (position + HEADER_SIZE > end || !fill(HEADER_SIZE)) {
+                return false;
+            }
+
+            int size = buffer.getInt(buffer.position());
+            if (size < HEADER_SIZE - 4 || position + 4 + size > end) {
+                return false;
+            }
+            buffer.getInt();
+            time = buffer.getLong();
+            levelValue = buffer.getInt();
+
+            recordStart = position;
+            position += HEADER_SIZE;
+            bodyLength = size - (HEADER_SIZE - 4);
+            bodyRead = false;
+
+            return true;
+        }
+
+        void readBody() throws IOException {
+            if (body.length < bodyLength) {
+                body = new byte[Math.max(bodyLength, body.length * 2)];
+            }
+
+            int buffered = Math.min(buffer.remaining(), bodyLength);
+            buffer.get(body, 0, buffered);
+            if (buffered < bodyLength) {
+                // Rest of a long record is read directly
+                ByteBuffer rest = ByteBuffer.wrap(body, buffered, bodyLength - buffered);
+                while (rest.hasRemaining()) {
+                    if (channel.read(rest, position + rest.position()) < 0) {
+                        throw new EOFException("Unexpected end of log segment");
+                    }
+                }
+                buffer.limit(0);
+            }
+            position += bodyLength;
+            bodyRead = true;
+
+            int offset = 0;
+            for (int i = 0; i < BODY_FIELDS; i++) {
+                if (offset + 4 > bodyLength) {
+                    throw new IOException("Corrupted log record at " + recordStart);
+                }
+                lengths[i] = (body[offset] & 0xFF) << 24 | (body[offset + 1] & 0xFF) << 16
+                        | (body[offset + 2] & 0xFF) << 8 | body[offset + 3] & 0xFF;
+                starts[i] = offset + 4;
+                offset = starts[i] + lengths[i];
+                if (lengths[i] < 0 || offset > bodyLength) {
+                    throw new IOException("Corrupted log record at " + recordStart);
+                }
+            }
+        }
+
+        boolean startsWith(int field, byte[] prefix) {
+            if (lengths[field] < prefix.length) {
+                return false;
+            }
+            for (int i = 0; i < prefix.length; i++) {
+                if (body[starts[field] + i] != prefix[i]) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        boolean contains(int field, byte[] text) {
+            if (text.length == 0) {
+                return true;
+            }
+
+            byte first = text[0];
+            int last = starts[field] + lengths[field] - text.length;
+            for (int i = starts[field]; i <= last; i++) {
+                if (body[i] != first) {
+                    continue;
+                }
+                int j = 1;
+                while (j < text.length && body[i + j] == text[j]) {
+                    j++;
+                }
+                if (j == text.length) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        String getString(int field) {
+            return new String(body, starts[field], lengths[field], UTF_8);
+        }
+
+        StoredLogRecord toRecord() {
+            return new StoredLogRecord(time, levelValue, getString(LEVEL), getString(CLASSINFO),
+                    getString(THREADINFO), getString(MESSAGE));
+        }
+
+        /**
+         * Makes sure the buffer holds at least the given number of bytes.
+         *
+         * @return false at the end of the segment
+         */
+        private boolean fill(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) {
+                return true;
+            }
+
+            long readFrom = position + buffer.remaining();
+            buffer.compact();
+            while (buffer.position() < bytes) {
+                int read = channel.read(buffer, readFrom);
+                if (read < 0) {
+                    break;
+                }
+                readFrom += read;
+            }
+            buffer.flip();
+
+            return buffer.remaining() >= bytes;
+        }
+
+        private void skip(int bytes) {
+            if (bytes <= buffer.remaining()) {
+                buffer.position(buffer.position() + bytes);
+            } else {
+                buffer.limit(0);
+            }
+            position += bytes;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /**
+     * Part of a segment that may contain matching records.
+     */
+    private static class Range {
+
+        private final Segment segment;
+        private final long start;
+        private long end;
+
+        Range(Segment segment, long start, long end) {
+            this.segment = segment;
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+}
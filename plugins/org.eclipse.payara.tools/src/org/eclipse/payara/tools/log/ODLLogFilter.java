@@ -0,0 +1,325 @@
+/******************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.log;
+
+import static org.eclipse.payara.tools.log.AbstractLogFilter.GlassfishLogFields.CLASSINFO;
+import static org.eclipse.payara.tools.log.AbstractLogFilter.GlassfishLogFields.DATETIME;
+import static org.eclipse.payara.tools.log.AbstractLogFilter.GlassfishLogFields.MESSAGE;
+import static org.eclipse.payara.tools.log.AbstractLogFilter.GlassfishLogFields.THREADINFO;
+import static org.eclipse.payara.tools.log.AbstractLogFilter.GlassfishLogFields.VERSION;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.payara.tools.PayaraToolsPlugin;
+
+/**
+ * Streaming parser of ODL log records written by Payara 4 and later.
+ *
+ * <pre>
+ * [2020-04-23T10:53:40.123+0200] [Payara 5.201] [INFO] [] [javax.enterprise.web]
+ * [tid: _ThreadID=1 _ThreadName=main] [timeMillis: 1587635620123] [levelValue: 800] [[
+ *   Grizzly Framework 2.4.4 started in: 40ms - bound to [/0.0.0.0:8080]]]
+ * </pre>
+ *
+ * <p>
+ * Every read line is copied into a reused char buffer and scanned once. The header fields are
+ * bracket-aware, so brackets inside a field, e.g. in a thread name, do not end it. Record fields are
+ * kept as offsets into the buffer and only the formatted record is turned into a string, so long
+ * stack traces cost time linear in their length. A message ends with a line ending with
+ * <code>]]</code> followed by the record delimiter. Text outside of records is passed through.
+ * </p>
+ */
+public class ODLLogFilter extends AbstractLogFilter {
+
+    // Parser states
+    private static final int OUTSIDE = 0;
+    private static final int BETWEEN_FIELDS = 1;
+    private static final int OPENING = 2;
+    private static final int IN_FIELD = 3;
+    private static final int IN_MESSAGE = 4;
+    private static final int MESSAGE_CLOSED = 5;
+    private static final int MALFORMED = 6;
+
+    // Positions of the header fields shown in the console
+    private static final int TIME_FIELD = 0;
+    private static final int VERSION_FIELD = 1;
+    private static final int LEVEL_FIELD = 2;
+    private static final int CLASSINFO_FIELD = 4;
+    private static final int THREADINFO_FIELD = 5;
+    private static final int HEADER_FIELDS = THREADINFO_FIELD + 1;
+
+    // Supplemental fields following the header fields
+    private static final String TIME_MILLIS = "timeMillis:";
+    private static final String LEVEL_VALUE = "levelValue:";
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // Buffer grown by a long record is released after the record
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private static final int MAX_LEVELS = 32;
+
+    private char[] chars = new char[INITIAL_CAPACITY];
+    private int length;
+
+    private int state = OUTSIDE;
+    private int fieldIndex;
+    private int fieldStart;
+    private int depth;
+    private final int[] fieldStarts = new int[HEADER_FIELDS];
+    private final int[] fieldEnds = new int[HEADER_FIELDS];
+
+    private int messageContentStart;
+    private int messageStart;
+    private int messageEnd;
+
+    private long timeMillis;
+    private int levelValue;
+    private boolean hasLevelValue;
+
+    // Level names read so far, so that a level is not created as a new string for every record
+    private final List<String> levels = new ArrayList<>();
+
+    private boolean hasProcessedPayara;
+
+    ODLLogFilter() {
+        super();
+    }
+
+    @Override
+    public boolean hasProcessedPayara() {
+        return hasProcessedPayara;
+    }
+
+    @Override
+    public String process(String line) {
+        if (line.equals(logRecordDelimeter)) {
+            return processDelimeter();
+        }
+
+        if (state == OUTSIDE) {
+            if (line.charAt(0) != '[') {
+                return line;
+            }
+            state = BETWEEN_FIELDS;
+        } else if (state == MESSAGE_CLOSED) {
+            // The "]]" ending the previous line were part of the message
+            state = IN_MESSAGE;
+        }
+
+        int from = length;
+        append(line);
+        parse(from);
+
+        return null;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        state = OUTSIDE;
+        length = 0;
+        fieldIndex = 0;
+        timeMillis = 0;
+        hasLevelValue = false;
+        if (chars.length > MAX_RETAINED_CAPACITY) {
+            chars = new char[INITIAL_CAPACITY];
+        }
+    }
+
+    @Override
+    protected boolean isReadingUserMessage() {
+        return state == IN_MESSAGE || state == MESSAGE_CLOSED;
+    }
+
+    private String processDelimeter() {
+        switch (state) {
+        case OUTSIDE:
+        case IN_MESSAGE:
+            // Blank lines are not part of the console output
+            return null;
+        case MESSAGE_CLOSED:
+            return completeRecord();
+        default:
+            String text = new String(chars, 0, length - 1);
+            PayaraToolsPlugin.logMessage("Log record that does not match expected format detected!");
+            PayaraToolsPlugin.logMessage(text);
+            reset();
+            return text;
+        }
+    }
+
+    private void append(String line) {
+        int required = length + line.length() + 1;
+        if (required > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(required, chars.length * 2));
+        }
+        line.getChars(0, line.length(), chars, length);
+        length += line.length();
+        chars[length++] = '\n';
+    }
+
+    private void parse(int from) {
+        for (int i = from; i < length && state != MALFORMED; i++) {
+            char c = chars[i];
+            switch (state) {
+            case BETWEEN_FIELDS:
+                if (c == '[') {
+                    state = OPENING;
+                } else if (!Character.isWhitespace(c)) {
+                    state = MALFORMED;
+                }
+                break;
+            case OPENING:
+                if (c == '[') {
+                    startMessage(i + 1);
+                } else {
+                    state = IN_FIELD;
+                    fieldStart = i;
+                    depth = 0;
+                    if (c == ']') {
+                        endField(i);
+                    }
+                }
+                break;
+            case IN_FIELD:
+                if (c == '[') {
+                    depth++;
+                } else if (c == ']') {
+                    if (depth == 0) {
+                        endField(i);
+                    } else {
+                        depth--;
+                    }
+                }
+                break;
+            case IN_MESSAGE:
+                if (messageStart < 0 && !Character.isWhitespace(c)) {
+                    messageStart = i;
+                }
+                if (messageStart >= 0) {
+                    // Only the end of the line matters for the rest of the message
+                    i = length;
+                }
+                break;
+            }
+        }
+
+        if (state == IN_MESSAGE && length - 3 >= messageContentStart
+                && chars[length - 3] == ']' && chars[length - 2] == ']') {
+            messageEnd = length - 3;
+            state = MESSAGE_CLOSED;
+        }
+    }
+
+    private void startMessage(int start) {
+        if (fieldIndex < HEADER_FIELDS) {
+            state = MALFORMED;
+            return;
+        }
+        state = IN_MESSAGE;
+        messageContentStart = start;
+        messageStart = -1;
+    }
+
+    private void endField(int end) {
+        if (fieldIndex < HEADER_FIELDS) {
+            fieldStarts[fieldIndex] = fieldStart;
+            fieldEnds[fieldIndex] = end;
+        } else {
+            parseSupplementalField(fieldStart, end);
+        }
+        fieldIndex++;
+        state = BETWEEN_FIELDS;
+    }
+
+    /**
+     * Parses numeric supplemental fields in place, e.g. <code>[timeMillis: 1587635620123]</code>.
+     */
+    private void parseSupplementalField(int start, int end) {
+        if (matches(TIME_MILLIS, start, end)) {
+            timeMillis = parseNumber(start + TIME_MILLIS.length(), end);
+        } else if (matches(LEVEL_VALUE, start, end)) {
+            levelValue = (int) parseNumber(start + LEVEL_VALUE.length(), end);
+            hasLevelValue = true;
+        }
+    }
+
+    private long parseNumber(int start, int end) {
+        long value = 0;
+        boolean negative = false;
+        for (int i = start; i < end; i++) {
+            char c = chars[i];
+            if (c >= '0' && c <= '9') {
+                value = value * 10 + c - '0';
+            } else if (c == '-') {
+                negative = true;
+            }
+        }
+
+        return negative ? -value : value;
+    }
+
+    private String completeRecord() {
+        setField(DATETIME, TIME_FIELD);
+        setField(VERSION, VERSION_FIELD);
+        setField(CLASSINFO, CLASSINFO_FIELD);
+        setField(THREADINFO, THREADINFO_FIELD);
+        String level = levelName(fieldStarts[LEVEL_FIELD], fieldEnds[LEVEL_FIELD]);
+        record.setLevel(levelResolver.resolve(level));
+        record.setLevelValue(hasLevelValue ? levelValue : levelValue(level));
+        record.setTimeMillis(timeMillis);
+
+        int start = messageStart < 0 ? messageEnd : Math.min(messageStart, messageEnd);
+        record.setFieldRange(MESSAGE, chars, start, messageEnd);
+
+        hasProcessedPayara = true;
+        String result = recordCompleted() ? formatter.formatLogRecord(record) : null;
+        reset();
+
+        return result;
+    }
+
+    private void setField(GlassfishLogFields field, int index) {
+        record.setFieldRange(field, chars, fieldStarts[index], fieldEnds[index]);
+    }
+
+    private String levelName(int start, int end) {
+        int levelLength = end - start;
+        for (String level : levels) {
+            if (level.length() == levelLength && matches(level, start, end)) {
+                return level;
+            }
+        }
+
+        String level = new String(chars, start, levelLength);
+        if (levels.size() < MAX_LEVELS) {
+            levels.add(level);
+        }
+
+        return level;
+    }
+
+    private boolean matches(String text, int start, int end) {
+        if (end - start < text.length()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (chars[start + i] != text.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+}
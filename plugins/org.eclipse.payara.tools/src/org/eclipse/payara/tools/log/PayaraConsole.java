@@ -20,12 +20,14 @@ package org.eclipse.payara.tools.log;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
 
-import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Supplier;
 
 import org.eclipse.payara.tools.PayaraToolsPlugin;
 import org.eclipse.payara.tools.sdk.server.FetchLog;
@@ -35,10 +37,10 @@ public class PayaraConsole extends AbstractPayaraConsole implements IPayaraConso
 
     private static ScheduledExecutorService stopService = Executors.newSingleThreadScheduledExecutor();
 
-    PayaraConsole(String name, ILogFilter filter) {
+    PayaraConsole(String name, Supplier<ILogFilter> filterFactory) {
         super(name,
                 PayaraToolsPlugin.getInstance().getImageRegistry().getDescriptor(PayaraToolsPlugin.GF_SERVER_IMG),
-                filter);
+                filterFactory);
     }
 
     // PayaraConsole(String name, FetchLog[] logFetchers) {
@@ -77,13 +79,18 @@ public class PayaraConsole extends AbstractPayaraConsole implements IPayaraConso
         }
         
         readers = new ArrayList<>(logFetchers.length);
-        latch = new CountDownLatch(logFetchers.length);
-        filter.reset();
+        latch = new CountDownLatch(1);
+        pipeline = new LogPipeline(buffer, latch);
         
-        int i = 0;
         for (FetchLog logFetcher : logFetchers) {
-            LogReader reader = new LogReader(logFetcher, out, latch, filter);
-            readers.add(reader);
+            LogMetrics metrics = new LogMetrics(logFetcher);
+            readers.add(new LogReader(logFetcher, pipeline.addSource(metrics), metrics, filterFactory.get(),
+                    logListeners));
+        }
+        
+        new Thread(pipeline, "LogWriter Thread").start();
+        int i = 0;
+        for (LogReader reader : readers) {
             new Thread(reader, "LogReader Thread" + i++).start();
         }
     }
@@ -122,8 +129,7 @@ public class PayaraConsole extends AbstractPayaraConsole implements IPayaraConso
             if (latch != null) {
                 latch.await();
             }
-            out.close();
-        } catch (IOException | InterruptedException e) {
+        } catch (InterruptedException e) {
             e.printStackTrace();
         }
     }
@@ -164,8 +170,32 @@ public class PayaraConsole extends AbstractPayaraConsole implements IPayaraConso
     }
 
     @Override
-    public synchronized void setLogFilter(ILogFilter filter) {
-        this.filter = filter;
+    public synchronized long getDroppedRecords() {
+        return pipeline == null ? 0 : pipeline.getDroppedRecords();
+    }
+
+    @Override
+    public synchronized long getBackpressureWaits() {
+        return pipeline == null ? 0 : pipeline.getBackpressureWaits();
+    }
+
+    @Override
+    public synchronized List<LogMetrics> getMetrics() {
+        if (readers == null) {
+            return Collections.emptyList();
+        }
+
+        List<LogMetrics> metrics = new ArrayList<>(readers.size());
+        for (LogReader logReader : readers) {
+            metrics.add(logReader.getMetrics());
+        }
+
+        return metrics;
+    }
+
+    @Override
+    public synchronized void setLogFilter(Supplier<ILogFilter> filterFactory) {
+        this.filterFactory = filterFactory;
     }
 
 }
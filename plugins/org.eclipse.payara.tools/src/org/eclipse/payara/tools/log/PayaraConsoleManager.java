@@ -20,7 +20,14 @@ package org.eclipse.payara.tools.log;
 
 import static java.io.File.separator;
 import static org.eclipse.payara.tools.log.AbstractLogFilter.createFilter;
-
+import static org.eclipse.payara.tools.preferences.PreferenceConstants.CONSOLE_EXCLUDE_LOGGERS;
+import static org.eclipse.payara.tools.preferences.PreferenceConstants.CONSOLE_INCLUDE_LOGGERS;
+import static org.eclipse.payara.tools.preferences.PreferenceConstants.CONSOLE_MIN_LEVEL;
+import static org.eclipse.payara.tools.preferences.PreferenceConstants.LOG_STORE_MIN_LEVEL;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.payara.tools.PayaraToolsPlugin;
+import org.eclipse.payara.tools.sdk.server.LogFilterSpec;
 import org.eclipse.payara.tools.server.PayaraServer;
 import org.eclipse.ui.console.ConsolePlugin;
 import org.eclipse.ui.console.IConsole;
@@ -60,7 +67,20 @@ public class PayaraConsoleManager {
         String consoleID = createStandardConsoleName(server);
         IPayaraConsole gfConsole = findConsole(consoleID);
         if (gfConsole == null) {
-            gfConsole = new PayaraConsole(consoleID, AbstractLogFilter.createFilter(server));
+            // Only new records are read, so they can be kept in the log store of the server. The log
+            // fetcher passes records of both filters, each of them is applied here again.
+            gfConsole = new PayaraConsole(consoleID, () -> {
+                AbstractLogFilter filter = createFilter(server);
+                LogStore store = LogStore.getStore(server);
+                LogFilterSpec storeFilter = getLogStoreFilter();
+                filter.setRecordListener(record -> {
+                    if (storeFilter.acceptsAll() || storeFilter.accepts(record.getLevelValue(), record.getClassInfo())) {
+                        store.append(record);
+                    }
+                });
+                filter.setRecordFilter(getLogFilter());
+                return filter;
+            });
         }
 
         return gfConsole;
@@ -77,7 +97,7 @@ public class PayaraConsoleManager {
         String consoleID = createServerLogConsoleName(server);
         IPayaraConsole gfConsole = findConsole(consoleID);
         if (gfConsole == null) {
-            gfConsole = new PayaraConsole(consoleID, createFilter(server));
+            gfConsole = new PayaraConsole(consoleID, () -> createFilter(server));
         }
 
         return gfConsole;
@@ -93,12 +113,46 @@ public class PayaraConsoleManager {
         String consoleID = createStartupProcessConsoleName(server);
         IPayaraConsole payaraConsole = findConsole(consoleID);
         if (payaraConsole == null) {
-            payaraConsole = new PayaraStartupConsole(consoleID, new NoOpFilter());
+            payaraConsole = new PayaraStartupConsole(consoleID, NoOpFilter::new);
         }
 
         return payaraConsole;
     }
 
+    /**
+     * Returns filter of the records shown in server log consoles, as set in preferences. The log
+     * fetcher applies it before the records reach the console.
+     *
+     * @return
+     */
+    public static LogFilterSpec getLogFilter() {
+        IPreferenceStore store = PayaraToolsPlugin.getInstance().getPreferenceStore();
+        return LogFilterSpec.create(
+                store.getString(CONSOLE_MIN_LEVEL),
+                store.getString(CONSOLE_INCLUDE_LOGGERS),
+                store.getString(CONSOLE_EXCLUDE_LOGGERS));
+    }
+
+    /**
+     * Returns filter of the records kept in the log store, as set in preferences.
+     *
+     * @return
+     */
+    public static LogFilterSpec getLogStoreFilter() {
+        IPreferenceStore store = PayaraToolsPlugin.getInstance().getPreferenceStore();
+        return LogFilterSpec.create(store.getString(LOG_STORE_MIN_LEVEL), null, null);
+    }
+
+    /**
+     * Returns filter the log fetcher of the standard console applies. It passes the records shown in
+     * the console as well as the records kept in the log store, the rest is never parsed.
+     *
+     * @return
+     */
+    public static LogFilterSpec getStandardLogFilter() {
+        return getLogFilter().or(getLogStoreFilter());
+    }
+
     public static void removeServerLogFileConsole(PayaraServer server) {
         String consoleID = createServerLogConsoleName(server);
         IPayaraConsole payaraConsole = findConsole(consoleID);
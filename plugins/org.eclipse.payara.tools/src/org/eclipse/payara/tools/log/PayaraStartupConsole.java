@@ -18,10 +18,12 @@
 
 package org.eclipse.payara.tools.log;
 
+import java.util.function.Supplier;
+
 public class PayaraStartupConsole extends PayaraConsole {
 
-    PayaraStartupConsole(String name, ILogFilter filter) {
-        super(name, filter);
+    PayaraStartupConsole(String name, Supplier<ILogFilter> filterFactory) {
+        super(name, filterFactory);
     }
 
     @Override
@@ -123,7 +123,9 @@ public class StateLogFilterV3 extends AbstractLogFilter {
         case 4:
             if (c == '|') {
                 state = 5;
-                record.setLevel(levelResolver.resolve(buffer.toString()));
+                String level = buffer.toString();
+                record.setLevel(levelResolver.resolve(level));
+                record.setLevelValue(levelValue(level));
                 buffer.setLength(0);
             } else {
                 buffer.append(c);
@@ -183,7 +185,9 @@ public class StateLogFilterV3 extends AbstractLogFilter {
         case 10:
             if (c == ']') {
                 state = 0;
-                result = formatter.formatLogRecord(record);// (multiline ? message : type + ": " + message) + '\n';
+                if (recordCompleted()) {
+                    result = formatter.formatLogRecord(record);// (multiline ? message : type + ": " + message) + '\n';
+                }
                 reset();
             } else {
                 state = 8;
@@ -202,7 +206,7 @@ public class StateLogFilterV3 extends AbstractLogFilter {
         try {
             final BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
 
-            PatternLogFilterV4 filter = new PatternLogFilterV4();
+            ODLLogFilter filter = new ODLLogFilter();
             // StateLogFilterV3 filter = new StateLogFilterV3();
 
             for (String line = null; (line = reader.readLine()) != null;) {
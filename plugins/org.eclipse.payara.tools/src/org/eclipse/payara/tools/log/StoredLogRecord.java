@@ -0,0 +1,57 @@
+/******************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.log;
+
+/**
+ * Log record returned by a {@link LogStore} query.
+ */
+public class StoredLogRecord {
+
+    private final long timeMillis;
+    private final int levelValue;
+    private final String level;
+    private final String classInfo;
+    private final String threadInfo;
+    private final String message;
+
+    StoredLogRecord(long timeMillis, int levelValue, String level, String classInfo, String threadInfo, String message) {
+        this.timeMillis = timeMillis;
+        this.levelValue = levelValue;
+        this.level = level;
+        this.classInfo = classInfo;
+        this.threadInfo = threadInfo;
+        this.message = message;
+    }
+
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    public int getLevelValue() {
+        return levelValue;
+    }
+
+    public String getLevel() {
+        return level;
+    }
+
+    public String getClassInfo() {
+        return classInfo;
+    }
+
+    public String getThreadInfo() {
+        return threadInfo;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+}
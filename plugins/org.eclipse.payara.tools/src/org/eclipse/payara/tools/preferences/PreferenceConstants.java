@@ -28,5 +28,9 @@ public class PreferenceConstants {
     public static final String ENABLE_LOG = "EnableLogPreference";
     public static final String ENABLE_START_VERBOSE = "EnableStartVerboseModePreference";
     public static final String ENABLE_COLORS_CONSOLE = "EnableColorsInConsolePreference";
+    public static final String CONSOLE_MIN_LEVEL = "ConsoleMinLevelPreference";
+    public static final String CONSOLE_INCLUDE_LOGGERS = "ConsoleIncludeLoggersPreference";
+    public static final String CONSOLE_EXCLUDE_LOGGERS = "ConsoleExcludeLoggersPreference";
+    public static final String LOG_STORE_MIN_LEVEL = "LogStoreMinLevelPreference";
 
 }
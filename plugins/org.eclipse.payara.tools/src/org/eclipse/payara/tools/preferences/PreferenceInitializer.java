@@ -18,6 +18,8 @@
 
 package org.eclipse.payara.tools.preferences;
 
+import java.util.logging.Level;
+
 import org.eclipse.core.runtime.preferences.AbstractPreferenceInitializer;
 import org.eclipse.jface.preference.IPreferenceStore;
 import org.eclipse.payara.tools.PayaraToolsPlugin;
@@ -41,6 +43,10 @@ public class PreferenceInitializer extends AbstractPreferenceInitializer {
         store.setDefault(PreferenceConstants.ENABLE_LOG, false);
         store.setDefault(PreferenceConstants.ENABLE_START_VERBOSE, false);
         store.setDefault(PreferenceConstants.ENABLE_COLORS_CONSOLE, true);
+        store.setDefault(PreferenceConstants.CONSOLE_MIN_LEVEL, Level.ALL.getName());
+        store.setDefault(PreferenceConstants.CONSOLE_INCLUDE_LOGGERS, "");
+        store.setDefault(PreferenceConstants.CONSOLE_EXCLUDE_LOGGERS, "");
+        store.setDefault(PreferenceConstants.LOG_STORE_MIN_LEVEL, Level.ALL.getName());
     }
 
 }
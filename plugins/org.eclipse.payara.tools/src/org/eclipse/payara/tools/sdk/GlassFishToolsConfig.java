@@ -38,6 +38,9 @@ public class GlassFishToolsConfig {
     /** Proxy settings usage for loopback addresses. */
     private static volatile boolean proxyForLoopback = true;
 
+    /** Upload deployed archives as not compressed ZIP entry streamed from file channel. */
+    private static volatile boolean streamingUpload = true;
+
     ////////////////////////////////////////////////////////////////////////////
     // Static methods //
     ////////////////////////////////////////////////////////////////////////////
@@ -68,4 +71,30 @@ public class GlassFishToolsConfig {
         return proxyForLoopback;
     }
 
+    /**
+     * Upload deployed archives as <code>STORED</code> ZIP entry streamed from file channel.
+     * <p/>
+     * This is default behavior.
+     */
+    public static void useStreamingUpload() {
+        streamingUpload = true;
+    }
+
+    /**
+     * Upload deployed archives trough <code>ZipOutputStream</code> with default compression.
+     */
+    public static void noStreamingUpload() {
+        streamingUpload = false;
+    }
+
+    /**
+     * Get deployed archives streaming upload configuration value.
+     * <p/>
+     *
+     * @return Deployed archives streaming upload configuration value.
+     */
+    public static boolean getStreamingUpload() {
+        return streamingUpload;
+    }
+
 }
@@ -0,0 +1,506 @@
+/******************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.sdk.admin;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+import org.eclipse.payara.tools.sdk.logging.Logger;
+
+/**
+ * Scheduler of GlassFish server administration commands.
+ * <p/>
+ * Commands to different servers run in parallel. Mutating commands to the same server are executed
+ * one after another in submission order. Read-only queries (see {@link Command#isReadOnly()}) do not
+ * wait for running mutating commands and are picked from the queue ahead of them, so slow deployment
+ * does not block status polling.
+ * <p/>
+ * Queue depth and wait time statistics are collected for every server.
+ * <p/>
+ */
+public class AdminCommandScheduler {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Immutable snapshot of per server scheduling statistics.
+     */
+    public static final class Statistics {
+
+        /** Number of commands waiting for execution. */
+        private final int queueDepth;
+
+        /** Maximum observed number of commands waiting for execution. */
+        private final int maxQueueDepth;
+
+        /** Number of commands which already started. */
+        private final long started;
+
+        /** Total wait time of started commands in nanoseconds. */
+        private final long waitNanos;
+
+        /** Maximum observed wait time in nanoseconds. */
+        private final long maxWaitNanos;
+
+        /**
+         * Constructs an instance of scheduling statistics snapshot.
+         */
+        Statistics(final int queueDepth, final int maxQueueDepth, final long started, final long waitNanos,
+                final long maxWaitNanos) {
+            this.queueDepth = queueDepth;
+            this.maxQueueDepth = maxQueueDepth;
+            this.started = started;
+            this.waitNanos = waitNanos;
+            this.maxWaitNanos = maxWaitNanos;
+        }
+
+        /**
+         * Get number of commands waiting for execution.
+         * <p/>
+         *
+         * @return Number of commands waiting for execution.
+         */
+        public int getQueueDepth() {
+            return queueDepth;
+        }
+
+        /**
+         * Get maximum observed number of commands waiting for execution.
+         * <p/>
+         *
+         * @return Maximum observed queue depth.
+         */
+        public int getMaxQueueDepth() {
+            return maxQueueDepth;
+        }
+
+        /**
+         * Get number of commands which already started.
+         * <p/>
+         *
+         * @return Number of started commands.
+         */
+        public long getStarted() {
+            return started;
+        }
+
+        /**
+         * Get average time commands spent waiting for execution.
+         * <p/>
+         *
+         * @return Average wait time in milliseconds.
+         */
+        public double getAverageWaitTime() {
+            return started > 0 ? waitNanos / 1000000d / started : 0d;
+        }
+
+        /**
+         * Get maximum time command spent waiting for execution.
+         * <p/>
+         *
+         * @return Maximum wait time in milliseconds.
+         */
+        public double getMaxWaitTime() {
+            return maxWaitNanos / 1000000d;
+        }
+
+        @Override
+        public String toString() {
+            return "depth=" + queueDepth + " maxDepth=" + maxQueueDepth + " started=" + started
+                    + " avgWait=" + getAverageWaitTime() + "ms maxWait=" + getMaxWaitTime() + "ms";
+        }
+    }
+
+    /**
+     * Per server command lane.
+     * <p/>
+     * Holds mutating commands waiting for the running one and scheduling statistics.
+     */
+    private final class Lane {
+
+        /** Server name. */
+        private final String name;
+
+        /** Mutating commands waiting for currently running mutating command. */
+        private final Deque<Task> pending = new ArrayDeque<>();
+
+        /** Mutating command of this lane is running or queued in the pool. */
+        private boolean busy;
+
+        /** Number of commands waiting for execution. */
+        private final AtomicInteger depth = new AtomicInteger();
+
+        /** Maximum observed number of commands waiting for execution. */
+        private final AtomicInteger maxDepth = new AtomicInteger();
+
+        /** Number of commands which already started. */
+        private final AtomicLong started = new AtomicLong();
+
+        /** Total wait time in nanoseconds. */
+        private final AtomicLong waitNanos = new AtomicLong();
+
+        /** Maximum observed wait time in nanoseconds. */
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+
+        /**
+         * Constructs an instance of per server command lane.
+         * <p/>
+         *
+         * @param name Server name.
+         */
+        private Lane(final String name) {
+            this.name = name;
+        }
+
+        /**
+         * Record command submission.
+         */
+        private void enqueued() {
+            int current = depth.incrementAndGet();
+            int max;
+            while (current > (max = maxDepth.get())) {
+                if (maxDepth.compareAndSet(max, current)) {
+                    break;
+                }
+            }
+        }
+
+        /**
+         * Record command execution start.
+         * <p/>
+         *
+         * @param wait Time command spent waiting in nanoseconds.
+         */
+        private void started(final long wait) {
+            depth.decrementAndGet();
+            started.incrementAndGet();
+            waitNanos.addAndGet(wait);
+            long max;
+            while (wait > (max = maxWaitNanos.get())) {
+                if (maxWaitNanos.compareAndSet(max, wait)) {
+                    break;
+                }
+            }
+        }
+
+        /**
+         * Submit mutating command. Command is passed to the pool when no other mutating command of this
+         * lane is active, otherwise it waits in lane queue.
+         * <p/>
+         *
+         * @param task Mutating command task.
+         */
+        private void submit(final Task task) {
+            synchronized (this) {
+                if (busy) {
+                    pending.add(task);
+                    return;
+                }
+                busy = true;
+            }
+            dispatch(task);
+        }
+
+        /**
+         * Pass next waiting mutating command to the pool after the active one finished.
+         */
+        private void next() {
+            Task task;
+            synchronized (this) {
+                task = pending.poll();
+                if (task == null) {
+                    busy = false;
+                    return;
+                }
+            }
+            dispatch(task);
+        }
+
+        /**
+         * Remove mutating command which was cancelled before being passed to the pool.
+         * <p/>
+         *
+         * @param task Cancelled task.
+         */
+        private synchronized void remove(final Task task) {
+            pending.remove(task);
+        }
+
+        /**
+         * Build statistics snapshot.
+         * <p/>
+         *
+         * @return Statistics snapshot.
+         */
+        private Statistics statistics() {
+            return new Statistics(depth.get(), maxDepth.get(), started.get(), waitNanos.get(),
+                    maxWaitNanos.get());
+        }
+    }
+
+    /**
+     * Command execution task ordered by priority and submission sequence.
+     */
+    private final class Task extends FutureTask<Result> implements Comparable<Task> {
+
+        /** Lane of the target server. */
+        private final Lane lane;
+
+        /** Command is read-only query. */
+        private final boolean readOnly;
+
+        /** Submission sequence number. */
+        private final long sequence;
+
+        /** Submission time stamp in nanoseconds. */
+        private final long submitted;
+
+        /** Task was passed to the pool. */
+        private volatile boolean dispatched;
+
+        /** Task was already removed from queue depth statistics. */
+        private final AtomicBoolean counted = new AtomicBoolean();
+
+        /**
+         * Constructs an instance of command execution task.
+         * <p/>
+         *
+         * @param runner Administration command runner.
+         * @param lane Lane of the target server.
+         */
+        private Task(final Runner runner, final Lane lane) {
+            super(runner);
+            this.lane = lane;
+            this.readOnly = runner.getCommand().isReadOnly();
+            this.sequence = sequencer.incrementAndGet();
+            this.submitted = System.nanoTime();
+        }
+
+        /**
+         * Execute command. Every mutating task passed to the pool passes lane to the next waiting
+         * mutating command when finished, even when it was cancelled in the meantime.
+         */
+        @Override
+        public void run() {
+            if (counted.compareAndSet(false, true)) {
+                lane.started(System.nanoTime() - submitted);
+            }
+            try {
+                super.run();
+            } finally {
+                if (!readOnly) {
+                    lane.next();
+                }
+            }
+        }
+
+        /**
+         * Clean up command cancelled before it started.
+         */
+        @Override
+        protected void done() {
+            if (counted.compareAndSet(false, true)) {
+                lane.depth.decrementAndGet();
+                if (!dispatched) {
+                    lane.remove(this);
+                }
+            }
+        }
+
+        @Override
+        public int compareTo(final Task other) {
+            if (readOnly != other.readOnly) {
+                return readOnly ? -1 : 1;
+            }
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Logger instance for this class. */
+    private static final Logger LOGGER = new Logger(AdminCommandScheduler.class);
+
+    /** Maximum number of concurrently executed administration commands. */
+    public static final int POOL_SIZE = 8;
+
+    /** Idle worker thread keep alive time (in seconds). */
+    private static final long KEEP_ALIVE = 60;
+
+    /** Singleton instance. */
+    private static volatile AdminCommandScheduler instance;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get shared scheduler instance.
+     * <p/>
+     *
+     * @return Shared scheduler instance.
+     */
+    static AdminCommandScheduler getInstance() {
+        if (instance != null) {
+            return instance;
+        }
+        synchronized (AdminCommandScheduler.class) {
+            if (instance == null) {
+                instance = new AdminCommandScheduler(POOL_SIZE);
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Get scheduling statistics of all servers.
+     * <p/>
+     *
+     * @return Statistics mapped to server names.
+     */
+    public static Map<String, Statistics> getAllStatistics() {
+        AdminCommandScheduler scheduler = instance;
+        if (scheduler == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, Statistics> statistics = new HashMap<>(scheduler.lanes.size());
+        for (Lane lane : scheduler.lanes.values()) {
+            statistics.put(lane.name, lane.statistics());
+        }
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    /**
+     * Get scheduling statistics of given server.
+     * <p/>
+     *
+     * @param serverName Server name.
+     * @return Statistics snapshot or <code>null</code> when no command was submitted to this server.
+     */
+    public static Statistics getStatistics(final String serverName) {
+        AdminCommandScheduler scheduler = instance;
+        Lane lane = scheduler != null ? scheduler.lanes.get(serverName) : null;
+        return lane != null ? lane.statistics() : null;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Worker threads pool with priority queue. */
+    private final ThreadPoolExecutor pool;
+
+    /** Command lanes mapped to server names. */
+    private final ConcurrentMap<String, Lane> lanes = new ConcurrentHashMap<>();
+
+    /** Submission sequence generator. */
+    private final AtomicLong sequencer = new AtomicLong();
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Constructs an instance of administration commands scheduler.
+     * <p/>
+     *
+     * @param size Maximum number of concurrently executed commands.
+     */
+    AdminCommandScheduler(final int size) {
+        final AtomicInteger threads = new AtomicInteger();
+        ThreadFactory factory = r -> {
+            Thread thread = new Thread(r, "Payara admin command " + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        pool = new ThreadPoolExecutor(size, size, KEEP_ALIVE, TimeUnit.SECONDS,
+                new PriorityBlockingQueue<Runnable>(), factory);
+        pool.allowCoreThreadTimeOut(true);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get lane of the server.
+     * <p/>
+     *
+     * @param name Server name.
+     * @return Lane of the server.
+     */
+    private Lane lane(final String name) {
+        Lane lane = lanes.get(name);
+        if (lane == null) {
+            Lane newLane = new Lane(name);
+            lane = lanes.putIfAbsent(name, newLane);
+            if (lane == null) {
+                lane = newLane;
+            }
+        }
+        return lane;
+    }
+
+    /**
+     * Pass task to the pool.
+     * <p/>
+     *
+     * @param task Task to be executed.
+     */
+    private void dispatch(final Task task) {
+        task.dispatched = true;
+        pool.execute(task);
+    }
+
+    /**
+     * Submit administration command for execution.
+     * <p/>
+     * Runner must be in ready state.
+     * <p/>
+     *
+     * @param runner Administration command runner.
+     * @return <code>Future</code> object to retrieve result of asynchronous execution.
+     */
+    Future<Result> submit(final Runner runner) {
+        final String METHOD = "submit";
+        String name = runner.server.getName();
+        Lane lane = lane(name != null ? name : runner.server.getHost() + ':' + runner.server.getAdminPort());
+        Task task = new Task(runner, lane);
+        lane.enqueued();
+        LOGGER.log(Level.FINEST, METHOD, "submit",
+                new Object[] { runner.getCommand().getCommand(), lane.name, Boolean.toString(task.readOnly) });
+        if (task.readOnly) {
+            dispatch(task);
+        } else {
+            lane.submit(task);
+        }
+        return task;
+    }
+
+}
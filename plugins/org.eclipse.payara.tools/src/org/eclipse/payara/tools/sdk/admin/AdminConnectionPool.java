@@ -0,0 +1,441 @@
+/******************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.sdk.admin;
+
+import java.io.InterruptedIOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+import org.eclipse.payara.tools.sdk.logging.Logger;
+
+/**
+ * Bounded pool of persistent HTTP connections to GlassFish server administration interface.
+ * <p/>
+ * One pool exists for every (host, administration port, scheme) triplet. Pool limits number of
+ * concurrently opened connections to the same administration interface. Runner must not call
+ * <code>disconnect()</code> on connection with fully consumed response, otherwise underlying socket
+ * is closed and next administration command pays TCP connect and TLS handshake cost again.
+ * <p/>
+ * Pool also collects connect time and time to first byte statistics.
+ * <p/>
+ */
+public class AdminConnectionPool {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Connection pool key: (host, administration port, scheme) triplet.
+     */
+    public static final class Key {
+
+        /** Administration interface host name. */
+        private final String host;
+
+        /** Administration interface port. */
+        private final int port;
+
+        /** URL scheme (<code>http</code> or <code>https</code>). */
+        private final String scheme;
+
+        /**
+         * Constructs an instance of connection pool key.
+         * <p/>
+         *
+         * @param host Administration interface host name.
+         * @param port Administration interface port.
+         * @param scheme URL scheme.
+         */
+        Key(final String host, final int port, final String scheme) {
+            this.host = host.toLowerCase(Locale.ENGLISH);
+            this.port = port;
+            this.scheme = scheme.toLowerCase(Locale.ENGLISH);
+        }
+
+        /**
+         * Constructs an instance of connection pool key from administration interface URL.
+         * <p/>
+         *
+         * @param url Administration interface URL.
+         */
+        Key(final URL url) {
+            this(url.getHost(), url.getPort() < 0 ? url.getDefaultPort() : url.getPort(), url.getProtocol());
+        }
+
+        /**
+         * Get administration interface host name.
+         * <p/>
+         *
+         * @return Administration interface host name.
+         */
+        public String getHost() {
+            return host;
+        }
+
+        /**
+         * Get administration interface port.
+         * <p/>
+         *
+         * @return Administration interface port.
+         */
+        public int getPort() {
+            return port;
+        }
+
+        /**
+         * Get URL scheme.
+         * <p/>
+         *
+         * @return URL scheme.
+         */
+        public String getScheme() {
+            return scheme;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return port == other.port && host.equals(other.host) && scheme.equals(other.scheme);
+        }
+
+        @Override
+        public int hashCode() {
+            return (host.hashCode() * 31 + port) * 31 + scheme.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return scheme + "://" + host + ':' + port;
+        }
+    }
+
+    /**
+     * Immutable snapshot of connection pool statistics.
+     */
+    public static final class Statistics {
+
+        /** Number of executed requests. */
+        private final long requests;
+
+        /** Number of measured connect operations. */
+        private final long connects;
+
+        /** Total connect time in nanoseconds. */
+        private final long connectNanos;
+
+        /** Number of measured responses. */
+        private final long responses;
+
+        /** Total time to first byte in nanoseconds. */
+        private final long firstByteNanos;
+
+        /**
+         * Constructs an instance of connection pool statistics snapshot.
+         */
+        Statistics(final long requests, final long connects, final long connectNanos,
+                final long responses, final long firstByteNanos) {
+            this.requests = requests;
+            this.connects = connects;
+            this.connectNanos = connectNanos;
+            this.responses = responses;
+            this.firstByteNanos = firstByteNanos;
+        }
+
+        /**
+         * Get number of executed requests.
+         * <p/>
+         *
+         * @return Number of executed requests.
+         */
+        public long getRequests() {
+            return requests;
+        }
+
+        /**
+         * Get average connect time.
+         * <p/>
+         *
+         * @return Average connect time in milliseconds.
+         */
+        public double getAverageConnectTime() {
+            return connects > 0 ? connectNanos / 1000000d / connects : 0d;
+        }
+
+        /**
+         * Get average time to first byte of response.
+         * <p/>
+         *
+         * @return Average time to first byte in milliseconds.
+         */
+        public double getAverageTimeToFirstByte() {
+            return responses > 0 ? firstByteNanos / 1000000d / responses : 0d;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ENGLISH,
+                    "requests=%d connect=%.2fms ttfb=%.2fms",
+                    requests, getAverageConnectTime(), getAverageTimeToFirstByte());
+        }
+    }
+
+    /**
+     * Single connection lease taken from the pool.
+     * <p/>
+     * Lease must be released exactly once.
+     */
+    final class Lease {
+
+        /** Lease was already released. */
+        private boolean released;
+
+        /**
+         * Constructs an instance of connection lease.
+         */
+        private Lease() {
+        }
+
+        /**
+         * Get pool this lease belongs to.
+         * <p/>
+         *
+         * @return Pool this lease belongs to.
+         */
+        AdminConnectionPool getPool() {
+            return AdminConnectionPool.this;
+        }
+
+        /**
+         * Record connect time of leased connection.
+         * <p/>
+         *
+         * @param nanos Connect time in nanoseconds.
+         */
+        void connected(final long nanos) {
+            connects.incrementAndGet();
+            connectNanos.addAndGet(nanos);
+        }
+
+        /**
+         * Record time to first byte of response on leased connection.
+         * <p/>
+         *
+         * @param nanos Time to first byte in nanoseconds.
+         */
+        void firstByte(final long nanos) {
+            responses.incrementAndGet();
+            firstByteNanos.addAndGet(nanos);
+        }
+
+        /**
+         * Return connection to the pool.
+         * <p/>
+         * Connection with fully consumed response is left open so JDK keep-alive cache can reuse
+         * underlying socket. Any other connection is disconnected.
+         * <p/>
+         *
+         * @param hconn Leased HTTP connection, may be <code>null</code>.
+         * @param reusable Response was fully consumed and connection may be reused.
+         */
+        void release(final HttpURLConnection hconn, final boolean reusable) {
+            if (released) {
+                return;
+            }
+            released = true;
+            if (!reusable && hconn != null) {
+                hconn.disconnect();
+            }
+            permits.release();
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Logger instance for this class. */
+    private static final Logger LOGGER = new Logger(AdminConnectionPool.class);
+
+    /**
+     * Maximum number of connections to single administration interface. Matches JDK default
+     * <code>http.maxConnections</code> value so all idle connections fit into keep-alive cache.
+     */
+    public static final int MAX_CONNECTIONS = 5;
+
+    /**
+     * Maximum time to wait for free connection (in miliseconds). Matches administration command
+     * read timeout, so running command either finishes or fails before waiting command gives up.
+     */
+    static final long ACQUIRE_TIMEOUT = Runner.HTTP_READ_TIMEOUT;
+
+    /** Connection pools mapped to (host, administration port, scheme) keys. */
+    private static final ConcurrentMap<Key, AdminConnectionPool> pools = new ConcurrentHashMap<>();
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get connection pool for administration interface URL.
+     * <p/>
+     *
+     * @param url Administration interface URL.
+     * @return Connection pool for (host, administration port, scheme) of provided URL.
+     */
+    static AdminConnectionPool getPool(final URL url) {
+        Key key = new Key(url);
+        AdminConnectionPool pool = pools.get(key);
+        if (pool == null) {
+            AdminConnectionPool newPool = new AdminConnectionPool(key, MAX_CONNECTIONS);
+            pool = pools.putIfAbsent(key, newPool);
+            if (pool == null) {
+                pool = newPool;
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * Get statistics snapshot of all existing connection pools.
+     * <p/>
+     *
+     * @return Statistics mapped to connection pool keys.
+     */
+    public static Map<Key, Statistics> getAllStatistics() {
+        Map<Key, Statistics> statistics = new HashMap<>(pools.size());
+        for (AdminConnectionPool pool : pools.values()) {
+            statistics.put(pool.key, pool.getStatistics());
+        }
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    /**
+     * Get statistics snapshot of connection pool for given administration interface.
+     * <p/>
+     *
+     * @param host Administration interface host name.
+     * @param port Administration interface port.
+     * @param scheme URL scheme.
+     * @return Statistics snapshot or <code>null</code> when no connection was opened yet.
+     */
+    public static Statistics getStatistics(final String host, final int port, final String scheme) {
+        AdminConnectionPool pool = pools.get(new Key(host, port, scheme));
+        return pool != null ? pool.getStatistics() : null;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Pool key. */
+    private final Key key;
+
+    /** Connection permits. */
+    private final Semaphore permits;
+
+    /** Number of executed requests. */
+    private final AtomicLong requests = new AtomicLong();
+
+    /** Number of measured connect operations. */
+    private final AtomicLong connects = new AtomicLong();
+
+    /** Total connect time in nanoseconds. */
+    private final AtomicLong connectNanos = new AtomicLong();
+
+    /** Number of measured responses. */
+    private final AtomicLong responses = new AtomicLong();
+
+    /** Total time to first byte in nanoseconds. */
+    private final AtomicLong firstByteNanos = new AtomicLong();
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Constructs an instance of administration interface connection pool.
+     * <p/>
+     *
+     * @param key Pool key.
+     * @param maxConnections Maximum number of concurrently used connections.
+     */
+    AdminConnectionPool(final Key key, final int maxConnections) {
+        this.key = key;
+        this.permits = new Semaphore(maxConnections, true);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get pool key.
+     * <p/>
+     *
+     * @return Pool key.
+     */
+    public Key getKey() {
+        return key;
+    }
+
+    /**
+     * Take connection lease from the pool. Blocks when all connections are in use, but no longer
+     * than {@link #ACQUIRE_TIMEOUT}.
+     * <p/>
+     *
+     * @return Connection lease.
+     * @throws InterruptedIOException when waiting for free connection was interrupted.
+     * @throws CommandException when no connection became free in time.
+     */
+    Lease acquire() throws InterruptedIOException {
+        final String METHOD = "acquire";
+        try {
+            if (!permits.tryAcquire(ACQUIRE_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                throw new CommandException(LOGGER.excMsg(METHOD, "timeout", key.toString(),
+                        Long.toString(ACQUIRE_TIMEOUT)));
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(ie.getLocalizedMessage());
+        }
+        requests.incrementAndGet();
+        LOGGER.log(Level.FINEST, METHOD, "lease", key.toString());
+        return new Lease();
+    }
+
+    /**
+     * Get statistics snapshot of this pool.
+     * <p/>
+     *
+     * @return Statistics snapshot.
+     */
+    public Statistics getStatistics() {
+        return new Statistics(requests.get(), connects.get(), connectNanos.get(), responses.get(),
+                firstByteNanos.get());
+    }
+
+}
@@ -0,0 +1,315 @@
+/******************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.sdk.admin;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.security.KeyManagementException;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+import javax.net.ssl.HandshakeCompletedEvent;
+import javax.net.ssl.HandshakeCompletedListener;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+
+import org.eclipse.payara.tools.sdk.logging.Logger;
+import org.eclipse.payara.tools.server.PayaraServer;
+
+/**
+ * Per server cache of <code>SSLContext</code> used by administration command runners.
+ * <p/>
+ * Sharing single <code>SSLContext</code> between HTTPS administration calls to the same server
+ * allows TLS session resumption and keeps connection in JDK keep-alive cache reusable, because
+ * this cache matches connections by <code>SSLSocketFactory</code> instance. Cached context is
+ * dropped when server host, administration port or credentials change.
+ * <p/>
+ */
+public class AdminSSLContextCache {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Trust manager accepting any server certificate.
+     * <p/>
+     * We aren't sending money or secrets to administration interface.
+     */
+    private static class TrustAllManager implements X509TrustManager {
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] arg0, String arg1) throws CertificateException {
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] arg0, String arg1) throws CertificateException {
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return null;
+        }
+    }
+
+    /**
+     * Cached SSL context entry.
+     */
+    private static class Entry {
+
+        /** Server security settings fingerprint this context was built for. */
+        private final String fingerprint;
+
+        /** Socket factory counting TLS handshakes. */
+        private final SSLSocketFactory factory;
+
+        /**
+         * Constructs an instance of cached SSL context entry.
+         * <p/>
+         *
+         * @param fingerprint Server security settings fingerprint.
+         * @param factory Socket factory counting TLS handshakes.
+         */
+        private Entry(final String fingerprint, final SSLSocketFactory factory) {
+            this.fingerprint = fingerprint;
+            this.factory = factory;
+        }
+    }
+
+    /**
+     * Socket factory delegating to cached <code>SSLContext</code> socket factory and counting created
+     * sockets and TLS handshakes completed on them.
+     * <p/>
+     * Handshakes are counted from <code>HandshakeCompletedListener</code> events of each socket.
+     * Session IDs are not tracked: TLS 1.3 hands out new session ticket on every resumption, so
+     * distinct IDs do not tell full handshake from resumed one.
+     * <p/>
+     */
+    private static class CountingSocketFactory extends SSLSocketFactory
+            implements HandshakeCompletedListener {
+
+        /** Delegate socket factory. */
+        private final SSLSocketFactory delegate;
+
+        /**
+         * Constructs an instance of handshake counting socket factory.
+         * <p/>
+         *
+         * @param delegate Delegate socket factory.
+         */
+        private CountingSocketFactory(final SSLSocketFactory delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void handshakeCompleted(final HandshakeCompletedEvent event) {
+            handshakes.incrementAndGet();
+        }
+
+        /**
+         * Count newly created socket and register handshake listener on it.
+         * <p/>
+         *
+         * @param socket Newly created socket.
+         * @return Socket passed as argument.
+         */
+        private Socket listen(final Socket socket) {
+            if (socket instanceof SSLSocket) {
+                sockets.incrementAndGet();
+                ((SSLSocket) socket).addHandshakeCompletedListener(this);
+            }
+            return socket;
+        }
+
+        @Override
+        public String[] getDefaultCipherSuites() {
+            return delegate.getDefaultCipherSuites();
+        }
+
+        @Override
+        public String[] getSupportedCipherSuites() {
+            return delegate.getSupportedCipherSuites();
+        }
+
+        @Override
+        public Socket createSocket() throws IOException {
+            return listen(delegate.createSocket());
+        }
+
+        @Override
+        public Socket createSocket(Socket s, String host, int port, boolean autoClose) throws IOException {
+            return listen(delegate.createSocket(s, host, port, autoClose));
+        }
+
+        @Override
+        public Socket createSocket(String host, int port) throws IOException {
+            return listen(delegate.createSocket(host, port));
+        }
+
+        @Override
+        public Socket createSocket(String host, int port, InetAddress localHost, int localPort)
+                throws IOException {
+            return listen(delegate.createSocket(host, port, localHost, localPort));
+        }
+
+        @Override
+        public Socket createSocket(InetAddress host, int port) throws IOException {
+            return listen(delegate.createSocket(host, port));
+        }
+
+        @Override
+        public Socket createSocket(InetAddress address, int port, InetAddress localAddress, int localPort)
+                throws IOException {
+            return listen(delegate.createSocket(address, port, localAddress, localPort));
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Logger instance for this class. */
+    private static final Logger LOGGER = new Logger(AdminSSLContextCache.class);
+
+    /** TLS session cache timeout (in seconds). */
+    static final int SESSION_TIMEOUT = 3600;
+
+    /** Cached SSL contexts mapped to server names. */
+    private static final ConcurrentMap<String, Entry> contexts = new ConcurrentHashMap<>();
+
+    /** Number of created SSL contexts. */
+    private static final AtomicLong contextsCreated = new AtomicLong();
+
+    /** Number of created TLS sockets. */
+    private static final AtomicLong sockets = new AtomicLong();
+
+    /** Number of TLS handshakes completed on created sockets. */
+    private static final AtomicLong handshakes = new AtomicLong();
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Build fingerprint of server settings affecting secure connection.
+     * <p/>
+     *
+     * @param server GlassFish server entity object.
+     * @return Server security settings fingerprint.
+     */
+    private static String fingerprint(final PayaraServer server) {
+        String password = server.getAdminPassword();
+        return new StringBuilder()
+                .append(server.getHost()).append(':')
+                .append(server.getAdminPort()).append(':')
+                .append(server.getAdminUser()).append(':')
+                .append(password != null ? password.hashCode() : 0)
+                .toString();
+    }
+
+    /**
+     * Get cached SSL socket factory for provided server. New <code>SSLContext</code> is created when
+     * no context is cached yet or server security settings changed since it was cached.
+     * <p/>
+     *
+     * @param server GlassFish server entity object.
+     * @return Cached SSL socket factory.
+     * @throws NoSuchAlgorithmException when SSL protocol is not supported.
+     * @throws KeyManagementException when SSL context initialization failed.
+     */
+    static SSLSocketFactory getSocketFactory(final PayaraServer server)
+            throws NoSuchAlgorithmException, KeyManagementException {
+        final String METHOD = "getSocketFactory";
+        String name = server.getName();
+        String fingerprint = fingerprint(server);
+        Entry entry = contexts.get(name);
+        if (entry != null && entry.fingerprint.equals(fingerprint)) {
+            return entry.factory;
+        }
+        SSLContext context = SSLContext.getInstance("SSL");
+        context.init(null, new TrustManager[] { new TrustAllManager() }, null);
+        context.getClientSessionContext().setSessionTimeout(SESSION_TIMEOUT);
+        Entry newEntry = new Entry(fingerprint, new CountingSocketFactory(context.getSocketFactory()));
+        contextsCreated.incrementAndGet();
+        LOGGER.log(Level.FINE, METHOD, entry == null ? "create" : "invalidate", name);
+        contexts.put(name, newEntry);
+        return newEntry.factory;
+    }
+
+    /**
+     * Drop cached SSL context of provided server.
+     * <p/>
+     *
+     * @param server GlassFish server entity object.
+     */
+    public static void invalidate(final PayaraServer server) {
+        invalidate(server.getName());
+    }
+
+    /**
+     * Drop cached SSL context of server with provided name.
+     * <p/>
+     * Called when server is removed or its settings are changed.
+     * <p/>
+     *
+     * @param serverName GlassFish server name.
+     */
+    public static void invalidate(final String serverName) {
+        contexts.remove(serverName);
+    }
+
+    /**
+     * Drop all cached SSL contexts.
+     */
+    public static void invalidateAll() {
+        contexts.clear();
+    }
+
+    /**
+     * Get handshake statistics snapshot.
+     * <p/>
+     * Returned map contains <code>contexts</code>, <code>sockets</code> and <code>handshakes</code>
+     * counters. Administration requests served over fewer sockets were served from JDK keep-alive
+     * cache.
+     * <p/>
+     *
+     * @return Handshake statistics snapshot.
+     */
+    public static Map<String, Long> getStatistics() {
+        Map<String, Long> statistics = new LinkedHashMap<>(4);
+        statistics.put("contexts", contextsCreated.get());
+        statistics.put("sockets", sockets.get());
+        statistics.put("handshakes", handshakes.get());
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creating of instances is not allowed.
+     */
+    private AdminSSLContextCache() {
+    }
+
+}
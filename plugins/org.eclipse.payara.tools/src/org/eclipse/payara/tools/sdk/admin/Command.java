@@ -83,4 +83,28 @@ public abstract class Command {
         return retry;
     }
 
+    // This is also kind of getter.
+    /**
+     * Short read-only query which does not change server state (e.g. "version", "__locations",
+     * "list-applications"). Read-only queries may run in parallel with mutating commands and are
+     * scheduled ahead of them.
+     * <p/>
+     *
+     * @return <code>true</code> if command does not change server state.
+     */
+    public boolean isReadOnly() {
+        if (command == null) {
+            return false;
+        }
+        switch (command) {
+        case "version":
+        case "__locations":
+        case "get":
+        case "view-log":
+            return true;
+        default:
+            return command.startsWith("list-") || command.startsWith("__list-");
+        }
+    }
+
 }
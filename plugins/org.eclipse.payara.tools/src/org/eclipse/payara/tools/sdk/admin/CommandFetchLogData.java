@@ -18,6 +18,8 @@
 
 package org.eclipse.payara.tools.sdk.admin;
 
+import java.io.OutputStream;
+
 /**
  * GlassFish Server View Log Command Entity.
  * <p/>
@@ -50,6 +52,12 @@ public class CommandFetchLogData extends Command {
      */
     final String paramsAppendNext;
 
+    /**
+     * Stream where log is written as received from server or <code>null</code> when log lines shall be
+     * returned in <code>ValueLog</code>.
+     */
+    final OutputStream sink;
+
     ////////////////////////////////////////////////////////////////////////////
     // Constructors //
     ////////////////////////////////////////////////////////////////////////////
@@ -62,6 +70,7 @@ public class CommandFetchLogData extends Command {
     public CommandFetchLogData() {
         super(COMMAND);
         this.paramsAppendNext = null;
+        this.sink = null;
     }
 
     /**
@@ -76,6 +85,25 @@ public class CommandFetchLogData extends Command {
     public CommandFetchLogData(String paramsAppendNext) {
         super(COMMAND);
         this.paramsAppendNext = paramsAppendNext;
+        this.sink = null;
+    }
+
+    /**
+     * Constructs an instance of GlassFish server view log command entity streaming log into provided
+     * output stream.
+     * <p/>
+     * Log is written into <code>sink</code> as it is received from server, returned
+     * <code>ValueLog</code> contains no log lines. Stream is not flushed nor closed.
+     * <p/>
+     *
+     * @param paramsAppendNext Interval query parameters from Last View Log command execution or
+     * <code>null</code> to read all existing log entries.
+     * @param sink Stream where log is written.
+     */
+    public CommandFetchLogData(String paramsAppendNext, OutputStream sink) {
+        super(COMMAND);
+        this.paramsAppendNext = paramsAppendNext;
+        this.sink = sink;
     }
 
 }
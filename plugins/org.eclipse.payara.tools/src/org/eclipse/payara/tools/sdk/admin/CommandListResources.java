@@ -18,11 +18,20 @@
 
 package org.eclipse.payara.tools.sdk.admin;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 
 import org.eclipse.payara.tools.sdk.PayaraIdeException;
+import org.eclipse.payara.tools.sdk.TaskState;
 import org.eclipse.payara.tools.sdk.logging.Logger;
 import org.eclipse.payara.tools.server.PayaraServer;
 
@@ -53,6 +62,34 @@ public class CommandListResources extends CommandTarget {
      */
     private static final String COMMAND_SUFFIX = "s";
 
+    /** Dotted names pattern matching attributes of all resources in domain. */
+    private static final String RESOURCES_PATTERN = "resources.*";
+
+    /** Prefix of dotted names of resources. */
+    private static final String RESOURCES_PREFIX = "resources.";
+
+    /**
+     * Prefix of dotted names of resource references of DAS, the target of list commands sent
+     * without target.
+     */
+    private static final String REFS_PREFIX = "servers.server.server.resource-ref.";
+
+    /** Dotted names pattern matching attributes of all resource references of DAS. */
+    private static final String REFS_PATTERN = REFS_PREFIX + "*";
+
+    /** Suffix of <code>domain.xml</code> elements of resources referenced by targets. */
+    private static final String RESOURCE_SUFFIX = "-resource";
+
+    /**
+     * Resource command suffixes of <code>domain.xml</code> elements which differ from element name.
+     */
+    private static final Map<String, String> ELEMENT_COMMANDS = new HashMap<>();
+
+    static {
+        ELEMENT_COMMANDS.put("admin-object-resource", "admin-object");
+        ELEMENT_COMMANDS.put("mail-resource", "javamail-resource");
+    }
+
     ////////////////////////////////////////////////////////////////////////////
     // Static methods //
     ////////////////////////////////////////////////////////////////////////////
@@ -82,6 +119,136 @@ public class CommandListResources extends CommandTarget {
         }
     }
 
+    /**
+     * List all resources of DAS using single administration request per resources and their
+     * references.
+     * <p/>
+     * Resources of all types are read with one <code>get resources.*</code> request instead of one
+     * <code>list-*s</code> command per type and resource references of DAS are read with one
+     * <code>get servers.server.server.resource-ref.*</code> request sent at the same time. Like
+     * <code>list-*s</code> commands sent without target, only resources referenced by DAS are
+     * listed. Connection pools are not referenced by targets and are all listed.
+     * <p/>
+     *
+     * @param server GlassFish server entity.
+     * @return Sorted resource names indexed by resource command suffix (e.g.
+     * <code>jdbc-resource</code>).
+     * @throws PayaraIdeException When error occurred during administration command execution.
+     */
+    public static Map<String, List<String>> listAllResources(
+            final PayaraServer server) throws PayaraIdeException {
+        final String METHOD = "listAllResources";
+        // Get commands are read only, so both requests run at once
+        Future<ResultMap<String, String>> resourcesFuture = ServerAdmin.<ResultMap<String, String>>exec(
+                server, new CommandGetProperty(RESOURCES_PATTERN));
+        Future<ResultMap<String, String>> refsFuture = ServerAdmin.<ResultMap<String, String>>exec(
+                server, new CommandGetProperty(REFS_PATTERN));
+        ResultMap<String, String> resources;
+        ResultMap<String, String> refs;
+        try {
+            resources = resourcesFuture.get();
+            refs = refsFuture.get();
+        } catch (InterruptedException | ExecutionException
+                | CancellationException ie) {
+            throw new PayaraIdeException(
+                    LOGGER.excMsg(METHOD, "failed"), ie);
+        }
+        if (resources.getState() != TaskState.COMPLETED || resources.getValue() == null
+                || refs.getState() != TaskState.COMPLETED || refs.getValue() == null) {
+            throw new PayaraIdeException(LOGGER.excMsg(METHOD, "failed"));
+        }
+        return resourcesByType(resources.getValue().keySet(),
+                referencedNames(refs.getValue().keySet()));
+    }
+
+    /**
+     * Index resource names from dotted names of their attributes by resource command suffix.
+     * <p/>
+     * Dotted name of resource attribute is <code>resources.&lt;element&gt;.&lt;name&gt;.&lt;attribute&gt;</code>
+     * where dots in name are escaped by backslash. Resources whose element ends with
+     * <code>-resource</code> are listed only when referenced.
+     * <p/>
+     *
+     * @param dottedNames Dotted names of resource attributes.
+     * @param referenced Names of referenced resources.
+     * @return Sorted resource names indexed by resource command suffix.
+     */
+    static Map<String, List<String>> resourcesByType(final Collection<String> dottedNames,
+            final Set<String> referenced) {
+        Map<String, Set<String>> names = new HashMap<>();
+        StringBuilder name = new StringBuilder();
+        for (String dottedName : dottedNames) {
+            if (!dottedName.startsWith(RESOURCES_PREFIX)) {
+                continue;
+            }
+            int typeEnd = dottedName.indexOf('.', RESOURCES_PREFIX.length());
+            if (typeEnd < 0) {
+                continue;
+            }
+            if (!unescapeName(dottedName, typeEnd + 1, name)) {
+                continue;
+            }
+            String element = dottedName.substring(RESOURCES_PREFIX.length(), typeEnd);
+            if (element.endsWith(RESOURCE_SUFFIX) && !referenced.contains(name.toString())) {
+                continue;
+            }
+            String type = ELEMENT_COMMANDS.getOrDefault(element, element);
+            names.computeIfAbsent(type, t -> new TreeSet<>()).add(name.toString());
+        }
+        Map<String, List<String>> resources = new HashMap<>(names.size());
+        for (Map.Entry<String, Set<String>> entry : names.entrySet()) {
+            resources.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+        }
+        return resources;
+    }
+
+    /**
+     * Collect names of referenced resources from dotted names of resource reference attributes.
+     * <p/>
+     * Dotted name of resource reference attribute is
+     * <code>servers.server.server.resource-ref.&lt;name&gt;.&lt;attribute&gt;</code>.
+     * <p/>
+     *
+     * @param dottedNames Dotted names of resource reference attributes.
+     * @return Names of referenced resources.
+     */
+    static Set<String> referencedNames(final Collection<String> dottedNames) {
+        Set<String> referenced = new HashSet<>();
+        StringBuilder name = new StringBuilder();
+        for (String dottedName : dottedNames) {
+            if (dottedName.startsWith(REFS_PREFIX)
+                    && unescapeName(dottedName, REFS_PREFIX.length(), name)) {
+                referenced.add(name.toString());
+            }
+        }
+        return referenced;
+    }
+
+    /**
+     * Read name from dotted name up to the next unescaped dot.
+     * <p/>
+     *
+     * @param dottedName Dotted name.
+     * @param start Index of the first character of name.
+     * @param name Buffer where unescaped name is stored.
+     * @return Value of <code>true</code> when name is not empty.
+     */
+    private static boolean unescapeName(final String dottedName, final int start,
+            final StringBuilder name) {
+        name.setLength(0);
+        for (int i = start; i < dottedName.length(); i++) {
+            char c = dottedName.charAt(i);
+            if (c == '\\' && i + 1 < dottedName.length()) {
+                name.append(dottedName.charAt(++i));
+            } else if (c == '.') {
+                break;
+            } else {
+                name.append(c);
+            }
+        }
+        return name.length() > 0;
+    }
+
     /**
      * Constructs command string for provided resource command suffix.
      * <p/>
@@ -20,7 +20,7 @@ package org.eclipse.payara.tools.sdk.admin;
 
 import org.eclipse.payara.tools.sdk.logging.Logger;
 import org.eclipse.payara.tools.sdk.utils.LinkedList;
-import org.eclipse.payara.tools.sdk.utils.StringPrefixTree;
+import org.eclipse.payara.tools.sdk.utils.MarkerMatcher;
 
 /**
  * Content to verify on server administration command execution standard output and data to send on
@@ -36,7 +36,7 @@ public class ProcessIOContent {
     ////////////////////////////////////////////////////////////////////////////
 
     /**
-     * Prefix tree final node content.
+     * Content of marker found on standard output.
      */
     protected static class TreeNode {
         /** Match array index. */
@@ -46,7 +46,7 @@ public class ProcessIOContent {
         private final ProcessIOResult result;
 
         /**
-         * Creates an instance of prefix tree final node content.
+         * Creates an instance of found marker content.
          * <p/>
          *
          * @param index Match array index.
@@ -61,7 +61,8 @@ public class ProcessIOContent {
     /**
      * Abstract input or output token.
      */
-    protected abstract static class Token {
+    protected abstract static class Token
+            implements MarkerMatcher.MatchListener<TreeNode> {
 
         /**
          * Array of match indicators for individual success input strings. This value shall not be null.
@@ -73,8 +74,11 @@ public class ProcessIOContent {
          */
         private final boolean matchError[];
 
-        /** Strings to be matched on standard output stored in prefix tree. */
-        private final StringPrefixTree<TreeNode> outputStrings;
+        /** Strings to be matched on standard output. */
+        private final MarkerMatcher<TreeNode> outputStrings;
+
+        /** Result of strings matched in the last searched string. */
+        private ProcessIOResult result;
 
         /** Maximum length of all stored strings. */
         private final int maxLen;
@@ -94,7 +98,7 @@ public class ProcessIOContent {
             int maxLenLocal = 0;
             matchSuccess = new boolean[lenSuccess];
             matchError = new boolean[lenError];
-            outputStrings = new StringPrefixTree<>(false);
+            outputStrings = new MarkerMatcher<>(false);
             for (short i = 0; i < lenSuccess; i++) {
                 matchSuccess[i] = false;
                 outputStrings.add(inputSuccess[i],
@@ -149,12 +153,12 @@ public class ProcessIOContent {
         }
 
         /**
-         * Get strings to be matched on standard output stored in prefix tree.
+         * Get strings to be matched on standard output.
          * <p/>
          *
-         * @return Strings to be matched on standard output stored in prefix tree.
+         * @return Strings to be matched on standard output.
          */
-        protected StringPrefixTree<TreeNode> getOutputStrings() {
+        protected MarkerMatcher<TreeNode> getOutputStrings() {
             return outputStrings;
         }
 
@@ -171,26 +175,43 @@ public class ProcessIOContent {
         /**
          * Search for tokens in provided string.
          * <p/>
+         * All stored strings are searched in a single pass over provided string. Search stops at the
+         * first string which decides about the result.
+         * <p/>
          *
          * @param str String to be compared with stored tokens.
-         * @param offset Beginning index for searching.
          * @return Search result.
          */
-        protected ProcessIOResult match(CharSequence str, int offset) {
-            TreeNode node = outputStrings.prefixMatch(str, offset);
-            if (node != null) {
-                switch (node.result) {
-                case SUCCESS:
-                    matchSuccess[node.index] = true;
-                    return isSuccess()
-                            ? ProcessIOResult.SUCCESS
-                            : ProcessIOResult.UNKNOWN;
-                case ERROR:
-                    matchError[node.index] = true;
-                    return ProcessIOResult.ERROR;
-                }
+        protected ProcessIOResult match(CharSequence str) {
+            result = ProcessIOResult.UNKNOWN;
+            outputStrings.scan(str, MarkerMatcher.START, this);
+            return result;
+        }
+
+        /**
+         * Evaluate string found in searched string.
+         * <p/>
+         *
+         * @param node Content of found string.
+         * @param end Index following the last character of found string.
+         * @return Value of <code>true</code> to continue search or <code>false</code> when search
+         * result was decided.
+         */
+        @Override
+        public boolean matched(TreeNode node, int end) {
+            switch (node.result) {
+            case SUCCESS:
+                matchSuccess[node.index] = true;
+                result = isSuccess()
+                        ? ProcessIOResult.SUCCESS
+                        : ProcessIOResult.UNKNOWN;
+                break;
+            case ERROR:
+                matchError[node.index] = true;
+                result = ProcessIOResult.ERROR;
+                break;
             }
-            return ProcessIOResult.UNKNOWN;
+            return result == ProcessIOResult.UNKNOWN;
         }
     }
 
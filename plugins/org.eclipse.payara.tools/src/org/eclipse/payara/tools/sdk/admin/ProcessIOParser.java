@@ -23,8 +23,8 @@ import java.io.Reader;
 import java.io.Writer;
 
 import org.eclipse.payara.tools.sdk.logging.Logger;
-import org.eclipse.payara.tools.sdk.utils.CyclicStringBuffer;
 import org.eclipse.payara.tools.sdk.utils.LinkedList;
+import org.eclipse.payara.tools.sdk.utils.MarkerMatcher;
 import org.eclipse.payara.tools.sdk.utils.OsUtils;
 
 /**
@@ -68,11 +68,11 @@ public class ProcessIOParser {
              * <p/>
              *
              * @param c Character to check tor input class.
+             * @param prompt Provided character completes input prompt.
              * @return Input class of provided character.
              */
-            protected static Input value(final char c, final String prompt,
-                    final CyclicStringBuffer promptBuff) {
-                if (prompt != null && promptBuff.equals(prompt)) {
+            protected static Input value(final char c, final boolean prompt) {
+                if (prompt) {
                     return PROMPT;
                 }
                 switch (c) {
@@ -135,14 +135,17 @@ public class ProcessIOParser {
         /** Content verification result. */
         private ProcessIOResult result;
 
-        /** Process input prompt length. Value of zero indicates no prompt. */
-        private int promptLen;
+        /** Process input prompt. Value of <code>null</code> indicates no prompt. */
+        private String prompt;
 
         /** Current line being processed. */
         private final StringBuilder line;
 
-        /** Cyclic buffer to compare input against prompt. */
-        CyclicStringBuffer promptBuff;
+        /** Matcher of input prompt or <code>null</code> when there is no prompt. */
+        private MarkerMatcher<String> promptMatcher;
+
+        /** Input prompt matcher state. */
+        private int promptState;
 
         /** Machine internal state. */
         private State state;
@@ -162,12 +165,28 @@ public class ProcessIOParser {
             state = State.START;
             token = this.content.firstToken();
             result = ProcessIOResult.UNKNOWN;
-            String prompt = content.getCurrentPrompt();
-            promptLen = prompt != null ? prompt.length() : 0;
-            promptBuff = new CyclicStringBuffer(promptLen);
+            setPrompt(content.getCurrentPrompt());
             output = new LinkedList();
         }
 
+        /**
+         * Set process input prompt to be matched.
+         * <p/>
+         *
+         * @param prompt Process input prompt, may be <code>null</code>.
+         */
+        private void setPrompt(final String prompt) {
+            if (prompt == null || prompt.isEmpty()) {
+                this.prompt = null;
+                promptMatcher = null;
+            } else if (!prompt.equals(this.prompt)) {
+                this.prompt = prompt;
+                promptMatcher = new MarkerMatcher<>(true);
+                promptMatcher.add(prompt, prompt);
+            }
+            promptState = MarkerMatcher.START;
+        }
+
         /**
          * Parses content of process output.
          * <p/>
@@ -206,7 +225,12 @@ public class ProcessIOParser {
          * @return Next state transition based on current state and character class.
          */
         protected State action(final char c) {
-            Input cl = Input.value(c, content.getCurrentPrompt(), promptBuff);
+            boolean isPrompt = false;
+            if (promptMatcher != null) {
+                promptState = promptMatcher.step(promptState, c);
+                isPrompt = promptMatcher.match(promptState) != null;
+            }
+            Input cl = Input.value(c, isPrompt);
             switch (state) {
             case START:
                 switch (cl) {
@@ -288,15 +312,10 @@ public class ProcessIOParser {
                 output.addLast(line.toString());
             }
             if (token != null) {
-                ProcessIOResult matchResult = ProcessIOResult.UNKNOWN;
-                for (int i = 0; i < line.length(); i++) {
-                    if ((matchResult = token.match(line, i)) != ProcessIOResult.UNKNOWN) {
-                        token = content.nextToken();
-                        String prompt = content.getCurrentPrompt();
-                        promptLen = prompt != null ? prompt.length() : 0;
-                        promptBuff.resize(promptLen);
-                        break;
-                    }
+                ProcessIOResult matchResult = token.match(line);
+                if (matchResult != ProcessIOResult.UNKNOWN) {
+                    token = content.nextToken();
+                    setPrompt(content.getCurrentPrompt());
                 }
                 switch (matchResult) {
                 case SUCCESS:
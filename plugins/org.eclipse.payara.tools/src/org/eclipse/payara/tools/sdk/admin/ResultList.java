@@ -18,7 +18,10 @@
 
 package org.eclipse.payara.tools.sdk.admin;
 
+import java.util.AbstractList;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
 
 /**
  * GlassFish Administration Command Result.
@@ -31,6 +34,58 @@ import java.util.List;
  */
 public class ResultList<T> extends Result<List<T>> {
 
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Read only list decoding its items from source items on access.
+     */
+    private static final class DecodedList<S, T> extends AbstractList<T> implements RandomAccess {
+
+        /** Source items. */
+        private final List<S> source;
+
+        /** Decodes item from source item. */
+        private final Function<? super S, ? extends T> decoder;
+
+        private DecodedList(final List<S> source, final Function<? super S, ? extends T> decoder) {
+            this.source = source;
+            this.decoder = decoder;
+        }
+
+        @Override
+        public T get(final int index) {
+            return decoder.apply(source.get(index));
+        }
+
+        @Override
+        public int size() {
+            return source.size();
+        }
+
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Create read only result value decoding its items from source items on access.
+     * <p/>
+     * Items are decoded every time they are read and never stored, so the value does not hold
+     * more memory than the source and items which are not read are never decoded.
+     * <p/>
+     *
+     * @param source Source items, e.g. parsed response messages.
+     * @param decoder Decodes item from source item.
+     * @return List view of source items.
+     */
+    static <S, T> List<T> decodedValue(final List<S> source,
+            final Function<? super S, ? extends T> decoder) {
+        return new DecodedList<>(source, decoder);
+    }
+
     ////////////////////////////////////////////////////////////////////////////
     // Instance attributes //
     ////////////////////////////////////////////////////////////////////////////
@@ -18,8 +18,14 @@
 
 package org.eclipse.payara.tools.sdk.admin;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 /**
  * GlassFish administration command result.
@@ -32,12 +38,113 @@ import java.util.Map;
  */
 public class ResultMap<K, V> extends Result<Map<K, V>> {
 
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Read only map decoding its values from raw values on first access.
+     */
+    private static final class DecodedMap<K, R, V> extends AbstractMap<K, V> {
+
+        /** Raw values. */
+        private final Map<K, R> raw;
+
+        /** Decodes value from raw value. */
+        private final Function<? super R, ? extends V> decoder;
+
+        /** Values decoded so far, guarded by this. */
+        private final Map<K, V> decoded = new HashMap<>();
+
+        private DecodedMap(final Map<K, R> raw, final Function<? super R, ? extends V> decoder) {
+            this.raw = raw;
+            this.decoder = decoder;
+        }
+
+        @Override
+        public synchronized V get(final Object key) {
+            V value = decoded.get(key);
+            if (value == null && raw.containsKey(key)) {
+                @SuppressWarnings("unchecked")
+                K k = (K) key;
+                value = decoder.apply(raw.get(key));
+                decoded.put(k, value);
+            }
+            return value;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return raw.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return raw.size();
+        }
+
+        @Override
+        public Set<K> keySet() {
+            return Collections.unmodifiableSet(raw.keySet());
+        }
+
+        @Override
+        public Set<Map.Entry<K, V>> entrySet() {
+            return new AbstractSet<Map.Entry<K, V>>() {
+
+                @Override
+                public Iterator<Map.Entry<K, V>> iterator() {
+                    Iterator<K> keys = raw.keySet().iterator();
+                    return new Iterator<Map.Entry<K, V>>() {
+
+                        @Override
+                        public boolean hasNext() {
+                            return keys.hasNext();
+                        }
+
+                        @Override
+                        public Map.Entry<K, V> next() {
+                            K key = keys.next();
+                            return new SimpleImmutableEntry<>(key, get(key));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return raw.size();
+                }
+            };
+        }
+
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Create read only result value decoding its values from raw values on first access.
+     * <p/>
+     * Keys are available without decoding anything, e.g. caller which needs just the key set never
+     * pays for decoding the values. Decoded values are cached.
+     * <p/>
+     *
+     * @param raw Raw values by their keys.
+     * @param decoder Decodes value from raw value, must not return <code>null</code>.
+     * @return Map view of raw values.
+     */
+    static <K, R, V> Map<K, V> decodedValue(final Map<K, R> raw,
+            final Function<? super R, ? extends V> decoder) {
+        return new DecodedMap<>(raw, decoder);
+    }
+
     ////////////////////////////////////////////////////////////////////////////
     // Instance attributes //
     ////////////////////////////////////////////////////////////////////////////
 
     /** Value returned by administration command execution. */
-    HashMap<K, V> value;
+    Map<K, V> value;
 
     ////////////////////////////////////////////////////////////////////////////
     // Constructors //
@@ -35,8 +35,6 @@ import java.net.URLConnection;
 import java.net.UnknownHostException;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
-import java.security.cert.CertificateException;
-import java.security.cert.X509Certificate;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
@@ -46,9 +44,6 @@ import java.util.concurrent.Future;
 import java.util.logging.Level;
 
 import javax.net.ssl.HttpsURLConnection;
-import javax.net.ssl.SSLContext;
-import javax.net.ssl.TrustManager;
-import javax.net.ssl.X509TrustManager;
 
 import org.eclipse.payara.tools.sdk.GlassFishToolsConfig;
 import org.eclipse.payara.tools.sdk.TaskEvent;
@@ -140,6 +135,12 @@ public abstract class Runner implements Callable<Result> {
     /** Socket connection timeout (in miliseconds). */
     public static final int HTTP_CONNECTION_TIMEOUT = 3000;
 
+    /**
+     * Socket read timeout (in miliseconds). Long enough for deployment and domain restart
+     * commands, short enough to release pooled connection of server which stopped responding.
+     */
+    public static final int HTTP_READ_TIMEOUT = 300000;
+
     /** Delay before administration command execution will be retried. */
     public static final int HTTP_RETRY_DELAY = 3000;
 
@@ -161,11 +162,6 @@ public abstract class Runner implements Callable<Result> {
     /** <code>String</code> value for <code>false</code>. */
     static final String FALSE_VALUE = "false";
 
-    /**
-     * Executor used to serialize administration commands passed to GlassFish server.
-     */
-    private static volatile ExecutorService executor;
-
     /* Global password authenticator for GlassFish servers. */
     private static volatile Authenticator authenticator;
 
@@ -173,27 +169,6 @@ public abstract class Runner implements Callable<Result> {
     // Static methods //
     ////////////////////////////////////////////////////////////////////////////
 
-    /**
-     * Returns shared <code>Executor</code> instance to serialize administration commands passed to
-     * GlassFish server.
-     * <p/>
-     * <code>Executor</code> instance is handled internally.
-     * <p/>
-     *
-     * @return Shared <code>Executor</code> instance.
-     */
-    static ExecutorService serializedExecutor() {
-        if (executor != null) {
-            return executor;
-        }
-        synchronized (Runner.class) {
-            if (executor == null) {
-                executor = Executors.newFixedThreadPool(1);
-            }
-        }
-        return executor;
-    }
-
     /**
      * Allows to initialize this class to use external <code>Authenticator</code>.
      * <p/>
@@ -607,12 +582,15 @@ public abstract class Runner implements Callable<Result> {
     /**
      * Execute an arbitrary server command.
      * <p/>
+     * Commands to different servers run in parallel, mutating commands to the same server are
+     * serialized. See {@link AdminCommandScheduler}.
+     * <p/>
      *
      * @return <code>Future</code> object to retrieve receiveResult of asynchronous execution.
      */
     Future<? extends Result> execute() {
         setReadyState();
-        return serializedExecutor().submit(this);
+        return AdminCommandScheduler.getInstance().submit(this);
     }
 
     /**
@@ -642,6 +620,7 @@ public abstract class Runner implements Callable<Result> {
         conn.setDoInput(true);
         conn.setUseCaches(false);
         conn.setConnectTimeout(HTTP_CONNECTION_TIMEOUT);
+        conn.setReadTimeout(HTTP_READ_TIMEOUT);
         String adminUser = server.getAdminUser();
         String adminPassword = server.getAdminPassword();
         LOGGER.log(Level.FINEST, METHOD, "setting",
@@ -671,27 +650,9 @@ public abstract class Runner implements Callable<Result> {
         final String METHOD = "handleSecureConnection";
         // let's just trust any server that we connect to...
         // we aren't send them money or secrets...
-        TrustManager[] tm = new TrustManager[] { new X509TrustManager() {
-
-            @Override
-            public void checkClientTrusted(X509Certificate[] arg0, String arg1) throws CertificateException {
-            }
-
-            @Override
-            public void checkServerTrusted(X509Certificate[] arg0, String arg1) throws CertificateException {
-            }
-
-            @Override
-            public X509Certificate[] getAcceptedIssuers() {
-                return null;
-            }
-        } };
-
-        SSLContext context;
+        // Cached context allows TLS session resumption and keep-alive reuse.
         try {
-            context = SSLContext.getInstance("SSL");
-            context.init(null, tm, null);
-            conn.setSSLSocketFactory(context.getSocketFactory());
+            conn.setSSLSocketFactory(AdminSSLContextCache.getSocketFactory(server));
             conn.setHostnameVerifier((string, ssls) -> true);
         } catch (NoSuchAlgorithmException | KeyManagementException ex) {
             // if there is an issue here... there will be another exception
@@ -731,6 +692,9 @@ public abstract class Runner implements Callable<Result> {
     /** GlassFish server administration interface HTTP URL connection. */
     private HttpURLConnection hconn;
 
+    /** GlassFish server administration interface connection pool lease. */
+    private AdminConnectionPool.Lease lease;
+
     ////////////////////////////////////////////////////////////////////////////
     // ExecutorService call() method helpers //
     // Do not use those methods outside call() method execution context! //
@@ -743,6 +707,7 @@ public abstract class Runner implements Callable<Result> {
         urlToConnectTo = null;
         conn = null;
         hconn = null;
+        lease = null;
     }
 
     /**
@@ -796,10 +761,14 @@ public abstract class Runner implements Callable<Result> {
                 Authenticator.setDefault(extAuth);
             }
             // Connect to server.
+            long connectStart = System.nanoTime();
             hconn.connect();
+            lease.connected(System.nanoTime() - connectStart);
             // Send data to server if necessary.
             handleSend(hconn);
+            long responseStart = System.nanoTime();
             int respCode = hconn.getResponseCode();
+            lease.firstByte(System.nanoTime() - responseStart);
             StateChange change = handleHTTPResponse(respCode);
             if (change != null) {
                 return change;
@@ -832,8 +801,9 @@ public abstract class Runner implements Callable<Result> {
             } else {
                 LOGGER.log(Level.FINE, METHOD, "locationMoved", newUrl);
                 urlToConnectTo = new URL(newUrl);
+                lease.release(hconn, false);
+                lease = AdminConnectionPool.getPool(urlToConnectTo).acquire();
                 conn = openURLConnection(urlToConnectTo);
-                hconn.disconnect();
             }
         }
         return null;
@@ -873,7 +843,7 @@ public abstract class Runner implements Callable<Result> {
 
     /**
      * GlassFish server administration command execution call. This is an entry point from
-     * <code>executor<code>'s serialization queue.
+     * <code>AdminCommandScheduler</code> or provided <code>executor</code>.
      * <p/>
      *
      * @return Task execution state.
@@ -901,6 +871,7 @@ public abstract class Runner implements Callable<Result> {
             urlToConnectTo = new URL(commandUrl);
             while (!httpSucceeded && retries-- > 0) {
                 try {
+                    lease = AdminConnectionPool.getPool(urlToConnectTo).acquire();
                     conn = openURLConnection(urlToConnectTo);
                     if (conn instanceof HttpURLConnection) {
                         StateChange change = handleHTTPConnection();
@@ -932,13 +903,20 @@ public abstract class Runner implements Callable<Result> {
                 } catch (ConnectException ce) {
                     return handleStateChange(TaskState.FAILED, TaskEvent.EXCEPTION,
                             stateChangeArgs(ce.getLocalizedMessage()));
+                } catch (CommandException ce) {
+                    return handleStateChange(TaskState.FAILED, TaskEvent.EXCEPTION,
+                            stateChangeArgs(ce.getLocalizedMessage()));
                 } catch (IOException ex) {
                     if (retries <= 0) {
                         return handleStateChange(TaskState.FAILED, TaskEvent.EXCEPTION,
                                 stateChangeArgs(ex.getLocalizedMessage()));
                     }
                 } finally {
-                    if (null != hconn) {
+                    // Keep connection with fully consumed response alive for reuse.
+                    if (null != lease) {
+                        lease.release(hconn, httpSucceeded);
+                        lease = null;
+                    } else if (null != hconn) {
                         hconn.disconnect();
                     }
                 }
@@ -23,11 +23,17 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.HttpURLConnection;
+import java.text.MessageFormat;
+import java.util.Locale;
 import java.util.logging.Level;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
+import org.eclipse.payara.tools.sdk.GlassFishToolsConfig;
+import org.eclipse.payara.tools.sdk.TaskEvent;
+import org.eclipse.payara.tools.sdk.TaskState;
 import org.eclipse.payara.tools.sdk.logging.Logger;
 import org.eclipse.payara.tools.sdk.utils.Utils;
 import org.eclipse.payara.tools.server.PayaraServer;
@@ -216,6 +222,11 @@ public class RunnerHttpDeploy extends RunnerHttp {
     @Override
     protected void handleSend(HttpURLConnection hconn) throws IOException {
         final String METHOD = "handleSend";
+        if (!command.dirDeploy && GlassFishToolsConfig.getStreamingUpload()
+                && command.path.length() <= StoredZipUpload.MAX_SIZE) {
+            handleStreamingSend(hconn);
+            return;
+        }
         InputStream istream = getInputStream();
         if (istream != null) {
             ZipOutputStream ostream = null;
@@ -254,6 +265,66 @@ public class RunnerHttpDeploy extends RunnerHttp {
         }
     }
 
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Send deployed archive as <code>STORED</code> ZIP entry streamed from file channel.
+     * <p/>
+     * Archive is already compressed so it is not deflated again. Upload progress and throughput are
+     * reported to state listeners as {@link TaskEvent#CMD_PROGRESS} events.
+     * <p/>
+     *
+     * @param hconn HTTP connection to send data to.
+     * @throws IOException when archive read or upload failed.
+     */
+    private void handleStreamingSend(final HttpURLConnection hconn) throws IOException {
+        final String METHOD = "handleStreamingSend";
+        OutputStream ostream = hconn.getOutputStream();
+        try {
+            long sent = StoredZipUpload.upload(command.path, command.path.getName(), getExtraProperties(), ostream,
+                    this::handleUploadProgress);
+            LOGGER.log(Level.FINE, METHOD, "sent", new Object[] { Long.toString(sent), command.path });
+        } finally {
+            try {
+                ostream.close();
+            } catch (IOException ex) {
+                LOGGER.log(Level.INFO, METHOD, "ioException", ex);
+            }
+        }
+    }
+
+    /**
+     * Notify state listeners about deployed archive upload progress.
+     * <p/>
+     * <code>String</code> arguments passed to state listener:<ul>
+     * <li><code>args[0]</code> server name</li>
+     * <li><code>args[1]</code> administration command</li>
+     * <li><code>args[2]</code> progress message</li>
+     * <li><code>args[3]</code> display message in GUI</li>
+     * <li><code>args[4]</code> number of bytes sent</li>
+     * <li><code>args[5]</code> total number of bytes</li>
+     * <li><code>args[6]</code> throughput in bytes per second</li>
+     * </ul>
+     * <p/>
+     *
+     * @param sent Number of bytes sent.
+     * @param total Total number of bytes.
+     * @param bytesPerSecond Throughput in bytes per second.
+     */
+    private void handleUploadProgress(final long sent, final long total, final long bytesPerSecond) {
+        final String METHOD = "handleUploadProgress";
+        Object[] args = new Object[] { Long.toString(sent >> 20), Long.toString(total >> 20),
+                String.format(Locale.ENGLISH, "%.1f", bytesPerSecond / 1048576d) };
+        LOGGER.log(Level.FINE, METHOD, "progress", args);
+        String message = MessageFormat.format(
+                Logger.logMsg(RunnerHttpDeploy.class, LOGGER.buildKey(METHOD, "progress")), args);
+        handleStateChange(TaskState.RUNNING, TaskEvent.CMD_PROGRESS,
+                server.getName(), command.getCommand(), message, Boolean.toString(false),
+                Long.toString(sent), Long.toString(total), Long.toString(bytesPerSecond));
+    }
+
     ////////////////////////////////////////////////////////////////////////////
     // Fake Getters //
     ////////////////////////////////////////////////////////////////////////////
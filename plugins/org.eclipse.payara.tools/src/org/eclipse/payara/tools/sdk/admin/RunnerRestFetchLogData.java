@@ -19,8 +19,12 @@
 package org.eclipse.payara.tools.sdk.admin;
 
 import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -44,6 +48,61 @@ import org.eclipse.payara.tools.server.PayaraServer;
  */
 public class RunnerRestFetchLogData extends RunnerRest {
 
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Input stream counting bytes read from underlying stream.
+     */
+    private static class CountingInputStream extends FilterInputStream {
+
+        /** Number of bytes read. */
+        private long count;
+
+        /**
+         * Creates an instance of counting input stream.
+         * <p/>
+         *
+         * @param in Underlying stream.
+         */
+        private CountingInputStream(final InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Size of buffer used to read response. */
+    private static final int BUFFER_SIZE = 8192;
+
     ////////////////////////////////////////////////////////////////////////////
     // Static methods //
     ////////////////////////////////////////////////////////////////////////////
@@ -86,6 +145,12 @@ public class RunnerRestFetchLogData extends RunnerRest {
      */
     private URL headerAppendNext;
 
+    /** Number of log lines received from server. */
+    private int lineCount;
+
+    /** Number of bytes received from server. */
+    private long bytesReceived;
+
     /**
      * GlassFish administration command result containing server log.
      * <p/>
@@ -140,18 +205,21 @@ public class RunnerRestFetchLogData extends RunnerRest {
     /**
      * Inform whether this runner implementation accepts gzip format.
      * <p/>
+     * Log is plain text which compresses well, so gzip is always requested.
+     * <p/>
      *
      * @return <code>true</code> when gzip format is accepted, <code>false</code> otherwise.
      */
     @Override
     public boolean acceptsGzip() {
-        return false;
+        return true;
     }
 
     /**
      * Reads response from server and stores it into internal objects.
      * <p/>
-     * Retrieved lines of server log are stored in internal <code>lines</code> <code>List</code>.
+     * When command has an output stream, log is written into it as received from server. Retrieved
+     * lines of server log are stored in internal <code>lines</code> <code>List</code> otherwise.
      * Content of HTTP header <code>X-Text-Append-Next</code> is stored in internal
      * <code>headerAppendNext</code> variable.
      * <p/>
@@ -167,32 +235,41 @@ public class RunnerRestFetchLogData extends RunnerRest {
      */
     @Override
     public boolean readResponse(InputStream in, HttpURLConnection hconn) {
+        OutputStream sink = ((CommandFetchLogData) command).sink;
         lines = new LinkedList<>();
+        lineCount = 0;
+        CountingInputStream counted = new CountingInputStream(in);
         String ce = hconn.getContentEncoding();
-        BufferedReader br = null;
-        String line = null;
+        Closeable cooked = null;
         try {
-            InputStream cooked = null != ce && ce.contains("gzip")
-                    ? new GZIPInputStream(in)
-                    : in;
-            br = new BufferedReader(new java.io.InputStreamReader(cooked));
-            while ((line = br.readLine()) != null) {
-                if (line != null) {
+            InputStream decoded = null != ce && ce.contains("gzip")
+                    ? new GZIPInputStream(counted, BUFFER_SIZE)
+                    : counted;
+            cooked = decoded;
+            if (sink != null) {
+                copy(decoded, sink);
+            } else {
+                BufferedReader br = new BufferedReader(new InputStreamReader(decoded));
+                cooked = br;
+                String line;
+                while ((line = br.readLine()) != null) {
                     lines.add(line);
                 }
+                lineCount = lines.size();
             }
         } catch (IOException ioe) {
             throw new CommandException(CommandException.HTTP_RESP_IO_EXCEPTION,
                     ioe);
         } finally {
             try {
-                if (br != null) {
-                    br.close();
+                if (cooked != null && cooked != counted) {
+                    cooked.close();
                 }
             } catch (IOException ioe) {
                 Logger.log(Level.WARNING, ioe.getLocalizedMessage(), ioe);
             }
         }
+        bytesReceived = counted.count;
 
         try {
             headerAppendNext = new URL(hconn.getHeaderField("X-Text-Append-Next"));
@@ -205,6 +282,27 @@ public class RunnerRestFetchLogData extends RunnerRest {
         return queryAppendNext != null;
     }
 
+    /**
+     * Copy log from response into output stream and count log lines.
+     * <p/>
+     *
+     * @param in Decoded response stream.
+     * @param out Output stream where log is written.
+     * @throws IOException in case of stream error.
+     */
+    private void copy(final InputStream in, final OutputStream out) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int count;
+        while ((count = in.read(buffer)) > 0) {
+            for (int i = 0; i < count; i++) {
+                if (buffer[i] == '\n') {
+                    lineCount++;
+                }
+            }
+            out.write(buffer, 0, count);
+        }
+    }
+
     /**
      * Extracts result value from internal <code>Manifest</code> object. Value of <i>message</i>
      * attribute in <code>Manifest</code> object is stored as <i>value</i> into
@@ -218,11 +316,10 @@ public class RunnerRestFetchLogData extends RunnerRest {
     protected boolean processResponse() {
         // Make ArrayList copy of stored lines. ArrayList allows better access
         // to log values.
-        List logLines = new ArrayList(lines.size());
-        for (String line : lines) {
-            logLines.add(line);
-        }
-        result.value = new ValueLog(logLines, headerAppendNext.getQuery());
+        List<String> logLines = new ArrayList<>(lines);
+        result.value = new ValueLog(logLines,
+                headerAppendNext != null ? headerAppendNext.getQuery() : null,
+                lineCount, bytesReceived);
         return true;
     }
 
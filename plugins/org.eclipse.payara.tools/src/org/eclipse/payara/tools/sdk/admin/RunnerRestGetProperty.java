@@ -25,6 +25,7 @@ import java.net.HttpURLConnection;
 import java.net.URLDecoder;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 
 import org.eclipse.payara.tools.sdk.admin.response.MessagePart;
@@ -90,41 +91,51 @@ public class RunnerRestGetProperty extends RunnerRest {
         if ((childMessages == null) || childMessages.isEmpty()) {
             return false;
         }
-        result.value = new HashMap<>(childMessages.size());
-
+        // Values are decoded when read, callers often need just the keys
+        Map<String, String> raw = new HashMap<>(childMessages.size());
         for (MessagePart msg : childMessages) {
             String message = msg.getMessage();
             int equalsIndex = message.indexOf('=');
             if (equalsIndex >= 0) {
-                String keyPart = message.substring(0, equalsIndex);
-                String valuePart = message.substring(equalsIndex + 1);
-                try {
-                    // Around Sept. 2008... 3.x servers were double encoding their
-                    // responces. It appears that has stopped
-                    // (See http://netbeans.org/bugzilla/show_bug.cgi?id=195015)
-                    // The open question is, "When did 3.x stop doing the double
-                    // encode?" since we don't know... this strategy will work
-                    // for us
-                    // Belt and suspenders, like
-                    result.value.put(keyPart, valuePart); // raw form
-                    result.value.put(keyPart, URLDecoder.decode(valuePart,
-                            "UTF-8")); // single decode
-                    result.value.put(keyPart, URLDecoder.decode(result.value.get(keyPart), "UTF-8"));
-                } catch (UnsupportedEncodingException ex) {
-                    LOGGER.log(Level.INFO, METHOD,
-                            "unsupportedEncoding", result.value.get(keyPart));
-                } catch (IllegalArgumentException iae) {
-                    LOGGER.log(Level.INFO, METHOD, "illegalArgument",
-                            new Object[] { valuePart, result.value.get(keyPart) });
-                }
+                raw.put(message.substring(0, equalsIndex), message.substring(equalsIndex + 1));
             } else {
                 LOGGER.log(Level.INFO, METHOD, "emptyString", message);
-                result.value.put(message, "");
+                raw.put(message, "");
             }
         }
+        result.value = ResultMap.decodedValue(raw, RunnerRestGetProperty::decode);
         return true;
     }
 
+    /**
+     * Decode property value returned by server.
+     * <p/>
+     *
+     * @param valuePart Raw property value.
+     * @return Decoded property value, raw or partially decoded value when it cannot be decoded.
+     */
+    private static String decode(final String valuePart) {
+        final String METHOD = "decode";
+        String value = valuePart; // raw form
+        try {
+            // Around Sept. 2008... 3.x servers were double encoding their
+            // responces. It appears that has stopped
+            // (See http://netbeans.org/bugzilla/show_bug.cgi?id=195015)
+            // The open question is, "When did 3.x stop doing the double
+            // encode?" since we don't know... this strategy will work
+            // for us
+            // Belt and suspenders, like
+            value = URLDecoder.decode(valuePart, "UTF-8"); // single decode
+            value = URLDecoder.decode(value, "UTF-8");
+        } catch (UnsupportedEncodingException ex) {
+            LOGGER.log(Level.INFO, METHOD, "unsupportedEncoding", value);
+        } catch (IllegalArgumentException iae) {
+            LOGGER.log(Level.INFO, METHOD, "illegalArgument",
+                    new Object[] { valuePart, value });
+        }
+        return value;
+    }
+
     @Override
     protected void handleSend(HttpURLConnection hconn) throws IOException {
         OutputStreamWriter wr = new OutputStreamWriter(hconn.getOutputStream());
@@ -18,7 +18,6 @@
 
 package org.eclipse.payara.tools.sdk.admin;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.payara.tools.sdk.admin.response.MessagePart;
@@ -72,10 +71,8 @@ public class RunnerRestList extends RunnerRest {
     protected boolean processResponse() {
         List<MessagePart> childMessages = report.getTopMessagePart().getChildren();
         if ((childMessages != null) && !childMessages.isEmpty()) {
-            result.value = new ArrayList<>(childMessages.size());
-            for (MessagePart msg : childMessages) {
-                result.getValue().add(msg.getMessage());
-            }
+            // Names are read from parsed messages on access, no copy of the list is made
+            result.value = ResultList.decodedValue(childMessages, MessagePart::getMessage);
         }
         return true;
     }
@@ -86,6 +86,26 @@ public class ServerAdmin {
                 .execute();
     }
 
+    /**
+     * Execute remote administration command on GlassFish server in calling thread.
+     * <p>
+     * Command is not serialized with other commands to the same server so this shall be used for
+     * read only commands, e.g. to stream server log into a pipe which must be written by the thread
+     * that owns it.
+     * <p>
+     *
+     * @param payaraServer Target GlassFish server.
+     * @param command Server administration command to me executed.
+     * @return Command execution result.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Result<?>> E call(PayaraServer payaraServer, Command command) {
+        Runner runner = AdminFactory.getInstance(payaraServer.getAdminInterface())
+                .getRunner(payaraServer, command);
+        runner.setReadyState();
+        return (E) runner.call();
+    }
+
     public static CommandBuilder executeOn(PayaraServer server) {
         return new CommandBuilder(server);
     }
@@ -0,0 +1,282 @@
+/******************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.sdk.admin;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Calendar;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.CRC32;
+
+/**
+ * Streaming upload of single file as <code>STORED</code> (not compressed) ZIP entry.
+ * <p/>
+ * Deployed archives (WAR, EAR, JAR) are already compressed so deflating them again only burns CPU.
+ * File content is read from <code>FileChannel</code> into reused direct buffers and written to
+ * HTTP output stream without intermediate heap copies made by this code. ZIP structure written is
+ * the same as <code>ZipOutputStream</code> would produce for <code>STORED</code> entry with known
+ * size and CRC: local file header, file data, central directory and end of central directory record.
+ * <p/>
+ */
+final class StoredZipUpload {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Upload progress listener.
+     */
+    interface Progress {
+
+        /**
+         * Notify about upload progress.
+         * <p/>
+         *
+         * @param sent Number of file bytes already sent.
+         * @param total Total number of file bytes.
+         * @param bytesPerSecond Average upload throughput.
+         */
+        void progress(long sent, long total, long bytesPerSecond);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Maximum file size which fits into ZIP entry without ZIP64 extensions. */
+    static final long MAX_SIZE = 0xFFFFFFFFL - 1;
+
+    /** Size of reused direct buffers. */
+    private static final int BUFFER_SIZE = 256 * 1024;
+
+    /** Maximum number of idle direct buffers kept for reuse. */
+    private static final int MAX_IDLE_BUFFERS = 4;
+
+    /** Minimal number of bytes between two progress notifications. */
+    private static final long PROGRESS_BYTES = 4 * 1024 * 1024;
+
+    /** Minimal time between two progress notifications (in miliseconds). */
+    private static final long PROGRESS_DELAY = 500;
+
+    /** ZIP local file header signature. */
+    private static final int LOCSIG = 0x04034b50;
+
+    /** ZIP central directory file header signature. */
+    private static final int CENSIG = 0x02014b50;
+
+    /** ZIP end of central directory record signature. */
+    private static final int ENDSIG = 0x06054b50;
+
+    /** ZIP version needed to extract <code>STORED</code> entry. */
+    private static final short VERSION = 10;
+
+    /** ZIP general purpose flag: file name is UTF-8 encoded. */
+    private static final short FLAG_UTF8 = 0x800;
+
+    /** Idle direct buffers available for reuse. */
+    private static final ConcurrentLinkedQueue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Take direct buffer from reuse queue or allocate new one.
+     * <p/>
+     *
+     * @return Cleared direct buffer.
+     */
+    private static ByteBuffer takeBuffer() {
+        ByteBuffer buffer = buffers.poll();
+        if (buffer == null) {
+            buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        }
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * Return direct buffer into reuse queue.
+     * <p/>
+     *
+     * @param buffer Buffer to be reused.
+     */
+    private static void returnBuffer(final ByteBuffer buffer) {
+        if (buffers.size() < MAX_IDLE_BUFFERS) {
+            buffers.offer(buffer);
+        }
+    }
+
+    /**
+     * Convert Java time to MS-DOS date and time used in ZIP headers.
+     * <p/>
+     *
+     * @param time Java time in milliseconds.
+     * @return MS-DOS date (upper 16 bits) and time (lower 16 bits).
+     */
+    private static int dosTime(final long time) {
+        Calendar c = Calendar.getInstance();
+        c.setTimeInMillis(time);
+        int year = c.get(Calendar.YEAR);
+        if (year < 1980) {
+            return (1 << 21) | (1 << 16);
+        }
+        return (year - 1980) << 25 | (c.get(Calendar.MONTH) + 1) << 21 | c.get(Calendar.DAY_OF_MONTH) << 16
+                | c.get(Calendar.HOUR_OF_DAY) << 11 | c.get(Calendar.MINUTE) << 5 | c.get(Calendar.SECOND) >> 1;
+    }
+
+    /**
+     * Compute CRC-32 checksum of file content. <code>STORED</code> entry requires checksum to be known
+     * before local file header is written.
+     * <p/>
+     *
+     * @param channel File channel positioned at the beginning of the file.
+     * @param buffer Direct buffer to read data into.
+     * @return CRC-32 checksum of file content.
+     * @throws IOException when file read failed.
+     */
+    private static long crc(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        CRC32 crc = new CRC32();
+        buffer.clear();
+        while (channel.read(buffer) >= 0) {
+            buffer.flip();
+            crc.update(buffer);
+            buffer.clear();
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Write whole buffer content to output channel.
+     * <p/>
+     *
+     * @param out Output channel.
+     * @param buffer Buffer ready to be read.
+     * @throws IOException when write failed.
+     */
+    private static void writeFully(final WritableByteChannel out, final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    /**
+     * Upload file as single <code>STORED</code> ZIP entry.
+     * <p/>
+     * Output stream is not closed.
+     * <p/>
+     *
+     * @param file File to be uploaded.
+     * @param entryName ZIP entry name.
+     * @param extra ZIP entry extra field data.
+     * @param ostream HTTP output stream.
+     * @param progress Upload progress listener, may be <code>null</code>.
+     * @return Number of file bytes sent.
+     * @throws IOException when file read or upload failed.
+     */
+    static long upload(final File file, final String entryName, final byte[] extra, final OutputStream ostream,
+            final Progress progress) throws IOException {
+        byte[] name = entryName.getBytes(StandardCharsets.UTF_8);
+        byte[] ext = extra != null ? extra : new byte[0];
+        ByteBuffer buffer = takeBuffer();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > MAX_SIZE) {
+                throw new IOException("File is too large for ZIP entry without ZIP64 support: " + file);
+            }
+            long crc = crc(channel, buffer);
+            channel.position(0);
+            int time = dosTime(file.lastModified());
+            WritableByteChannel out = Channels.newChannel(ostream);
+            // Local file header.
+            ByteBuffer header = ByteBuffer.allocate(46 + name.length + ext.length).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(LOCSIG).putShort(VERSION).putShort(FLAG_UTF8).putShort((short) 0).putInt(time)
+                    .putInt((int) crc).putInt((int) size).putInt((int) size)
+                    .putShort((short) name.length).putShort((short) ext.length).put(name).put(ext);
+            header.flip();
+            long localHeaderSize = header.remaining();
+            writeFully(out, header);
+            // File data.
+            long sent = 0;
+            long start = System.nanoTime();
+            long lastReportBytes = 0;
+            long lastReportTime = System.currentTimeMillis();
+            buffer.clear();
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                sent += buffer.remaining();
+                writeFully(out, buffer);
+                buffer.clear();
+                long now = System.currentTimeMillis();
+                if (progress != null && (sent - lastReportBytes >= PROGRESS_BYTES
+                        || now - lastReportTime >= PROGRESS_DELAY)) {
+                    lastReportBytes = sent;
+                    lastReportTime = now;
+                    progress.progress(sent, size, throughput(sent, start));
+                }
+            }
+            // Central directory.
+            header.clear();
+            header.putInt(CENSIG).putShort(VERSION).putShort(VERSION).putShort(FLAG_UTF8).putShort((short) 0)
+                    .putInt(time).putInt((int) crc).putInt((int) size).putInt((int) size)
+                    .putShort((short) name.length).putShort((short) ext.length).putShort((short) 0)
+                    .putShort((short) 0).putShort((short) 0).putInt(0).putInt(0).put(name).put(ext);
+            int centralSize = header.position();
+            header.flip();
+            writeFully(out, header);
+            // End of central directory record.
+            ByteBuffer end = ByteBuffer.allocate(22).order(ByteOrder.LITTLE_ENDIAN);
+            end.putInt(ENDSIG).putShort((short) 0).putShort((short) 0).putShort((short) 1).putShort((short) 1)
+                    .putInt(centralSize).putInt((int) (localHeaderSize + size)).putShort((short) 0);
+            end.flip();
+            writeFully(out, end);
+            ostream.flush();
+            if (progress != null) {
+                progress.progress(sent, size, throughput(sent, start));
+            }
+            return sent;
+        } finally {
+            returnBuffer(buffer);
+        }
+    }
+
+    /**
+     * Compute average throughput.
+     * <p/>
+     *
+     * @param bytes Number of bytes transferred.
+     * @param start Transfer start time stamp in nanoseconds.
+     * @return Throughput in bytes per second.
+     */
+    private static long throughput(final long bytes, final long start) {
+        long nanos = Math.max(1, System.nanoTime() - start);
+        return (long) (bytes * 1000000000d / nanos);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creating of instances is not allowed.
+     */
+    private StoredZipUpload() {
+    }
+
+}
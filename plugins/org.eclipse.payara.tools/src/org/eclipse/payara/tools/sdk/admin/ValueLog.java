@@ -47,6 +47,12 @@ public class ValueLog {
      */
     final String paramsAppendNext;
 
+    /** Number of log lines received from server. */
+    final int lineCount;
+
+    /** Number of bytes received from server, compressed size when response was compressed. */
+    final long bytesReceived;
+
     ////////////////////////////////////////////////////////////////////////////
     // Constructors //
     ////////////////////////////////////////////////////////////////////////////
@@ -60,10 +66,14 @@ public class ValueLog {
      *
      * @param lines GlassFish server log lines.
      * @param paramsAppendNext URL parameters from HTTP header <code>X-Text-Append-Next</code>
+     * @param lineCount Number of log lines received from server.
+     * @param bytesReceived Number of bytes received from server.
      */
-    ValueLog(List<String> lines, String paramsAppendNext) {
+    ValueLog(List<String> lines, String paramsAppendNext, int lineCount, long bytesReceived) {
         this.lines = lines;
         this.paramsAppendNext = paramsAppendNext;
+        this.lineCount = lineCount;
+        this.bytesReceived = bytesReceived;
     }
 
     ////////////////////////////////////////////////////////////////////////////
@@ -90,6 +100,28 @@ public class ValueLog {
         return paramsAppendNext;
     }
 
+    /**
+     * Get number of log lines received from server.
+     * <p/>
+     * Lines streamed into output stream of the command are counted too.
+     * <p/>
+     *
+     * @return Number of log lines received from server.
+     */
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    /**
+     * Get number of bytes received from server.
+     * <p/>
+     *
+     * @return Number of bytes received from server, compressed size when response was compressed.
+     */
+    public long getBytesReceived() {
+        return bytesReceived;
+    }
+
     ////////////////////////////////////////////////////////////////////////////
     // Methods //
     ////////////////////////////////////////////////////////////////////////////
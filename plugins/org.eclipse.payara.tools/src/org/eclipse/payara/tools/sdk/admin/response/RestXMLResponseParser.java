@@ -18,27 +18,28 @@
 
 package org.eclipse.payara.tools.sdk.admin.response;
 
+import static javax.xml.stream.XMLStreamConstants.END_DOCUMENT;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
 import java.io.InputStream;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Properties;
 
-import javax.xml.stream.EventFilter;
-import javax.xml.stream.XMLEventReader;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.events.Attribute;
-import javax.xml.stream.events.StartElement;
-import javax.xml.stream.events.XMLEvent;
+import javax.xml.stream.XMLStreamReader;
 
 import org.eclipse.payara.tools.sdk.PayaraIdeException;
 
 /**
  * Response parser implementation that can parse XML responses returned by REST admin interface.
  * <p>
+ * Response is read by {@link XMLStreamReader} cursor, so no event object is allocated per node and
+ * entries nobody reads (sub reports, extra properties, unknown keys) are skipped without building
+ * anything.
+ * <p>
  *
  * @author Tomas Kraus, Peter Benedikovic
  */
@@ -46,9 +47,10 @@ public class RestXMLResponseParser extends RestResponseParser {
 
     private static final String ENTRY = "entry";
     private static final String MAP = "map";
+    private static final String KEY = "key";
+    private static final String VALUE = "value";
 
     private static final XMLInputFactory factory = XMLInputFactory.newInstance();
-    private static final RestXMLResponseFilter filter = new RestXMLResponseFilter();
 
     public RestXMLResponseParser() {
 
@@ -67,150 +69,157 @@ public class RestXMLResponseParser extends RestResponseParser {
      */
     @Override
     public RestActionReport parse(InputStream in) {
-        // System.out.println("FACTORY: " + factory);
         try {
-            XMLEventReader reader = factory.createFilteredReader(factory.createXMLEventReader(in), filter);
-            if (reader.hasNext() && MAP.equals(reader.nextEvent().asStartElement().getName().getLocalPart())) {
-                return parseReport(reader);
-            } else {
-                return null;
+            XMLStreamReader reader = factory.createXMLStreamReader(in);
+            try {
+                if (nextElement(reader) == START_ELEMENT && MAP.equals(reader.getLocalName())) {
+                    return parseReport(reader);
+                } else {
+                    return null;
+                }
+            } finally {
+                reader.close();
             }
         } catch (XMLStreamException ex) {
             throw new PayaraIdeException("Unable to parse XML Rest response.", ex);
         }
     }
 
-    private RestActionReport parseReport(XMLEventReader reader) throws XMLStreamException {
-        int level = 0;
-        RestActionReport report = new RestActionReport();
-        while (reader.hasNext() && (level > -1)) {
-            XMLEvent event = reader.nextEvent();
-            if (event.isStartElement()) {
-
-                if (level++ == 0) {
-                    StartElement element = event.asStartElement();
-                    String elementName = element.getName().getLocalPart();
-                    if (ENTRY.equals(elementName)) {
-                        Map<String, String> m = getMapEntry(element);
-                        String key = m.get("key");
-                        String value = m.get("value");
-                        switch (key) {
-                        case "message":
-                            report.setMessage(value);
-                            break;
-                        case "exit_code":
-                            report.setExitCode(ActionReport.ExitCode.valueOf(value));
-                            break;
-                        case "command":
-                            report.setActionDescription(value);
-                            break;
-                        case "children":
-                            report.topMessagePart.children = parseChildrenMessages(reader);
-                            level--;
-                            break;
-                        case "subReports":
-                            report.subActions = parseSubReports(reader);
-                            break;
-                        }
-                    }
-                }
-
-            }
+    /**
+     * Move the cursor to next start or end element.
+     *
+     * @return {@link XMLStreamReader#START_ELEMENT}, {@link XMLStreamReader#END_ELEMENT} or
+     *         {@link XMLStreamReader#END_DOCUMENT}.
+     */
+    private static int nextElement(XMLStreamReader reader) throws XMLStreamException {
+        int event = reader.next();
+        while (event != START_ELEMENT && event != END_ELEMENT && event != END_DOCUMENT) {
+            event = reader.next();
+        }
+        return event;
+    }
 
-            if (event.isEndElement()) {
-                level--;
+    /**
+     * Skip the current element with all its descendants, the cursor stays on its end element.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            switch (nextElement(reader)) {
+            case START_ELEMENT:
+                depth++;
+                break;
+            case END_ELEMENT:
+                depth--;
+                break;
+            default:
+                return;
             }
         }
-        return report;
     }
 
-    private HashMap<String, String> getMapEntry(StartElement entry) {
-        HashMap<String, String> entryMap = new HashMap<>();
-        Iterator iter = entry.getAttributes();
-        while (iter.hasNext()) {
-            Attribute att = (Attribute) iter.next();
-            entryMap.put(att.getName().getLocalPart(), att.getValue());
+    private RestActionReport parseReport(XMLStreamReader reader) throws XMLStreamException {
+        RestActionReport report = new RestActionReport();
+        while (nextElement(reader) == START_ELEMENT) {
+            String key = ENTRY.equals(reader.getLocalName()) ? reader.getAttributeValue(null, KEY) : null;
+            String value = reader.getAttributeValue(null, VALUE);
+            if (key == null) {
+                skipElement(reader);
+                continue;
+            }
+            switch (key) {
+            case "message":
+                report.setMessage(value);
+                skipElement(reader);
+                break;
+            case "exit_code":
+                report.setExitCode(ActionReport.ExitCode.valueOf(value));
+                skipElement(reader);
+                break;
+            case "command":
+                report.setActionDescription(value);
+                skipElement(reader);
+                break;
+            case "children":
+                report.topMessagePart.children = parseChildrenMessages(reader);
+                break;
+            case "properties":
+                report.topMessagePart.props = parseProperties(reader);
+                break;
+            default:
+                // subReports, extraProperties
+                skipElement(reader);
+            }
         }
-        return entryMap;
+        return report;
     }
 
-    private List<MessagePart> parseChildrenMessages(XMLEventReader reader) throws XMLStreamException {
+    /**
+     * Parse messages of <code>children</code> entry, the cursor is on the entry.
+     */
+    private List<MessagePart> parseChildrenMessages(XMLStreamReader reader) throws XMLStreamException {
         ArrayList<MessagePart> messages = new ArrayList<>();
-        int level = 0;
-        while (reader.hasNext() && (level > -1)) {
-            XMLEvent event = reader.nextEvent();
-            if (event.isStartElement()) {
-                if (level++ == 1) {
-                    StartElement element = event.asStartElement();
-                    String elementName = element.getName().getLocalPart();
-                    if (MAP.equals(elementName)) {
-                        messages.add(parseChildMessage(reader));
-                        level--;
-                    }
+        // <list>
+        while (nextElement(reader) == START_ELEMENT) {
+            // <map> for every message
+            while (nextElement(reader) == START_ELEMENT) {
+                if (MAP.equals(reader.getLocalName())) {
+                    messages.add(parseChildMessage(reader));
+                } else {
+                    skipElement(reader);
                 }
-            } else {
-                level--;
             }
-
         }
         return messages;
     }
 
-    private MessagePart parseChildMessage(XMLEventReader reader) throws XMLStreamException {
+    /**
+     * Parse single message, the cursor is on its <code>map</code> element.
+     */
+    private MessagePart parseChildMessage(XMLStreamReader reader) throws XMLStreamException {
         MessagePart msg = new MessagePart();
-        int level = 0;
-        while (reader.hasNext() && (level > -1)) {
-            XMLEvent event = reader.nextEvent();
-            if (event.isStartElement()) {
-                if (level++ == 0) {
-                    StartElement element = event.asStartElement();
-                    String elementName = element.getName().getLocalPart();
-                    if (ENTRY.equals(elementName)) {
-                        Map<String, String> m = getMapEntry(element);
-                        String key = m.get("key");
-                        String value = m.get("value");
-                        switch (key) {
-                        case "message":
-                            msg.setMessage(value);
-                            break;
-                        case "properties":
-                            msg.props = parseProperties(reader);
-                            break;
-                        case "children":
-                            msg.children = parseChildrenMessages(reader);
-                            break;
-                        }
-                    }
-                }
-            } else {
-                level--;
+        while (nextElement(reader) == START_ELEMENT) {
+            String key = ENTRY.equals(reader.getLocalName()) ? reader.getAttributeValue(null, KEY) : null;
+            if (key == null) {
+                skipElement(reader);
+                continue;
+            }
+            switch (key) {
+            case "message":
+                msg.setMessage(reader.getAttributeValue(null, VALUE));
+                skipElement(reader);
+                break;
+            case "properties":
+                msg.props = parseProperties(reader);
+                break;
+            case "children":
+                msg.children = parseChildrenMessages(reader);
+                break;
+            default:
+                skipElement(reader);
             }
         }
         return msg;
     }
 
-    private Properties parseProperties(XMLEventReader reader) {
+    /**
+     * Parse simple values of <code>properties</code> entry, the cursor is on the entry.
+     */
+    private Properties parseProperties(XMLStreamReader reader) throws XMLStreamException {
         Properties props = new Properties();
-        // TODO parsing of properties
-        return props;
-    }
-
-    private List<? extends ActionReport> parseSubReports(XMLEventReader reader) {
-        ArrayList<RestActionReport> subReports = new ArrayList<>();
-        return subReports;
-    }
-
-    static private class RestXMLResponseFilter implements EventFilter {
-
-        @Override
-        public boolean accept(XMLEvent event) {
-            if (event.isStartElement() || event.isEndElement()) {
-                return true;
-            } else {
-                return false;
+        // <map>
+        while (nextElement(reader) == START_ELEMENT) {
+            // <entry> for every property
+            while (nextElement(reader) == START_ELEMENT) {
+                String key = reader.getAttributeValue(null, KEY);
+                String value = reader.getAttributeValue(null, VALUE);
+                if (ENTRY.equals(reader.getLocalName()) && key != null && value != null) {
+                    props.setProperty(key, value);
+                }
+                skipElement(reader);
             }
         }
-
+        return props;
     }
 
 }
@@ -18,13 +18,25 @@
 
 package org.eclipse.payara.tools.sdk.server;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+import java.io.Closeable;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.FileChannel;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
 import org.eclipse.payara.tools.sdk.TaskState;
@@ -35,6 +47,10 @@ import org.eclipse.payara.tools.server.PayaraServer;
 /**
  * Fetch GlassFish log from local server.
  * <p/>
+ * Log file is read through {@link FileChannel}. Reading task waits for changes in log file
+ * directory using {@link WatchService} when there is nothing to read and detects log rotation by
+ * change of log file identity.
+ * <p/>
  *
  * @author Tomas Kraus, Peter Benedikovic
  */
@@ -47,6 +63,16 @@ public class FetchLogLocal extends FetchLogPiped {
     /** Logger instance for this class. */
     private static final Logger LOGGER = new Logger(FetchLogLocal.class);
 
+    /** System property disabling log file watching when set to <code>false</code>. */
+    static final String WATCH_PROPERTY = "payara.tools.logWatch";
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Watch service of log file directory, <code>null</code> when log file is polled. */
+    private volatile WatchService watcher;
+
     ////////////////////////////////////////////////////////////////////////////
     // Constructors //
     ////////////////////////////////////////////////////////////////////////////
@@ -55,7 +81,7 @@ public class FetchLogLocal extends FetchLogPiped {
      * Constructs an instance of GlassFish local server log fetcher.
      * <p/>
      * Super class constructor will call <code>initInputStream</code> method which initializes
-     * <code>InputStream</code> as <code>FileInputStream</code> before this constructor code is being
+     * <code>InputStream</code> as <code>PipedInputStream</code> before this constructor code is being
      * executed.
      * <p/>
      *
@@ -72,7 +98,7 @@ public class FetchLogLocal extends FetchLogPiped {
      * {@link ExecutorService}.
      * <p/>
      * Super class constructor will call <code>initInputStream</code> method which initializes
-     * <code>InputStream</code> as <code>FileInputStream</code> before this constructor code is being
+     * <code>InputStream</code> as <code>PipedInputStream</code> before this constructor code is being
      * executed.
      * <p/>
      *
@@ -91,41 +117,172 @@ public class FetchLogLocal extends FetchLogPiped {
     ////////////////////////////////////////////////////////////////////////////
 
     /**
-     * Initializes active log file <code>InputStream</code> as <code>FileInputStream</code> sending data
-     * from local server log file.
+     * Open active log file channel.
      * <p/>
      *
-     * @return <code>FileInputStream</code> where log lines from server active log file will be
-     * available to read.
+     * @param logFile Server log file.
+     * @param toEnd Position channel at the end of the log file.
+     * @return Log file channel or <code>null</code> when log file was not found.
+     * @throws IOException when log file could not be opened.
      */
-    private InputStream initInputFile() {
-        final String METHOD = "initInputFile";
-        File logFile = ServerUtils.getServerLogFile(server);
-        InputStream log;
+    private static FileChannel openLog(final Path logFile, final boolean toEnd) throws IOException {
+        final String METHOD = "openLog";
+        FileChannel channel;
         try {
-            log = new FileInputStream(logFile);
-        } catch (FileNotFoundException fnfe) {
-            LOGGER.log(Level.INFO, METHOD,
-                    "fileNotFound", logFile.getAbsolutePath());
+            channel = FileChannel.open(logFile, StandardOpenOption.READ);
+        } catch (NoSuchFileException nsfe) {
+            LOGGER.log(Level.INFO, METHOD, "fileNotFound", logFile.toString());
+            return null;
+        }
+        if (toEnd) {
+            channel.position(channel.size());
+        }
+        return channel;
+    }
+
+    /**
+     * Get identity of log file which changes when log file is replaced by a new one.
+     * <p/>
+     * File key (inode) is used where file system provides it, creation time otherwise.
+     * <p/>
+     *
+     * @param logFile Server log file.
+     * @return Identity of log file.
+     * @throws IOException when log file attributes could not be read.
+     */
+    private static Object fileIdentity(final Path logFile) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(logFile, BasicFileAttributes.class);
+        Object key = attributes.fileKey();
+        return key != null ? key : attributes.creationTime();
+    }
+
+    /**
+     * Check if log file was rotated.
+     * <p/>
+     * Log file was rotated when it was replaced by another file or truncated below current read
+     * position.
+     * <p/>
+     *
+     * @param logFile Server log file.
+     * @param channel Channel of log file being read.
+     * @param identity Identity of log file being read.
+     * @return Value of <code>true</code> when new log file is ready to be read.
+     * @throws IOException when log file could not be checked.
+     */
+    private static boolean rotated(final Path logFile, final FileChannel channel, final Object identity)
+            throws IOException {
+        try {
+            return !identity.equals(fileIdentity(logFile)) || channel.size() < channel.position();
+        } catch (NoSuchFileException nsfe) {
+            // Old log file was moved away but new one was not created yet.
+            return false;
+        }
+    }
+
+    /**
+     * Open watch service waking reading task on changes in log file directory.
+     * <p/>
+     * Watching may be disabled by setting {@value #WATCH_PROPERTY} system property to
+     * <code>false</code>, reading task polls log file every {@value #LOG_REFRESH_DELAY} ms then.
+     * <p/>
+     *
+     * @param logFile Server log file.
+     * @return Watch service or <code>null</code> when log file is polled.
+     */
+    private static WatchService openWatcher(final Path logFile) {
+        final String METHOD = "openWatcher";
+        if (!Boolean.parseBoolean(System.getProperty(WATCH_PROPERTY, "true"))) {
+            return null;
+        }
+        WatchService watchService = null;
+        try {
+            watchService = logFile.getFileSystem().newWatchService();
+            logFile.toAbsolutePath().getParent().register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+            return watchService;
+        } catch (IOException | UnsupportedOperationException e) {
+            LOGGER.log(Level.FINE, METHOD, "unavailable", e.getMessage());
+            close(watchService);
             return null;
         }
-        if (skip) {
-            int count;
+    }
+
+    /**
+     * Close log file channel or watch service quietly.
+     * <p/>
+     *
+     * @param closeable Channel or watch service to close, may be <code>null</code>.
+     */
+    private static void close(final Closeable closeable) {
+        final String METHOD = "close";
+        if (closeable != null) {
             try {
-                while ((count = log.available()) > 0) {
-                    log.skip(count);
-                }
+                closeable.close();
             } catch (IOException ioe) {
-                try {
-                    log.close();
-                } catch (IOException ioec) {
-                    LOGGER.log(Level.INFO, METHOD, "cantClose", ioec);
-                }
-                throw new FetchLogException(
-                        LOGGER.excMsg(METHOD, "cantInit"), ioe);
+                LOGGER.log(Level.INFO, METHOD, "cantClose", ioe);
+            }
+        }
+    }
+
+    /**
+     * Send all log lines available in log file into pipe.
+     * <p/>
+     *
+     * @param channel Channel of log file being read.
+     * @param buffer Buffer wrapping byte array passed to pipe.
+     * @return Number of bytes sent.
+     * @throws IOException when log file could not be read or pipe was closed.
+     */
+    private int transfer(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        final String METHOD = "transfer";
+        int total = 0;
+        int count;
+        buffer.clear();
+        while ((count = channel.read(buffer)) > 0) {
+            LOGGER.log(Level.FINEST, METHOD, "read", count);
+            sink.write(buffer.array(), 0, count);
+            total += count;
+            buffer.clear();
+        }
+        if (total > 0) {
+            sink.flush();
+        }
+        return total;
+    }
+
+    /**
+     * Wait until log file directory changes or for {@value #LOG_REFRESH_DELAY} ms at most.
+     * <p/>
+     *
+     * @param watchService Watch service of log file directory or <code>null</code> when log file
+     * is polled.
+     * @throws InterruptedException when waiting thread was interrupted.
+     */
+    private static void awaitChange(final WatchService watchService) throws InterruptedException {
+        if (watchService == null) {
+            Thread.sleep(LOG_REFRESH_DELAY);
+            return;
+        }
+        try {
+            WatchKey key = watchService.poll(LOG_REFRESH_DELAY, TimeUnit.MILLISECONDS);
+            if (key != null) {
+                key.pollEvents();
+                key.reset();
             }
+        } catch (ClosedWatchServiceException cwse) {
+            // Reading task is being stopped.
         }
-        return log;
+    }
+
+    /**
+     * Stop log lines reading task and close input and output streams used to access log lines read
+     * from log file.
+     * <p/>
+     * Watch service is closed first to wake up waiting reading task immediately.
+     */
+    @Override
+    public void close() {
+        close(watcher);
+        super.close();
     }
 
     ////////////////////////////////////////////////////////////////////////////
@@ -133,82 +290,67 @@ public class FetchLogLocal extends FetchLogPiped {
     ////////////////////////////////////////////////////////////////////////////
 
     /**
-     * Remote server log lines reading task.
+     * Local server log lines reading task.
      * <p/>
-     * Reads new log lines from server using GlassFish remote administration API and sends them into
-     * pipe (<code>PipedInputStream</code>).
+     * Reads new log lines from server log file and sends them into pipe
+     * (<code>PipedInputStream</code>). Reading task waits for changes in log file directory when
+     * there is nothing to read and switches to new log file when log file is rotated.
      * <p/>
      *
-     * @return <code>TaskState.COMPLETED</code> when remote administration API stopped responding or
+     * @return <code>TaskState.COMPLETED</code> when reading task was stopped or
      * <code>TaskState.FAILED</code> when exception was caught.
      */
-    @SuppressWarnings("SleepWhileInLoop")
     @Override
     public TaskState call() {
         final String METHOD = "call";
         notifyListeners(TaskState.RUNNING);
-        InputStream fIn = initInputFile();
-        byte[] buff = new byte[PIPE_BUFFER_SIZE];
-        File logFile = ServerUtils.getServerLogFile(server);
-        int inCount;
-        long lastModified;
-        if (fIn == null) {
-            return notifyListeners(TaskState.FAILED);
-        }
-        while (taksExecute) {
-            try {
-                inCount = fIn.available();
-                lastModified = logFile.lastModified();
-                // Nothing to read. Check log rotation after delay.
-                if (inCount <= 0) {
-                    Thread.sleep(LOG_REFRESH_DELAY);
-                    inCount = fIn.available();
-                    if (inCount <= 0 && logFile.lastModified() > lastModified) {
-                        LOGGER.log(Level.FINER, METHOD, "rotation");
-                        fIn.close();
-                        out.flush();
-
-                        fIn = initInputFile();
-                    }
+        Path logFile = ServerUtils.getServerLogFile(server).toPath();
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[PIPE_BUFFER_SIZE]);
+        FileChannel channel = null;
+        try {
+            channel = openLog(logFile, skip);
+            if (channel == null) {
+                return notifyListeners(TaskState.FAILED);
+            }
+            Object identity = fileIdentity(logFile);
+            watcher = openWatcher(logFile);
+            while (taksExecute) {
+                if (transfer(channel, buffer) > 0) {
+                    continue;
                 }
-                if (inCount > 0) {
-                    while (inCount > 0) {
-                        int count = fIn.read(buff);
-                        LOGGER.log(Level.FINEST, METHOD, "read",
-                                new Object[] { new Integer(count) });
-                        if (count > 0) {
-                            out.write(buff, 0, count);
-                            inCount -= count;
-                        } else {
-                            // Return -1: If log file is rotated, the original file handle is no longer valid
-                            break;
-                        }
-                        if (inCount <= 0) {
-                            inCount = fIn.available();
-                        }
+                if (rotated(logFile, channel, identity)) {
+                    FileChannel rotatedChannel = openLog(logFile, false);
+                    if (rotatedChannel != null) {
+                        LOGGER.log(Level.FINER, METHOD, "rotation");
+                        close(channel);
+                        channel = rotatedChannel;
+                        identity = fileIdentity(logFile);
+                        continue;
                     }
-                    out.flush();
                 }
-            } catch (InterruptedException ie) {
-                LOGGER.log(Level.INFO, METHOD, "interrupted", ie.getMessage());
-                Thread.currentThread().interrupt();
-                return notifyListeners(TaskState.COMPLETED);
-            } catch (InterruptedIOException ie) {
+                awaitChange(watcher);
+            }
+        } catch (InterruptedException ie) {
+            LOGGER.log(Level.INFO, METHOD, "interrupted", ie.getMessage());
+            Thread.currentThread().interrupt();
+            return notifyListeners(TaskState.COMPLETED);
+        } catch (InterruptedIOException | ClosedByInterruptException ie) {
+            LOGGER.log(Level.INFO, METHOD,
+                    "interruptedIO", ie.getMessage());
+            Thread.currentThread().interrupt();
+            return notifyListeners(TaskState.COMPLETED);
+        } catch (IOException ioe) {
+            if (taksExecute) {
+                LOGGER.log(Level.INFO, METHOD, "ioException", ioe);
+                return notifyListeners(TaskState.FAILED);
+            } else {
                 LOGGER.log(Level.INFO, METHOD,
-                        "interruptedIO", ie.getMessage());
-                Thread.currentThread().interrupt();
+                        "ioExceptionMsg", ioe.getMessage());
                 return notifyListeners(TaskState.COMPLETED);
-            } catch (IOException ioe) {
-                if (taksExecute) {
-                    LOGGER.log(Level.INFO, METHOD, "ioException", ioe);
-                    return notifyListeners(TaskState.FAILED);
-                } else {
-                    LOGGER.log(Level.INFO, METHOD,
-                            "ioExceptionMsg", ioe.getMessage());
-                    return notifyListeners(TaskState.COMPLETED);
-                }
             }
-
+        } finally {
+            close(watcher);
+            close(channel);
         }
         return notifyListeners(TaskState.COMPLETED);
     }
@@ -20,6 +20,7 @@ package org.eclipse.payara.tools.sdk.server;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.PipedInputStream;
 import java.io.PipedOutputStream;
 import java.util.concurrent.Callable;
@@ -50,6 +51,85 @@ import org.eclipse.payara.tools.server.PayaraServer;
 public abstract class FetchLogPiped
         extends FetchLog implements Callable<TaskState> {
 
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Stream writing into pipe and measuring how many bytes were written and how long writer was
+     * blocked by full pipe.
+     * <p/>
+     * Written by log reading task only, counters are read by other threads.
+     */
+    private final class PipeMeter extends OutputStream {
+
+        /**
+         * Write byte into pipe.
+         * <p/>
+         *
+         * @param b Byte to be written.
+         * @throws IOException when pipe was closed.
+         */
+        @Override
+        public void write(final int b) throws IOException {
+            if (hasRoom(1)) {
+                out.write(b);
+            } else {
+                final long start = System.nanoTime();
+                out.write(b);
+                blockedTime += System.nanoTime() - start;
+            }
+            bytesWritten++;
+        }
+
+        /**
+         * Write bytes into pipe.
+         * <p/>
+         * Pipe blocks writer until reader makes space for written bytes. Time spent in this method is
+         * counted as blocked time only when the bytes do not fit into free space of pipe buffer.
+         * <p/>
+         *
+         * @param b Bytes to be written.
+         * @param off Offset of first byte in <code>b</code>.
+         * @param len Number of bytes to be written.
+         * @throws IOException when pipe was closed.
+         */
+        @Override
+        public void write(final byte[] b, final int off, final int len)
+                throws IOException {
+            if (hasRoom(len)) {
+                out.write(b, off, len);
+            } else {
+                final long start = System.nanoTime();
+                out.write(b, off, len);
+                blockedTime += System.nanoTime() - start;
+            }
+            bytesWritten += len;
+        }
+
+        /**
+         * Check whether bytes fit into free space of pipe buffer, so writing them does not block.
+         * <p/>
+         *
+         * @param len Number of bytes to be written.
+         * @return Value of <code>true</code> when writing bytes does not block.
+         */
+        private boolean hasRoom(final int len) {
+            return getPipeBufferUsed() + len <= PIPE_BUFFER_SIZE;
+        }
+
+        /**
+         * Flush pipe.
+         * <p/>
+         *
+         * @throws IOException when pipe was closed.
+         */
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+    }
+
     ////////////////////////////////////////////////////////////////////////////
     // Class attributes //
     ////////////////////////////////////////////////////////////////////////////
@@ -80,10 +160,29 @@ public abstract class FetchLogPiped
      */
     public static FetchLogPiped create(final PayaraServer server,
             final boolean skip) {
+        return create(server, skip, LogFilterSpec.ALL);
+    }
+
+    /**
+     * Constructs an instance of GlassFish server log fetcher depending on server being remote or local
+     * passing only log records accepted by filter.
+     * <p/>
+     * Decision if server is local or remote depends on domains folder and domain name attributes stored
+     * in <code>PayaraServer</code> object.
+     * <p/>
+     *
+     * @param server GlassFish server for fetching server log.
+     * @param skip Skip to the end of the log file.
+     * @param filter Filter of log records.
+     * @return Newly created <code>FetchLog</code> instance.
+     */
+    public static FetchLogPiped create(final PayaraServer server,
+            final boolean skip, final LogFilterSpec filter) {
         boolean isLocal = NetUtils.isLocahost(server.getHost());
         FetchLogPiped fetchLog = isLocal
                 ? new FetchLogLocal(server, skip)
                 : new FetchLogRemote(server, skip);
+        fetchLog.setFilter(filter);
         fetchLog.start();
         return fetchLog;
     }
@@ -118,10 +217,30 @@ public abstract class FetchLogPiped
      */
     public static FetchLogPiped create(final ExecutorService executor,
             final PayaraServer server, final boolean skip) {
+        return create(executor, server, skip, LogFilterSpec.ALL);
+    }
+
+    /**
+     * Constructs an instance of GlassFish server log fetcher depending on server being remote or local
+     * with external {@link ExecutorService} passing only log records accepted by filter.
+     * <p/>
+     * Decision if server is local or remote depends on domains folder and domain name attributes stored
+     * in <code>PayaraServer</code> object.
+     * <p/>
+     *
+     * @param executor Executor service used to start task.
+     * @param server GlassFish server for fetching server log.
+     * @param skip Skip to the end of the log file.
+     * @param filter Filter of log records.
+     * @return Newly created <code>FetchLog</code> instance.
+     */
+    public static FetchLogPiped create(final ExecutorService executor,
+            final PayaraServer server, final boolean skip, final LogFilterSpec filter) {
         boolean isLocal = NetUtils.isLocahost(server.getHost());
         FetchLogPiped fetchLog = isLocal
                 ? new FetchLogLocal(executor, server, skip)
                 : new FetchLogRemote(executor, server, skip);
+        fetchLog.setFilter(filter);
         fetchLog.start();
         return fetchLog;
     }
@@ -151,6 +270,24 @@ public abstract class FetchLogPiped
     /** Output stream where to write retrieved remote server log. */
     final PipedOutputStream out;
 
+    /** Stream counting bytes written into <code>out</code>. */
+    private final OutputStream meter;
+
+    /**
+     * Stream where log reading task writes log, either <code>meter</code> or gate passing only log
+     * records accepted by <code>filter</code> into it.
+     */
+    OutputStream sink;
+
+    /** Number of bytes written into pipe. */
+    private volatile long bytesWritten;
+
+    /** Time log reading task spent writing into pipe [ns]. */
+    private volatile long blockedTime;
+
+    /** Filter of log records. */
+    LogFilterSpec filter = LogFilterSpec.ALL;
+
     /** Running task that reads log lines from remote server. */
     Future<TaskState> task;
 
@@ -188,6 +325,8 @@ public abstract class FetchLogPiped
         this.eventListeners = new LinkedList();
         try {
             out = new PipedOutputStream((PipedInputStream) this.in);
+            meter = new PipeMeter();
+            sink = meter;
         } catch (IOException ioe) {
             super.close();
             throw new FetchLogException(LOGGER.excMsg(METHOD, "cantInit"), ioe);
@@ -226,6 +365,8 @@ public abstract class FetchLogPiped
         this.eventListeners = new LinkedList();
         try {
             out = new PipedOutputStream((PipedInputStream) this.in);
+            meter = new PipeMeter();
+            sink = meter;
         } catch (IOException ioe) {
             super.close();
             throw new FetchLogException(LOGGER.excMsg(METHOD, "cantInit"), ioe);
@@ -257,6 +398,57 @@ public abstract class FetchLogPiped
         return new PipedInputStream(PIPE_BUFFER_SIZE);
     }
 
+    ////////////////////////////////////////////////////////////////////////////
+    // Getters //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get number of bytes written into pipe since log fetcher was started.
+     * <p/>
+     *
+     * @return Number of bytes written into pipe.
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * Get time log reading task spent blocked by full pipe.
+     * <p/>
+     * Only writes not fitting into free space of pipe buffer are counted, so growing value means
+     * that log is not read fast enough.
+     * <p/>
+     *
+     * @return Time spent writing into full pipe [ns].
+     */
+    public long getBlockedTime() {
+        return blockedTime;
+    }
+
+    /**
+     * Get number of bytes waiting in pipe buffer to be read.
+     * <p/>
+     *
+     * @return Number of bytes in pipe buffer or <code>0</code> when pipe was closed.
+     */
+    public int getPipeBufferUsed() {
+        try {
+            return in.available();
+        } catch (IOException ioe) {
+            return 0;
+        }
+    }
+
+    /**
+     * Get size of pipe buffer.
+     * <p/>
+     *
+     * @return Size of pipe buffer [bytes].
+     */
+    public int getPipeBufferSize() {
+        return PIPE_BUFFER_SIZE;
+    }
+
     ////////////////////////////////////////////////////////////////////////////
     // Methods //
     ////////////////////////////////////////////////////////////////////////////
@@ -337,6 +529,20 @@ public abstract class FetchLogPiped
         return state;
     }
 
+    /**
+     * Set filter of log records passed into pipe. Must be called before task is started.
+     * <p/>
+     * Records are filtered as raw bytes before they are written into pipe, so records that are not
+     * accepted are never decoded into strings.
+     * <p/>
+     *
+     * @param filter Filter of log records, <code>null</code> to pass all records.
+     */
+    final void setFilter(final LogFilterSpec filter) {
+        this.filter = filter != null ? filter : LogFilterSpec.ALL;
+        sink = this.filter.acceptsAll() ? meter : new LogRecordGate(meter, this.filter);
+    }
+
     /**
      * Start task.
      */
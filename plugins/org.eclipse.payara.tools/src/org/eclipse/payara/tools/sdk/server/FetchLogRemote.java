@@ -18,24 +18,28 @@
 
 package org.eclipse.payara.tools.sdk.server;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
+
 import java.io.IOException;
 import java.io.InterruptedIOException;
-import java.util.concurrent.ExecutionException;
+import java.io.OutputStream;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
 import java.util.logging.Level;
 
 import org.eclipse.payara.tools.sdk.TaskState;
 import org.eclipse.payara.tools.sdk.admin.CommandFetchLogData;
 import org.eclipse.payara.tools.sdk.admin.ResultLog;
 import org.eclipse.payara.tools.sdk.admin.ServerAdmin;
+import org.eclipse.payara.tools.sdk.admin.ValueLog;
 import org.eclipse.payara.tools.sdk.logging.Logger;
-import org.eclipse.payara.tools.sdk.utils.OsUtils;
 import org.eclipse.payara.tools.server.PayaraServer;
 
 /**
  * Fetch GlassFish log from remote server.
  * <p/>
+ * Log is requested compressed and streamed into pipe as received. Bytes transferred and log rate
+ * of the remote server are available through getters and logged on <code>FINEST</code> level.
+ * <p/>
  *
  * @author Tomas Kraus, Peter Benedikovic
  */
@@ -46,7 +50,43 @@ public class FetchLogRemote extends FetchLogPiped {
     ////////////////////////////////////////////////////////////////////////////
 
     /** Logger instance for this class. */
-    private static final Logger LOGGER = new Logger(FetchLogPiped.class);
+    private static final Logger LOGGER = new Logger(FetchLogRemote.class);
+
+    /** Shortest delay between log requests while server is logging [ms]. */
+    static final long MIN_REFRESH_DELAY = 250;
+
+    /** Longest delay between log requests while log is idle [ms]. */
+    static final long MAX_REFRESH_DELAY = 4000;
+
+    /** Stream discarding skipped log. */
+    private static final OutputStream DISCARD = new OutputStream() {
+        @Override
+        public void write(final int b) {
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+        }
+    };
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Number of bytes received from server. */
+    private volatile long bytesReceived;
+
+    /** Number of log lines received from server. */
+    private volatile long linesReceived;
+
+    /** Log lines per second received by last log request. */
+    private volatile long linesPerSecond;
+
+    /** Delay before next log request [ms]. */
+    private volatile long refreshDelay = LOG_REFRESH_DELAY;
+
+    /** Time of last log request [ns]. */
+    private long lastFetch;
 
     ////////////////////////////////////////////////////////////////////////////
     // Constructors //
@@ -87,6 +127,107 @@ public class FetchLogRemote extends FetchLogPiped {
         super(executor, server, skip);
     }
 
+    ////////////////////////////////////////////////////////////////////////////
+    // Getters //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get number of bytes received from server since log fetcher was started.
+     * <p/>
+     *
+     * @return Number of bytes received from server, compressed size when response was compressed.
+     */
+    public long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    /**
+     * Get number of log lines received from server since log fetcher was started.
+     * <p/>
+     *
+     * @return Number of log lines received from server.
+     */
+    public long getLinesReceived() {
+        return linesReceived;
+    }
+
+    /**
+     * Get log rate measured by last log request.
+     * <p/>
+     *
+     * @return Log lines per second received by last log request.
+     */
+    public long getLinesPerSecond() {
+        return linesPerSecond;
+    }
+
+    /**
+     * Get current delay between log requests.
+     * <p/>
+     * Log records written by server are not seen until next request, so the delay adds to the time
+     * records take to reach console.
+     * <p/>
+     *
+     * @return Delay before next log request [ms].
+     */
+    public long getRefreshDelay() {
+        return refreshDelay;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Request new log lines from server and write them into provided stream.
+     * <p/>
+     * Command is executed in calling thread because pipe must be written by the thread that owns it.
+     * <p/>
+     *
+     * @param paramsAppendNext Interval query parameters from last request or <code>null</code> to
+     * request whole log.
+     * @param sink Stream where log lines are written.
+     * @return Log request result.
+     * @throws IOException when log lines could not be written.
+     */
+    private ResultLog fetch(final String paramsAppendNext, final OutputStream sink)
+            throws IOException {
+        final String METHOD = "fetch";
+        ResultLog result = ServerAdmin.call(server,
+                new CommandFetchLogData(paramsAppendNext, sink));
+        long now = System.nanoTime();
+        if (result.getState() == TaskState.COMPLETED) {
+            ValueLog value = result.getValue();
+            sink.flush();
+            bytesReceived += value.getBytesReceived();
+            linesReceived += value.getLineCount();
+            if (lastFetch != 0 && now > lastFetch) {
+                linesPerSecond = value.getLineCount() * SECONDS.toNanos(1) / (now - lastFetch);
+            }
+            LOGGER.log(Level.FINEST, METHOD, "read", new Object[] {
+                    server.getName(), value.getLineCount(), value.getBytesReceived(),
+                    bytesReceived, linesPerSecond });
+        }
+        lastFetch = now;
+        return result;
+    }
+
+    /**
+     * Compute delay before next log request from number of lines returned by last request.
+     * <p/>
+     * Delay is halved while server is logging and doubled while log stays idle.
+     * <p/>
+     *
+     * @param delay Current delay [ms].
+     * @param lineCount Number of lines returned by last request.
+     * @return Delay before next log request [ms].
+     */
+    private static long nextDelay(final long delay, final int lineCount) {
+        return lineCount > 0
+                ? Math.max(MIN_REFRESH_DELAY, delay / 2)
+                : Math.min(MAX_REFRESH_DELAY, delay * 2);
+    }
+
     ////////////////////////////////////////////////////////////////////////////
     // Runnable call() Method //
     ////////////////////////////////////////////////////////////////////////////
@@ -95,57 +236,32 @@ public class FetchLogRemote extends FetchLogPiped {
      * Remote server log lines reading task.
      * <p/>
      * Reads new log lines from server using GlassFish remote administration API and sends them into
-     * pipe (<code>PipedInputStream</code>).
+     * pipe (<code>PipedInputStream</code>). Every request continues from the log position returned by
+     * previous one. Poll interval adapts to the log rate.
      * <p/>
      *
      * @return <code>TaskState.COMPLETED</code> when remote administration API stopped responding or
-     * <code>TaskState.FAILED</code> when exception was caught.
+     * the task was stopped or <code>TaskState.FAILED</code> when exception was caught while running.
      */
     @SuppressWarnings("SleepWhileInLoop")
     @Override
     public TaskState call() {
         final String METHOD = "call";
         notifyListeners(TaskState.RUNNING);
-        String paramsAppendNext = null;
-        Future<ResultLog> future = ServerAdmin.<ResultLog>exec(server,
-                new CommandFetchLogData());
         try {
-            ResultLog result = future.get();
-            if (!skip && result.getState() == TaskState.COMPLETED) {
-                paramsAppendNext = result.getValue().getParamsAppendNext();
-                for (String line : result.getValue().getLines()) {
-                    out.write(line.getBytes());
-                    out.write(OsUtils.LINES_SEPARATOR.getBytes());
-                }
-                out.flush();
-            }
-            byte[] lineSeparatorOut = OsUtils.LINES_SEPARATOR.getBytes();
+            // Skipped log is read only to get position of its end.
+            ResultLog result = fetch(null, skip ? DISCARD : sink);
             while (taksExecute && result.getState() == TaskState.COMPLETED) {
-                future = ServerAdmin.<ResultLog>exec(server,
-                        new CommandFetchLogData(
-                                paramsAppendNext));
-                result = future.get();
-                if (result.getState() == TaskState.COMPLETED) {
-                    paramsAppendNext = result.getValue().getParamsAppendNext();
-                    for (String line : result.getValue().getLines()) {
-                        byte[] lineOut = line.getBytes();
-                        LOGGER.log(Level.FINEST, METHOD, "read", new Object[] {
-                                new Integer(lineOut.length
-                                        + lineSeparatorOut.length) });
-                        out.write(lineOut);
-                        out.write(lineSeparatorOut);
-                    }
-                    out.flush();
-                }
-                Thread.sleep(LOG_REFRESH_DELAY);
+                refreshDelay = nextDelay(refreshDelay, result.getValue().getLineCount());
+                Thread.sleep(refreshDelay);
+                result = fetch(result.getValue().getParamsAppendNext(), sink);
             }
+            LOGGER.log(Level.FINE, METHOD, "finished", new Object[] {
+                    server.getName(), linesReceived, bytesReceived });
         } catch (InterruptedException ie) {
             LOGGER.log(Level.INFO, METHOD, "interrupted", ie.getMessage());
             Thread.currentThread().interrupt();
             return notifyListeners(TaskState.COMPLETED);
-        } catch (ExecutionException ee) {
-            LOGGER.log(Level.INFO, METHOD, "exception", ee);
-            return notifyListeners(TaskState.FAILED);
         } catch (InterruptedIOException ie) {
             LOGGER.log(Level.INFO, METHOD, "interruptedIO", ie.getMessage());
             Thread.currentThread().interrupt();
@@ -159,6 +275,17 @@ public class FetchLogRemote extends FetchLogPiped {
                         "ioExceptionMsg", ioe.getMessage());
                 return notifyListeners(TaskState.COMPLETED);
             }
+        } catch (RuntimeException re) {
+            // Command is executed in this thread, so its failures, e.g. PayaraIdeException on pipe
+            // closed when console is stopped, end here.
+            if (taksExecute) {
+                LOGGER.log(Level.INFO, METHOD, "runtimeException", re);
+                return notifyListeners(TaskState.FAILED);
+            } else {
+                LOGGER.log(Level.INFO, METHOD,
+                        "runtimeExceptionMsg", re.getMessage());
+                return notifyListeners(TaskState.COMPLETED);
+            }
         }
         return notifyListeners(TaskState.COMPLETED);
     }
@@ -0,0 +1,311 @@
+/******************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.sdk.server;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Level;
+
+/**
+ * Filter of server log records applied where the log is read.
+ * <p/>
+ * Record is accepted when its level is at least minimal level, its logger starts with one of
+ * included logger prefixes (or no prefix is included) and it starts with none of excluded logger
+ * prefixes. Records of unknown level are always accepted.
+ * <p/>
+ */
+public class LogFilterSpec {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Filter accepting all log records. */
+    public static final LogFilterSpec ALL
+            = new LogFilterSpec(Level.ALL, null, null);
+
+    /** Separator of logger prefixes in preferences. */
+    private static final char SEPARATOR = ',';
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Constructs filter from its preference values.
+     * <p/>
+     *
+     * @param level Name of minimal log level, unknown or empty name accepts all levels.
+     * @param includes Comma separated included logger prefixes, may be <code>null</code>.
+     * @param excludes Comma separated excluded logger prefixes, may be <code>null</code>.
+     * @return Filter for given preference values.
+     */
+    public static LogFilterSpec create(final String level,
+            final String includes, final String excludes) {
+        Level minLevel;
+        try {
+            minLevel = level == null || level.isEmpty()
+                    ? Level.ALL : Level.parse(level.trim());
+        } catch (IllegalArgumentException iae) {
+            minLevel = Level.ALL;
+        }
+        LogFilterSpec filter = new LogFilterSpec(
+                minLevel, split(includes), split(excludes));
+        return filter.acceptsAll() ? ALL : filter;
+    }
+
+    /**
+     * Split comma separated list of logger prefixes.
+     * <p/>
+     *
+     * @param prefixes Comma separated logger prefixes, may be <code>null</code>.
+     * @return Non empty logger prefixes.
+     */
+    private static List<String> split(final String prefixes) {
+        List<String> result = new ArrayList<>();
+        if (prefixes != null) {
+            int start = 0;
+            while (start <= prefixes.length()) {
+                int end = prefixes.indexOf(SEPARATOR, start);
+                if (end < 0) {
+                    end = prefixes.length();
+                }
+                String prefix = prefixes.substring(start, end).trim();
+                if (!prefix.isEmpty()) {
+                    result.add(prefix);
+                }
+                start = end + 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Encode logger prefixes to compare them with log bytes.
+     * <p/>
+     *
+     * @param prefixes Logger prefixes, may be <code>null</code>.
+     * @return UTF-8 encoded logger prefixes.
+     */
+    private static byte[][] encode(final List<String> prefixes) {
+        byte[][] result = new byte[prefixes.size()][];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = prefixes.get(i).getBytes(UTF_8);
+        }
+        return result;
+    }
+
+    /**
+     * Check whether logger stored in byte array starts with any of prefixes.
+     * <p/>
+     *
+     * @param prefixes UTF-8 encoded logger prefixes.
+     * @param bytes Array containing logger name.
+     * @param start Index of the first byte of logger name.
+     * @param end Index following the last byte of logger name.
+     * @return Value of <code>true</code> when logger starts with any of prefixes.
+     */
+    private static boolean startsWith(final byte[][] prefixes,
+            final byte[] bytes, final int start, final int end) {
+        for (byte[] prefix : prefixes) {
+            if (prefix.length <= end - start) {
+                int i = 0;
+                while (i < prefix.length && prefix[i] == bytes[start + i]) {
+                    i++;
+                }
+                if (i == prefix.length) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Minimal accepted log level. */
+    private final Level minLevel;
+
+    /** Included logger prefixes. */
+    private final List<String> includes;
+
+    /** Excluded logger prefixes. */
+    private final List<String> excludes;
+
+    /** UTF-8 encoded included logger prefixes. */
+    private final byte[][] includeBytes;
+
+    /** UTF-8 encoded excluded logger prefixes. */
+    private final byte[][] excludeBytes;
+
+    /** Filter accepting records this filter rejects, may be <code>null</code>. */
+    private final LogFilterSpec alternative;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Constructs an instance of server log filter.
+     * <p/>
+     *
+     * @param minLevel Minimal accepted log level.
+     * @param includes Included logger prefixes, <code>null</code> or empty to include all loggers.
+     * @param excludes Excluded logger prefixes, may be <code>null</code>.
+     */
+    public LogFilterSpec(final Level minLevel,
+            final Collection<String> includes, final Collection<String> excludes) {
+        this.minLevel = minLevel != null ? minLevel : Level.ALL;
+        this.includes = includes != null
+                ? Collections.unmodifiableList(new ArrayList<>(includes))
+                : Collections.<String>emptyList();
+        this.excludes = excludes != null
+                ? Collections.unmodifiableList(new ArrayList<>(excludes))
+                : Collections.<String>emptyList();
+        this.includeBytes = encode(this.includes);
+        this.excludeBytes = encode(this.excludes);
+        this.alternative = null;
+    }
+
+    /**
+     * Constructs an instance of server log filter accepting also records accepted by alternative
+     * filter.
+     * <p/>
+     *
+     * @param filter Filter to copy.
+     * @param alternative Filter accepting records the copied filter rejects.
+     */
+    private LogFilterSpec(final LogFilterSpec filter, final LogFilterSpec alternative) {
+        this.minLevel = filter.minLevel;
+        this.includes = filter.includes;
+        this.excludes = filter.excludes;
+        this.includeBytes = filter.includeBytes;
+        this.excludeBytes = filter.excludeBytes;
+        this.alternative = alternative;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Getters //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get minimal accepted log level.
+     * <p/>
+     *
+     * @return Minimal accepted log level.
+     */
+    public Level getMinLevel() {
+        return minLevel;
+    }
+
+    /**
+     * Get included logger prefixes.
+     * <p/>
+     *
+     * @return Included logger prefixes, empty when all loggers are included.
+     */
+    public List<String> getIncludes() {
+        return includes;
+    }
+
+    /**
+     * Get excluded logger prefixes.
+     * <p/>
+     *
+     * @return Excluded logger prefixes.
+     */
+    public List<String> getExcludes() {
+        return excludes;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Check whether this filter accepts all log records.
+     * <p/>
+     *
+     * @return Value of <code>true</code> when no record is filtered out.
+     */
+    public boolean acceptsAll() {
+        return minLevel.intValue() == Level.ALL.intValue()
+                && includes.isEmpty() && excludes.isEmpty();
+    }
+
+    /**
+     * Get filter accepting records accepted by this or other filter.
+     * <p/>
+     * Used where one log read feeds several consumers, each with its own filter.
+     * <p/>
+     *
+     * @param other Other filter.
+     * @return Filter accepting records accepted by any of both filters.
+     */
+    public LogFilterSpec or(final LogFilterSpec other) {
+        if (acceptsAll() || other.acceptsAll()) {
+            return ALL;
+        }
+        return new LogFilterSpec(this, alternative != null ? alternative.or(other) : other);
+    }
+
+    /**
+     * Check whether log record is accepted.
+     * <p/>
+     *
+     * @param levelValue Value of record log level.
+     * @param logger Record logger name, may be <code>null</code> when not known.
+     * @return Value of <code>true</code> when record is accepted.
+     */
+    public boolean accepts(final int levelValue, final String logger) {
+        if (logger == null) {
+            return acceptsLevel(levelValue);
+        }
+        byte[] bytes = logger.getBytes(UTF_8);
+        return accepts(levelValue, bytes, 0, bytes.length);
+    }
+
+    /**
+     * Check whether log record is accepted without decoding its logger name.
+     * <p/>
+     *
+     * @param levelValue Value of record log level.
+     * @param bytes Array containing UTF-8 encoded logger name.
+     * @param start Index of the first byte of logger name.
+     * @param end Index following the last byte of logger name.
+     * @return Value of <code>true</code> when record is accepted.
+     */
+    boolean accepts(final int levelValue,
+            final byte[] bytes, final int start, final int end) {
+        return levelValue >= minLevel.intValue()
+                && (includeBytes.length == 0 || startsWith(includeBytes, bytes, start, end))
+                && !startsWith(excludeBytes, bytes, start, end)
+                || alternative != null && alternative.accepts(levelValue, bytes, start, end);
+    }
+
+    /**
+     * Check whether log level is accepted.
+     * <p/>
+     *
+     * @param levelValue Value of record log level.
+     * @return Value of <code>true</code> when log level is accepted.
+     */
+    boolean acceptsLevel(final int levelValue) {
+        return levelValue >= minLevel.intValue()
+                || alternative != null && alternative.acceptsLevel(levelValue);
+    }
+
+}
@@ -0,0 +1,511 @@
+/******************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.sdk.server;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.logging.Level;
+
+/**
+ * Output stream passing only server log records accepted by {@link LogFilterSpec}.
+ * <p/>
+ * Log bytes are split into lines and header line of every ODL
+ * (<code>[time] [product] [level] [id] [logger] ...</code>), ULF
+ * (<code>[#|time|level|product|logger|...</code>) or JSON (<code>{"Timestamp":...}</code>) record is
+ * parsed in place to get record level and logger. Following lines of record are passed or dropped
+ * together with its header. No string is created, so dropped records cost only a single pass over
+ * their bytes. Lines which don't belong to any recognized record are passed.
+ * <p/>
+ */
+class LogRecordGate extends OutputStream {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Level value of records with unknown level, such records are always accepted. */
+    private static final int UNKNOWN_LEVEL = Integer.MAX_VALUE;
+
+    /** Standard log levels recognized by name. */
+    private static final Level[] LEVELS = {
+        Level.SEVERE, Level.WARNING, Level.INFO, Level.CONFIG,
+        Level.FINE, Level.FINER, Level.FINEST
+    };
+
+    /** ASCII encoded names of standard log levels. */
+    private static final byte[][] LEVEL_NAMES = new byte[LEVELS.length][];
+
+    /** ODL supplemental attribute holding level value. */
+    private static final byte[] LEVEL_VALUE = "levelValue: ".getBytes(US_ASCII);
+
+    /** JSON key of level value followed by name separator. */
+    private static final byte[] JSON_LEVEL_VALUE = "\"LevelValue\":".getBytes(US_ASCII);
+
+    /** JSON key of level name followed by name separator. */
+    private static final byte[] JSON_LEVEL = "\"Level\":".getBytes(US_ASCII);
+
+    /** JSON key of logger followed by name separator. */
+    private static final byte[] JSON_LOGGER = "\"LoggerName\":".getBytes(US_ASCII);
+
+    /** ODL field index of log level. */
+    private static final int ODL_LEVEL = 2;
+
+    /** ODL field index of logger. */
+    private static final int ODL_LOGGER = 4;
+
+    /** ULF field index of log level. */
+    private static final int ULF_LEVEL = 1;
+
+    /** ULF field index of logger. */
+    private static final int ULF_LOGGER = 3;
+
+    /** Initial size of line buffer. */
+    private static final int LINE_SIZE = 256;
+
+    static {
+        for (int i = 0; i < LEVELS.length; i++) {
+            LEVEL_NAMES[i] = LEVELS[i].getName().getBytes(US_ASCII);
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Check whether bytes range starts with given prefix.
+     * <p/>
+     *
+     * @param b Array containing bytes range.
+     * @param from Index of the first byte of range.
+     * @param to Index following the last byte of range.
+     * @param prefix Prefix to compare.
+     * @return Value of <code>true</code> when range starts with prefix.
+     */
+    private static boolean startsWith(final byte[] b, final int from, final int to,
+            final byte[] prefix) {
+        if (to - from < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (b[from + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get value of log level stored as its name.
+     * <p/>
+     *
+     * @param b Array containing level name.
+     * @param from Index of the first byte of level name.
+     * @param to Index following the last byte of level name.
+     * @return Level value or {@value #UNKNOWN_LEVEL} when level is not known.
+     */
+    private static int levelOf(final byte[] b, final int from, final int to) {
+        for (int i = 0; i < LEVEL_NAMES.length; i++) {
+            if (LEVEL_NAMES[i].length == to - from
+                    && startsWith(b, from, to, LEVEL_NAMES[i])) {
+                return LEVELS[i].intValue();
+            }
+        }
+        return UNKNOWN_LEVEL;
+    }
+
+    /**
+     * Parse decimal number.
+     * <p/>
+     *
+     * @param b Array containing number.
+     * @param from Index of the first digit.
+     * @param to Index following the last digit.
+     * @return Parsed number or {@value #UNKNOWN_LEVEL} when range is not a number.
+     */
+    private static int parseInt(final byte[] b, final int from, final int to) {
+        if (from == to || to - from > 9) {
+            return UNKNOWN_LEVEL;
+        }
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            if (b[i] < '0' || b[i] > '9') {
+                return UNKNOWN_LEVEL;
+            }
+            value = value * 10 + b[i] - '0';
+        }
+        return value;
+    }
+
+    /**
+     * Find first occurrence of byte.
+     * <p/>
+     *
+     * @param b Array to search.
+     * @param value Byte to find.
+     * @param from Index where search starts.
+     * @param to Index where search ends.
+     * @return Index of byte or <code>-1</code> when byte was not found.
+     */
+    private static int indexOf(final byte[] b, final byte value,
+            final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            if (b[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find end of the first occurrence of pattern.
+     * <p/>
+     *
+     * @param b Array to search.
+     * @param from Index where search starts.
+     * @param to Index where search ends.
+     * @param pattern Pattern to find.
+     * @return Index following the pattern or <code>-1</code> when pattern was not found.
+     */
+    private static int find(final byte[] b, final int from, final int to,
+            final byte[] pattern) {
+        int last = to - pattern.length;
+        for (int i = from; i <= last; i++) {
+            if (b[i] == pattern[0] && startsWith(b, i, to, pattern)) {
+                return i + pattern.length;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find start of JSON value following name separator, opening quote of string value is skipped.
+     * <p/>
+     *
+     * @param b Array containing JSON value.
+     * @param from Index following name separator.
+     * @param to Index where search ends.
+     * @return Index of the first character of JSON value.
+     */
+    private static int jsonValueStart(final byte[] b, final int from, final int to) {
+        int p = from;
+        while (p < to && (b[p] == ' ' || b[p] == '"')) {
+            p++;
+        }
+        return p;
+    }
+
+    /**
+     * Find end of JSON value.
+     * <p/>
+     *
+     * @param b Array containing JSON value.
+     * @param from Index of the first character of JSON value.
+     * @param to Index where search ends.
+     * @return Index following the last character of JSON value.
+     */
+    private static int jsonValueEnd(final byte[] b, final int from, final int to) {
+        int p = from;
+        while (p < to && b[p] != '"' && b[p] != ',' && b[p] != '}') {
+            p++;
+        }
+        return p;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Stream where accepted records are written. */
+    private final OutputStream target;
+
+    /** Filter of log records. */
+    private final LogFilterSpec filter;
+
+    /** Beginning of line not terminated yet. */
+    private byte[] line = new byte[LINE_SIZE];
+
+    /** Length of line not terminated yet. */
+    private int length;
+
+    /** Current record is accepted. */
+    private boolean accept = true;
+
+    /** Start of logger in last parsed header line. */
+    private int loggerStart;
+
+    /** End of logger in last parsed header line. */
+    private int loggerEnd;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Constructs an instance of server log records gate.
+     * <p/>
+     *
+     * @param target Stream where accepted records are written.
+     * @param filter Filter of log records.
+     */
+    LogRecordGate(final OutputStream target, final LogFilterSpec filter) {
+        this.target = target;
+        this.filter = filter;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Implemented Abstract Methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Write single byte of server log.
+     * <p/>
+     *
+     * @param b Byte to write.
+     * @throws IOException when accepted record could not be written.
+     */
+    @Override
+    public void write(final int b) throws IOException {
+        write(new byte[] { (byte) b }, 0, 1);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Write bytes of server log.
+     * <p/>
+     * Complete lines of accepted records are written into target stream in as few writes as
+     * possible. Line not terminated yet is kept until its end is written.
+     * <p/>
+     *
+     * @param b Bytes to write.
+     * @param off Index of the first byte to write.
+     * @param len Number of bytes to write.
+     * @throws IOException when accepted record could not be written.
+     */
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        final int end = off + len;
+        // Start of accepted bytes not written yet.
+        int run = off;
+        int lineStart = off;
+        for (int i = off; i < end; i++) {
+            if (b[i] != '\n') {
+                continue;
+            }
+            if (length > 0) {
+                append(b, lineStart, i + 1);
+                if (pass(line, 0, length)) {
+                    target.write(line, 0, length);
+                }
+                length = 0;
+                run = i + 1;
+            } else if (!pass(b, lineStart, i + 1)) {
+                if (run < lineStart) {
+                    target.write(b, run, lineStart - run);
+                }
+                run = i + 1;
+            }
+            lineStart = i + 1;
+        }
+        if (run < lineStart) {
+            target.write(b, run, lineStart - run);
+        }
+        if (lineStart < end) {
+            append(b, lineStart, end);
+        }
+    }
+
+    /**
+     * Flush target stream.
+     * <p/>
+     *
+     * @throws IOException when target stream could not be flushed.
+     */
+    @Override
+    public void flush() throws IOException {
+        target.flush();
+    }
+
+    /**
+     * Write line not terminated yet when it is accepted and close target stream.
+     * <p/>
+     *
+     * @throws IOException when target stream could not be written or closed.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (length > 0 && pass(line, 0, length)) {
+                target.write(line, 0, length);
+            }
+            length = 0;
+        } finally {
+            target.close();
+        }
+    }
+
+    /**
+     * Append bytes to line not terminated yet.
+     * <p/>
+     *
+     * @param b Array containing bytes to append.
+     * @param from Index of the first byte to append.
+     * @param to Index following the last byte to append.
+     */
+    private void append(final byte[] b, final int from, final int to) {
+        int count = to - from;
+        if (length + count > line.length) {
+            line = Arrays.copyOf(line, Math.max(line.length * 2, length + count));
+        }
+        System.arraycopy(b, from, line, length, count);
+        length += count;
+    }
+
+    /**
+     * Decide whether line shall be passed.
+     * <p/>
+     * Header line starts new record and decides about all its lines.
+     * <p/>
+     *
+     * @param b Array containing line.
+     * @param from Index of the first byte of line.
+     * @param to Index following the last byte of line.
+     * @return Value of <code>true</code> when line shall be passed.
+     */
+    private boolean pass(final byte[] b, final int from, final int to) {
+        if (to - from < 3 || (b[from] != '[' && b[from] != '{')) {
+            return accept;
+        }
+        int levelValue;
+        if (b[from] == '{') {
+            levelValue = parseJson(b, from, to);
+        } else if (b[from + 1] == '#' && b[from + 2] == '|') {
+            levelValue = parseUlf(b, from + 3, to);
+        } else if (b[from + 1] >= '0' && b[from + 1] <= '9') {
+            levelValue = parseOdl(b, from, to);
+        } else {
+            return accept;
+        }
+        accept = levelValue == UNKNOWN_LEVEL
+                || (loggerStart < loggerEnd
+                        ? filter.accepts(levelValue, b, loggerStart, loggerEnd)
+                        : filter.acceptsLevel(levelValue));
+        return accept;
+    }
+
+    /**
+     * Parse ODL record header line.
+     * <p/>
+     * Level value stored in <code>levelValue</code> supplemental attribute takes precedence over
+     * level name.
+     * <p/>
+     *
+     * @param b Array containing header line.
+     * @param from Index of the first byte of header line.
+     * @param to Index following the last byte of header line.
+     * @return Record level value.
+     */
+    private int parseOdl(final byte[] b, final int from, final int to) {
+        loggerStart = loggerEnd = 0;
+        int levelValue = UNKNOWN_LEVEL;
+        int field = 0;
+        int p = from;
+        while (p < to && b[p] == '[' && (p + 1 == to || b[p + 1] != '[')) {
+            int close = indexOf(b, (byte) ']', p + 1, to);
+            if (close < 0) {
+                break;
+            }
+            if (field == ODL_LEVEL) {
+                levelValue = levelOf(b, p + 1, close);
+            } else if (field == ODL_LOGGER) {
+                loggerStart = p + 1;
+                loggerEnd = close;
+            } else if (field > ODL_LOGGER && startsWith(b, p + 1, close, LEVEL_VALUE)) {
+                int value = parseInt(b, p + 1 + LEVEL_VALUE.length, close);
+                if (value != UNKNOWN_LEVEL) {
+                    levelValue = value;
+                }
+            }
+            field++;
+            p = close + 1;
+            while (p < to && b[p] == ' ') {
+                p++;
+            }
+        }
+        return levelValue;
+    }
+
+    /**
+     * Parse JSON record line.
+     * <p/>
+     * Level value stored in <code>LevelValue</code> takes precedence over level name. Record without
+     * level, e.g. object split over several lines, is of unknown level.
+     * <p/>
+     *
+     * @param b Array containing record line.
+     * @param from Index of the first byte of record line.
+     * @param to Index following the last byte of record line.
+     * @return Record level value.
+     */
+    private int parseJson(final byte[] b, final int from, final int to) {
+        loggerStart = loggerEnd = 0;
+        int levelValue = UNKNOWN_LEVEL;
+        int p = find(b, from, to, JSON_LEVEL_VALUE);
+        if (p >= 0) {
+            int start = jsonValueStart(b, p, to);
+            levelValue = parseInt(b, start, jsonValueEnd(b, start, to));
+        }
+        if (levelValue == UNKNOWN_LEVEL && (p = find(b, from, to, JSON_LEVEL)) >= 0) {
+            int start = jsonValueStart(b, p, to);
+            levelValue = levelOf(b, start, jsonValueEnd(b, start, to));
+        }
+        if ((p = find(b, from, to, JSON_LOGGER)) >= 0) {
+            loggerStart = jsonValueStart(b, p, to);
+            loggerEnd = jsonValueEnd(b, loggerStart, to);
+        }
+        return levelValue;
+    }
+
+    /**
+     * Parse ULF record header line.
+     * <p/>
+     *
+     * @param b Array containing header line.
+     * @param from Index of the first byte after record start mark.
+     * @param to Index following the last byte of header line.
+     * @return Record level value.
+     */
+    private int parseUlf(final byte[] b, final int from, final int to) {
+        loggerStart = loggerEnd = 0;
+        int levelValue = UNKNOWN_LEVEL;
+        int p = from;
+        for (int field = 0; field <= ULF_LOGGER; field++) {
+            int separator = indexOf(b, (byte) '|', p, to);
+            if (separator < 0) {
+                break;
+            }
+            if (field == ULF_LEVEL) {
+                levelValue = levelOf(b, p, separator);
+            } else if (field == ULF_LOGGER) {
+                loggerStart = p;
+                loggerEnd = separator;
+            }
+            p = separator + 1;
+        }
+        return levelValue;
+    }
+
+}
@@ -24,6 +24,7 @@ import static java.util.stream.Collectors.toList;
 import static org.eclipse.payara.tools.sdk.server.JDK.isCorrectJDK;
 import static org.eclipse.payara.tools.sdk.server.JDK.JDK_VERSION;
 import static org.eclipse.payara.tools.sdk.server.ServerTasks.StartMode.DEBUG;
+import static org.eclipse.payara.tools.sdk.server.parser.DomainConfigSnapshotService.getSnapshot;
 import static org.eclipse.payara.tools.sdk.server.parser.TreeParser.readXml;
 import static org.eclipse.payara.tools.sdk.utils.JavaUtils.javaVmExecutableFullPath;
 import static org.eclipse.payara.tools.sdk.utils.JavaUtils.javaVmVersion;
@@ -146,7 +147,7 @@ public class ServerTasks {
         JvmConfigReader jvmConfigReader = new JvmConfigReader(DAS_NAME);
         String domainAbsolutePath = server.getDomainsFolder() + separator + server.getDomainName();
         String domainXmlPath = domainAbsolutePath + separator + "config" + separator + "domain.xml";
-        if (!readXml(new File(domainXmlPath), jvmConfigReader)) {
+        if (!readXml(getSnapshot(new File(domainXmlPath)), jvmConfigReader)) {
             throw new PayaraIdeException(LOGGER.excMsg(METHOD, "readXMLerror"), domainXmlPath);
         }
 
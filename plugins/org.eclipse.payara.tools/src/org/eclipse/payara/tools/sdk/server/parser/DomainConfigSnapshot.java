@@ -0,0 +1,268 @@
+/******************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.sdk.server.parser;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Immutable in-memory content of domain configuration file (domain.xml).
+ * <p/>
+ * Content is parsed once and then replayed as SAX events to any number of {@link XMLReader}s, see
+ * {@link TreeParser#readXml(DomainConfigSnapshot, XMLReader...)}. Snapshot also keeps size,
+ * modification time and hash of the file content it was parsed from.
+ * <p/>
+ *
+ * @see DomainConfigSnapshotService
+ */
+public final class DomainConfigSnapshot {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * XML element with its attributes and content.
+     */
+    private static final class Element {
+
+        /** Element name. */
+        private final String qname;
+
+        /** Element attributes, never modified after parsing. */
+        private final Attributes attributes;
+
+        /** Child elements and text, text is stored as <code>char[]</code>. */
+        private final Object[] content;
+
+        private Element(final String qname, final Attributes attributes, final Object[] content) {
+            this.qname = qname;
+            this.attributes = attributes;
+            this.content = content;
+        }
+
+    }
+
+    /**
+     * SAX handler building the elements tree.
+     */
+    private static final class Builder extends DefaultHandler {
+
+        /** Names of open elements. */
+        private final List<String> names = new ArrayList<>();
+
+        /** Attributes of open elements. */
+        private final List<Attributes> attributes = new ArrayList<>();
+
+        /** Content of open elements, last one belongs to the innermost element. */
+        private final List<List<Object>> contents = new ArrayList<>();
+
+        /** Text not added to the content yet. */
+        private final StringBuilder text = new StringBuilder();
+
+        /** Root element when the document is complete. */
+        private Element root;
+
+        @Override
+        public void startElement(final String uri, final String localName, final String qname,
+                final Attributes attrs) {
+            flushText();
+            names.add(qname);
+            attributes.add(new AttributesImpl(attrs));
+            contents.add(new ArrayList<>());
+        }
+
+        @Override
+        public void endElement(final String uri, final String localName, final String qname) {
+            flushText();
+            int last = names.size() - 1;
+            Element element = new Element(names.remove(last), attributes.remove(last),
+                    contents.remove(last).toArray());
+            if (contents.isEmpty()) {
+                root = element;
+            } else {
+                contents.get(last - 1).add(element);
+            }
+        }
+
+        @Override
+        public void characters(final char[] ch, final int start, final int length) {
+            if (!contents.isEmpty()) {
+                text.append(ch, start, length);
+            }
+        }
+
+        @Override
+        public void ignorableWhitespace(final char[] ch, final int start, final int length) {
+            characters(ch, start, length);
+        }
+
+        /**
+         * Add pending text to the content of the innermost open element.
+         */
+        private void flushText() {
+            if (text.length() > 0) {
+                char[] chars = new char[text.length()];
+                text.getChars(0, chars.length, chars, 0);
+                contents.get(contents.size() - 1).add(chars);
+                text.setLength(0);
+            }
+        }
+
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Parse XML file content.
+     * <p/>
+     *
+     * @param data XML file content.
+     * @param size Size of the file.
+     * @param lastModified Modification time of the file.
+     * @param hash Hash of the file content.
+     * @return Snapshot of the file content.
+     * @throws IllegalStateException when the content cannot be parsed.
+     */
+    static DomainConfigSnapshot parse(final byte[] data, final long size, final long lastModified,
+            final long hash) throws IllegalStateException {
+        Builder builder = new Builder();
+        try {
+            org.xml.sax.XMLReader reader = TreeParser.newXMLReader();
+            reader.setContentHandler(builder);
+            reader.parse(new InputSource(new ByteArrayInputStream(data)));
+        } catch (ParserConfigurationException | SAXException | IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return new DomainConfigSnapshot(builder.root, size, lastModified, hash);
+    }
+
+    /**
+     * Send SAX events of the element and its content to the handler.
+     */
+    private static void replay(final Element element, final ContentHandler handler)
+            throws SAXException {
+        handler.startElement("", element.qname, element.qname, element.attributes);
+        for (Object item : element.content) {
+            if (item instanceof Element) {
+                replay((Element) item, handler);
+            } else {
+                char[] text = (char[]) item;
+                handler.characters(text, 0, text.length);
+            }
+        }
+        handler.endElement("", element.qname, element.qname);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Root element of the file. */
+    private final Element root;
+
+    /** Size of the file. */
+    private final long size;
+
+    /** Modification time of the file. */
+    private final long lastModified;
+
+    /** Hash of the file content. */
+    private final long hash;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors //
+    ////////////////////////////////////////////////////////////////////////////
+
+    private DomainConfigSnapshot(final Element root, final long size, final long lastModified,
+            final long hash) {
+        this.root = root;
+        this.size = size;
+        this.lastModified = lastModified;
+        this.hash = hash;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Getters //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get size of the file the snapshot was parsed from.
+     * <p/>
+     *
+     * @return Size of the file.
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Get modification time of the file the snapshot was parsed from.
+     * <p/>
+     *
+     * @return Modification time of the file in milliseconds.
+     */
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Get hash of the file content the snapshot was parsed from.
+     * <p/>
+     *
+     * @return CRC-32 of the file content.
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Send SAX events of the whole document to the handler.
+     * <p/>
+     *
+     * @param handler Handler receiving the events.
+     */
+    void replay(final ContentHandler handler) throws SAXException {
+        handler.startDocument();
+        if (root != null) {
+            replay(root, handler);
+        }
+        handler.endDocument();
+    }
+
+    /**
+     * Create snapshot with the same content for a file with changed modification time.
+     * <p/>
+     *
+     * @param lastModified New modification time of the file.
+     * @return Snapshot sharing the content of this snapshot.
+     */
+    DomainConfigSnapshot touch(final long lastModified) {
+        return new DomainConfigSnapshot(root, size, lastModified, hash);
+    }
+
+}
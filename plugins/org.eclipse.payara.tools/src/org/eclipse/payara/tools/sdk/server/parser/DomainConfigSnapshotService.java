@@ -0,0 +1,231 @@
+/******************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.sdk.server.parser;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.zip.CRC32;
+
+import org.eclipse.payara.tools.sdk.logging.Logger;
+
+/**
+ * Domain configuration (domain.xml) snapshots shared by all readers.
+ * <p/>
+ * Every file is parsed once per content change. Snapshot is reused while size and modification time
+ * of the file are the same; when they change, the content is read and hashed and it is parsed again
+ * only when the hash differs, e.g. a touched file keeps its snapshot. Directories of the files are
+ * watched by a {@link WatchService} and changed files are parsed again in the watcher thread, so
+ * readers usually get the new snapshot without waiting for the parser.
+ * <p/>
+ * Readers get snapshots through {@link #getSnapshot(File)} and read them with
+ * {@link TreeParser#readXml(DomainConfigSnapshot, XMLReader...)}.
+ * <p/>
+ */
+public final class DomainConfigSnapshotService {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Snapshot of single file.
+     */
+    private static final class Entry {
+
+        /** File path. */
+        private final Path path;
+
+        /** Last snapshot of the file, guarded by this. */
+        private DomainConfigSnapshot snapshot;
+
+        private Entry(final Path path) {
+            this.path = path;
+        }
+
+        /**
+         * Get snapshot of current file content, parse the file when its content has changed.
+         * <p/>
+         *
+         * @return Snapshot of current file content.
+         * @throws IllegalStateException when the file cannot be read or parsed.
+         */
+        private synchronized DomainConfigSnapshot current() throws IllegalStateException {
+            try {
+                BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+                long size = attrs.size();
+                long lastModified = attrs.lastModifiedTime().toMillis();
+                if (snapshot != null && snapshot.getSize() == size
+                        && snapshot.getLastModified() == lastModified) {
+                    return snapshot;
+                }
+                byte[] data = Files.readAllBytes(path);
+                CRC32 crc = new CRC32();
+                crc.update(data, 0, data.length);
+                long hash = crc.getValue();
+                if (snapshot != null && snapshot.getSize() == data.length
+                        && snapshot.getHash() == hash) {
+                    snapshot = snapshot.touch(lastModified);
+                } else {
+                    snapshot = DomainConfigSnapshot.parse(data, data.length, lastModified, hash);
+                }
+                return snapshot;
+            } catch (IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Logger instance for this class. */
+    private static final Logger LOGGER = new Logger(DomainConfigSnapshotService.class);
+
+    /** Watcher thread name. */
+    private static final String THREAD_NAME = "Payara domain config watcher";
+
+    /** Snapshots of files by absolute path. */
+    private static final Map<Path, Entry> entries = new ConcurrentHashMap<>();
+
+    /** Watched directories by their watch keys, guarded by class. */
+    private static final Map<WatchKey, Path> directories = new HashMap<>();
+
+    /** Watch service of the directories, guarded by class. */
+    private static WatchService watchService;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get snapshot of current content of domain configuration file.
+     * <p/>
+     *
+     * @param file Domain configuration file.
+     * @return Snapshot of current file content.
+     * @throws IllegalStateException when the file cannot be read or parsed.
+     */
+    public static DomainConfigSnapshot getSnapshot(final File file) throws IllegalStateException {
+        Path path = file.toPath().toAbsolutePath().normalize();
+        Entry entry = entries.computeIfAbsent(path, Entry::new);
+        DomainConfigSnapshot snapshot = entry.current();
+        watch(path.getParent());
+        return snapshot;
+    }
+
+    /**
+     * Start watching directory of a file unless watched already. Failure to watch is only logged,
+     * snapshots are checked against the file when requested anyway.
+     * <p/>
+     *
+     * @param directory Directory to watch.
+     */
+    private static synchronized void watch(final Path directory) {
+        final String METHOD = "watch";
+        if (directory == null || directories.containsValue(directory)) {
+            return;
+        }
+        try {
+            if (watchService == null) {
+                watchService = FileSystems.getDefault().newWatchService();
+                Thread thread = new Thread(DomainConfigSnapshotService::run, THREAD_NAME);
+                thread.setDaemon(true);
+                thread.start();
+            }
+            directories.put(directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY), directory);
+        } catch (IOException | RuntimeException ex) {
+            LOGGER.log(Level.INFO, METHOD, "failed", new Object[] { directory, ex.getMessage() });
+        }
+    }
+
+    /**
+     * Watcher thread main loop.
+     */
+    private static void run() {
+        WatchService service;
+        synchronized (DomainConfigSnapshotService.class) {
+            service = watchService;
+        }
+        while (true) {
+            WatchKey key;
+            try {
+                key = service.take();
+            } catch (InterruptedException ex) {
+                return;
+            }
+            Path directory;
+            synchronized (DomainConfigSnapshotService.class) {
+                directory = directories.get(key);
+            }
+            if (directory != null) {
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == OVERFLOW) {
+                        for (Entry entry : entries.values()) {
+                            if (directory.equals(entry.path.getParent())) {
+                                refresh(entry);
+                            }
+                        }
+                    } else {
+                        Entry entry = entries.get(directory.resolve((Path) event.context()));
+                        if (entry != null) {
+                            refresh(entry);
+                        }
+                    }
+                }
+            }
+            if (!key.reset()) {
+                synchronized (DomainConfigSnapshotService.class) {
+                    directories.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Parse changed file in background. Failure is only logged, file may be incomplete while it is
+     * being written and it is parsed again on next change or request.
+     * <p/>
+     *
+     * @param entry Snapshot of changed file.
+     */
+    private static void refresh(final Entry entry) {
+        final String METHOD = "refresh";
+        try {
+            entry.current();
+        } catch (IllegalStateException ex) {
+            LOGGER.log(Level.FINE, METHOD, "failed", new Object[] { entry.path, ex.getMessage() });
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors //
+    ////////////////////////////////////////////////////////////////////////////
+
+    private DomainConfigSnapshotService() {
+    }
+
+}
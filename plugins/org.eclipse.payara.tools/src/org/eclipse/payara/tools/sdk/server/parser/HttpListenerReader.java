@@ -56,6 +56,18 @@ public class HttpListenerReader extends TargetConfigReader implements XMLReader
         this(DEFAULT_PATH, targetConfigName);
     }
 
+    /**
+     * Reads listeners of the configuration found by the given reader in the same parser pass.
+     * <p/>
+     *
+     * @param configNameReader Reader of the configuration name.
+     */
+    public HttpListenerReader(TargetConfigNameReader configNameReader) {
+        super(configNameReader);
+        this.path = DEFAULT_PATH;
+        this.result = new HashMap<>();
+    }
+
     public HttpListenerReader(String path, String targetConfigName) {
         super(targetConfigName);
         this.path = path;
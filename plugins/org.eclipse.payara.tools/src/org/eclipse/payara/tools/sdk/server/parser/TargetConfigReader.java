@@ -35,20 +35,55 @@ class TargetConfigReader extends NodeListener {
 
     public static final String DEFAULT_TARGET = "server";
 
-    protected static boolean readData = false;
+    protected boolean readData = false;
 
     private String targetConfigName = null;
 
+    /** Reads name of the configuration when it is not known before parsing. */
+    private final TargetConfigNameReader configNameReader;
+
+    /** A config was reached before its name was read. */
+    private boolean missedConfig;
+
     public TargetConfigReader(String targetConfigName) {
         this.targetConfigName = targetConfigName;
-        // TODO all parsing has to be rewritten at some point
-        TargetConfigReader.readData = false;
+        this.configNameReader = null;
+    }
+
+    /**
+     * Reads the configuration of the target found by the given reader in the same parser pass.
+     * Servers usually precede configs in domain.xml, so the name is known before any config is read.
+     * When a config is reached first, {@link TreeParser.Session} reads this reader again once the
+     * name is known.
+     * <p/>
+     *
+     * @param configNameReader Reader of the configuration name, must be read in the same pass.
+     */
+    public TargetConfigReader(TargetConfigNameReader configNameReader) {
+        this.configNameReader = configNameReader;
+    }
+
+    /**
+     * Check whether configs were reached before the configuration name was read and the name is
+     * known now, so this reader has to read the configs again.
+     * <p/>
+     *
+     * @return Value of <code>true</code> when this reader has to be read again.
+     */
+    boolean isReadAgainNeeded() {
+        return missedConfig && configNameReader.getTargetConfigName() != null;
     }
 
     class TargetConfigMarker extends NodeListener {
 
         @Override
         public void readAttributes(String qname, Attributes attributes) throws SAXException {
+            if (targetConfigName == null && configNameReader != null) {
+                targetConfigName = configNameReader.getTargetConfigName();
+                if (targetConfigName == null) {
+                    missedConfig = true;
+                }
+            }
             if ((targetConfigName != null) && attributes.getValue("name").equalsIgnoreCase(targetConfigName)) {
                 readData = true;
             }
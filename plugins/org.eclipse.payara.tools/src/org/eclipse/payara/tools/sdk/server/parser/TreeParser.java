@@ -26,6 +26,7 @@ import java.io.InputStream;
 import java.io.StringReader;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -67,7 +68,38 @@ public final class TreeParser extends DefaultHandler {
     /**
      * Stops SAX parser from accessing remote DTDs or schemas.
      */
-    private static final EntityResolver DUMMY_RESOLVER = (string, string1) -> new InputSource(new StringReader(""));
+    static final EntityResolver DUMMY_RESOLVER = (string, string1) -> new InputSource(new StringReader(""));
+
+    /**
+     * Parser factory shared by all parsers. Configuring the factory is not thread safe, so it is
+     * configured once and parsers are created under its lock.
+     */
+    private static final SAXParserFactory FACTORY = SAXParserFactory.newInstance();
+
+    static {
+        // !PW If namespace-aware is enabled, make sure localpart and
+        // qname are treated correctly in the handler code.
+        //
+        FACTORY.setNamespaceAware(false);
+    }
+
+    /**
+     * Creates new XML reader which does not access remote DTDs or schemas.
+     * <p/>
+     *
+     * @return XML reader created by the shared parser factory.
+     */
+    static org.xml.sax.XMLReader newXMLReader() throws ParserConfigurationException, SAXException {
+        SAXParser saxParser;
+        synchronized (FACTORY) {
+            saxParser = FACTORY.newSAXParser();
+        }
+        org.xml.sax.XMLReader reader = saxParser.getXMLReader();
+        // !PW FIXME what to do about entity resolvers? Timed out when
+        // looking up doctype for sun-resources.xml earlier today (Jul 10)
+        reader.setEntityResolver(DUMMY_RESOLVER);
+        return reader;
+    }
 
     public static boolean readXml(File xmlFile, XMLReader... pathList)
             throws IllegalStateException {
@@ -75,17 +107,7 @@ public final class TreeParser extends DefaultHandler {
         boolean result = false;
         InputStream is = null;
         try {
-            // !PW FIXME what to do about entity resolvers? Timed out when
-            // looking up doctype for sun-resources.xml earlier today (Jul 10)
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            // !PW If namespace-aware is enabled, make sure localpart and
-            // qname are treated correctly in the handler code.
-            //
-            factory.setNamespaceAware(false);
-            SAXParser saxParser = factory.newSAXParser();
-            org.xml.sax.XMLReader reader = saxParser.getXMLReader();
-
-            reader.setEntityResolver(DUMMY_RESOLVER);
+            org.xml.sax.XMLReader reader = newXMLReader();
             DefaultHandler handler = new TreeParser(pathList);
             reader.setContentHandler(handler);
             is = new BufferedInputStream(new FileInputStream(xmlFile));
@@ -111,14 +133,10 @@ public final class TreeParser extends DefaultHandler {
         boolean result = false;
         InputStream is = null;
         try {
-            // !PW FIXME what to do about entity resolvers? Timed out when
-            // looking up doctype for sun-resources.xml earlier today (Jul 10)
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            // !PW If namespace-aware is enabled, make sure localpart and
-            // qname are treated correctly in the handler code.
-            //
-            factory.setNamespaceAware(false);
-            SAXParser saxParser = factory.newSAXParser();
+            SAXParser saxParser;
+            synchronized (FACTORY) {
+                saxParser = FACTORY.newSAXParser();
+            }
             DefaultHandler handler = new TreeParser(pathList);
             is = new BufferedInputStream(xmlFile.openStream());
             saxParser.parse(new InputSource(is), handler);
@@ -137,6 +155,24 @@ public final class TreeParser extends DefaultHandler {
         return result;
     }
 
+    /**
+     * Invokes readers on parsed XML file content without parsing the file again.
+     * <p/>
+     *
+     * @param snapshot Parsed XML file content.
+     * @param pathList Readers of the content.
+     * @return Value of <code>true</code> when the content was read.
+     */
+    public static boolean readXml(DomainConfigSnapshot snapshot, XMLReader... pathList)
+            throws IllegalStateException {
+        try {
+            snapshot.replay(new TreeParser(pathList));
+        } catch (SAXException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return true;
+    }
+
     // Parser internal state
     private final TreeParser.Node root;
 
@@ -278,6 +314,141 @@ public final class TreeParser extends DefaultHandler {
         }
     }
 
+    /**
+     * Dispatches events of one node to all listeners registered for its path, in registration order.
+     */
+    private static final class Multiplexer extends NodeListener {
+
+        private final List<TreeParser.NodeListener> listeners = new ArrayList<>(2);
+
+        private Multiplexer(TreeParser.NodeListener first, TreeParser.NodeListener second) {
+            listeners.add(first);
+            listeners.add(second);
+        }
+
+        @Override
+        public void readAttributes(String qname, Attributes attributes) throws SAXException {
+            for (TreeParser.NodeListener listener : listeners) {
+                listener.readAttributes(qname, attributes);
+            }
+        }
+
+        @Override
+        public void readChildren(String qname, Attributes attributes) throws SAXException {
+            for (TreeParser.NodeListener listener : listeners) {
+                listener.readChildren(qname, attributes);
+            }
+        }
+
+        @Override
+        public void readCData(String qname, char[] ch, int start, int length)
+                throws SAXException {
+            for (TreeParser.NodeListener listener : listeners) {
+                listener.readCData(qname, ch, start, length);
+            }
+        }
+
+        @Override
+        public void endNode(String qname) throws SAXException {
+            for (TreeParser.NodeListener listener : listeners) {
+                listener.endNode(qname);
+            }
+        }
+    }
+
+    /**
+     * Parse session collecting readers from many callers and reading all of them in a single pass.
+     * <p/>
+     * Readers may listen to the same paths, every listener of a path gets all its events. A reader
+     * depending on data read by another reader, e.g. {@link HttpListenerReader} created with
+     * {@link TargetConfigNameReader}, must be added to the same session. When the data it depends on
+     * come later in the file, e.g. configs precede servers, the reader is read again in a second
+     * pass.
+     * <p/>
+     */
+    public static final class Session {
+
+        private final List<XMLReader> readers = new ArrayList<>();
+
+        private int passes;
+
+        /**
+         * Add readers to be read by next pass.
+         * <p/>
+         *
+         * @param readers Readers to add.
+         * @return This session.
+         */
+        public Session add(XMLReader... readers) {
+            this.readers.addAll(Arrays.asList(readers));
+            return this;
+        }
+
+        /**
+         * Read XML file by all readers in a single pass, readers which missed data they depend on are
+         * read again in a second pass.
+         * <p/>
+         *
+         * @param xmlFile XML file.
+         * @return Value of <code>true</code> when the file was read.
+         */
+        public boolean readXml(File xmlFile) throws IllegalStateException {
+            passes++;
+            boolean result = TreeParser.readXml(xmlFile, readers.toArray(new XMLReader[readers.size()]));
+            XMLReader[] readAgain = readAgain();
+            if (result && readAgain.length > 0) {
+                passes++;
+                result = TreeParser.readXml(xmlFile, readAgain);
+            }
+            return result;
+        }
+
+        /**
+         * Read parsed XML file content by all readers in a single pass, readers which missed data they
+         * depend on are read again in a second pass.
+         * <p/>
+         *
+         * @param snapshot Parsed XML file content.
+         * @return Value of <code>true</code> when the content was read.
+         */
+        public boolean readXml(DomainConfigSnapshot snapshot) throws IllegalStateException {
+            passes++;
+            boolean result = TreeParser.readXml(snapshot, readers.toArray(new XMLReader[readers.size()]));
+            XMLReader[] readAgain = readAgain();
+            if (result && readAgain.length > 0) {
+                passes++;
+                result = TreeParser.readXml(snapshot, readAgain);
+            }
+            return result;
+        }
+
+        /**
+         * Get readers which reached configs before the name of their config was read.
+         * <p/>
+         *
+         * @return Readers to be read again.
+         */
+        private XMLReader[] readAgain() {
+            List<XMLReader> readAgain = new ArrayList<>();
+            for (XMLReader reader : readers) {
+                if (reader instanceof TargetConfigReader && ((TargetConfigReader) reader).isReadAgainNeeded()) {
+                    readAgain.add(reader);
+                }
+            }
+            return readAgain.toArray(new XMLReader[readAgain.size()]);
+        }
+
+        /**
+         * Get number of passes made by this session.
+         * <p/>
+         *
+         * @return Number of passes over XML content.
+         */
+        public int getPasses() {
+            return passes;
+        }
+    }
+
     public static class Path {
 
         private final String path;
@@ -352,7 +523,7 @@ public final class TreeParser extends DefaultHandler {
                 }
             }
             if (rover != null) {
-                rover.setReader(path.getReader());
+                rover.addReader(path.getReader());
             }
         }
         return root;
@@ -396,8 +567,20 @@ public final class TreeParser extends DefaultHandler {
             return reader;
         }
 
-        public void setReader(TreeParser.NodeListener reader) {
-            this.reader = reader;
+        /**
+         * Add listener of this node, more listeners of the same node are multiplexed.
+         */
+        public void addReader(TreeParser.NodeListener reader) {
+            if (reader == null) {
+                return;
+            }
+            if (this.reader == null) {
+                this.reader = reader;
+            } else if (this.reader instanceof Multiplexer) {
+                ((Multiplexer) this.reader).listeners.add(reader);
+            } else {
+                this.reader = new Multiplexer(this.reader, reader);
+            }
         }
 
         @Override
@@ -0,0 +1,388 @@
+/******************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.sdk.server.state;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import org.eclipse.payara.tools.sdk.logging.Logger;
+
+/**
+ * Non-blocking TCP port prober.
+ * <p/>
+ * All port checks are driven by single {@link Selector} thread. Every probe has its own connect
+ * timeout, so unreachable hosts do not hold any thread while waiting for their timeout and do not
+ * delay checks of other servers.
+ * <p/>
+ * Probe result is delivered through returned {@link CompletableFuture}. Future is completed with
+ * <code>true</code> when connection was established or exceptionally with the {@link IOException}
+ * that made the connection fail, e.g. {@link java.net.ConnectException} or
+ * {@link SocketTimeoutException}. Futures are completed in prober thread so dependent actions which
+ * may block should be run asynchronously.
+ * <p/>
+ */
+public class AdminPortProber {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Single port probe.
+     */
+    private static final class Probe {
+
+        /** Address to connect to. */
+        private final InetSocketAddress address;
+
+        /** Connect deadline [ns]. */
+        private final long deadline;
+
+        /** Probe result. */
+        private final CompletableFuture<Boolean> result;
+
+        /** Connecting channel. */
+        private SocketChannel channel;
+
+        /**
+         * Creates an instance of single port probe.
+         * <p/>
+         *
+         * @param address Address to connect to.
+         * @param deadline Connect deadline [ns].
+         */
+        private Probe(final InetSocketAddress address, final long deadline) {
+            this.address = address;
+            this.deadline = deadline;
+            this.result = new CompletableFuture<>();
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Logger instance for this class. */
+    private static final Logger LOGGER = new Logger(AdminPortProber.class);
+
+    /** Prober thread name. */
+    private static final String THREAD_NAME = "GlassFish Port Prober";
+
+    /** Connect timeout used when no positive timeout is given [ms]. */
+    static final int DEFAULT_TIMEOUT = 5000;
+
+    /** Singleton object instance. */
+    private static volatile AdminPortProber instance;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Return existing singleton instance of this class or create a new one when no instance exists.
+     * <p/>
+     *
+     * @return <code>AdminPortProber</code> singleton instance.
+     */
+    public static AdminPortProber getInstance() {
+        if (instance != null) {
+            return instance;
+        }
+        synchronized (AdminPortProber.class) {
+            if (instance == null) {
+                instance = new AdminPortProber();
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Close channel of finished probe quietly.
+     * <p/>
+     *
+     * @param probe Finished probe.
+     */
+    private static void close(final Probe probe) {
+        final String METHOD = "close";
+        if (probe.channel != null) {
+            try {
+                probe.channel.close();
+            } catch (IOException ioe) {
+                LOGGER.log(Level.FINEST, METHOD, "failed", new Object[] {
+                        probe.address.getHostString(), Integer.toString(probe.address.getPort()),
+                        ioe.getMessage() });
+            }
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Probes waiting to be registered in selector. */
+    private final ConcurrentLinkedQueue<Probe> pending;
+
+    /** Number of probes not finished yet. */
+    private final AtomicInteger running;
+
+    /** Selector driving all port checks. */
+    private Selector selector;
+
+    /** Prober thread. */
+    private Thread thread;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates an instance of port prober.
+     * <p/>
+     * Prober thread is started with first probe.
+     */
+    AdminPortProber() {
+        pending = new ConcurrentLinkedQueue<>();
+        running = new AtomicInteger();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Check if TCP port is accepting connections.
+     * <p/>
+     * Host name is resolved in caller thread.
+     * <p/>
+     *
+     * @param host Host to connect to.
+     * @param port Port to connect to.
+     * @param timeout Connect timeout [ms], {@link #DEFAULT_TIMEOUT} is used for non positive values.
+     * @return Probe result completed with <code>true</code> when port is accepting connections or
+     * exceptionally with the exception that made the connection fail.
+     */
+    public CompletableFuture<Boolean> probe(final String host, final int port, final int timeout) {
+        long deadline = System.nanoTime() + MILLISECONDS.toNanos(timeout > 0 ? timeout : DEFAULT_TIMEOUT);
+        InetSocketAddress address = new InetSocketAddress(host, port);
+        Probe probe = new Probe(address, deadline);
+        if (address.isUnresolved()) {
+            probe.result.completeExceptionally(new UnknownHostException(host));
+            return probe.result;
+        }
+        running.incrementAndGet();
+        pending.add(probe);
+        try {
+            wakeup();
+        } catch (IOException ioe) {
+            if (pending.remove(probe)) {
+                running.decrementAndGet();
+                probe.result.completeExceptionally(ioe);
+            }
+        }
+        return probe.result;
+    }
+
+    /**
+     * Get number of probes not finished yet.
+     * <p/>
+     *
+     * @return Number of probes not finished yet.
+     */
+    int pendingProbes() {
+        return running.get();
+    }
+
+    /**
+     * Start prober thread when not running and wake up selector to register new probes.
+     * <p/>
+     *
+     * @throws IOException when selector could not be opened.
+     */
+    private synchronized void wakeup() throws IOException {
+        if (selector == null) {
+            selector = Selector.open();
+            thread = new Thread(this::run, THREAD_NAME);
+            thread.setDaemon(true);
+            thread.start();
+        } else {
+            selector.wakeup();
+        }
+    }
+
+    /**
+     * Prober thread main loop.
+     */
+    private void run() {
+        final String METHOD = "run";
+        while (true) {
+            try {
+                register();
+                selector.select(selectTimeout());
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    connected(key);
+                }
+                expire();
+            } catch (IOException | RuntimeException e) {
+                LOGGER.log(Level.WARNING, METHOD, "failed", e.getMessage());
+                stop(e instanceof IOException ? (IOException) e : new IOException(e));
+                return;
+            }
+        }
+    }
+
+    /**
+     * Fail all probes after unexpected selector failure and release the selector. Selector may stay
+     * broken, so the thread exits and next probe starts a new thread with a new selector.
+     * <p/>
+     *
+     * @param ioe Failure cause.
+     */
+    private void stop(final IOException ioe) {
+        final String METHOD = "stop";
+        if (selector.isOpen()) {
+            failAll(ioe);
+            try {
+                selector.close();
+            } catch (IOException closeIoe) {
+                LOGGER.log(Level.FINEST, METHOD, "failed", closeIoe.getMessage());
+            }
+        }
+        synchronized (this) {
+            selector = null;
+            thread = null;
+            // Probes added since are not seen by any thread
+            for (Probe probe; (probe = pending.poll()) != null;) {
+                finish(probe, null, ioe);
+            }
+        }
+    }
+
+    /**
+     * Start connecting all pending probes.
+     */
+    private void register() {
+        for (Probe probe; (probe = pending.poll()) != null;) {
+            try {
+                probe.channel = SocketChannel.open();
+                probe.channel.configureBlocking(false);
+                if (probe.channel.connect(probe.address)) {
+                    finish(probe, null, null);
+                } else {
+                    probe.channel.register(selector, SelectionKey.OP_CONNECT, probe);
+                }
+            } catch (IOException ioe) {
+                finish(probe, null, ioe);
+            }
+        }
+    }
+
+    /**
+     * Finish connection of channel selected for connect.
+     * <p/>
+     *
+     * @param key Selected key.
+     */
+    private void connected(final SelectionKey key) {
+        Probe probe = (Probe) key.attachment();
+        try {
+            if (key.isValid() && probe.channel.finishConnect()) {
+                finish(probe, key, null);
+            }
+        } catch (IOException ioe) {
+            finish(probe, key, ioe);
+        }
+    }
+
+    /**
+     * Fail all probes which passed their deadline.
+     */
+    private void expire() {
+        long now = System.nanoTime();
+        for (SelectionKey key : selector.keys()) {
+            Probe probe = (Probe) key.attachment();
+            if (key.isValid() && now - probe.deadline >= 0) {
+                finish(probe, key, new SocketTimeoutException("connect timed out"));
+            }
+        }
+    }
+
+    /**
+     * Compute selector timeout to wake up for the nearest probe deadline.
+     * <p/>
+     *
+     * @return Selector timeout [ms], <code>0</code> when there is no probe to wait for.
+     */
+    private long selectTimeout() {
+        long now = System.nanoTime();
+        long timeout = 0;
+        for (SelectionKey key : selector.keys()) {
+            if (key.isValid()) {
+                long remaining = Math.max(1, NANOSECONDS.toMillis(((Probe) key.attachment()).deadline - now) + 1);
+                timeout = timeout == 0 ? remaining : Math.min(timeout, remaining);
+            }
+        }
+        return timeout;
+    }
+
+    /**
+     * Fail all registered and pending probes.
+     * <p/>
+     *
+     * @param ioe Failure cause.
+     */
+    private void failAll(final IOException ioe) {
+        for (SelectionKey key : selector.keys()) {
+            if (key.isValid()) {
+                finish((Probe) key.attachment(), key, ioe);
+            }
+        }
+        for (Probe probe; (probe = pending.poll()) != null;) {
+            finish(probe, null, ioe);
+        }
+    }
+
+    /**
+     * Complete probe result and release its channel.
+     * <p/>
+     *
+     * @param probe Finished probe.
+     * @param key Selection key of the probe or <code>null</code> when not registered.
+     * @param ioe Connection failure or <code>null</code> when connection was established.
+     */
+    private void finish(final Probe probe, final SelectionKey key, final IOException ioe) {
+        if (key != null) {
+            key.cancel();
+        }
+        close(probe);
+        running.decrementAndGet();
+        if (ioe == null) {
+            probe.result.complete(Boolean.TRUE);
+        } else {
+            probe.result.completeExceptionally(ioe);
+        }
+    }
+
+}
@@ -20,39 +20,28 @@ package org.eclipse.payara.tools.sdk.server.state;
 
 import static org.eclipse.payara.tools.sdk.server.state.StatusJobState.NO_CHECK;
 import static org.eclipse.payara.tools.sdk.server.state.StatusJobState.OFFLINE;
-import static org.eclipse.payara.tools.sdk.server.state.StatusJobState.OFFLINE_PORT;
 import static org.eclipse.payara.tools.sdk.server.state.StatusJobState.ONLINE;
 import static org.eclipse.payara.tools.sdk.server.state.StatusJobState.SHUTDOWN;
-import static org.eclipse.payara.tools.sdk.server.state.StatusJobState.SHUTDOWN_PORT;
 import static org.eclipse.payara.tools.sdk.server.state.StatusJobState.STARTUP;
-import static org.eclipse.payara.tools.sdk.server.state.StatusJobState.STARTUP_PORT;
 import static org.eclipse.payara.tools.sdk.server.state.StatusJobState.UNKNOWN;
-import static org.eclipse.payara.tools.sdk.server.state.StatusJobState.UNKNOWN_PORT;
 
-import java.util.concurrent.ScheduledFuture;
 import java.util.logging.Level;
 
+import org.eclipse.payara.tools.internal.ServerStatusMonitor;
 import org.eclipse.payara.tools.sdk.GlassFishStatus;
 import org.eclipse.payara.tools.sdk.GlassFishStatusListener;
-import org.eclipse.payara.tools.sdk.TaskEvent;
-import org.eclipse.payara.tools.sdk.TaskState;
-import org.eclipse.payara.tools.sdk.TaskStateListener;
-import org.eclipse.payara.tools.sdk.admin.Command;
-import org.eclipse.payara.tools.sdk.admin.CommandLocation;
-import org.eclipse.payara.tools.sdk.admin.CommandVersion;
-import org.eclipse.payara.tools.sdk.admin.Result;
-import org.eclipse.payara.tools.sdk.admin.ResultMap;
-import org.eclipse.payara.tools.sdk.admin.ResultString;
-import org.eclipse.payara.tools.sdk.admin.Runner;
-import org.eclipse.payara.tools.sdk.data.GlassFishStatusCheck;
-import org.eclipse.payara.tools.sdk.data.GlassFishStatusCheckResult;
 import org.eclipse.payara.tools.sdk.data.GlassFishStatusTask;
 import org.eclipse.payara.tools.sdk.logging.Logger;
 import org.eclipse.payara.tools.sdk.utils.LinkedList;
+import org.eclipse.payara.tools.server.PayaraServer;
 
 /**
  * Server status check internal data for individual GlassFish server instance.
  * <p/>
+ * Server status is not checked by the job itself. Job subscribes to the shared
+ * {@link ServerStatusMonitor} of its server, so there is exactly one status state machine per server,
+ * and forwards monitor results to its own status listeners.
+ * <p/>
  *
  * @author Tomas Kraus
  */
@@ -63,588 +52,56 @@ public class StatusJob {
     ////////////////////////////////////////////////////////////////////////////
 
     /**
-     * Common server status check command execution state listener.
-     */
-    abstract static class Listener implements TaskStateListener {
-
-        /** Logger instance for this class. */
-        private static final Logger LOGGER = new Logger(Listener.class);
-
-        /**
-         * Should contain {@link Runner} object when it's {@link Runner#call()} method is executed.
-         */
-        Runner runner;
-
-        /**
-         * Server status check internal data for individual GlassFish server instance.
-         */
-        final StatusJob job;
-
-        /**
-         * Constructs an instance of common command execution state listener.
-         * <p/>
-         *
-         * @param job Server status check internal data for individual GlassFish server instance.
-         */
-        private Listener(final StatusJob job) {
-            this.runner = null;
-            this.job = job;
-        }
-
-        /**
-         * Set {@link Runner} object instance before it's {@link Runner#call()} method is executed.
-         * <p/>
-         *
-         * @param runner GlassFish server command execution runner.
-         */
-        void setRunner(final Runner runner) {
-            this.runner = runner;
-        }
-
-        /**
-         * Clear {@link Runner} object instance after {@link Runner#call()} method is finished.
-         */
-        void clearRunner() {
-            this.runner = null;
-        }
-
-    }
-
-    /**
-     * Locations command execution state listener.
+     * Server status monitor listener feeding monitor results into the job.
      */
-    static class ListenerLocations extends Listener {
-
-        /** Logger instance for this class. */
-        private static final Logger LOGGER = new Logger(ListenerLocations.class);
+    private class MonitorListener implements GlassFishStatusListener {
 
         /**
-         * Constructs an instance of <code>__locations</code> command execution state listener.
+         * Evaluate server status check result of shared server status monitor.
          * <p/>
          *
-         * @param job Server status check internal data for individual GlassFish server instance.
-         */
-        private ListenerLocations(final StatusJob job) {
-            super(job);
-        }
-
-        /**
-         * Evaluate <code>__locations</code> response to verify GlassFish server home and domain
-         * directories.
-         * <p/>
-         *
-         * @return Returns <code>true</code> when <code>__locations</code> response matches domain directory
-         * in GlassFish server entity or <code>false</code> otherwise.
-         */
-        private boolean verifyResult() {
-            Result result = runner.getResult();
-            if (result instanceof ResultMap) {
-                ResultMap<String, String> resultMap = (ResultMap<String, String>) result;
-                return CommandLocation.verifyResult(
-                        resultMap, job.status.getServer());
-            } else {
-                return false;
-            }
-        }
-
-        /**
-         * Get notification about state change in {@link Runner} task.
-         * <p/>
-         * This is being called in {@link Runner#call()} method execution context.
-         * <p/>
-         * <code>String</codce> arguments passed to state listener:<ul>
-         *   <li><code>args[0]</code> server name</li>
-         * <li><code>args[1]</code> administration command</li>
-         * <li><code>args[2]</code> exception message</li>
-         * <li><code>args[3]</code> display message in GUI</li>
-         * </ul>
-         * <p/>
-         *
-         * @param newState New command execution state.
-         * @param event Event related to execution state change.
-         * @param args Additional String arguments.
+         * @param server GlassFish server instance being monitored.
+         * @param status Current server status.
+         * @param task Last GlassFish server status check task details.
          */
         @Override
-        public void operationStateChanged(final TaskState newState,
-                final TaskEvent event, final String... args) {
-            final String METHOD = "operationStateChanged";
-            switch (newState) {
-            case COMPLETED:
-            case FAILED:
-                String serverName;
-                String exceptionMeasage;
-                ResultMap<String, String> taskResult = (ResultMap<String, String>) runner.getResult();
-                if (args != null && args.length >= 3) {
-                    serverName = args[0];
-                    exceptionMeasage = args[2];
-                } else {
-                    serverName = null;
-                    exceptionMeasage = null;
-                }
-                // Store task result into job task object
-                boolean notifyError = false;
-                synchronized (job.locations) {
-                    switch (newState) {
-                    case COMPLETED:
-                        // Breaks only for true result. False result
-                        // is handeld by FAILED case.
-                        if (verifyResult()) {
-                            job.locations.setResult(
-                                    new StatusResultLocations(
-                                            taskResult,
-                                            GlassFishStatusCheckResult.SUCCESS,
-                                            event));
-                            break;
-                        }
-                    case FAILED:
-                        job.locations.setResult(
-                                new StatusResultLocations(taskResult,
-                                        GlassFishStatusCheckResult.FAILED,
-                                        event));
-                        notifyError = true;
-                        break;
-                    }
-                }
-                LOGGER.log(Level.FINE, METHOD, "result",
-                        job.locations.getResult().status.toString());
-                if (notifyError) {
-                    synchronized (job) {
-                        job.notifyErrorListeners(job.locations);
-                    }
-                }
-                commandTransition(job, job.locations);
-            }
-
+        public void currentState(final PayaraServer server,
+                final GlassFishStatus status, final GlassFishStatusTask task) {
+            checkTransition(status, task);
         }
 
-    }
-
-    /**
-     * Locations command execution state listener.
-     */
-    static class ListenerVersion extends Listener {
-
-        /** Logger instance for this class. */
-        private static final Logger LOGGER = new Logger(ListenerVersion.class);
-
         /**
-         * Constructs an instance of <code>version</code> command execution state listener.
+         * Status changes are evaluated by the job itself in {@link #currentState}.
          * <p/>
          *
-         * @param job Server status check internal data for individual GlassFish server instance.
-         */
-        private ListenerVersion(final StatusJob job) {
-            super(job);
-        }
-
-        /**
-         * Evaluate <code>version</code> response to verify GlassFish server version.
-         * <p/>
-         *
-         * @return Returns <code>true</code> when <code>version</code> response matches version in GlassFish
-         * server entity or <code>false</code> otherwise.
-         */
-        private boolean verifyResult() {
-            Result result = runner.getResult();
-            if (result instanceof ResultString) {
-                ResultString resultString = (ResultString) result;
-                return CommandVersion.verifyResult(
-                        resultString, job.status.getServer());
-            } else {
-                return false;
-            }
-        }
-
-        /**
-         * Get notification about state change in {@link Runner} task.
-         * <p/>
-         * This is being called in {@link Runner#call()} method execution context.
-         * <p/>
-         * <code>String</codce> arguments passed to state listener:<ul>
-         *   <li><code>args[0]</code> server name</li>
-         * <li><code>args[1]</code> administration command</li>
-         * <li><code>args[2]</code> exception message</li>
-         * <li><code>args[3]</code> display message in GUI</li>
-         * </ul>
-         * <p/>
-         *
-         * @param newState New command execution state.
-         * @param event Event related to execution state change.
-         * @param args Additional String arguments.
+         * @param server GlassFish server instance being monitored.
+         * @param status Current server status.
+         * @param task Last GlassFish server status check task details.
          */
         @Override
-        public void operationStateChanged(final TaskState newState,
-                final TaskEvent event, final String... args) {
-            final String METHOD = "operationStateChanged";
-            switch (newState) {
-            case COMPLETED:
-            case FAILED:
-                String serverName;
-                String exceptionMeasage;
-                ResultString taskResult = (ResultString) runner.getResult();
-                if (args != null && args.length >= 3) {
-                    serverName = args[0];
-                    exceptionMeasage = args[2];
-                } else {
-                    serverName = null;
-                    exceptionMeasage = null;
-                }
-                // Store task result into job task object
-                boolean notifyError = false;
-                synchronized (job.version) {
-                    switch (newState) {
-                    case COMPLETED:
-                        // Breaks only for true result. False result
-                        // is handeld by FAILED case.
-                        if (verifyResult()) {
-                            job.version.setResult(
-                                    new StatusResultVersion(
-                                            taskResult,
-                                            GlassFishStatusCheckResult.SUCCESS,
-                                            event));
-                            break;
-                        }
-                    case FAILED:
-                        job.version.setResult(
-                                new StatusResultVersion(taskResult,
-                                        GlassFishStatusCheckResult.FAILED,
-                                        event));
-                        notifyError = true;
-                        break;
-                    }
-                }
-                LOGGER.log(Level.FINE, METHOD, "result",
-                        job.version.getResult().status.toString());
-                if (notifyError) {
-                    synchronized (job) {
-                        job.notifyErrorListeners(job.version);
-                    }
-                }
-                commandTransition(job, job.version);
-            }
-        }
-
-    }
-
-    /**
-     * Administrator port check task state listener.
-     */
-    static class ListenerPortCheck extends Listener {
-
-        /** Logger instance for this class. */
-        private static final Logger LOGGER = new Logger(ListenerPortCheck.class);
-
-        /**
-         * Constructs an instance of <code>version</code> command execution state listener.
-         * <p/>
-         *
-         * @param job Server status check internal data for individual GlassFish server instance.
-         */
-        private ListenerPortCheck(final StatusJob job) {
-            super(job);
-        }
-
-        /**
-         * Get notification about state change in running task.
-         * <p/>
-         * This is being called in {@link Runnable#run()} method execution context.
-         * <p/>
-         * <code>String</codce> arguments passed to state listener:<ul>
-         *   <li><code>args[0]</code> host name</li>
-         * <li><code>args[1]</code> port check task name</li>
-         * <li><code>args[2]</code> exception message</li>
-         * <p/>
-         *
-         * @param newState New command execution state.
-         * @param event Event related to execution state change.
-         * @param args Additional String arguments.
-         */
-        @Override
-        public void operationStateChanged(final TaskState newState,
-                final TaskEvent event, final String... args) {
-            final String METHOD = "operationStateChanged";
-            // Store task result into job task object
-            AdminPortTask task = (AdminPortTask) job.portCheck.getTask();
-            job.portCheck.setResult(task.getResult());
-            LOGGER.log(Level.FINE, METHOD, "result",
-                    job.portCheck.getResult().status.toString());
-            // Evaluate taks result
-            portCheckTransition(job, job.portCheck);
-        }
-
-    }
-
-    /**
-     * Individual status check task data.
-     */
-    static class Task implements GlassFishStatusTask {
-
-        /**
-         * Server status task execution listener for asynchronous command execution.
-         */
-        private Listener listener;
-
-        /** Last command task execution result. */
-        StatusResult result;
-
-        /** Task thread currently being executed. */
-        AbstractTask task;
-
-        /** Task execution handler. */
-        private ScheduledFuture future;
-
-        /** All task listeners. */
-        private TaskStateListener[] listeners;
-
-        /** Server status check type. */
-        private final GlassFishStatusCheck type;
-
-        /**
-         * Constructs an instance of individual job task.
-         * <p/>
-         *
-         * @param type Server status check type.
-         * @param listener Server status task execution listener for asynchronous command execution.
-         */
-        private Task(final GlassFishStatusCheck type,
-                final Listener listener) {
-            this.listener = listener;
-            this.type = type;
-            this.result = null;
-            this.task = null;
-            this.future = null;
-            this.listeners = new TaskStateListener[] { listener };
-        }
-
-        /**
-         * Get server status task execution listener for asynchronous command execution.
-         * <p/>
-         *
-         * @return Server status task execution listener for asynchronous command execution.
-         */
-        Listener getListener() {
-            return listener;
+        public void newState(final PayaraServer server,
+                final GlassFishStatus status, final GlassFishStatusTask task) {
         }
 
         /**
-         * Set server status task execution listener for asynchronous command execution.
+         * Pass server status check failure to job error listeners.
          * <p/>
          *
-         * @param listener Server status task execution listener for asynchronous command execution.
-         */
-        void setListener(final Listener listener) {
-            this.listener = listener;
-        }
-
-        /**
-         * Get server status check type.
-         * <p/>
-         *
-         * @return Server status check type.
+         * @param server GlassFish server instance being monitored.
+         * @param task GlassFish server status check task details.
          */
         @Override
-        public GlassFishStatusCheck getType() {
-            return type;
-        }
-
-        /**
-         * Get last command task execution result.
-         * <p/>
-         *
-         * @return Last command task execution result.
-         */
-        StatusResult getResult() {
-            return result;
-        }
-
-        /**
-         * Set last command task execution result.
-         * <p/>
-         *
-         * @param result Last command task execution result.
-         */
-        void setResult(final StatusResult result) {
-            this.result = result;
+        public void error(final PayaraServer server,
+                final GlassFishStatusTask task) {
+            notifyErrorListeners(task);
         }
 
-        /**
-         * Get last command task execution status.
-         * <p/>
-         *
-         * @return Last command task execution status.
-         */
         @Override
-        public GlassFishStatusCheckResult getStatus() {
-            return result != null ? result.status : null;
+        public void added() {
         }
 
-        /**
-         * Get last command task execution status.
-         * <p/>
-         *
-         * @return Last command task execution status.
-         */
         @Override
-        public TaskEvent getEvent() {
-            return result != null ? result.event : null;
-        }
-
-        /**
-         * Get task thread currently being executed.
-         * <p/>
-         *
-         * @return Task thread currently being executed.
-         */
-        AbstractTask getTask() {
-            return task;
-        }
-
-        /**
-         * Set task thread currently being executed.
-         * <p/>
-         *
-         * @param task Task thread currently being executed.
-         */
-        void setTask(final AbstractTask task) {
-            this.task = task;
-        }
-
-        /**
-         * Get all task listeners.
-         * <p/>
-         *
-         * @return All task listeners.
-         */
-        TaskStateListener[] getListeners() {
-            return listeners;
-        }
-
-        /**
-         * Get task execution handler.
-         * <p/>
-         *
-         * @return Task execution handler.
-         */
-        ScheduledFuture getFuture() {
-            return future;
-        }
-
-        /**
-         * Set task execution handler.
-         * <p/>
-         *
-         * @param future Task execution handler.
-         */
-        void setFuture(final ScheduledFuture future) {
-            this.future = future;
-        }
-
-        /**
-         * Set task execution handler and thread currently being executed.
-         * <p/>
-         *
-         * @param task Task thread currently being executed.
-         * @param future Task execution handler.
-         */
-        void setTaskFuture(final AbstractTask task,
-                final ScheduledFuture future) {
-            this.task = task;
-            this.future = future;
-        }
-
-        /**
-         * Clear task execution handler and thread currently being executed.
-         */
-        void clearTaskFuture() {
-            this.task = null;
-            this.future = null;
-        }
-
-        /**
-         * Evaluate task execution result.
-         * <p/>
-         * Task will fail only when task is scheduled for execution (<code>task</code> value is not null)
-         * and stored task result is <code>FAILED</code> or does not exist.
-         * <p/>
-         *
-         * @return Task execution result evaluation.
-         */
-        GlassFishStatusCheckResult evalResult() {
-            return task == null
-                    ? GlassFishStatusCheckResult.SUCCESS
-                    : result == null
-                            ? GlassFishStatusCheckResult.FAILED
-                            : result.status;
-        }
-
-    }
-
-    /**
-     * Individual administrator command status check task data.
-     */
-    static class RunnerTask extends Task {
-
-        /** Server administration command to be executed. */
-        private final Command command;
-
-        /**
-         * Constructs an instance of individual job runner task.
-         * <p/>
-         *
-         * @param type Server status check type.
-         * @param cmd Server administration command to be executed.
-         * @param listener Server status task execution listener for asynchronous command execution.
-         */
-        private RunnerTask(final GlassFishStatusCheck type,
-                final Command cmd, final Listener listener) {
-            super(type, listener);
-            this.command = cmd;
-        }
-
-        /**
-         * Get server administration command to be executed.
-         * <p/>
-         *
-         * @return Server administration command to be executed.
-         */
-        Command getCommand() {
-            return command;
-        }
-
-    }
-
-    /**
-     * Individual administrator command status check task data using <code>version</code> command.
-     */
-    static class RunnerTaskLocations extends RunnerTask {
-
-        /**
-         * Constructs an instance of individual job runner task running <code>__locations</code> command.
-         * <p/>
-         *
-         * @param listener Server status task execution listener for asynchronous command execution.
-         */
-        private RunnerTaskLocations(final Listener listener) {
-            super(GlassFishStatusCheck.LOCATIONS,
-                    new CommandLocation(), listener);
-        }
-
-    }
-
-    /**
-     * Individual administrator command status check task data using <code>version</code> command.
-     */
-    static class RunnerTaskVersion extends RunnerTask {
-
-        /**
-         * Constructs an instance of individual job runner task running <code>version</code> command.
-         * <p/>
-         *
-         * @param listener Server status task execution listener for asynchronous command execution.
-         */
-        private RunnerTaskVersion(final Listener listener) {
-            super(GlassFishStatusCheck.VERSION,
-                    new CommandVersion(), listener);
+        public void removed() {
         }
 
     }
@@ -656,125 +113,44 @@ public class StatusJob {
     /** Logger instance for this class. */
     private static final Logger LOGGER = new Logger(StatusJob.class);
 
-    /** State transition depending on administrator port check result . */
-    private static final StatusJobState[][] portCheckTransition = {
-            // SUCCESS FAILED
-            { NO_CHECK, NO_CHECK }, // NO_CHECK
-            { UNKNOWN_PORT, OFFLINE }, // UNKNOWN
-            { UNKNOWN_PORT, OFFLINE }, // UNKNOWN_PORT
-            { OFFLINE_PORT, OFFLINE }, // OFFLINE
-            { OFFLINE_PORT, OFFLINE }, // OFFLINE_PORT
-            { STARTUP_PORT, STARTUP }, // STARTUP
-            { STARTUP_PORT, OFFLINE }, // STARTUP_PORT
-            { ONLINE, OFFLINE_PORT }, // ONLINE
-            { SHUTDOWN, SHUTDOWN_PORT }, // SHUTDOWN
-            { SHUTDOWN_PORT, OFFLINE } // SHUTDOWN_PORT
-    };
-
-    /** State transition depending on administrator command execution result. */
-    private static final StatusJobState[][] commandTransition = {
-            // SUCCESS FAILED
-            { NO_CHECK, NO_CHECK }, // NO_CHECK
-            { ONLINE, UNKNOWN }, // UNKNOWN
-            { ONLINE, OFFLINE }, // UNKNOWN_PORT
-            { ONLINE, OFFLINE }, // OFFLINE
-            { ONLINE, OFFLINE_PORT }, // OFFLINE_PORT
-            { ONLINE, STARTUP }, // STARTUP
-            { ONLINE, STARTUP_PORT }, // STARTUP_PORT
-            { ONLINE, OFFLINE_PORT }, // ONLINE
-            { SHUTDOWN, SHUTDOWN_PORT }, // SHUTDOWN
-            { SHUTDOWN, SHUTDOWN_PORT } // SHUTDOWN_PORT
-    };
-
     ////////////////////////////////////////////////////////////////////////////
     // Static methods //
     ////////////////////////////////////////////////////////////////////////////
 
     /**
-     * Evaluate check result depending on running tasks and their result.
+     * Evaluate job internal state for server status reported by server status monitor.
      * <p/>
-     *
-     * @param job Server status job.
-     * @return Check result depending on running tasks and their result.
-     */
-    private static GlassFishStatusCheckResult checkResult(final StatusJob job) {
-        return GlassFishStatusCheckResult.and(job.portCheck.evalResult(),
-                job.version.evalResult(), job.locations.evalResult());
-    }
-
-    /**
-     * Handles state transition and server status check tasks reschedule for administrator port check
-     * result evaluation.
+     * Startup and shutdown modes are left only when server status monitor confirms server being
+     * online or offline.
      * <p/>
      *
-     * @param job Server status job.
-     * @param task GlassFish server status check task details.
-     */
-    private static void portCheckTransition(
-            final StatusJob job, final GlassFishStatusTask task) {
-        final String METHOD = "portCheckTransition";
-        GlassFishStatus oldState;
-        GlassFishStatus newState;
-        synchronized (job) {
-            StatusJobState oldInternalState = job.state;
-            oldState = job.status.getStatus();
-            job.state = portCheckTransition[job.state.ordinal()][job.portCheck.result.status.ordinal()];
-            LOGGER.log(Level.FINE, METHOD, "transition",
-                    new String[] { job.portCheck.result.status.toString(),
-                            oldInternalState.toString(), job.state.toString() });
-            if (oldInternalState != job.state) {
-                StatusScheduler scheduler = StatusScheduler.getInstance();
-                scheduler.remove(job);
-                scheduler.reschedule(job);
-            }
-            newState = job.state.toGlassFishStatus();
-            if (oldState != newState) {
-                job.status.setStatus(newState);
-            }
-        }
-        if (job.portCheck.result.status == GlassFishStatusCheckResult.FAILED) {
-            job.notifyErrorListeners(job.portCheck);
-        }
-        if (oldState != newState) {
-            job.notifyNewStatusListeners(job.status.getStatus(), task);
-        }
-        job.notifyCurrStatusListeners(job.status.getStatus(), task);
-    }
-
-    /**
-     * Handles state transition and server status check tasks reschedule for administrator command
-     * execution result evaluation.
-     * <p/>
-     *
-     * @param job Server status job.
-     * @param task GlassFish server status check task details.
-     */
-    private static void commandTransition(
-            final StatusJob job, final GlassFishStatusTask task) {
-        final String METHOD = "commandLocationsTransition";
-        GlassFishStatusCheckResult status = checkResult(job);
-        GlassFishStatus oldState;
-        GlassFishStatus newState;
-        synchronized (job) {
-            StatusJobState oldInternalState = job.state;
-            oldState = job.status.getStatus();
-            job.state = commandTransition[job.state.ordinal()][status.ordinal()];
-            LOGGER.log(Level.FINE, METHOD, "transition",
-                    new String[] { status.toString(), oldInternalState.toString(), job.state.toString() });
-            if (oldInternalState != job.state) {
-                StatusScheduler scheduler = StatusScheduler.getInstance();
-                scheduler.remove(job);
-                scheduler.reschedule(job);
-            }
-            newState = job.state.toGlassFishStatus();
-            if (oldState != newState) {
-                job.status.setStatus(newState);
+     * @param state Current job internal state.
+     * @param status Server status reported by server status monitor.
+     * @return New job internal state.
+     */
+    private static StatusJobState transition(
+            final StatusJobState state, final GlassFishStatus status) {
+        switch (state) {
+        case NO_CHECK:
+            return NO_CHECK;
+        case STARTUP:
+            return status == GlassFishStatus.ONLINE ? ONLINE : STARTUP;
+        case SHUTDOWN:
+            return status == GlassFishStatus.OFFLINE ? OFFLINE : SHUTDOWN;
+        default:
+            switch (status) {
+            case OFFLINE:
+                return OFFLINE;
+            case STARTUP:
+                return STARTUP;
+            case ONLINE:
+                return ONLINE;
+            case SHUTDOWN:
+                return SHUTDOWN;
+            default:
+                return UNKNOWN;
             }
         }
-        if (oldState != newState) {
-            job.notifyNewStatusListeners(job.status.getStatus(), task);
-        }
-        job.notifyCurrStatusListeners(job.status.getStatus(), task);
     }
 
     ////////////////////////////////////////////////////////////////////////////
@@ -787,14 +163,11 @@ public class StatusJob {
     /** Server status job internal state. */
     private StatusJobState state;
 
-    /** Administrator port check asynchronous task. */
-    private final Task portCheck;
+    /** Shared server status monitor while the job is attached to it. */
+    private ServerStatusMonitor monitor;
 
-    /** Command <code>__locations</code> asynchronous task. */
-    private final RunnerTask locations;
-
-    /** Command <code>version</code> asynchronous task. */
-    private final RunnerTask version;
+    /** Server status monitor listener feeding monitor results into the job. */
+    private final MonitorListener monitorListener;
 
     /** Listeners to be notified about server status change. */
     private final LinkedList<GlassFishStatusListener>[] newStatusListeners;
@@ -818,10 +191,8 @@ public class StatusJob {
     StatusJob(final GlassFishStatusEntity status) {
         this.status = status;
         state = StatusJobState.UNKNOWN;
-        portCheck = new Task(
-                GlassFishStatusCheck.PORT, new ListenerPortCheck(this));
-        locations = new RunnerTaskLocations(new ListenerLocations(this));
-        version = new RunnerTaskVersion(new ListenerVersion(this));
+        monitor = null;
+        monitorListener = new MonitorListener();
         newStatusListeners = new LinkedList[GlassFishStatus.length];
         for (int i = 0; i < GlassFishStatus.length; i++) {
             newStatusListeners[i] = new LinkedList<>();
@@ -864,67 +235,115 @@ public class StatusJob {
         this.state = state;
     }
 
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods //
+    ////////////////////////////////////////////////////////////////////////////
+
     /**
-     * Get administrator port check asynchronous task.
+     * Subscribe job to shared server status monitor and start monitoring.
      * <p/>
-     *
-     * @return Administrator port check asynchronous task.
+     * Caller must own <code>job</code> lock.
      */
-    Task getPortCheck() {
-        return portCheck;
+    private void attach() {
+        if (monitor == null) {
+            monitor = ServerStatusMonitor.getInstance(status.getServer());
+            monitor.registerStatusListener(monitorListener);
+            monitor.start();
+        }
     }
 
     /**
-     * Get command <code>__locations</code> asynchronous task.
+     * Unsubscribe job from shared server status monitor. Monitoring stops when no other user of the
+     * monitor is left.
      * <p/>
-     *
-     * @return Command <code>__locations</code> asynchronous task.
+     * Caller must own <code>job</code> lock.
      */
-    RunnerTask getLocations() {
-        return locations;
+    private void detach() {
+        if (monitor != null) {
+            monitor.removeStatusListener(monitorListener);
+            monitor.stop();
+            monitor = null;
+        }
     }
 
     /**
-     * Get command <code>version</code> asynchronous task.
+     * Handles state transition for server status check result of shared server status monitor.
      * <p/>
      *
-     * @return Command <code>version</code> asynchronous task.
+     * @param newStatus Server status reported by server status monitor.
+     * @param task GlassFish server status check task details.
+     */
+    private void checkTransition(final GlassFishStatus newStatus,
+            final GlassFishStatusTask task) {
+        final String METHOD = "checkTransition";
+        GlassFishStatus oldState;
+        GlassFishStatus newState;
+        synchronized (this) {
+            if (monitor == null) {
+                return;
+            }
+            StatusJobState oldInternalState = state;
+            oldState = status.getStatus();
+            state = transition(state, newStatus);
+            LOGGER.log(Level.FINE, METHOD, "transition",
+                    new String[] { newStatus.toString(),
+                            oldInternalState.toString(), state.toString() });
+            newState = state.toGlassFishStatus();
+            if (oldState != newState) {
+                status.setStatus(newState);
+            }
+        }
+        if (oldState != newState) {
+            notifyNewStatusListeners(newState, task);
+        }
+        notifyCurrStatusListeners(newState, task);
+    }
+
+    /**
+     * Start job in <code>UNKNOWN</code> state.
+     * <p/>
+     * Called by job tasks scheduler for newly registered job.
      */
-    RunnerTask getVersion() {
-        return version;
+    void scheduleNew() {
+        synchronized (this) {
+            attach();
+        }
     }
 
-    ////////////////////////////////////////////////////////////////////////////
-    // Methods //
-    ////////////////////////////////////////////////////////////////////////////
+    /**
+     * Remove job from shared server status monitor.
+     * <p/>
+     * Called by job tasks scheduler for unregistered job.
+     */
+    void remove() {
+        synchronized (this) {
+            detach();
+        }
+    }
 
     /**
-     * Attempts to restart job switching it into <code>UNKNOWN_PORT</code> state to restart status
-     * checking with fastest possible check.
+     * Attempts to restart job switching it into <code>UNKNOWN</code> state to restart status
+     * checking.
      * <p/>
-     * Job can be switched into <code>UNKNOWN_PORT</code> state only when it's in <code>NO_CHECK</code>
-     * state. This is equivalent to state transition methods. If listener is provided, it will be
-     * registered to receive any state change notification following status checking restart. This
-     * listener won't be unregistered automatically so caller should handle it properly.
+     * Job can be restarted only when it's in <code>NO_CHECK</code> state. This is equivalent to state
+     * transition methods. If listener is provided, it will be registered to receive any state change
+     * notification following status checking restart. This listener won't be unregistered
+     * automatically so caller should handle it properly.
      * <p/>
      * Called by job tasks scheduler.
      * <p/>
      *
-     * @param scheduler Job tasks scheduler calling this method.
      * @param listener Server status listener to be registered when status checking is being restarted.
-     * @return Value of <code>true</code> when job was successfully switched into startup mode or false
-     * otherwise.
+     * @return Value of <code>true</code> when job was successfully restarted or false otherwise.
      */
-    boolean restartJob(final StatusScheduler scheduler,
-            final GlassFishStatusListener listener) {
+    boolean restartJob(final GlassFishStatusListener listener) {
         boolean result;
         synchronized (this) {
             switch (state) {
             case NO_CHECK:
-                state = UNKNOWN_PORT;
+                state = UNKNOWN;
                 status.setStatus(state.toGlassFishStatus());
-                scheduler.remove(this);
-                scheduler.reschedule(this);
+                attach();
                 result = true;
                 if (listener != null) {
                     addNewStatusListener(listener, GlassFishStatus.values());
@@ -944,17 +363,13 @@ public class StatusJob {
      * transition methods.
      * <p/>
      * Called by job tasks scheduler.
-     * <p/>
-     *
-     * @param scheduler Job tasks scheduler calling this method.
      */
-    void stopJob(StatusScheduler scheduler) {
+    void stopJob() {
         synchronized (this) {
             GlassFishStatus oldStatus = state.toGlassFishStatus();
             state = NO_CHECK;
             status.setStatus(state.toGlassFishStatus());
-            scheduler.remove(this);
-            scheduler.reschedule(this);
+            detach();
             if (oldStatus != status.getStatus()) {
                 notifyNewStatusListeners(status.getStatus(), null);
             }
@@ -965,19 +380,16 @@ public class StatusJob {
      * Switches job into <code>STARTUP</code> state.
      * <p/>
      *
-     * @param scheduler Job tasks scheduler calling this method.
      * @param listener Server status listener to be registered together with switching into startup
      * mode.
      * @param newState Notify about server status change for new states provided as this argument.
      */
-    private void startStateImpl(StatusScheduler scheduler,
-            final GlassFishStatusListener listener,
+    private void startStateImpl(final GlassFishStatusListener listener,
             final GlassFishStatus... newState) {
         GlassFishStatus oldStatus = status.getStatus();
         state = STARTUP;
         status.setStatus(state.toGlassFishStatus());
-        scheduler.remove(this);
-        scheduler.reschedule(this);
+        attach();
         if (oldStatus != status.getStatus()) {
             notifyNewStatusListeners(status.getStatus(), null);
         }
@@ -989,13 +401,12 @@ public class StatusJob {
     /**
      * Attempts to switch job into <code>STARTUP</code> state.
      * <p/>
-     * Job can be switched into <code>STARTUP</code> state only when it's in <code>OFFLINE</code> or
-     * <code>OFFLINE_PORT</code> state. This is equivalent to state transition methods.
+     * Job can be switched into <code>STARTUP</code> state only when it's in <code>OFFLINE</code> state.
+     * This is equivalent to state transition methods.
      * <p/>
      * Called by job tasks scheduler.
      * <p/>
      *
-     * @param scheduler Job tasks scheduler calling this method.
      * @param force Force startup mode for GlassFish server instance from any state then
      * <code>true</code>.
      * @param listener Server status listener to be registered together with switching into startup
@@ -1004,15 +415,14 @@ public class StatusJob {
      * @return Value of <code>true</code> when job was successfully switched into startup mode or false
      * otherwise.
      */
-    boolean startState(StatusScheduler scheduler, final boolean force,
+    boolean startState(final boolean force,
             final GlassFishStatusListener listener,
             final GlassFishStatus... newState) {
         boolean result;
         synchronized (this) {
             switch (state) {
             case OFFLINE:
-            case OFFLINE_PORT:
-                startStateImpl(scheduler, listener, newState);
+                startStateImpl(listener, newState);
                 result = true;
                 break;
             case STARTUP:
@@ -1020,7 +430,7 @@ public class StatusJob {
                 break;
             default:
                 if (force) {
-                    startStateImpl(scheduler, listener, newState);
+                    startStateImpl(listener, newState);
                     result = true;
                 } else {
                     result = false;
@@ -1039,19 +449,16 @@ public class StatusJob {
      * Called by job tasks scheduler.
      * <p/>
      *
-     * @param scheduler Job tasks scheduler calling this method.
      * @return Value of <code>true</code> when job was successfully switched into shutdown mode or false
      * otherwise.
      */
-    boolean shutdownState(StatusScheduler scheduler) {
+    boolean shutdownState() {
         boolean result;
         synchronized (this) {
             switch (state) {
             case ONLINE:
                 state = SHUTDOWN;
                 status.setStatus(state.toGlassFishStatus());
-                scheduler.remove(this);
-                scheduler.reschedule(this);
                 result = true;
                 notifyNewStatusListeners(status.getStatus(), null);
                 break;
@@ -1062,20 +469,6 @@ public class StatusJob {
         return result;
     }
 
-    /**
-     * Initial server status task schedule.
-     * <p/>
-     * Called by job tasks scheduler.
-     * <p/>
-     *
-     * @param scheduler Job tasks scheduler calling this method.
-     */
-    void scheduleNew(StatusScheduler scheduler) {
-        synchronized (this) {
-            scheduler.scheduleNew(this);
-        }
-    }
-
     /**
      * Notify server status change listeners about state change.
      * <p/>
@@ -22,20 +22,20 @@ import static org.eclipse.payara.tools.sdk.server.state.StatusJobState.NO_CHECK;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
 
+import org.eclipse.payara.tools.internal.ServerStatusMonitor;
 import org.eclipse.payara.tools.sdk.GlassFishStatus;
 import org.eclipse.payara.tools.sdk.GlassFishStatusListener;
 import org.eclipse.payara.tools.sdk.data.GlassFishServerStatus;
-import org.eclipse.payara.tools.sdk.data.GlassFishStatusCheck;
-import org.eclipse.payara.tools.sdk.logging.Logger;
 import org.eclipse.payara.tools.server.PayaraServer;
 
 /**
- * Thread responsible for processing all server status checks and updating server status entity
- * objects with current server status.
+ * Registry of server status jobs and owner of the timer all server status checks are scheduled on.
+ * <p/>
+ * Status of every server is checked by its shared {@link ServerStatusMonitor}. Registered jobs
+ * subscribe to that monitor and keep server status entity objects and status listeners of this API
+ * up to date, so the SDK and the server behaviour see the same state machine.
  * <p/>
  *
  * @author Tomas Kraus
@@ -96,9 +96,6 @@ public class StatusScheduler {
     // Class attributes //
     ////////////////////////////////////////////////////////////////////////////
 
-    /** Logger instance for this class. */
-    private static final Logger LOGGER = new Logger(StatusScheduler.class);
-
     /** External executor instance. */
     private static ScheduledThreadPoolExecutor scheduledExecutor;
 
@@ -111,21 +108,6 @@ public class StatusScheduler {
      */
     private static final int DEFAULT_INTERNAL_CORE_POOL_SIZE = 3;
 
-    /** Tasks execution delay [ms]. */
-    private static final long DELAY = 6000;
-
-    /** Tasks execution initial delay [ms]. */
-    private static final long INITIAL_DELAY = 2000;
-
-    /** Tasks execution delay in startup mode [ms]. */
-    private static final long DELAY_STARTUP = 3000;
-
-    /** Tasks execution initial delay in startup mode [ms]. */
-    private static final long INITIAL_DELAY_STARTUP = 1000;
-
-    /** Administration port connect timeout [ms]. */
-    private static final int CONNECT_TIMEOUT = 5000;
-
     ////////////////////////////////////////////////////////////////////////////
     // Static methods //
     ////////////////////////////////////////////////////////////////////////////
@@ -183,41 +165,17 @@ public class StatusScheduler {
     }
 
     /**
-     * Select tasks execution delay depending on current job internal state.
+     * Get executor used to time server status checks.
      * <p/>
-     *
-     * @param state Current job internal state.
-     * @return Tasks execution delay.
-     */
-    private static long selectDelay(final StatusJobState state) {
-        switch (state) {
-        case STARTUP:
-        case STARTUP_PORT:
-        case SHUTDOWN:
-        case SHUTDOWN_PORT:
-            return DELAY_STARTUP;
-        default:
-            return DELAY;
-        }
-    }
-
-    /**
-     * Select tasks execution initial delay depending on current job internal state.
+     * Server status monitors schedule their checks on this executor so all status checks share single
+     * timer. Its thread pool is small, so checks which may block on the network are only triggered by
+     * it and run elsewhere.
      * <p/>
      *
-     * @param state Current job internal state.
-     * @return Tasks execution initial delay.
+     * @return Executor used to time server status checks.
      */
-    private static long selectInitialDelay(final StatusJobState state) {
-        switch (state) {
-        case STARTUP:
-        case STARTUP_PORT:
-        case SHUTDOWN:
-        case SHUTDOWN_PORT:
-            return INITIAL_DELAY_STARTUP;
-        default:
-            return INITIAL_DELAY;
-        }
+    public static ScheduledThreadPoolExecutor getExecutor() {
+        return getInstance().executor;
     }
 
     ////////////////////////////////////////////////////////////////////////////
@@ -284,7 +242,7 @@ public class StatusScheduler {
         StatusJob job = getJob(srv);
         if (job != null) {
             if (job.getState() == NO_CHECK) {
-                job.restartJob(this, listener);
+                job.restartJob(listener);
             }
             return job.getStatus();
         }
@@ -309,7 +267,7 @@ public class StatusScheduler {
             final GlassFishStatus... newState) {
         StatusJob job = getJob(srv);
         return job != null
-                ? job.startState(this, force, listener, newState)
+                ? job.startState(force, listener, newState)
                 : false;
     }
 
@@ -323,7 +281,7 @@ public class StatusScheduler {
      */
     public boolean shutdown(final PayaraServer srv) {
         StatusJob job = getJob(srv);
-        return job != null ? job.shutdownState(this) : false;
+        return job != null ? job.shutdownState() : false;
     }
 
     /**
@@ -345,7 +303,7 @@ public class StatusScheduler {
         StatusJob job = new StatusJob(status);
         job.addStatusListener(listener, currentState, newState);
         if (result = addJob(job)) {
-            job.scheduleNew(this);
+            job.scheduleNew();
         }
         return result;
     }
@@ -362,7 +320,7 @@ public class StatusScheduler {
         boolean result;
         StatusJob job = new StatusJob(status);
         if (result = addJob(job)) {
-            job.scheduleNew(this);
+            job.scheduleNew();
         }
         return result;
     }
@@ -379,7 +337,7 @@ public class StatusScheduler {
     public boolean remove(final PayaraServer srv) {
         StatusJob job = removeJob(srv);
         if (job != null) {
-            remove(job);
+            job.remove();
         }
         return job != null;
     }
@@ -397,7 +355,7 @@ public class StatusScheduler {
         if (job == null) {
             return false;
         } else {
-            job.stopJob(this);
+            job.stopJob();
             return true;
         }
     }
@@ -455,330 +413,4 @@ public class StatusScheduler {
         return job;
     }
 
-    /**
-     * Schedule periodic execution of <code>__locations</code> asynchronous task.
-     * <p/>
-     * Caller must own <code>job</code> lock.
-     * <p/>
-     *
-     * @param job Server status check job internal data.
-     * @param initialDelay Task execution initial delay.
-     */
-    private ScheduledFuture scheduleLocationsTask(
-            final StatusJob job, final long initialDelay) {
-        RunnerTask runnerTask = new RunnerTask(job,
-                job.getLocations(), GlassFishStatusCheck.LOCATIONS);
-        long delay = selectDelay(job.getState());
-        ScheduledFuture scheduledFuture = executor.scheduleWithFixedDelay(
-                runnerTask, initialDelay, delay, TimeUnit.MILLISECONDS);
-        job.getLocations().setTaskFuture(runnerTask, scheduledFuture);
-        return scheduledFuture;
-    }
-
-    /**
-     * Schedule periodic execution of <code>version</code> asynchronous task.
-     * <p/>
-     * Caller must own <code>job</code> lock.
-     * <p/>
-     *
-     * @param job Server status check job internal data.
-     * @param initialDelay Task execution initial delay.
-     */
-    private ScheduledFuture scheduleVersionTask(
-            final StatusJob job, final long initialDelay) {
-        RunnerTask runnerTask = new RunnerTask(job,
-                job.getVersion(), GlassFishStatusCheck.VERSION);
-        long delay = selectDelay(job.getState());
-        ScheduledFuture scheduledFuture = executor.scheduleWithFixedDelay(
-                runnerTask, initialDelay, delay, TimeUnit.MILLISECONDS);
-        job.getVersion().setTaskFuture(runnerTask, scheduledFuture);
-        return scheduledFuture;
-    }
-
-    /**
-     * Schedule periodic execution of <code>__locations</code> asynchronous task.
-     * <p/>
-     * Caller must own <code>job</code> lock.
-     * <p/>
-     *
-     * @param job Server status check job internal data.
-     */
-    private ScheduledFuture scheduleLocationsTask(final StatusJob job) {
-        long initialDelay = selectInitialDelay(job.getState());
-        return scheduleLocationsTask(job, initialDelay);
-    }
-
-    /**
-     * Schedule periodic execution of <code>version</code> asynchronous task.
-     * <p/>
-     * Caller must own <code>job</code> lock.
-     * <p/>
-     *
-     * @param job Server status check job internal data.
-     */
-    private ScheduledFuture scheduleVersionTask(final StatusJob job) {
-        long initialDelay = selectInitialDelay(job.getState());
-        return scheduleVersionTask(job, initialDelay);
-    }
-
-    /**
-     * Schedule periodic execution of port check asynchronous task.
-     * <p/>
-     * Caller must own <code>job</code> lock.
-     * <p/>
-     *
-     * @param job Server status check job internal data.
-     */
-    private ScheduledFuture scheduleAdminPortTask(final StatusJob job) {
-        AdminPortTask portTask = new AdminPortTask(job,
-                job.getPortCheck(), CONNECT_TIMEOUT);
-        long delay = selectDelay(job.getState());
-        long initialDelay = selectInitialDelay(job.getState());
-        ScheduledFuture scheduledFuture = executor.scheduleWithFixedDelay(
-                portTask, initialDelay, delay, TimeUnit.MILLISECONDS);
-        job.getPortCheck().setTaskFuture(portTask, scheduledFuture);
-        return scheduledFuture;
-    }
-
-    /**
-     * Cancel execution of scheduled job task.
-     * <p/>
-     *
-     * @param task Individual status check task data.
-     */
-    void cancel(final StatusJob.Task task) {
-        ScheduledFuture future = task.getFuture();
-        if (future != null) {
-            future.cancel(true);
-        }
-        AbstractTask runnable = task.getTask();
-        if (runnable != null) {
-            runnable.cancel();
-            executor.remove(runnable);
-        }
-        task.clearTaskFuture();
-    }
-
-    /**
-     * Administrator port only check for states where we do not expect server to be fully responding.
-     * <p/>
-     * Caller must own <code>job</code> lock.
-     * <p/>
-     *
-     * @param job Server status check job internal data.
-     */
-    private void portCheckOnly(final StatusJob job) {
-        scheduleAdminPortTask(job);
-        job.getVersion().clearTaskFuture();
-        job.getLocations().clearTaskFuture();
-    }
-
-    /**
-     * All checks at once when we need full result ASAP.
-     * <p/>
-     * Local check does not need version. Locations is enough to see if server is running from
-     * registered installation directory and domain.
-     * <p/>
-     * Caller must own <code>job</code> lock.
-     * <p/>
-     *
-     * @param job Server status check job internal data.
-     */
-    private void localChecksAtOnce(final StatusJob job) {
-        scheduleAdminPortTask(job);
-        scheduleLocationsTask(job);
-        job.getVersion().clearTaskFuture();
-    }
-
-    /**
-     * All checks step by step when server state is stable and we have to run all checks.
-     * <p/>
-     * Local check does not need version. Locations is enough to see if server is running from
-     * registered installation directory and domain.
-     * <p/>
-     * Caller must own <code>job</code> lock.
-     * <p/>
-     *
-     * @param job Server status check job internal data.
-     */
-    private void localChecksStepByStep(final StatusJob job) {
-        long delay = selectDelay(job.getState());
-        long initialDelay = selectInitialDelay(job.getState());
-        scheduleAdminPortTask(job);
-        scheduleLocationsTask(job, initialDelay + delay / 2);
-        job.getVersion().clearTaskFuture();
-    }
-
-    /**
-     * Checks for local server when in stable online state.
-     * <p/>
-     * Local check does not need version. Locations is enough to see if server is running from
-     * registered installation directory and domain.
-     * <p/>
-     * Caller must own <code>job</code> lock.
-     * <p/>
-     *
-     * @param job Server status check job internal data.
-     */
-    private void localChecksCommand(final StatusJob job) {
-        long initialDelay = selectInitialDelay(job.getState());
-        scheduleLocationsTask(job, initialDelay);
-        job.getPortCheck().clearTaskFuture();
-        job.getVersion().clearTaskFuture();
-    }
-
-    /**
-     * Checks for remote server at once when we need full result ASAP.
-     * <p/>
-     * Locations task makes no sense for remote server because there is no way to verify registered
-     * installation directory and domain. We can at least check server version. Caller must own
-     * <code>job</code> lock.
-     * <p/>
-     *
-     * @param job Server status check job internal data.
-     */
-    private void remoteChecksAtOnce(final StatusJob job) {
-        scheduleAdminPortTask(job);
-        scheduleVersionTask(job);
-        job.getLocations().clearTaskFuture();
-
-    }
-
-    /**
-     * Checks for remote server step by step when server state is stable and we have to run all checks.
-     * <p/>
-     * Locations task makes no sense for remote server because there is no way to verify registered
-     * installation directory and domain. We can at least check server version.
-     * <p/>
-     * Caller must own <code>job</code> lock.
-     * <p/>
-     *
-     * @param job Server status check job internal data.
-     */
-    private void remoteChecksStepByStep(final StatusJob job) {
-        long delay = selectDelay(job.getState());
-        long initialDelay = selectInitialDelay(job.getState());
-        scheduleAdminPortTask(job);
-        scheduleVersionTask(job, initialDelay + delay / 2);
-        job.getLocations().clearTaskFuture();
-    }
-
-    /**
-     * Checks for remote server when in stable online state.
-     * <p/>
-     * Locations task makes no sense for remote server because there is no way to verify registered
-     * installation directory and domain. We can at least check server version.
-     * <p/>
-     * Caller must own <code>job</code> lock.
-     * <p/>
-     *
-     * @param job Server status check job internal data.
-     */
-    private void remoteChecksCommand(final StatusJob job) {
-        long initialDelay = selectInitialDelay(job.getState());
-        scheduleVersionTask(job, initialDelay);
-        job.getPortCheck().clearTaskFuture();
-        job.getLocations().clearTaskFuture();
-    }
-
-    /**
-     * Do not run any check.
-     * <p/>
-     * Caller must own <code>job</code> lock.
-     * <p/>
-     *
-     * @param job Server status check job internal data.
-     */
-    private void noChecks(final StatusJob job) {
-        job.getPortCheck().clearTaskFuture();
-        job.getLocations().clearTaskFuture();
-        job.getVersion().clearTaskFuture();
-
-    }
-
-    /**
-     * Remove all scheduled tasks from executor.
-     * <p/>
-     * Caller must own <code>job</code> lock.
-     */
-    void remove(final StatusJob job) {
-        cancel(job.getPortCheck());
-        cancel(job.getVersion());
-        cancel(job.getLocations());
-        executor.purge();
-    }
-
-    /**
-     * Schedule new server status job.
-     * <p/>
-     * Schedule tasks for newly created server status job which is still in <code>UNKNOWN</code> state.
-     * <p/>
-     * Caller must own <code>job</code> lock.
-     * <p/>
-     *
-     * @param job Server status job.
-     */
-    void scheduleNew(final StatusJob job) {
-        final String METHOD = "scheduleNew";
-        switch (job.getState()) {
-        case UNKNOWN:
-            portCheckOnly(job);
-            return;
-        default:
-            throw new IllegalStateException(
-                    LOGGER.excMsg(METHOD, "illegalState"));
-        }
-    }
-
-    /**
-     * Schedule server status job after internal state transition to follow current strategy.
-     * <p/>
-     * Schedule tasks for already existing job can be in any state except <code>UNKNOWN</code>.
-     * <p/>
-     * Caller must own <code>job</code> lock.
-     * <p/>
-     *
-     * @param job Server status job.
-     */
-    void reschedule(final StatusJob job) {
-        final String METHOD = "reschedule";
-        switch (job.getState()) {
-        case NO_CHECK:
-            noChecks(job);
-            return;
-        case OFFLINE:
-        case STARTUP:
-        case SHUTDOWN_PORT:
-        case UNKNOWN:
-            portCheckOnly(job);
-            return;
-        case ONLINE:
-            if (job.getStatus().getServer().isRemote()) {
-                remoteChecksCommand(job);
-            } else {
-                localChecksCommand(job);
-            }
-            return;
-        case SHUTDOWN:
-            if (job.getStatus().getServer().isRemote()) {
-                remoteChecksStepByStep(job);
-            } else {
-                localChecksStepByStep(job);
-            }
-            return;
-        case STARTUP_PORT:
-        case OFFLINE_PORT:
-        case UNKNOWN_PORT:
-            if (job.getStatus().getServer().isRemote()) {
-                remoteChecksAtOnce(job);
-            } else {
-                localChecksAtOnce(job);
-            }
-            return;
-        default:
-            throw new IllegalStateException(
-                    LOGGER.excMsg(METHOD, "unhandled"));
-        }
-    }
-
 }
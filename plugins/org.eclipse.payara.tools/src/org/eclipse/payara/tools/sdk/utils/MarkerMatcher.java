@@ -0,0 +1,401 @@
+/******************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.sdk.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Multiple markers matcher (Aho-Corasick automaton).
+ * <p/>
+ * Finds all occurrences of all registered markers in a single pass over the input, each input
+ * character costs single table lookup no matter how many markers are registered. Unlike
+ * {@link StringPrefixTree} which must be walked from every offset of the input, matcher state may be
+ * carried over input chunks, so markers split between chunks are found too.
+ * <p/>
+ * Automaton is built on first use after markers were added. This class is not thread safe while
+ * markers are being added, but built automaton may be shared between threads.
+ * <p/>
+ */
+public class MarkerMatcher<Type> {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Receives markers found in the input.
+     */
+    public interface MatchListener<Type> {
+
+        /**
+         * Marker was found in the input.
+         * <p/>
+         *
+         * @param value Value mapped to found marker.
+         * @param end Number of input characters up to the end of found marker.
+         * @return Value of <code>true</code> to continue matching or <code>false</code> to stop.
+         */
+        boolean matched(Type value, int end);
+
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Initial matcher state. */
+    public static final int START = 0;
+
+    /** No marker index or state. */
+    private static final int NONE = -1;
+
+    /** Number of characters with direct character class lookup. */
+    private static final int ASCII = 128;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Case sensitivity turned on (<code>true</code>) or off (<code>false</code>). All markers and input
+     * characters are compared as upper case when turned off.
+     */
+    private final boolean caseSensitive;
+
+    /** Registered markers. */
+    private final List<String> markers;
+
+    /** Values mapped to registered markers. */
+    private final List<Type> values;
+
+    /** Automaton was built from all registered markers. */
+    private boolean built;
+
+    /** Sorted characters used in markers, character class is index in this array plus one. */
+    private char[] alphabet;
+
+    /** Character classes of ASCII characters. */
+    private int[] asciiClass;
+
+    /** Number of character classes including class of characters not used in any marker. */
+    private int width;
+
+    /** Transition table indexed by <code>state * width + class</code>. */
+    private int[] delta;
+
+    /** Index of marker ending in state or {@value #NONE}. */
+    private int[] output;
+
+    /** Next state with marker ending in suffix of state or {@value #NONE}. */
+    private int[] outputLink;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates an instance of multiple markers matcher.
+     * <p/>
+     *
+     * @param caseSensitive Markers are matched case sensitive when <code>true</code>.
+     */
+    public MarkerMatcher(final boolean caseSensitive) {
+        this.caseSensitive = caseSensitive;
+        this.markers = new ArrayList<>();
+        this.values = new ArrayList<>();
+        this.built = false;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Add marker and value mapped to it.
+     * <p/>
+     * Empty or <code>null</code> marker is never matched so it is not added.
+     * <p/>
+     *
+     * @param marker Marker to be found in the input.
+     * @param value Value mapped to marker.
+     * @return Value of <code>true</code> when marker has been added or <code>false</code> when it is
+     * empty or it was already added.
+     */
+    public boolean add(final String marker, final Type value) {
+        if (marker == null || marker.isEmpty()) {
+            return false;
+        }
+        String folded = fold(marker);
+        if (markers.contains(folded)) {
+            return false;
+        }
+        markers.add(folded);
+        values.add(value);
+        built = false;
+        return true;
+    }
+
+    /**
+     * Get number of registered markers.
+     * <p/>
+     *
+     * @return Number of registered markers.
+     */
+    public int size() {
+        return markers.size();
+    }
+
+    /**
+     * Build automaton from registered markers.
+     * <p/>
+     * Called on first use after markers were added. Shall be called explicitly before the matcher is
+     * shared between threads.
+     */
+    public void build() {
+        if (built) {
+            return;
+        }
+        buildAlphabet();
+        int maxStates = 1;
+        for (String marker : markers) {
+            maxStates += marker.length();
+        }
+        int[] table = new int[maxStates * width];
+        Arrays.fill(table, NONE);
+        int[] out = new int[maxStates];
+        Arrays.fill(out, NONE);
+        // Prefix tree of markers.
+        int states = 1;
+        for (int m = 0; m < markers.size(); m++) {
+            String marker = markers.get(m);
+            int state = START;
+            for (int i = 0; i < marker.length(); i++) {
+                int index = state * width + classOf(marker.charAt(i));
+                if (table[index] == NONE) {
+                    table[index] = states++;
+                }
+                state = table[index];
+            }
+            out[state] = m;
+        }
+        // Failure transitions resolved in breadth first order.
+        int[] fail = new int[states];
+        int[] link = new int[states];
+        Arrays.fill(link, NONE);
+        int[] queue = new int[states];
+        int head = 0;
+        int tail = 0;
+        for (int c = 0; c < width; c++) {
+            int next = table[c];
+            if (next == NONE) {
+                table[c] = START;
+            } else {
+                fail[next] = START;
+                queue[tail++] = next;
+            }
+        }
+        while (head < tail) {
+            int state = queue[head++];
+            int failRow = fail[state] * width;
+            for (int c = 0; c < width; c++) {
+                int index = state * width + c;
+                int next = table[index];
+                if (next == NONE) {
+                    table[index] = table[failRow + c];
+                } else {
+                    int nextFail = table[failRow + c];
+                    fail[next] = nextFail;
+                    link[next] = out[nextFail] != NONE ? nextFail : link[nextFail];
+                    queue[tail++] = next;
+                }
+            }
+        }
+        delta = Arrays.copyOf(table, states * width);
+        output = Arrays.copyOf(out, states);
+        outputLink = link;
+        built = true;
+    }
+
+    /**
+     * Move matcher to the next state.
+     * <p/>
+     *
+     * @param state Current matcher state, {@link #START} at the beginning of the input.
+     * @param c Next input character.
+     * @return Next matcher state.
+     */
+    public int step(final int state, final char c) {
+        if (!built) {
+            build();
+        }
+        return delta[state * width + classOf(fold(c))];
+    }
+
+    /**
+     * Get value mapped to the longest marker ending in given state.
+     * <p/>
+     *
+     * @param state Matcher state.
+     * @return Value mapped to the longest marker ending in given state or <code>null</code> when no
+     * marker ends in given state.
+     */
+    public Type match(final int state) {
+        if (!built) {
+            build();
+        }
+        int marker = output[state] != NONE ? output[state]
+                : outputLink[state] != NONE ? output[outputLink[state]] : NONE;
+        return marker != NONE ? values.get(marker) : null;
+    }
+
+    /**
+     * Find all markers in given character sequence.
+     * <p/>
+     *
+     * @param str Input characters.
+     * @param state Matcher state, {@link #START} at the beginning of the input.
+     * @param listener Receives found markers.
+     * @return Matcher state after the last processed character.
+     */
+    public int scan(final CharSequence str, final int state,
+            final MatchListener<Type> listener) {
+        int act = state;
+        int len = str != null ? str.length() : 0;
+        for (int i = 0; i < len; i++) {
+            act = step(act, str.charAt(i));
+            if (!report(act, i + 1, listener)) {
+                break;
+            }
+        }
+        return act;
+    }
+
+    /**
+     * Find all markers in given cyclic buffer.
+     * <p/>
+     * Scan starts at <code>beg</code> index in <code>buff</code>. Next index is evaluated as
+     * <code>(&lt;current index&gt; + 1) % buff.length</code>.
+     * <p/>
+     *
+     * @param buff Cyclic buffer containing input characters.
+     * @param beg Index of the first input character in cyclic buffer.
+     * @param len Number of input characters.
+     * @param state Matcher state, {@link #START} at the beginning of the input.
+     * @param listener Receives found markers.
+     * @return Matcher state after the last processed character.
+     */
+    public int scan(final char[] buff, final int beg, final int len,
+            final int state, final MatchListener<Type> listener) {
+        int act = state;
+        int pos = beg;
+        for (int i = 0; i < len; i++) {
+            act = step(act, buff[pos]);
+            if (!report(act, i + 1, listener)) {
+                break;
+            }
+            if (++pos == buff.length) {
+                pos = 0;
+            }
+        }
+        return act;
+    }
+
+    /**
+     * Report all markers ending in given state.
+     * <p/>
+     *
+     * @param state Matcher state.
+     * @param end Number of input characters up to the end of markers.
+     * @param listener Receives found markers.
+     * @return Value of <code>true</code> to continue matching or <code>false</code> to stop.
+     */
+    private boolean report(final int state, final int end,
+            final MatchListener<Type> listener) {
+        int act = output[state] != NONE ? state : outputLink[state];
+        while (act != NONE) {
+            if (!listener.matched(values.get(output[act]), end)) {
+                return false;
+            }
+            act = outputLink[act];
+        }
+        return true;
+    }
+
+    /**
+     * Collect sorted characters used in markers and their character classes.
+     */
+    private void buildAlphabet() {
+        StringBuilder chars = new StringBuilder();
+        for (String marker : markers) {
+            chars.append(marker);
+        }
+        char[] sorted = chars.toString().toCharArray();
+        Arrays.sort(sorted);
+        int count = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[count++] = sorted[i];
+            }
+        }
+        alphabet = Arrays.copyOf(sorted, count);
+        width = count + 1;
+        asciiClass = new int[ASCII];
+        for (int i = 0; i < count && alphabet[i] < ASCII; i++) {
+            asciiClass[alphabet[i]] = i + 1;
+        }
+    }
+
+    /**
+     * Get character class of character already folded to matcher case.
+     * <p/>
+     *
+     * @param c Character to classify.
+     * @return Character class, zero for characters not used in any marker.
+     */
+    private int classOf(final char c) {
+        if (c < ASCII) {
+            return asciiClass[c];
+        }
+        int index = Arrays.binarySearch(alphabet, c);
+        return index >= 0 ? index + 1 : 0;
+    }
+
+    /**
+     * Apply case sensitivity settings on character.
+     * <p/>
+     *
+     * @param c Character to fold.
+     * @return Character to be compared.
+     */
+    private char fold(final char c) {
+        return caseSensitive ? c : Character.toUpperCase(c);
+    }
+
+    /**
+     * Apply case sensitivity settings on marker.
+     * <p/>
+     *
+     * @param marker Marker to fold.
+     * @return Marker to be compared.
+     */
+    private String fold(final String marker) {
+        if (caseSensitive) {
+            return marker;
+        }
+        char[] chars = marker.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toUpperCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+}
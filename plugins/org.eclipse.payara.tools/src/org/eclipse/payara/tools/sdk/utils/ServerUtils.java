@@ -30,6 +30,7 @@ import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
 import java.util.logging.Level;
@@ -38,6 +39,7 @@ import java.util.regex.Pattern;
 import org.eclipse.payara.tools.sdk.admin.CommandException;
 import org.eclipse.payara.tools.sdk.data.GlassFishContainer;
 import org.eclipse.payara.tools.sdk.logging.Logger;
+import org.eclipse.payara.tools.sdk.server.state.AdminPortProber;
 import org.eclipse.payara.tools.server.PayaraServer;
 import org.eclipse.sapphire.Version;
 
@@ -645,28 +647,51 @@ public class ServerUtils {
     /**
      * Tests if the server administrator's port is occupied.
      * <p/>
+     * Connection is driven by shared {@link AdminPortProber} selector, caller only waits for its
+     * result.
+     * <p/>
      *
      * @param server GlassFish server entity.
      * @return Value of <code>true</code> when server administrator port is occupied or
      * <code>false</code> otherwise.
      */
     public static boolean isAdminPortListening(final PayaraServer server) {
-        return server.isRemote() ? NetUtils.isPortListeningRemote(server.getHost(), server.getAdminPort())
-                : NetUtils.isHttpPortListeningLocal(server.getHost(), server.getAdminPort());
+        return isAdminPortListening(server, 0);
     }
 
     /**
      * Tests if the server administrator's port is occupied.
      * <p/>
+     * Connection is driven by shared {@link AdminPortProber} selector, caller only waits for its
+     * result.
+     * <p/>
      *
      * @param server GlassFish server entity.
-     * @param timeout Network timeout [ms].
+     * @param timeout Network timeout [ms], prober default is used for non positive values.
      * @return Value of <code>true</code> when server administrator port is occupied or
      * <code>false</code> otherwise.
      */
     public static boolean isAdminPortListening(final PayaraServer server, final int timeout) {
-        return server.isRemote() ? NetUtils.isPortListeningRemote(server.getHost(), server.getAdminPort(), timeout)
-                : NetUtils.isHttpPortListeningLocal(server.getHost(), server.getAdminPort());
+        return probeAdminPort(server, timeout).join();
+    }
+
+    /**
+     * Check if the server administrator's port is occupied without blocking caller thread.
+     * <p/>
+     *
+     * @param server GlassFish server entity.
+     * @param timeout Network timeout [ms], prober default is used for non positive values.
+     * @return Check result completed with <code>true</code> when server administrator port is
+     * occupied or <code>false</code> otherwise.
+     */
+    public static CompletableFuture<Boolean> probeAdminPort(final PayaraServer server, final int timeout) {
+        String host = server.getHost();
+        int port = server.getAdminPort();
+        if (host == null || port < 0 || port > 0xFFFF) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return AdminPortProber.getInstance().probe(host, port, timeout)
+                .handle((listening, failure) -> failure == null && listening);
     }
 
     /**
@@ -42,7 +42,7 @@ import static org.eclipse.payara.tools.PayaraToolsPlugin.logMessage;
 import static org.eclipse.payara.tools.facets.internal.GlassfishDeploymentDescriptorFactory.getWebDeploymentDescriptor;
 import static org.eclipse.payara.tools.sapphire.IPayaraServerModel.PROP_ATTACH_DEBUGGER_DEFAULT;
 import static org.eclipse.payara.tools.sapphire.IPayaraServerModel.PROP_ATTACH_DEBUGGER_EARLY;
-import static org.eclipse.payara.tools.sdk.server.parser.TreeParser.readXml;
+import static org.eclipse.payara.tools.sdk.server.parser.DomainConfigSnapshotService.getSnapshot;
 import static org.eclipse.payara.tools.utils.ModuleUtil.isEARModule;
 import static org.eclipse.payara.tools.utils.ModuleUtil.isEJBModule;
 import static org.eclipse.payara.tools.utils.ModuleUtil.isWebModule;
@@ -82,11 +82,13 @@ import org.eclipse.jst.server.core.IWebModule;
 import org.eclipse.payara.tools.Messages;
 import org.eclipse.payara.tools.sapphire.IPayaraServerModel;
 import org.eclipse.payara.tools.sapphire.PayaraServerModelWorkingCopyAdapter;
+import org.eclipse.payara.tools.sdk.admin.AdminSSLContextCache;
 import org.eclipse.payara.tools.sdk.data.GlassFishAdminInterface;
 import org.eclipse.payara.tools.sdk.server.parser.HttpData;
 import org.eclipse.payara.tools.sdk.server.parser.HttpListenerReader;
 import org.eclipse.payara.tools.sdk.server.parser.NetworkListenerReader;
 import org.eclipse.payara.tools.sdk.server.parser.TargetConfigNameReader;
+import org.eclipse.payara.tools.sdk.server.parser.TreeParser;
 import org.eclipse.payara.tools.server.deploying.PayaraServerBehaviour;
 import org.eclipse.payara.tools.utils.PayaraLocationUtils;
 import org.eclipse.sapphire.Version;
@@ -464,17 +466,17 @@ public final class PayaraServer extends ServerDelegate implements IURLProvider {
         final Map<String, HttpData> httpMap = new LinkedHashMap<>();
 
         if (domainXml.exists()) {
+            // Config name and listeners of that config are read in a single pass
             TargetConfigNameReader configNameReader = new TargetConfigNameReader();
-            readXml(domainXml, configNameReader);
-            String configName = configNameReader.getTargetConfigName();
-            if (configName == null) {
-                return false;
-            }
-
-            HttpListenerReader httpListenerReader = new HttpListenerReader(configName);
-            NetworkListenerReader networkListenerReader = new NetworkListenerReader(configName);
+            HttpListenerReader httpListenerReader = new HttpListenerReader(configNameReader);
+            NetworkListenerReader networkListenerReader = new NetworkListenerReader(configNameReader);
             try {
-                readXml(domainXml, httpListenerReader, networkListenerReader);
+                new TreeParser.Session()
+                        .add(configNameReader, httpListenerReader, networkListenerReader)
+                        .readXml(getSnapshot(domainXml));
+                if (configNameReader.getTargetConfigName() == null) {
+                    return false;
+                }
 
                 httpMap.putAll(httpListenerReader.getResult());
                 httpMap.putAll(networkListenerReader.getResult());
@@ -603,6 +605,7 @@ public final class PayaraServer extends ServerDelegate implements IURLProvider {
 
     public void setAdminPassword(String value) {
         setAttribute(ATTR_ADMINPASS, value);
+        AdminSSLContextCache.invalidate(this);
     }
 
     public String computePreserveSessions() {
@@ -19,6 +19,7 @@
 package org.eclipse.payara.tools.server.archives;
 
 import static java.lang.System.arraycopy;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.eclipse.core.runtime.IStatus.ERROR;
 import static org.eclipse.jst.server.generic.core.internal.CorePlugin.PLUGIN_ID;
 import static org.eclipse.payara.tools.PayaraToolsPlugin.SYMBOLIC_NAME;
@@ -31,6 +32,16 @@ import static org.eclipse.wst.server.core.IServer.PUBLISH_STATE_NONE;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Pattern;
 
 import org.eclipse.core.resources.IFile;
@@ -39,6 +50,7 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.jst.server.core.IEnterpriseApplication;
@@ -73,6 +85,25 @@ public class AssembleModules {
     protected PayaraServer server;
     protected boolean childNeedsARedeployment;
 
+    protected boolean parallelAssembly = PARALLEL_ASSEMBLY;
+
+    private static final boolean PARALLEL_ASSEMBLY = !"false".equals(System.getProperty("payara.tools.parallelAssembly"));
+
+    // Interval in which the publish monitor is checked for cancellation while child modules are assembled
+    private static final long CANCEL_POLL_INTERVAL = 100;
+
+    // Pool used to assemble child modules of an EAR in parallel
+    private static final ForkJoinPool assemblyPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    // Bounded pool used to write child module JARs in parallel
+    private static final ExecutorService packExecutor = Executors.newFixedThreadPool(
+        Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors())),
+        runnable -> {
+            Thread thread = new Thread(runnable, "Payara module packager");
+            thread.setDaemon(true);
+            return thread;
+        });
+
     public AssembleModules(IModule[] modulePath, IPath assembleRoot, PayaraServer server, PublishHelper helper) {
         this.modulePath = modulePath;
         this.module = modulePath[modulePath.length - 1]; // last segment of the module path
@@ -92,6 +123,7 @@ public class AssembleModules {
 
         IWebModule webModule = (IWebModule) module.loadAdapter(IWebModule.class, monitor);
         IModule[] childModules = webModule.getModules();
+        List<Callable<Void>> packTasks = new ArrayList<>(childModules.length);
         for (IModule childModule : childModules) {
             String uri = webModule.getURI(childModule);
             if (uri == null) { // The bad memories of WTP 1.0
@@ -102,11 +134,16 @@ public class AssembleModules {
             if (jeeModule != null && jeeModule.isBinary()) { // Binary module
                 ProjectModule pm = (ProjectModule) childModule.loadAdapter(ProjectModule.class, null);
                 IModuleResource[] resources = pm.members();
-                publishHelper.publishToPath(resources, parent.append(uri), monitor);
+                publishToPath(resources, parent.append(uri), monitor);
             } else { // Project module
                 String version = PayaraServerBehaviour.getVersion(server);
                 if (version.indexOf(" 3.1") == -1) {
-                    packModule(childModule, uri, parent);
+                    // Resources are collected here, the JARs are written in parallel below
+                    IModuleResource[] members = load(childModule, ProjectModule.class).members();
+                    packTasks.add(() -> {
+                        packModule(childModule, members, uri, parent);
+                        return null;
+                    });
                 } else {
 
                     if (shouldRepack(childModule)) {
@@ -124,25 +161,113 @@ public class AssembleModules {
             }
         }
         
+        packModules(packTasks, monitor);
+        
         return parent;
     }
 
+    /*
+     * Runs the given pack tasks on the bounded packing pool and waits for all of them. Tasks check the
+     * monitor before they start, so once publishing is cancelled the remaining JARs are not written and
+     * the cancellation is reported after the running ones finished. Otherwise the first failure is
+     * rethrown once all tasks finished.
+     */
+    protected void packModules(List<Callable<Void>> packTasks, IProgressMonitor monitor) throws CoreException {
+        if (packTasks.size() == 1) {
+            checkCanceled(monitor);
+            call(packTasks.get(0));
+            return;
+        }
+        
+        List<Future<Void>> futures = new ArrayList<>(packTasks.size());
+        for (Callable<Void> packTask : packTasks) {
+            futures.add(packExecutor.submit(() -> {
+                checkCanceled(monitor);
+                return packTask.call();
+            }));
+        }
+        
+        CoreException failure = null;
+        boolean canceled = false;
+        boolean interrupted = false;
+        for (Future<Void> future : futures) {
+            while (true) {
+                try {
+                    future.get();
+                    break;
+                } catch (InterruptedException e) {
+                    // Keep waiting, the tasks may still be writing into the assembly directory
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof OperationCanceledException) {
+                        canceled = true;
+                    } else {
+                        failure = failure != null ? failure : cause instanceof CoreException ? (CoreException) cause :
+                            new CoreException(new Status(ERROR, SYMBOLIC_NAME, 0, "unable to assemble module", cause));
+                    }
+                    break;
+                }
+            }
+        }
+        
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (canceled || interrupted) {
+            throw new OperationCanceledException();
+        }
+        checkCanceled(monitor);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+    
+    private static <T> T call(Callable<T> task) throws CoreException {
+        try {
+            return task.call();
+        } catch (CoreException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CoreException(new Status(ERROR, SYMBOLIC_NAME, 0, "unable to assemble module", e));
+        }
+    }
+
     public static boolean isModuleType(IModule module, String moduleTypeId) {
         return module.getModuleType() != null && moduleTypeId.equals(module.getModuleType().getId()); 
     }
 
     protected void packModule(IModule module, String deploymentUnitName, IPath destination) throws CoreException {
+        packModule(module, load(module, ProjectModule.class).members(), deploymentUnitName, destination);
+    }
+
+    /*
+     * Packs the module resources into a JAR, unless the pack index shows that an identical JAR packed
+     * from unchanged resources is already in place.
+     */
+    protected void packModule(IModule module, IModuleResource[] members, String deploymentUnitName, IPath destination) throws CoreException {
+        long start = System.currentTimeMillis();
         String dest = destination.append(deploymentUnitName).toString();
         logMessage("AssembleModules dest=" + dest);
 
+        File archive = new File(dest);
+        String resourcesDigest = ModulePackIndex.digest(members);
+        ModulePackIndex index = getPackIndex();
+        if (index != null && index.isUpToDate(archive, resourcesDigest)) {
+            logMessage("AssembleModules reused unchanged " + deploymentUnitName + " in " + (System.currentTimeMillis() - start) + " ms");
+            return;
+        }
+
         ModulePackager packager = null;
+        boolean packed = false;
         try {
             packager = new ModulePackager(dest, false);
-            for (IModuleResource resource : load(module, ProjectModule.class).members()) {
+            for (IModuleResource resource : members) {
                 logMessage("AssembleModules resources=" + resource);
 
                 doPackModule(resource, packager);
             }
+            packed = true;
         } catch (IOException e) {
             throw new CoreException(new Status(ERROR, SYMBOLIC_NAME, 0,
                     "unable to assemble module", e));
@@ -151,7 +276,30 @@ public class AssembleModules {
                 packager.finished();
             } catch (Exception e) {
             }
+            
+            if (index != null && !packed) {
+                index.remove(archive);
+            }
+        }
+        
+        if (index != null) {
+            try {
+                index.update(archive, resourcesDigest);
+            } catch (IOException e) {
+                logMessage("AssembleModules cannot update pack index of " + dest + ": " + e.getMessage());
+            }
+        }
+        
+        logMessage("AssembleModules packed " + deploymentUnitName + " in " + (System.currentTimeMillis() - start) + " ms");
+    }
+
+    private ModulePackIndex getPackIndex() {
+        PayaraServerBehaviour behaviour = server.getServerBehaviourAdapter();
+        if (behaviour == null) {
+            return null;
         }
+        
+        return new ModulePackIndex(behaviour.getServerTempDirectory().append("pack-index").toFile());
     }
 
     private void doPackModule(IModuleResource resource, ModulePackager packager) throws CoreException, IOException {
@@ -201,7 +349,7 @@ public class AssembleModules {
             }
 
         }
-        IStatus[] status = publishHelper.publishSmart(pm.members(), assembleRoot, jarPaths, monitor);
+        IStatus[] status = publishSmart(pm.members(), assembleRoot, jarPaths, monitor);
         if (status != null && status.length > 0) {
             // no need to emit an error like CoreException(status[0]); just log in the entry
             // see https://glassfishplugins.dev.java.net/issues/show_bug.cgi?id=268
@@ -246,7 +394,7 @@ public class AssembleModules {
         }
         IPath[] pathArr = new IPath[ignorePaths.size()];
         pathArr = ignorePaths.toArray(pathArr);
-        IStatus[] status = publishHelper.publishSmart(pm.members(), assembleRoot, pathArr, monitor);
+        IStatus[] status = publishSmart(pm.members(), assembleRoot, pathArr, monitor);
         if (status != null && status.length > 0) {
             // no need to emit an error like CoreException(status[0]); just log in the entry
             // see https://glassfishplugins.dev.java.net/issues/show_bug.cgi?id=268
@@ -289,7 +437,7 @@ public class AssembleModules {
             if (jeeModule != null && jeeModule.isBinary()) {// Binary module just copy
                 ProjectModule pm = (ProjectModule) module.loadAdapter(ProjectModule.class, null);
                 IModuleResource[] resources = pm.members();
-                publishHelper.publishToPath(resources, parent.append(uri), monitor);
+                publishToPath(resources, parent.append(uri), monitor);
 
                 continue;// done! no need to go further
             }
@@ -333,7 +481,15 @@ public class AssembleModules {
                 _server.getPublishedResourceDelta(modulePath),
                 
                 // The pattern that denotes whether a restart is needed for that path
-                Pattern.compile(_server.getAttribute(PROP_RESTART_PATTERN.name(), PROP_RESTART_PATTERN_DEFAULT)));
+                getRestartPattern());
+    }
+
+    /*
+     * Returns the pattern that denotes whether a change of a resource with matching name needs a
+     * redeploy command.
+     */
+    public Pattern getRestartPattern() {
+        return Pattern.compile(((Server) server.getServer()).getAttribute(PROP_RESTART_PATTERN.name(), PROP_RESTART_PATTERN_DEFAULT));
     }
 
     /*
@@ -408,6 +564,7 @@ public class AssembleModules {
                 monitor);
         IModule[] childModules = earModule.getModules();
         logMessage("assembleDirDeployedEARModule childModules.length=" + childModules.length);
+        List<Callable<Boolean>> childAssemblies = new ArrayList<>(childModules.length);
         for (IModule childModule2 : childModules) {
 
             IModule childModule = childModule2;
@@ -418,7 +575,7 @@ public class AssembleModules {
             
             IJ2EEModule jeeModule = (IJ2EEModule) childModule.loadAdapter(IJ2EEModule.class, monitor);
             if (jeeModule != null && jeeModule.isBinary()) {// Binary module just copy
-                publishHelper.publishToPath(
+                publishToPath(
                     load(childModule, ProjectModule.class).members(), 
                     parent.append(uri), monitor);
                 
@@ -441,22 +598,152 @@ public class AssembleModules {
                 arraycopy(modulePath, 0, childModulePath, 0, modulePath.length);
                 childModulePath[childModulePath.length - 1] = childModule;
 
+                AssembleModules assembler = new AssembleModules(childModulePath, assembleRoot.append(uri), server,
+                        publishHelper);
+                assembler.setParallelAssembly(parallelAssembly);
                 if (childModule.getModuleType().getId().equals("jst.web")) {//$NON-NLS-1$
-                    AssembleModules assembler = new AssembleModules(childModulePath, assembleRoot.append(uri), server,
-                            publishHelper);
-                    childNeedsARedeployment = (childNeedsARedeployment || assembler.needsARedeployment());
-                    assembler.assembleWebModule(new NullProgressMonitor());
+                    childAssemblies.add(() -> {
+                        boolean redeploy = assembler.needsARedeployment();
+                        assembler.assembleWebModule(parallelAssembly ? new CancelOnlyMonitor(monitor) : new NullProgressMonitor());
+                        return redeploy;
+                    });
                 } else {
-                    AssembleModules assembler = new AssembleModules(childModulePath, assembleRoot.append(uri), server,
-                            publishHelper);
-                    childNeedsARedeployment = (childNeedsARedeployment || assembler.needsARedeployment());
-                    assembler.copyModule(childModule, monitor);
+                    childAssemblies.add(() -> {
+                        boolean redeploy = assembler.needsARedeployment();
+                        assembler.copyModule(childModule, parallelAssembly ? new CancelOnlyMonitor(monitor) : monitor);
+                        return redeploy;
+                    });
                 }
 
             }
         }
         
+        for (boolean redeploy : assembleChildren(childAssemblies, monitor)) {
+            childNeedsARedeployment = (childNeedsARedeployment || redeploy);
+        }
+        
         return parent;
 
     }
+
+    /*
+     * Runs the child module assemblies, either one after another or on the shared fork-join pool.
+     * Child modules are assembled into separate directories, so the result does not depend on the
+     * order in which they finish. Results are returned in child module order and a failure is
+     * reported for the first failing child module, the same as in the serial path. On cancellation
+     * or failure the method returns only after the child modules being assembled have finished.
+     */
+    protected List<Boolean> assembleChildren(List<Callable<Boolean>> childAssemblies, IProgressMonitor monitor) throws CoreException {
+        List<Boolean> results = new ArrayList<>(childAssemblies.size());
+        if (!parallelAssembly || childAssemblies.size() < 2) {
+            for (Callable<Boolean> childAssembly : childAssemblies) {
+                checkCanceled(monitor);
+                results.add(call(childAssembly));
+            }
+            
+            return results;
+        }
+        
+        long start = System.currentTimeMillis();
+        AtomicBoolean aborted = new AtomicBoolean();
+        List<ForkJoinTask<Boolean>> tasks = new ArrayList<>(childAssemblies.size());
+        for (Callable<Boolean> childAssembly : childAssemblies) {
+            tasks.add(assemblyPool.submit(() -> {
+                if (aborted.get()) {
+                    throw new OperationCanceledException();
+                }
+                checkCanceled(monitor);
+                return call(childAssembly);
+            }));
+        }
+        
+        try {
+            for (ForkJoinTask<Boolean> task : tasks) {
+                while (true) {
+                    if (monitor != null && monitor.isCanceled()) {
+                        throw new OperationCanceledException();
+                    }
+                    try {
+                        results.add(task.get(CANCEL_POLL_INTERVAL, MILLISECONDS));
+                        break;
+                    } catch (TimeoutException e) {
+                        // Check the monitor again
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OperationCanceledException();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CoreException) {
+                throw (CoreException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new CoreException(new Status(ERROR, SYMBOLIC_NAME, 0, "unable to assemble module", cause));
+        } finally {
+            // Child modules not started yet are skipped, the running ones are waited for so that
+            // nothing writes into the assembly directory once publishing has returned
+            aborted.set(true);
+            for (ForkJoinTask<Boolean> task : tasks) {
+                task.quietlyJoin();
+            }
+        }
+        
+        logMessage("AssembleModules assembled " + childAssemblies.size() + " child modules in parallel in " + (System.currentTimeMillis() - start) + " ms");
+        
+        return results;
+    }
+
+    /**
+     * Enables or disables parallel assembly of child modules. It is enabled by default unless the
+     * <code>payara.tools.parallelAssembly</code> system property is set to <code>false</code>.
+     *
+     * @param parallelAssembly true to assemble child modules in parallel
+     */
+    public void setParallelAssembly(boolean parallelAssembly) {
+        this.parallelAssembly = parallelAssembly;
+    }
+
+    private static void checkCanceled(IProgressMonitor monitor) {
+        if (monitor != null && monitor.isCanceled()) {
+            throw new OperationCanceledException();
+        }
+    }
+
+    /*
+     * PublishHelper copies files through a buffer which is not safe for concurrent use, so the copying
+     * itself is serialized while child modules are assembled in parallel.
+     */
+    private IStatus[] publishSmart(IModuleResource[] resources, IPath path, IPath[] ignore, IProgressMonitor monitor) {
+        synchronized (PublishHelper.class) {
+            return publishHelper.publishSmart(resources, path, ignore, monitor);
+        }
+    }
+
+    private IStatus[] publishToPath(IModuleResource[] resources, IPath path, IProgressMonitor monitor) {
+        synchronized (PublishHelper.class) {
+            return publishHelper.publishToPath(resources, path, monitor);
+        }
+    }
+
+    /*
+     * Monitor given to child modules assembled on pool threads. Progress monitors are not thread safe,
+     * so only the cancellation state of the publish monitor is shared.
+     */
+    private static class CancelOnlyMonitor extends NullProgressMonitor {
+
+        private final IProgressMonitor monitor;
+
+        CancelOnlyMonitor(IProgressMonitor monitor) {
+            this.monitor = monitor;
+        }
+
+        @Override
+        public boolean isCanceled() {
+            return super.isCanceled() || (monitor != null && monitor.isCanceled());
+        }
+    }
 }
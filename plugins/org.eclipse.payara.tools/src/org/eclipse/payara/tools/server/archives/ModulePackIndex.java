@@ -0,0 +1,180 @@
+/******************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.server.archives;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.eclipse.payara.tools.utils.DigestUtil.newDigest;
+import static org.eclipse.payara.tools.utils.DigestUtil.toHex;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.util.Properties;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.wst.server.core.model.IModuleFile;
+import org.eclipse.wst.server.core.model.IModuleFolder;
+import org.eclipse.wst.server.core.model.IModuleResource;
+
+/**
+ * Persistent index of packed child module archives (utility and EJB JARs).
+ * <p/>
+ * For every packed archive the index stores a digest of the module resources (relative path,
+ * modification stamp and size of every resource) together with size and modification time of the
+ * archive that was produced from them. When neither the resources nor the archive changed since,
+ * the archive is reused as-is instead of being rewritten by <code>ModulePackager</code>.
+ * <p/>
+ * Index entries are stored in the server temp directory, one small properties file per packed
+ * archive.
+ * <p/>
+ */
+public class ModulePackIndex {
+
+    private static final String PROP_DESTINATION = "destination";
+    private static final String PROP_RESOURCES = "resources";
+    private static final String PROP_ARCHIVE_SIZE = "archive.size";
+    private static final String PROP_ARCHIVE_MODIFIED = "archive.modified";
+
+    private final File indexDirectory;
+
+    /**
+     * @param indexDirectory directory the index entries are stored in
+     */
+    public ModulePackIndex(File indexDirectory) {
+        this.indexDirectory = indexDirectory;
+    }
+
+    /**
+     * Computes digest of the module resources. Only resource metadata is read, not the content.
+     *
+     * @param members module resources
+     * @return digest of the module resources
+     */
+    public static String digest(IModuleResource[] members) {
+        MessageDigest digest = newDigest();
+        update(digest, members);
+
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Checks if the archive packed from resources with the given digest is still in place and
+     * unchanged.
+     *
+     * @param archive packed archive
+     * @param resourcesDigest digest of the module resources, see {@link #digest(IModuleResource[])}
+     * @return true if the archive can be reused as-is
+     */
+    public boolean isUpToDate(File archive, String resourcesDigest) {
+        if (!archive.isFile()) {
+            return false;
+        }
+
+        Properties entry = load(archive);
+
+        return
+            archive.getAbsolutePath().equals(entry.getProperty(PROP_DESTINATION)) &&
+            resourcesDigest.equals(entry.getProperty(PROP_RESOURCES)) &&
+            Long.toString(archive.length()).equals(entry.getProperty(PROP_ARCHIVE_SIZE)) &&
+            Long.toString(archive.lastModified()).equals(entry.getProperty(PROP_ARCHIVE_MODIFIED));
+    }
+
+    /**
+     * Records freshly packed archive.
+     *
+     * @param archive packed archive
+     * @param resourcesDigest digest of the module resources the archive was packed from
+     * @throws IOException if the index entry cannot be written
+     */
+    public void update(File archive, String resourcesDigest) throws IOException {
+        Properties entry = new Properties();
+        entry.setProperty(PROP_DESTINATION, archive.getAbsolutePath());
+        entry.setProperty(PROP_RESOURCES, resourcesDigest);
+        entry.setProperty(PROP_ARCHIVE_SIZE, Long.toString(archive.length()));
+        entry.setProperty(PROP_ARCHIVE_MODIFIED, Long.toString(archive.lastModified()));
+
+        if (!indexDirectory.exists()) {
+            indexDirectory.mkdirs();
+        }
+
+        try (FileOutputStream fos = new FileOutputStream(entryFile(archive))) {
+            entry.store(fos, "Packed module index");
+        }
+    }
+
+    /**
+     * Removes index entry of the archive, e.g. when packing failed.
+     *
+     * @param archive packed archive
+     */
+    public void remove(File archive) {
+        entryFile(archive).delete();
+    }
+
+    private Properties load(File archive) {
+        Properties entry = new Properties();
+
+        try (FileInputStream fis = new FileInputStream(entryFile(archive))) {
+            entry.load(fis);
+        } catch (IOException e) {
+            // No entry yet
+        }
+
+        return entry;
+    }
+
+    private File entryFile(File archive) {
+        MessageDigest digest = newDigest();
+        digest.update(archive.getAbsolutePath().getBytes(UTF_8));
+
+        return new File(indexDirectory, toHex(digest.digest()) + ".properties");
+    }
+
+    private static void update(MessageDigest digest, IModuleResource[] resources) {
+        if (resources == null) {
+            return;
+        }
+
+        for (IModuleResource resource : resources) {
+            IPath path = resource.getModuleRelativePath().append(resource.getName());
+            digest.update(path.toPortableString().getBytes(UTF_8));
+
+            if (resource instanceof IModuleFolder) {
+                digest.update((byte) '/');
+                update(digest, ((IModuleFolder) resource).members());
+            } else {
+                long stamp = resource instanceof IModuleFile ? ((IModuleFile) resource).getModificationStamp() : 0;
+                long size = 0;
+
+                IFile file = resource.getAdapter(IFile.class);
+                if (file != null) {
+                    if (file.getLocation() != null) {
+                        size = file.getLocation().toFile().length();
+                    }
+                } else {
+                    File file2 = resource.getAdapter(File.class);
+                    if (file2 != null) {
+                        size = file2.length();
+                        stamp = stamp != 0 ? stamp : file2.lastModified();
+                    }
+                }
+
+                digest.update(Long.toString(stamp).getBytes(UTF_8));
+                digest.update((byte) ':');
+                digest.update(Long.toString(size).getBytes(UTF_8));
+            }
+            digest.update((byte) '\n');
+        }
+    }
+
+}
@@ -0,0 +1,303 @@
+/******************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.server.deploying;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.eclipse.payara.tools.utils.DigestUtil.newDigest;
+import static org.eclipse.payara.tools.utils.DigestUtil.toHex;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Content hash manifest of an assembled (exploded) application directory.
+ * <p/>
+ * The manifest records size, modification time and SHA-1 digest of every file below the
+ * assembled directory. Comparing the manifest of the current assembly with the one stored after
+ * the last successful publish tells which files really changed by content, so a rebuild that only
+ * touched timestamps, or a change limited to static resources, does not trigger a redeploy.
+ * <p/>
+ * Digests of files whose size and modification time did not change are taken over from the
+ * previous manifest, so only touched files are read.
+ * <p/>
+ */
+public class DeltaPublishManifest {
+
+    private static final char SEPARATOR = '\t';
+
+    /**
+     * Recorded state of a single file.
+     */
+    static final class Entry {
+
+        final long size;
+        final long lastModified;
+        final String digest;
+
+        Entry(long size, long lastModified, String digest) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.digest = digest;
+        }
+    }
+
+    /**
+     * Difference between two manifests.
+     */
+    public static final class Delta {
+
+        private final List<String> added = new ArrayList<>();
+        private final List<String> changed = new ArrayList<>();
+        private final List<String> removed = new ArrayList<>();
+        private long changedBytes;
+        private int unchangedFiles;
+        private long unchangedBytes;
+
+        public List<String> getAdded() {
+            return Collections.unmodifiableList(added);
+        }
+
+        public List<String> getChanged() {
+            return Collections.unmodifiableList(changed);
+        }
+
+        public List<String> getRemoved() {
+            return Collections.unmodifiableList(removed);
+        }
+
+        /**
+         * @return number of bytes in added and changed files.
+         */
+        public long getChangedBytes() {
+            return changedBytes;
+        }
+
+        /**
+         * @return number of files whose content did not change since the last publish.
+         */
+        public int getUnchangedFiles() {
+            return unchangedFiles;
+        }
+
+        /**
+         * @return number of bytes in files whose content did not change since the last publish.
+         */
+        public long getUnchangedBytes() {
+            return unchangedBytes;
+        }
+
+        public boolean isEmpty() {
+            return added.isEmpty() && changed.isEmpty() && removed.isEmpty();
+        }
+
+        /**
+         * Checks if any added, changed or removed file name matches the restart pattern, i.e. the
+         * change cannot be picked up by the running application without a redeploy.
+         *
+         * @param restartPattern pattern matched against file names
+         * @return true if a redeploy is needed to apply this delta
+         */
+        public boolean needsRedeploy(Pattern restartPattern) {
+            return matches(added, restartPattern) || matches(changed, restartPattern)
+                    || matches(removed, restartPattern);
+        }
+
+        private static boolean matches(List<String> paths, Pattern restartPattern) {
+            for (String path : paths) {
+                if (restartPattern.matcher(path.substring(path.lastIndexOf('/') + 1)).find()) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return added.size() + " added, " + changed.size() + " changed, " + removed.size() + " removed ("
+                    + changedBytes + " bytes); " + unchangedFiles + " files (" + unchangedBytes
+                    + " bytes) unchanged";
+        }
+    }
+
+    private final File manifestFile;
+    private Map<String, Entry> entries;
+    private Map<String, Entry> pending;
+
+    /**
+     * Creates manifest backed by the given file. The previous state is read lazily.
+     *
+     * @param manifestFile file the manifest is stored in
+     */
+    public DeltaPublishManifest(File manifestFile) {
+        this.manifestFile = manifestFile;
+    }
+
+    /**
+     * Scans the assembled directory and computes the delta against the manifest of the last
+     * successful publish. The new state becomes effective only after {@link #commit()}.
+     *
+     * @param assembledDirectory root of the assembled application
+     * @return difference against the last successful publish
+     * @throws IOException if a file cannot be read
+     */
+    public Delta scan(File assembledDirectory) throws IOException {
+        if (entries == null) {
+            entries = load();
+        }
+
+        Map<String, Entry> current = new HashMap<>(Math.max(16, entries.size() * 4 / 3));
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[64 * 1024];
+        scan(assembledDirectory, "", current, digest, buffer);
+
+        Delta delta = new Delta();
+        for (Map.Entry<String, Entry> e : current.entrySet()) {
+            Entry previous = entries.get(e.getKey());
+            Entry now = e.getValue();
+            if (previous == null) {
+                delta.added.add(e.getKey());
+                delta.changedBytes += now.size;
+            } else if (!previous.digest.equals(now.digest)) {
+                delta.changed.add(e.getKey());
+                delta.changedBytes += now.size;
+            } else {
+                delta.unchangedFiles++;
+                delta.unchangedBytes += now.size;
+            }
+        }
+        for (String path : entries.keySet()) {
+            if (!current.containsKey(path)) {
+                delta.removed.add(path);
+            }
+        }
+
+        pending = current;
+        return delta;
+    }
+
+    /**
+     * Stores the state of the last scan as the state of the last successful publish.
+     *
+     * @throws IOException if the manifest cannot be written
+     */
+    public void commit() throws IOException {
+        if (pending == null) {
+            return;
+        }
+
+        File parent = manifestFile.getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+
+        try (BufferedWriter writer = Files.newBufferedWriter(manifestFile.toPath(), UTF_8)) {
+            for (Map.Entry<String, Entry> e : pending.entrySet()) {
+                Entry entry = e.getValue();
+                writer.write(entry.digest);
+                writer.write(SEPARATOR);
+                writer.write(Long.toString(entry.size));
+                writer.write(SEPARATOR);
+                writer.write(Long.toString(entry.lastModified));
+                writer.write(SEPARATOR);
+                writer.write(e.getKey());
+                writer.newLine();
+            }
+        }
+
+        entries = pending;
+        pending = null;
+    }
+
+    /**
+     * Forgets the stored state so that the next publish is treated as a full one.
+     */
+    public void delete() {
+        entries = null;
+        pending = null;
+        manifestFile.delete();
+    }
+
+    private void scan(File directory, String prefix, Map<String, Entry> current, MessageDigest digest, byte[] buffer)
+            throws IOException {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+
+        for (File file : files) {
+            String path = prefix + file.getName();
+            if (file.isDirectory()) {
+                scan(file, path + '/', current, digest, buffer);
+                continue;
+            }
+
+            long size = file.length();
+            long lastModified = file.lastModified();
+            Entry previous = entries.get(path);
+            if (previous != null && previous.size == size && previous.lastModified == lastModified) {
+                current.put(path, previous);
+            } else {
+                current.put(path, new Entry(size, lastModified, digest(file, digest, buffer)));
+            }
+        }
+    }
+
+    private Map<String, Entry> load() {
+        Map<String, Entry> loaded = new HashMap<>();
+        if (!manifestFile.isFile()) {
+            return loaded;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(manifestFile.toPath(), UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int first = line.indexOf(SEPARATOR);
+                int second = line.indexOf(SEPARATOR, first + 1);
+                int third = line.indexOf(SEPARATOR, second + 1);
+                if (first < 0 || second < 0 || third < 0) {
+                    continue;
+                }
+                loaded.put(line.substring(third + 1), new Entry(
+                    Long.parseLong(line.substring(first + 1, second)),
+                    Long.parseLong(line.substring(second + 1, third)),
+                    line.substring(0, first)));
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Corrupted manifest, treat next publish as a full one
+            loaded.clear();
+        }
+
+        return loaded;
+    }
+
+    private static String digest(File file, MessageDigest digest, byte[] buffer) throws IOException {
+        digest.reset();
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            for (int n; (n = in.read(buffer)) > 0;) {
+                digest.update(buffer, 0, n);
+            }
+        }
+
+        return toHex(digest.digest());
+    }
+
+}
@@ -69,6 +69,7 @@ import static org.eclipse.wst.server.core.util.PublishHelper.deleteDirectory;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -303,6 +304,7 @@ public final class PayaraServerBehaviour extends ServerBehaviourDelegate impleme
     @Override
     public void dispose() {
         super.dispose();
+        statusMonitor.removeServerStatusListener(this);
         statusMonitor.stop();
         logMessage("in Behaviour dispose for " + getPayaraServerDelegate().getName());
     }
@@ -342,6 +344,13 @@ public final class PayaraServerBehaviour extends ServerBehaviourDelegate impleme
         updateServerStatus(getServerStatus(true));
     }
     
+    /**
+     * @return server temp directory used for publish bookkeeping (publish state, pack index, etc.)
+     */
+    public IPath getServerTempDirectory() {
+        return getTempDirectory();
+    }
+
     public String getModuleDeployPath(IModule module) {
     	return (String) loadPublishProperties().get(module.getId());
     }
@@ -587,6 +596,7 @@ public final class PayaraServerBehaviour extends ServerBehaviourDelegate impleme
         	
             String publishPath = (String) publishProperties.get(module[0].getId());
             logMessage("REMOVED in publishPath" + publishPath);
+            getDeltaPublishManifest(module[0]).delete();
             
             try {
                 undeploy(module);
@@ -644,8 +654,26 @@ public final class PayaraServerBehaviour extends ServerBehaviourDelegate impleme
                 assembler.assembleNonWebOrNonEARModule(monitor);
             }
             
+            // Compare content of the assembled directory with the last successful publish
+            DeltaPublishManifest manifest = getDeltaPublishManifest(module[0]);
+            DeltaPublishManifest.Delta delta = null;
+            try {
+                delta = manifest.scan(path.toFile());
+                logMessage("Delta publish of " + module[0].getName() + ": " + delta);
+            } catch (IOException e) {
+                logError("Cannot compute delta publish manifest of " + module[0].getName(), e);
+            }
+
             if (kind == PUBLISH_INCREMENTAL || kind == PUBLISH_AUTO) {
                 needARedeploy = assembler.needsARedeployment();
+                
+                // Files are already in place, only a content change of a resource matching
+                // the restart pattern has to be picked up by a redeploy
+                if (needARedeploy && deltaKind != ADDED && delta != null && !delta.needsRedeploy(assembler.getRestartPattern())) {
+                    logMessage("Delta publish of " + module[0].getName() + ": redeploy avoided, "
+                            + delta.getUnchangedFiles() + " files (" + delta.getUnchangedBytes() + " bytes) unchanged");
+                    needARedeploy = false;
+                }
             } else {
                 needARedeploy = true;
             }
@@ -678,6 +706,7 @@ public final class PayaraServerBehaviour extends ServerBehaviourDelegate impleme
                             .get();
                     
                     setModuleState(module, STATE_STARTED);
+                    commitDeltaPublishManifest(manifest, delta);
 
                 } catch (Exception ex) {
                     setModuleState(module, STATE_STOPPED);
@@ -686,10 +715,28 @@ public final class PayaraServerBehaviour extends ServerBehaviourDelegate impleme
                 }
             } else {
                 logMessage("optimal: NO NEED TO DO A REDEPLOYMENT, !!!");
+                commitDeltaPublishManifest(manifest, delta);
             }
         }
     }
 
+    private DeltaPublishManifest getDeltaPublishManifest(IModule module) {
+        return new DeltaPublishManifest(
+            getTempDirectory().append("delta").append(simplifyModuleID(module.getName()) + ".manifest").toFile());
+    }
+    
+    private void commitDeltaPublishManifest(DeltaPublishManifest manifest, DeltaPublishManifest.Delta delta) {
+        if (delta == null) {
+            return;
+        }
+        
+        try {
+            manifest.commit();
+        } catch (IOException e) {
+            logError("Cannot store delta publish manifest", e);
+        }
+    }
+
     private void publishJarFile(int kind, int deltaKind, Properties p, IModule[] module, IProgressMonitor monitor) throws CoreException {
         // first try to see if we need to undeploy:
 
@@ -24,6 +24,8 @@ import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.Path;
+import org.eclipse.payara.tools.log.LogStore;
+import org.eclipse.payara.tools.sdk.admin.AdminSSLContextCache;
 import org.eclipse.payara.tools.server.PayaraServer;
 import org.eclipse.wst.server.core.IServer;
 import org.eclipse.wst.server.core.IServerLifecycleListener;
@@ -71,6 +73,10 @@ public class ServerLifecycleListener implements IServerLifecycleListener {
         String serverName = server.getAttribute("name", "");
         String previousServerName = server.getAttribute("previous-name", "");
         
+        // Credentials or host may have changed, secure connections are set up again on next use
+        AdminSSLContextCache.invalidate(serverName);
+        AdminSSLContextCache.invalidate(previousServerName);
+        
         if (!domainPath.equals(previousDomainPath)) {
             
             // Server domain has been changed
@@ -123,6 +129,10 @@ public class ServerLifecycleListener implements IServerLifecycleListener {
         // Since the server is removed, we can remove the corresponding project
         // as well.
         deleteServerProject(server.getAttribute("name", ""));
+        
+        // Drop what is cached for the server
+        AdminSSLContextCache.invalidate(server.getAttribute("name", ""));
+        LogStore.removeStore(server);
     }
     
     private void createServerProject(PayaraServer payaraServer) {
@@ -36,6 +36,7 @@ import static org.eclipse.payara.tools.PayaraToolsPlugin.SYMBOLIC_NAME;
 import static org.eclipse.payara.tools.PayaraToolsPlugin.logError;
 import static org.eclipse.payara.tools.PayaraToolsPlugin.logMessage;
 import static org.eclipse.payara.tools.log.PayaraConsoleManager.getStandardConsole;
+import static org.eclipse.payara.tools.log.PayaraConsoleManager.getStandardLogFilter;
 import static org.eclipse.payara.tools.log.PayaraConsoleManager.showConsole;
 import static org.eclipse.payara.tools.sdk.server.ServerTasks.getDebugPort;
 import static org.eclipse.payara.tools.sdk.server.ServerTasks.StartMode.DEBUG;
@@ -389,7 +390,7 @@ public class PayaraServerLaunchDelegate extends AbstractJavaLaunchConfigurationD
                 IPayaraConsole console = getStandardConsole(serverAdapter);
                 showConsole(console);
                 if (!console.isLogging()) {
-                    console.startLogging(FetchLogPiped.create(serverAdapter, true));
+                    console.startLogging(FetchLogPiped.create(serverAdapter, true, getStandardLogFilter()));
                 }
             });
         } catch (Exception e) {
@@ -38,6 +38,7 @@ import org.eclipse.payara.tools.sdk.PayaraIdeException;
 import org.eclipse.payara.tools.sdk.admin.ResultProcess;
 import org.eclipse.payara.tools.sdk.server.FetchLogSimple;
 import org.eclipse.payara.tools.sdk.server.ServerTasks.StartMode;
+import org.eclipse.payara.tools.server.ServerStatus;
 import org.eclipse.payara.tools.server.deploying.PayaraServerBehaviour;
 
 public class PayaraStartJob implements Callable<ResultProcess> {
@@ -64,114 +65,151 @@ public class PayaraStartJob implements Callable<ResultProcess> {
         
         boolean earlyAttach = payaraServerBehaviour.getPayaraServerDelegate().getAttachDebuggerEarly();
         
-        // Create the process that starts the server
-        ResultProcess process = startPayara(earlyAttach);
-
-        Process payaraProcess = process.getValue().getProcess();
-        
-        // Read process std output to prevent process'es blocking
-        IPayaraConsole startupConsole = startLogging(payaraProcess);
+        // Watch the server log for startup milestones, wake up the status loop as soon as one appears
+        StartupLogDetector detector = new StartupLogDetector(
+            payaraServerBehaviour.getPayaraServerDelegate().getAdminPort(),
+            () -> {
+                synchronized (payaraServerBehaviour) {
+                    payaraServerBehaviour.notifyAll();
+                }
+            });
         
         IPayaraConsole filelogConsole = getStandardConsole(payaraServerBehaviour.getPayaraServerDelegate());
-
-        synchronized (payaraServerBehaviour) {
+        filelogConsole.addLogListener(detector);
+        
+        IPayaraConsole startupConsole = null;
+        try {
+            // Create the process that starts the server
+            ResultProcess process = startPayara(earlyAttach);
             
-            boolean attached = false;
-            boolean hasLogged = false;
-            boolean hasLoggedPayara = false;
+            // Read process std output to prevent process'es blocking
+            startupConsole = startLogging(process.getValue().getProcess(), detector);
             
-            // Query the process status in a loop
+            waitForPayaraStarted(process, startupConsole, filelogConsole, detector, earlyAttach);
             
-            check_server_status: while (true) {
-                
-                switch (payaraServerBehaviour.getServerStatus(false)) {
-                    case STOPPED_NOT_LISTENING:
-                        try {
-                            if (payaraProcess.isAlive()) {
-                                
-                                // Server is not (yet) listening.
-                                // Check if we need to attach the debugger for it to continue.
-                                // This happens when the server is started in debug with halt on start
-                                
-                                if (earlyAttach && mode == DEBUG && !attached) {
-                                    try {
-                                        payaraServerBehaviour.attach(launch, configuration.getWorkingCopy(), null, getDebugPort(process));
-                                        checkMonitorAndProgress(monitor, WORK_STEP);
-                                        attached = true;
-                                    } catch (CoreException e) {
-                                        // Process may not have reached the point where it waits for a remote connection
-                                        logMessage(e.getMessage());
-                                    }
-                                }
-                            } else {
-                                int exitCode = payaraProcess.exitValue();
-                                
-                                if (exitCode != 0) {
-                                    // Something bad happened, show user startup console
-                                    
-                                    logMessage("launch failed with exit code " + exitCode);
-                                    showConsole(startupConsole);
-                                    
-                                    throw new PayaraLaunchException("Launch process failed with exit code " + exitCode);
+            return process;
+        } finally {
+            filelogConsole.removeLogListener(detector);
+            if (startupConsole != null) {
+                startupConsole.removeLogListener(detector);
+            }
+        }
+    }
+    
+    private void waitForPayaraStarted(ResultProcess process, IPayaraConsole startupConsole, IPayaraConsole filelogConsole, StartupLogDetector detector, boolean earlyAttach) throws Exception {
+        Process payaraProcess = process.getValue().getProcess();
+        
+        boolean attached = false;
+        boolean hasLogged = false;
+        boolean hasLoggedPayara = false;
+        int confirmedMilestones = 0;
+        
+        // Query the process status in a loop
+        
+        check_server_status: while (true) {
+            
+            ServerStatus status;
+            int readyMilestones = detector.getReadyMilestones();
+            if (readyMilestones > confirmedMilestones) {
+                // The log says the server is (nearly) up, confirm it with one admin port probe
+                confirmedMilestones = readyMilestones;
+                status = payaraServerBehaviour.getServerStatus(true);
+            } else {
+                status = payaraServerBehaviour.getServerStatus(false);
+            }
+            
+            switch (status) {
+                case STOPPED_NOT_LISTENING:
+                    try {
+                        if (payaraProcess.isAlive()) {
+                            
+                            // Server is not (yet) listening.
+                            // Check if we need to attach the debugger for it to continue.
+                            // This happens when the server is started in debug with halt on start
+                            
+                            if (earlyAttach && mode == DEBUG && !attached) {
+                                try {
+                                    payaraServerBehaviour.attach(launch, configuration.getWorkingCopy(), null, getDebugPort(process));
+                                    checkMonitorAndProgress(monitor, WORK_STEP);
+                                    attached = true;
+                                } catch (CoreException e) {
+                                    // Process may not have reached the point where it waits for a remote connection
+                                    logMessage(e.getMessage());
                                 }
                             }
+                        } else {
+                            int exitCode = payaraProcess.exitValue();
                             
-                        } catch (IllegalThreadStateException e) { // still running, keep waiting
+                            if (exitCode != 0) {
+                                // Something bad happened, show user startup console
+                                
+                                logMessage("launch failed with exit code " + exitCode);
+                                showConsole(startupConsole);
+                                
+                                throw new PayaraLaunchException("Launch process failed with exit code " + exitCode);
+                            }
                         }
                         
-                        break;
-                    case RUNNING_PROXY_ERROR:
-                        startupConsole.stopLogging();
-                        payaraProcess.destroy();
+                    } catch (IllegalThreadStateException e) { // still running, keep waiting
+                    }
+                    
+                    break;
+                case RUNNING_PROXY_ERROR:
+                    startupConsole.stopLogging();
+                    payaraProcess.destroy();
 
-                        throw new PayaraLaunchException(
-                            "BAD GATEWAY response code returned. Check your proxy settings. Killing startup process.",
-                            payaraProcess);
-                    case RUNNING_CREDENTIAL_PROBLEM:
-                        startupConsole.stopLogging();
-                        payaraProcess.destroy();
-                        AdminCredentialsDialog.open(payaraServerBehaviour.getServer());
+                    throw new PayaraLaunchException(
+                        "BAD GATEWAY response code returned. Check your proxy settings. Killing startup process.",
+                        payaraProcess);
+                case RUNNING_CREDENTIAL_PROBLEM:
+                    startupConsole.stopLogging();
+                    payaraProcess.destroy();
+                    AdminCredentialsDialog.open(payaraServerBehaviour.getServer());
 
-                        throw new PayaraLaunchException("Wrong user name or password. Killing startup process.",
-                            payaraProcess);
-                    case RUNNING_DOMAIN_MATCHING:
-                        startupConsole.stopLogging();
-                        break check_server_status;
-                    default:
-                        break;
-                }
+                    throw new PayaraLaunchException("Wrong user name or password. Killing startup process.",
+                        payaraProcess);
+                case RUNNING_DOMAIN_MATCHING:
+                    startupConsole.stopLogging();
+                    detector.markReady();
+                    logMessage("Payara launch of " + payaraServerBehaviour.getPayaraServerDelegate().getName() + ": " + detector.getReport());
+                    break check_server_status;
+                default:
+                    break;
+            }
+            
+            // Wait for notification when server state changes or a startup milestone is logged
+            try {
+                checkMonitor(monitor);
                 
-                // Wait for notification when server state changes
-                try {
-                    checkMonitor(monitor);
-                    
-                    // Limit waiting so we can check process exit code again
-                    payaraServerBehaviour.wait(500);
-                    
-                    if (!hasLogged && (startupConsole.hasLogged() || filelogConsole.hasLogged())) {
-                        // Something has been logged meaning the JVM of the target
-                        // process is activated. Could be JVM logging first
-                        // like "waiting for connection", or the first log line of Payara starting
-                        hasLogged = true;
-                        checkMonitorAndProgress(monitor, WORK_STEP / 4);
-                    }
-                    
-                    if (!hasLoggedPayara && filelogConsole.hasLoggedPayara()) {
-                        
-                        // A Payara logline has been written, meaning Payara is now starting up.
-                        hasLoggedPayara = true;
-                        checkMonitorAndProgress(monitor, WORK_STEP / 4);
+                // Limit waiting so we can check process exit code again. The lock is only held while
+                // waiting, the status probe above must not block the log reader thread waking us up.
+                synchronized (payaraServerBehaviour) {
+                    if (detector.getReadyMilestones() == confirmedMilestones) {
+                        payaraServerBehaviour.wait(500);
                     }
+                }
+                
+                if (!hasLogged && (detector.hasOutput() || startupConsole.hasLogged() || filelogConsole.hasLogged())) {
+                    // Something has been logged meaning the JVM of the target
+                    // process is activated. Could be JVM logging first
+                    // like "waiting for connection", or the first log line of Payara starting
+                    hasLogged = true;
+                    checkMonitorAndProgress(monitor, WORK_STEP / 4);
+                }
+                
+                if (!hasLoggedPayara && (detector.hasPayaraBooting() || filelogConsole.hasLoggedPayara())) {
                     
-                } catch (InterruptedException e) {
-                    startupConsole.stopLogging();
-                    payaraProcess.destroy();
-                    throw e;
+                    // A Payara logline has been written, meaning Payara is now starting up.
+                    hasLoggedPayara = true;
+                    checkMonitorAndProgress(monitor, WORK_STEP / 4);
                 }
+                
+            } catch (InterruptedException e) {
+                startupConsole.stopLogging();
+                payaraProcess.destroy();
+                throw e;
             }
         }
-
-        return process;
     }
     
     private ResultProcess startPayara(boolean earlyAttach) throws PayaraLaunchException {
@@ -184,8 +222,9 @@ public class PayaraStartJob implements Callable<ResultProcess> {
         }
     }
     
-    private IPayaraConsole startLogging(Process payaraProcess) {
+    private IPayaraConsole startLogging(Process payaraProcess, StartupLogDetector detector) {
         IPayaraConsole startupConsole = getStartupProcessConsole(payaraServerBehaviour.getPayaraServerDelegate(), payaraProcess);
+        startupConsole.addLogListener(detector);
         
         startupConsole.startLogging(
                 new FetchLogSimple(payaraProcess.getInputStream()),
@@ -0,0 +1,159 @@
+/******************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.payara.tools.server.starting;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import org.eclipse.payara.tools.log.ILogListener;
+import org.eclipse.payara.tools.sdk.utils.MarkerMatcher;
+
+/**
+ * Watches the log stream of a starting server for startup milestones.
+ *
+ * <p>
+ * The detector recognizes the first output of the JVM, the first Payara log record, the record of the
+ * admin listener being bound to the admin port and the "startup time" record Payara writes once
+ * startup completes. Every newly reached milestone runs the change callback, so the start job can
+ * confirm the server state with a single admin port probe right away instead of waiting for the next
+ * poll.
+ * </p>
+ *
+ * <p>
+ * The milestone times also give the timing report of a launch: JVM start, Payara boot and ready to
+ * deploy time.
+ * </p>
+ *
+ * <p>
+ * All markers are looked for in a single pass over each line.
+ * </p>
+ */
+public class StartupLogDetector implements ILogListener {
+
+    private static final String PAYARA_RECORD = "[Payara";
+    private static final String BOUND_TO = "bound to [";
+    private static final String STARTUP_TIME = "startup time";
+    private static final String STARTUP_TOTAL = "total(";
+
+    // Bits of the markers found in a line
+    private static final int FOUND_PAYARA_RECORD = 1;
+    private static final int FOUND_BOUND_TO = 1 << 1;
+    private static final int FOUND_ADMIN_PORT = 1 << 2;
+    private static final int FOUND_STARTUP_TIME = 1 << 3;
+    private static final int FOUND_STARTUP_TOTAL = 1 << 4;
+
+    private final MarkerMatcher<Integer> markers = new MarkerMatcher<>(true);
+    private final Runnable onChange;
+    private final long launched = System.nanoTime();
+
+    private volatile long firstOutput;
+    private volatile long payaraBoot;
+    private volatile long portReady;
+    private volatile long startupComplete;
+    private volatile long ready;
+
+    /**
+     * @param adminPort admin port of the starting server
+     * @param onChange callback run when a new milestone has been reached
+     */
+    public StartupLogDetector(int adminPort, Runnable onChange) {
+        this.onChange = onChange;
+
+        markers.add(PAYARA_RECORD, FOUND_PAYARA_RECORD);
+        markers.add(BOUND_TO, FOUND_BOUND_TO);
+        markers.add(":" + adminPort + "]", FOUND_ADMIN_PORT);
+        markers.add(STARTUP_TIME, FOUND_STARTUP_TIME);
+        markers.add(STARTUP_TOTAL, FOUND_STARTUP_TOTAL);
+        markers.build();
+    }
+
+    @Override
+    public void lineRead(String line) {
+        boolean changed = false;
+        long now = System.nanoTime();
+
+        int[] found = new int[1];
+        markers.scan(line, MarkerMatcher.START, (marker, end) -> {
+            found[0] |= marker;
+            return true;
+        });
+
+        synchronized (this) {
+            if (firstOutput == 0) {
+                firstOutput = now;
+                changed = true;
+            }
+            if (payaraBoot == 0 && has(found[0], FOUND_PAYARA_RECORD)) {
+                payaraBoot = now;
+                changed = true;
+            }
+            if (portReady == 0 && has(found[0], FOUND_BOUND_TO | FOUND_ADMIN_PORT)) {
+                portReady = now;
+                changed = true;
+            }
+            if (startupComplete == 0 && has(found[0], FOUND_STARTUP_TIME | FOUND_STARTUP_TOTAL)) {
+                startupComplete = now;
+                changed = true;
+            }
+        }
+
+        if (changed) {
+            onChange.run();
+        }
+    }
+
+    public boolean hasOutput() {
+        return firstOutput != 0;
+    }
+
+    public boolean hasPayaraBooting() {
+        return payaraBoot != 0;
+    }
+
+    /**
+     * @return number of reached milestones after which the server may accept admin commands, i.e.
+     * admin port bound and startup complete
+     */
+    public int getReadyMilestones() {
+        return (portReady != 0 ? 1 : 0) + (startupComplete != 0 ? 1 : 0);
+    }
+
+    /**
+     * Marks the server as confirmed running by the admin port probe.
+     */
+    public synchronized void markReady() {
+        if (ready == 0) {
+            ready = System.nanoTime();
+        }
+    }
+
+    /**
+     * @return timing report splitting the launch into JVM start, Payara boot and ready to deploy time
+     */
+    public synchronized String getReport() {
+        long end = ready != 0 ? ready : System.nanoTime();
+        long jvmStarted = firstOutput != 0 ? firstOutput : payaraBoot != 0 ? payaraBoot : end;
+        long booted = startupComplete != 0 ? startupComplete : portReady != 0 ? portReady : end;
+        booted = Math.max(booted, jvmStarted);
+
+        return
+            "JVM start " + millis(jvmStarted - launched) + " ms, " +
+            "Payara boot " + millis(booted - jvmStarted) + " ms, " +
+            "ready to deploy " + millis(end - booted) + " ms, " +
+            "total " + millis(end - launched) + " ms";
+    }
+
+    private static boolean has(int found, int markers) {
+        return (found & markers) == markers;
+    }
+
+    private static long millis(long nanos) {
+        return NANOSECONDS.toMillis(Math.max(0, nanos));
+    }
+}
@@ -26,6 +26,7 @@ import static org.eclipse.payara.tools.sdk.TaskState.COMPLETED;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +37,7 @@ import java.util.concurrent.TimeoutException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.eclipse.payara.tools.sdk.PayaraIdeException;
 import org.eclipse.payara.tools.sdk.TaskState;
 import org.eclipse.payara.tools.sdk.admin.Command;
 import org.eclipse.payara.tools.sdk.admin.CommandListComponents;
@@ -73,6 +75,56 @@ public class NodesUtils {
         return retVal;
     }
 
+    /**
+     * Lists resources of the given types with one request for all types, falls back to one request
+     * per type sent at once when the server can not list all resources. Either way only resources
+     * referenced by DAS are listed, like with list commands sent without target.
+     *
+     * @return resources indexed by type, every given type is present
+     */
+    public static Map<String, List<ResourceDesc>> getAllResources(PayaraServer server, String... types) {
+        Map<String, List<String>> names = null;
+        try {
+            names = CommandListResources.listAllResources(server);
+        } catch (PayaraIdeException ex) {
+            Logger.getLogger("glassfish").log(Level.INFO, ex.getMessage(), ex);
+        }
+
+        if (names == null) {
+            // List commands are read only, so they are not serialized with other commands
+            Map<String, Future<ResultList<String>>> futures = new LinkedHashMap<>();
+            for (String type : types) {
+                futures.put(type, ServerAdmin.<ResultList<String>>exec(server,
+                        new CommandListResources(CommandListResources.command(type), null)));
+            }
+            names = new HashMap<>();
+            for (Map.Entry<String, Future<ResultList<String>>> entry : futures.entrySet()) {
+                try {
+                    ResultList<String> res = entry.getValue().get();
+                    if (COMPLETED.equals(res.getState()) && res.getValue() != null) {
+                        names.put(entry.getKey(), res.getValue());
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    Logger.getLogger("glassfish").log(Level.INFO, ex.getMessage(), ex);
+                    break;
+                } catch (ExecutionException ex) {
+                    Logger.getLogger("glassfish").log(Level.INFO, ex.getMessage(), ex);
+                }
+            }
+        }
+
+        Map<String, List<ResourceDesc>> resources = new HashMap<>();
+        for (String type : types) {
+            List<ResourceDesc> typeResources = new ArrayList<>();
+            for (String name : names.getOrDefault(type, emptyList())) {
+                typeResources.add(new ResourceDesc(name, type));
+            }
+            resources.put(type, typeResources);
+        }
+        return resources;
+    }
+
     public static Map<String, List<AppDesc>> getApplications(PayaraServer server, String container) {
         Map<String, List<String>> apps = Collections.emptyMap();
         Command command = new CommandListComponents(null);
@@ -54,16 +54,14 @@ import org.eclipse.wst.server.core.IServer;
 public class ServerStatusHelper {
 
     public static ServerStatus checkServerStatus(PayaraServer server) {
-        
-        // Randomly wait for some random reason
-        try {
-            Thread.sleep(Math.round(Math.random() * 1000));
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return NOT_DEFINED;
-        }
+        return checkServerStatus(server, isAdminPortListening(server));
+    }
 
-        if (!isAdminPortListening(server)) {
+    /**
+     * Checks server status with the result of an admin port check which was already done.
+     */
+    public static ServerStatus checkServerStatus(PayaraServer server, boolean adminPortListening) {
+        if (!adminPortListening) {
             return STOPPED_NOT_LISTENING;
         }
 
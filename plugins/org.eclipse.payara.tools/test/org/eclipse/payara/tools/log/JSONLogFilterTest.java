@@ -0,0 +1,149 @@
+/** ****************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ***************************************************************************** */
+package org.eclipse.payara.tools.log;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Level;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.eclipse.payara.tools.sdk.server.LogFilterSpec;
+import org.junit.Test;
+
+
+/**
+ * JSON log record parser test.
+ * <p>
+ * Feeds records in the format of the Payara JSON log formatter line by line.
+ */
+public class JSONLogFilterTest {
+
+    /** Record with escaped message. */
+    private static final String STARTED
+            = "{\"Timestamp\":\"2020-04-23T10:53:40.123+0200\",\"Level\":\"INFO\",\"Version\":\"Payara 5.201\","
+            + "\"LoggerName\":\"org.glassfish.grizzly.http.server\",\"ThreadID\":\"1\",\"ThreadName\":\"main\","
+            + "\"TimeMillis\":\"1587635620123\",\"LevelValue\":\"800\","
+            + "\"LogMessage\":\"Grizzly \\\"Framework\\\" started\\tin: 40ms - bound to [/0.0.0.0:8080] \\u00e9\"}";
+
+    /** Record with stack trace, split over several lines. */
+    private static final String[] FAILED = {
+        "{\"Timestamp\":\"2020-04-23T10:54:02.001+0200\",\"Level\":\"SEVERE\",\"Version\":\"Payara 5.201\",",
+        "  \"LoggerName\":\"javax.enterprise.web.core\",\"ThreadID\":\"42\",\"TimeMillis\":1587635642001,",
+        "  \"LevelValue\":1000,\"LogMessage\":\"Request failed {for} /app\",",
+        "  \"Throwable\":{\"Exception\":\"int[][]\",\"StackTrace\":\"java.lang.IllegalStateException: int[][]\\n"
+                + "\\tat com.example.Servlet.doGet(Servlet.java:10)\"}}"
+    };
+
+    /**
+     * Feed lines to the filter.
+     * <p/>
+     * @return Records completed by the lines.
+     */
+    private static List<String> process(AbstractLogFilter filter, String... lines) {
+        List<String> result = new ArrayList<>();
+        for (String line : lines) {
+            String record = filter.process(line);
+            if (record != null) {
+                result.add(record);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Test that records are formatted with time, level and message only.
+     */
+    @Test
+    public void parseRecords() {
+        JSONLogFilter filter = new JSONLogFilter();
+        assertFalse(filter.hasProcessedPayara());
+        List<LogRecord> stored = new ArrayList<>();
+        filter.setRecordListener(record -> {
+            LogRecord copy = new LogRecord();
+            copy.setClassInfo(record.getClassInfo());
+            copy.setThreadInfo(record.getThreadInfo());
+            copy.setTimeMillis(record.getTimeMillis());
+            copy.setLevelValue(record.getLevelValue());
+            stored.add(copy);
+        });
+
+        List<String> records = process(filter, STARTED, "", FAILED[0], FAILED[1], FAILED[2], FAILED[3], STARTED);
+
+        assertEquals(3, records.size());
+        assertEquals("2020-04-23T10:53:40.123+0200|INFO: Grizzly \"Framework\" started\tin: 40ms - bound to [/0.0.0.0:8080] \u00e9",
+                records.get(0));
+        assertEquals("2020-04-23T10:54:02.001+0200|SEVERE: Request failed {for} /app\n"
+                + "java.lang.IllegalStateException: int[][]\n"
+                + "\tat com.example.Servlet.doGet(Servlet.java:10)",
+                records.get(1));
+        assertEquals(records.get(0), records.get(2));
+        assertTrue(filter.hasProcessedPayara());
+
+        assertEquals("org.glassfish.grizzly.http.server", stored.get(0).getClassInfo());
+        assertEquals("main", stored.get(0).getThreadInfo());
+        assertEquals(1587635620123L, stored.get(0).getTimeMillis());
+        assertEquals(800, stored.get(0).getLevelValue());
+        assertEquals("42", stored.get(1).getThreadInfo());
+        assertEquals(1000, stored.get(1).getLevelValue());
+    }
+
+    /**
+     * Test that text outside of records and malformed records are passed through.
+     */
+    @Test
+    public void passText() {
+        JSONLogFilter filter = new JSONLogFilter();
+        assertEquals("Launching GlassFish on Felix platform", filter.process("Launching GlassFish on Felix platform"));
+        assertEquals("{\"Level\":\"INFO\" \"LogMessage\":\"x\"}", filter.process("{\"Level\":\"INFO\" \"LogMessage\":\"x\"}"));
+        assertEquals(1, process(filter, STARTED).size());
+    }
+
+    /**
+     * Test that log format is detected from the first record.
+     */
+    @Test
+    public void detectFormat() {
+        AutoDetectLogFilter filter = new AutoDetectLogFilter();
+        assertEquals("Waiting for domain1 to start", filter.process("Waiting for domain1 to start"));
+        assertEquals(null, filter.getDelegate());
+        assertEquals(1, process(filter, STARTED).size());
+        assertTrue(filter.getDelegate() instanceof JSONLogFilter);
+        assertTrue(filter.hasProcessedPayara());
+
+        assertTrue(AutoDetectLogFilter.detect("[2020-04-23T10:53:40.123+0200] [Payara 5.201] [INFO] [[") instanceof ODLLogFilter);
+        assertTrue(AutoDetectLogFilter.detect("[#|2020-04-23T10:53:40.123+0200|INFO|Payara 5.201|") instanceof StateLogFilterV3);
+        assertEquals(null, AutoDetectLogFilter.detect("[INFO] Building"));
+    }
+
+    /**
+     * Test that records not accepted by record filter are not returned but still passed to record
+     * listener.
+     */
+    @Test
+    public void filterRecords() {
+        AutoDetectLogFilter filter = new AutoDetectLogFilter();
+        List<Integer> stored = new ArrayList<>();
+        filter.setRecordListener(record -> stored.add(record.getLevelValue()));
+        filter.setRecordFilter(new LogFilterSpec(Level.WARNING, null, null));
+
+        List<String> records = process(filter, STARTED, FAILED[0], FAILED[1], FAILED[2], FAILED[3], STARTED);
+
+        assertEquals(1, records.size());
+        assertTrue(records.get(0).startsWith("2020-04-23T10:54:02.001+0200|SEVERE: Request failed"));
+        assertEquals(1587635642001L, filter.pollRecordTime());
+        assertEquals(0, filter.pollRecordTime());
+        assertEquals(3, stored.size());
+
+        filter.setRecordFilter(new LogFilterSpec(Level.ALL, null, Arrays.asList("javax.enterprise")));
+        assertEquals(2, process(filter, FAILED[0], FAILED[1], FAILED[2], FAILED[3], STARTED, STARTED).size());
+        assertEquals(6, stored.size());
+    }
+}
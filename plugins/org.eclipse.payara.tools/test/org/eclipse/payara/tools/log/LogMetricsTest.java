@@ -0,0 +1,72 @@
+/** ****************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ***************************************************************************** */
+package org.eclipse.payara.tools.log;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.eclipse.payara.tools.sdk.server.FetchLogSimple;
+import org.junit.Test;
+
+
+/**
+ * Log source metrics test.
+ * <p>
+ * Reads ODL log through reader and pipeline into ring buffer.
+ */
+public class LogMetricsTest {
+
+    /** Number of records in log. */
+    private static final int RECORDS = 1000;
+
+    /** Age of records when log is read [ms]. */
+    private static final long AGE = 5000;
+
+    /**
+     * Test that bytes, records and lag of records written to console are measured.
+     */
+    @Test
+    public void measureSource() throws Exception {
+        long recordTime = System.currentTimeMillis() - AGE;
+        StringBuilder log = new StringBuilder();
+        for (int i = 0; i < RECORDS; i++) {
+            log.append("[2020-04-23T10:53:40.123+0200] [Payara 5.201] [INFO] [] [javax.enterprise.web] ")
+                    .append("[tid: _ThreadID=1 _ThreadName=main] [timeMillis: ").append(recordTime)
+                    .append("] [levelValue: 800] [[\n  Loading application #").append(i).append("]]\n\n");
+        }
+        byte[] bytes = log.toString().getBytes(StandardCharsets.UTF_8);
+
+        LogRingBuffer buffer = new LogRingBuffer(RECORDS * 2, () -> {
+        });
+        CountDownLatch latch = new CountDownLatch(1);
+        LogPipeline pipeline = new LogPipeline(buffer, latch);
+        FetchLogSimple fetcher = new FetchLogSimple(new ByteArrayInputStream(bytes));
+        LogMetrics metrics = new LogMetrics(fetcher);
+        LogReader reader = new LogReader(fetcher, pipeline.addSource(metrics), metrics, new ODLLogFilter(),
+                Collections.emptyList());
+        assertEquals(-1, metrics.getLag());
+
+        new Thread(pipeline).start();
+        reader.run();
+        latch.await();
+        metrics.sample();
+
+        assertEquals(bytes.length, metrics.getBytes());
+        assertEquals(RECORDS, metrics.getRecords());
+        assertEquals(RECORDS, buffer.getNextLine());
+        assertTrue(metrics.getBytesPerSecond() > 0);
+        assertTrue(metrics.getRecordsPerSecond() > 0);
+        assertTrue("Lag " + metrics.getLag() + " ms", metrics.getLag() >= AGE && metrics.getLag() < AGE * 10);
+        assertEquals(-1, metrics.getPipeBufferSize());
+        assertTrue(metrics.toString().endsWith(", lag " + metrics.getLag() + " ms"));
+    }
+}
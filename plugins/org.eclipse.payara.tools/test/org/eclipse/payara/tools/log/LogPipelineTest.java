@@ -0,0 +1,74 @@
+/** ****************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ***************************************************************************** */
+package org.eclipse.payara.tools.log;
+
+import java.util.concurrent.CountDownLatch;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+
+/**
+ * Log pipeline test.
+ * <p>
+ * Merges records of several sources into ring buffer.
+ */
+public class LogPipelineTest {
+
+    /**
+     * Test that records of different sources are merged by their timestamps.
+     */
+    @Test
+    public void mergeByRecordTime() throws Exception {
+        LogRingBuffer buffer = new LogRingBuffer(16, null);
+        CountDownLatch latch = new CountDownLatch(1);
+        LogPipeline pipeline = new LogPipeline(buffer, latch);
+        LogPipeline.Source first = pipeline.addSource();
+        LogPipeline.Source second = pipeline.addSource();
+
+        first.put("first 1000", 1000);
+        first.put("first 3000", 3000);
+        second.put("second 2000", 2000);
+        second.put("second 4000", 4000);
+        first.close();
+        second.close();
+
+        pipeline.run();
+        latch.await();
+
+        StringBuilder text = new StringBuilder();
+        buffer.drain(0, text, null);
+        assertEquals("first 1000\nsecond 2000\nfirst 3000\nsecond 4000\n", text.toString());
+    }
+
+    /**
+     * Test that records of a single source keep their order whatever their timestamps are.
+     */
+    @Test
+    public void keepSourceOrder() throws Exception {
+        LogRingBuffer buffer = new LogRingBuffer(16, null);
+        CountDownLatch latch = new CountDownLatch(1);
+        LogPipeline pipeline = new LogPipeline(buffer, latch);
+        LogPipeline.Source first = pipeline.addSource();
+        LogPipeline.Source second = pipeline.addSource();
+
+        first.put("first 3000", 3000);
+        first.put("first 1000", 1000);
+        second.put("second 2000", 2000);
+        first.close();
+        second.close();
+
+        pipeline.run();
+        latch.await();
+
+        StringBuilder text = new StringBuilder();
+        buffer.drain(0, text, null);
+        assertEquals("second 2000\nfirst 3000\nfirst 1000\n", text.toString());
+    }
+
+}
@@ -0,0 +1,102 @@
+/** ****************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ***************************************************************************** */
+package org.eclipse.payara.tools.log;
+
+import static org.eclipse.payara.tools.log.LogRingBuffer.STYLE_ERROR;
+import static org.eclipse.payara.tools.log.LogRingBuffer.STYLE_NONE;
+import static org.eclipse.payara.tools.log.LogRingBuffer.styleKind;
+import static org.junit.Assert.assertEquals;
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.junit.Test;
+
+
+/**
+ * Console document rendering test.
+ * <p>
+ * Renders ring buffer lines into document, trims the document and keeps line styles aligned.
+ */
+public class LogRendererTest {
+
+    /** Number of lines kept by the console. */
+    private static final int CAPACITY = 10;
+
+    /**
+     * Add lines, every fifth line is SEVERE record.
+     */
+    private static void add(LogRingBuffer buffer, int from, int to) {
+        for (int i = from; i < to; i++) {
+            buffer.add("2020-04-23T10:53:40.123+0200|" + (i % 5 == 0 ? "SEVERE" : "INFO") + ": line " + i);
+        }
+    }
+
+    /**
+     * Check that document holds the given lines and their styles.
+     */
+    private static void assertLines(IDocument document, LogRenderer renderer, int from, int to)
+            throws BadLocationException {
+        assertEquals(to - from + 1, document.getNumberOfLines());
+        for (int i = from; i < to; i++) {
+            int line = i - from;
+            String text = document.get(document.getLineOffset(line), document.getLineLength(line));
+            assertEquals("2020-04-23T10:53:40.123+0200|" + (i % 5 == 0 ? "SEVERE" : "INFO") + ": line " + i + "\n",
+                    text);
+            assertEquals(i % 5 == 0 ? STYLE_ERROR : STYLE_NONE, styleKind(renderer.getLineStyle(line)));
+        }
+        assertEquals(STYLE_NONE, styleKind(renderer.getLineStyle(to - from)));
+    }
+
+    /**
+     * Test that new lines are appended and the oldest lines removed from the document.
+     */
+    @Test
+    public void appendAndTrim() throws BadLocationException {
+        LogRingBuffer buffer = new LogRingBuffer(CAPACITY, null);
+        LogRenderer renderer = new LogRenderer(buffer);
+        IDocument document = new Document();
+
+        add(buffer, 0, 4);
+        renderer.render(document);
+        assertLines(document, renderer, 0, 4);
+
+        add(buffer, 4, 12);
+        renderer.render(document);
+        assertLines(document, renderer, 2, 12);
+
+        // More lines than the capacity, the whole document is replaced
+        add(buffer, 12, 42);
+        renderer.render(document);
+        assertLines(document, renderer, 32, 42);
+
+        renderer.render(document);
+        assertLines(document, renderer, 32, 42);
+    }
+
+    /**
+     * Test that cleared document gets only the lines added since.
+     */
+    @Test
+    public void clearDocument() throws BadLocationException {
+        LogRingBuffer buffer = new LogRingBuffer(CAPACITY, null);
+        LogRenderer renderer = new LogRenderer(buffer);
+        IDocument document = new Document();
+
+        add(buffer, 0, 8);
+        renderer.render(document);
+        document.set("");
+        renderer.clear();
+        assertEquals(STYLE_NONE, styleKind(renderer.getLineStyle(0)));
+
+        add(buffer, 8, 14);
+        renderer.render(document);
+        assertLines(document, renderer, 8, 14);
+    }
+
+}
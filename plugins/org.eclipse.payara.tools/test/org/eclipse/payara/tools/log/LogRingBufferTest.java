@@ -0,0 +1,144 @@
+/** ****************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ***************************************************************************** */
+package org.eclipse.payara.tools.log;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.eclipse.payara.tools.log.LogRingBuffer.STYLE_ERROR;
+import static org.eclipse.payara.tools.log.LogRingBuffer.STYLE_NONE;
+import static org.eclipse.payara.tools.log.LogRingBuffer.STYLE_WARNING;
+import static org.eclipse.payara.tools.log.LogRingBuffer.styleKind;
+import static org.eclipse.payara.tools.log.LogRingBuffer.styleLength;
+import static org.eclipse.payara.tools.log.LogRingBuffer.styleStart;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.junit.Test;
+
+
+/**
+ * Console ring buffer test.
+ * <p>
+ * Includes synthetic flood of the console by several log readers.
+ */
+public class LogRingBufferTest {
+
+    /** Console capacity used by flood test. */
+    private static final int CAPACITY = 5_000;
+
+    /** Delay between console updates [ms]. */
+    private static final int RENDER_DELAY = 100;
+
+    /**
+     * Test that only the last lines are kept and lines of a record are split.
+     */
+    @Test
+    public void keepLastLines() {
+        LogRingBuffer buffer = new LogRingBuffer(100, null);
+        for (int i = 0; i < 240; i++) {
+            buffer.add("line " + i);
+        }
+        buffer.add("line 240\nline 241");
+
+        StringBuilder text = new StringBuilder();
+        assertEquals(242, buffer.drain(0, text, null));
+        assertTrue(text.toString().startsWith("line 142\nline 143\n"));
+        assertTrue(text.toString().endsWith("line 240\nline 241\n"));
+
+        text.setLength(0);
+        buffer.add("line 242");
+        assertEquals(243, buffer.drain(242, text, null));
+        assertEquals("line 242\n", text.toString());
+    }
+
+    /**
+     * Test that styles are computed when lines are added.
+     */
+    @Test
+    public void computeStyles() {
+        LogRingBuffer buffer = new LogRingBuffer(10, null);
+        buffer.add("2020-04-23T10:53:40.123+0200|WARNING: Context path is not set");
+        buffer.add("2020-04-23T10:53:40.123+0200|SEVERE: Request failed\njava.lang.IllegalStateException");
+        long[] styles = new long[10];
+        buffer.drain(0, new StringBuilder(), styles);
+
+        assertEquals(STYLE_WARNING, styleKind(styles[0]));
+        assertEquals(29, styleStart(styles[0]));
+        assertEquals(7, styleLength(styles[0]));
+        assertEquals(STYLE_ERROR, styleKind(styles[1]));
+        assertEquals(6, styleLength(styles[1]));
+        assertEquals(STYLE_NONE, styleKind(styles[2]));
+    }
+
+    /**
+     * Test that console flooded by four readers keeps the document within its capacity.
+     * <p/>
+     * Readers are never throttled by the console, every console update takes at most the capacity
+     * of lines however fast the lines come and the update is scheduled once per drain only.
+     */
+    @Test
+    public void floodConsole() throws Exception {
+        AtomicInteger scheduled = new AtomicInteger();
+        LogRingBuffer buffer = new LogRingBuffer(CAPACITY, scheduled::incrementAndGet);
+        CountDownLatch latch = new CountDownLatch(1);
+        LogPipeline pipeline = new LogPipeline(buffer, latch);
+
+        int readers = 4;
+        int records = 20_000;
+        List<Thread> threads = new ArrayList<>();
+        for (int r = 0; r < readers; r++) {
+            LogPipeline.Source source = pipeline.addSource();
+            int reader = r;
+            threads.add(new Thread(() -> {
+                try {
+                    for (int i = 0; i < records; i++) {
+                        source.put("2020-04-23T10:53:40.123+0200|" + (i % 50 == 0 ? "SEVERE" : "FINE")
+                                + ": Reader " + reader + " record " + i);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    source.close();
+                }
+            }));
+        }
+
+        new Thread(pipeline).start();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+
+        // Console updates in UI thread
+        LogRenderer renderer = new LogRenderer(buffer);
+        IDocument document = new Document();
+        int renders = 0;
+        while (!latch.await(RENDER_DELAY, TimeUnit.MILLISECONDS)) {
+            renderer.render(document);
+            renders++;
+            assertTrue(document.getNumberOfLines() - 1 <= CAPACITY);
+        }
+        renderer.render(document);
+        renders++;
+
+        // Every record has been written unless dropped
+        assertTrue(buffer.getNextLine() >= readers * records - pipeline.getDroppedRecords());
+        assertEquals(CAPACITY + 1, document.getNumberOfLines());
+        assertTrue(scheduled.get() <= renders + 1);
+        for (int line = 0; line < CAPACITY; line++) {
+            String text = document.get(document.getLineOffset(line), document.getLineLength(line));
+            int style = text.contains("|SEVERE:") ? STYLE_ERROR : STYLE_NONE;
+            assertEquals(text, style, styleKind(renderer.getLineStyle(line)));
+        }
+    }
+
+}
@@ -0,0 +1,229 @@
+/** ****************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ***************************************************************************** */
+package org.eclipse.payara.tools.log;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.List;
+import java.util.logging.Level;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+
+/**
+ * On-disk log store test.
+ * <p>
+ * Stores records over many small segments and queries them by all criteria.
+ */
+public class LogStoreTest {
+
+    /** Number of stored records. */
+    private static final int RECORDS = 20_000;
+
+    /** Time of the first record [ms]. */
+    private static final long START = 1_587_635_620_000L;
+
+    /** Segment size small enough to spread records over many segments. */
+    private static final long SEGMENT_SIZE = 64 * 1024;
+
+    /** Store directories, deleted after every test. */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Create empty store directory.
+     */
+    private File createDirectory() throws IOException {
+        return folder.newFolder();
+    }
+
+    /**
+     * Store records ten milliseconds apart. Every hundredth record is SEVERE and records
+     * from 5000 to 5999 are written by deployment logger.
+     */
+    private static void fill(LogStore store) {
+        LogRecord record = new LogRecord();
+        for (int i = 0; i < RECORDS; i++) {
+            record.reset();
+            record.setTimeMillis(START + i * 10L);
+            Level level = i % 100 == 0 ? Level.SEVERE : Level.INFO;
+            record.setLevel(level.getName());
+            record.setLevelValue(level.intValue());
+            record.setClassInfo(i >= 5000 && i < 6000 ? "fish.payara.deployment" : "javax.enterprise.web");
+            record.setThreadInfo("_ThreadID=" + (i % 16));
+            record.setMessage("Served request #" + i + ".");
+            store.append(record);
+        }
+    }
+
+    /**
+     * Test that queries return exactly the matching records.
+     */
+    @Test
+    public void queryRecords() throws IOException {
+        LogStore store = new LogStore(createDirectory(), SEGMENT_SIZE, 1000);
+        fill(store);
+
+        List<StoredLogRecord> severe = store.query(new LogQuery().minLevel(Level.SEVERE).limit(RECORDS));
+        assertEquals(RECORDS / 100, severe.size());
+        assertEquals("Served request #100.", severe.get(1).getMessage());
+
+        List<StoredLogRecord> range = store.query(new LogQuery().from(START + 10_000).to(START + 19_990).limit(RECORDS));
+        assertEquals(1000, range.size());
+        assertEquals(START + 10_000, range.get(0).getTimeMillis());
+        assertEquals(START + 19_990, range.get(999).getTimeMillis());
+
+        assertEquals(1000, store.query(new LogQuery().classInfoPrefix("fish.payara").limit(RECORDS)).size());
+        assertEquals(10, store.query(new LogQuery().classInfoPrefix("fish.").minLevel(Level.SEVERE)).size());
+
+        List<StoredLogRecord> found = store.query(new LogQuery().messageContains("#12345."));
+        assertEquals(1, found.size());
+        assertEquals(START + 123_450, found.get(0).getTimeMillis());
+        assertEquals("javax.enterprise.web", found.get(0).getClassInfo());
+        assertEquals("_ThreadID=9", found.get(0).getThreadInfo());
+        assertEquals(Level.INFO.getName(), found.get(0).getLevel());
+
+        assertEquals(50, store.query(new LogQuery().limit(50)).size());
+        store.close();
+    }
+
+    /**
+     * Test that reopened store is queried by written indexes and by rebuilt index of segment
+     * which was not closed, with partially written record at its end.
+     */
+    @Test
+    public void reopenStore() throws IOException {
+        File directory = createDirectory();
+        LogStore store = new LogStore(directory, SEGMENT_SIZE, 1000);
+        fill(store);
+
+        // Flushes without writing index of current segment
+        store.query(new LogQuery().limit(1));
+        File[] segments = directory.listFiles((dir, name) -> name.endsWith(".log"));
+        assertTrue(segments.length > 10);
+        File last = segments[0];
+        for (File segment : segments) {
+            if (segment.getName().compareTo(last.getName()) > 0) {
+                last = segment;
+            }
+        }
+        try (FileOutputStream output = new FileOutputStream(last, true)) {
+            output.write(new byte[] { 0, 0, 1, 0, 0 });
+        }
+
+        LogStore reopened = new LogStore(directory, SEGMENT_SIZE, 1000);
+        assertEquals(RECORDS, reopened.query(new LogQuery().limit(RECORDS + 1)).size());
+        assertEquals(RECORDS / 100, reopened.query(new LogQuery().minLevel(Level.SEVERE).limit(RECORDS)).size());
+
+        // Records appended after the truncated tail are found
+        LogRecord record = new LogRecord();
+        record.setTimeMillis(START + RECORDS * 10L);
+        record.setLevelValue(Level.WARNING.intValue());
+        record.setMessage("Appended");
+        reopened.append(record);
+        List<StoredLogRecord> appended = reopened.query(new LogQuery().from(START + RECORDS * 10L));
+        assertEquals(1, appended.size());
+        assertEquals("Appended", appended.get(0).getMessage());
+        reopened.close();
+    }
+
+    /**
+     * Test that truncated indexes are rebuilt without records counted twice.
+     */
+    @Test
+    public void rebuildTruncatedIndex() throws IOException {
+        File directory = createDirectory();
+        LogStore store = new LogStore(directory, SEGMENT_SIZE, 1000);
+        fill(store);
+        store.close();
+
+        File[] indexes = directory.listFiles((dir, name) -> name.endsWith(".idx"));
+        assertTrue(indexes.length > 10);
+        for (File index : indexes) {
+            try (RandomAccessFile file = new RandomAccessFile(index, "rw")) {
+                file.setLength(file.length() - 3);
+            }
+        }
+        assertEquals(0, directory.listFiles((dir, name) -> name.endsWith(".tmp")).length);
+
+        LogStore reopened = new LogStore(directory, SEGMENT_SIZE, 1000);
+        assertEquals(RECORDS, reopened.query(new LogQuery().limit(RECORDS + 1)).size());
+        assertEquals(RECORDS / 100, reopened.query(new LogQuery().minLevel(Level.SEVERE).limit(RECORDS)).size());
+        reopened.close();
+    }
+
+    /**
+     * Test that records of removed store are not written.
+     */
+    @Test
+    public void ignoreRemovedStore() throws IOException {
+        File directory = createDirectory();
+        LogStore store = new LogStore(directory, SEGMENT_SIZE, 1000);
+        fill(store);
+        store.remove();
+        assertTrue(deleteAll(directory));
+
+        fill(store);
+        assertFalse(directory.exists());
+        assertTrue(store.query(new LogQuery()).isEmpty());
+    }
+
+    /**
+     * Delete directory with its files.
+     */
+    private static boolean deleteAll(File directory) {
+        for (File file : directory.listFiles()) {
+            file.delete();
+        }
+        return directory.delete();
+    }
+
+    /**
+     * Test that oldest segments are deleted when the store grows over its limit.
+     */
+    @Test
+    public void dropOldSegments() throws IOException {
+        File directory = createDirectory();
+        LogStore store = new LogStore(directory, SEGMENT_SIZE, 4);
+        fill(store);
+
+        List<StoredLogRecord> records = store.query(new LogQuery().limit(RECORDS));
+        assertTrue(records.size() < RECORDS);
+        assertEquals(START + (RECORDS - 1) * 10L, records.get(records.size() - 1).getTimeMillis());
+        assertEquals(4, directory.listFiles((dir, name) -> name.endsWith(".log")).length);
+        store.close();
+    }
+
+    /**
+     * Test that time and level value of parsed ODL records are stored.
+     */
+    @Test
+    public void storeParsedRecords() throws IOException {
+        LogStore store = new LogStore(createDirectory());
+        ODLLogFilter filter = new ODLLogFilter();
+        filter.setRecordListener(store::append);
+        filter.process("[2020-04-23T10:53:40.123+0200] [Payara 5.201] [WARNING] [] [javax.enterprise.web] "
+                + "[tid: _ThreadID=1 _ThreadName=main] [timeMillis: 1587635620123] [levelValue: 900] [[");
+        filter.process("  Context path is not set]]");
+        filter.process("");
+
+        List<StoredLogRecord> records = store.query(new LogQuery().minLevel(Level.WARNING));
+        assertEquals(1, records.size());
+        assertEquals(1587635620123L, records.get(0).getTimeMillis());
+        assertEquals(900, records.get(0).getLevelValue());
+        assertEquals("Context path is not set", records.get(0).getMessage());
+        store.close();
+    }
+}
@@ -0,0 +1,118 @@
+/** ****************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ***************************************************************************** */
+package org.eclipse.payara.tools.log;
+
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+
+/**
+ * ODL log record parser test.
+ * <p>
+ * Feeds records in the format of Payara 5 server.log line by line.
+ */
+public class ODLLogFilterTest {
+
+    /** Record with single line message. */
+    private static final String[] STARTED = {
+        "[2020-04-23T10:53:40.123+0200] [Payara 5.201] [INFO] [] [org.glassfish.grizzly.http.server] "
+                + "[tid: _ThreadID=1 _ThreadName=main] [timeMillis: 1587635620123] [levelValue: 800] [[",
+        "  Grizzly Framework 2.4.4 started in: 40ms - bound to [/0.0.0.0:8080]]]",
+        ""
+    };
+
+    /** Record with stack trace, blank line and bracketed thread name. */
+    private static final String[] FAILED = {
+        "[2020-04-23T10:54:02.001+0200] [Payara 5.201] [SEVERE] [AS-WEB-CORE-00037] [javax.enterprise.web.core] "
+                + "[tid: _ThreadID=42 _ThreadName=Thread[pool-1]] [timeMillis: 1587635642001] [levelValue: 1000] [[",
+        "  Request failed [[nested]] for /app",
+        "",
+        "java.lang.IllegalStateException: int[][]",
+        "\tat com.example.Servlet.doGet(Servlet.java:10)]]",
+        ""
+    };
+
+    /**
+     * Feed lines to the filter.
+     * <p/>
+     * @return Records completed by the lines.
+     */
+    private static List<String> process(ODLLogFilter filter, String[]... records) {
+        List<String> result = new ArrayList<>();
+        for (String[] lines : records) {
+            for (String line : lines) {
+                String record = filter.process(line);
+                if (record != null) {
+                    result.add(record);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Test that records are formatted with time, level and message only.
+     */
+    @Test
+    public void parseRecords() {
+        ODLLogFilter filter = new ODLLogFilter();
+        assertFalse(filter.hasProcessedPayara());
+
+        List<String> records = process(filter, STARTED, FAILED, STARTED);
+
+        assertEquals(3, records.size());
+        assertEquals("2020-04-23T10:53:40.123+0200|INFO: Grizzly Framework 2.4.4 started in: 40ms - bound to [/0.0.0.0:8080]",
+                records.get(0));
+        assertEquals("2020-04-23T10:54:02.001+0200|SEVERE: Request failed [[nested]] for /app\n"
+                + "java.lang.IllegalStateException: int[][]\n"
+                + "\tat com.example.Servlet.doGet(Servlet.java:10)",
+                records.get(1));
+        assertEquals(records.get(0), records.get(2));
+        assertTrue(filter.hasProcessedPayara());
+    }
+
+    /**
+     * Test that text written outside of records is passed through.
+     */
+    @Test
+    public void passPlainText() {
+        ODLLogFilter filter = new ODLLogFilter();
+
+        List<String> records = process(filter, new String[] { "Launching GlassFish on Felix platform", "" }, STARTED);
+
+        assertEquals(2, records.size());
+        assertEquals("Launching GlassFish on Felix platform", records.get(0));
+    }
+
+    /**
+     * Test that the buffer grown by a long record is released and the next record still parses.
+     */
+    @Test
+    public void parseLongRecord() {
+        ODLLogFilter filter = new ODLLogFilter();
+        String[] trace = new String[10_003];
+        trace[0] = FAILED[0];
+        trace[1] = "  Request failed";
+        for (int i = 2; i < trace.length - 1; i++) {
+            trace[i] = "\tat com.example.Frame" + i + ".call(Frame.java:1)";
+        }
+        trace[trace.length - 2] += "]]";
+        trace[trace.length - 1] = "";
+
+        List<String> records = process(filter, trace, STARTED);
+
+        assertEquals(2, records.size());
+        assertTrue(records.get(0).endsWith("Frame10001.call(Frame.java:1)"));
+        assertTrue(records.get(1).endsWith("bound to [/0.0.0.0:8080]"));
+    }
+}
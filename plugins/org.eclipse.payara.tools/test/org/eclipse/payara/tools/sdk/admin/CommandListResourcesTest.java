@@ -0,0 +1,63 @@
+/** ****************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ***************************************************************************** */
+package org.eclipse.payara.tools.sdk.admin;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import org.junit.Test;
+
+
+/**
+ * Resources listing test.
+ * <p>
+ * Indexes resource names from dotted names returned by <code>get resources.*</code> and keeps
+ * resources referenced by DAS only.
+ */
+public class CommandListResourcesTest {
+
+    /**
+     * Test that resource names are unescaped, sorted and indexed by command suffix and that resources
+     * not referenced by DAS are left out.
+     */
+    @Test
+    public void resourcesByType() {
+        Set<String> referenced = CommandListResources.referencedNames(Arrays.asList(
+                "servers.server.server.resource-ref.jdbc/__default.enabled",
+                "servers.server.server.resource-ref.jdbc/app\\.ds.enabled",
+                "servers.server.server.resource-ref.jdbc/__TimerPool.enabled",
+                "servers.server.server.resource-ref.jms/queue.enabled",
+                "servers.server.server.resource-ref.mail/session.enabled",
+                "servers.server.server.name"));
+        Map<String, List<String>> resources = CommandListResources.resourcesByType(Arrays.asList(
+                "resources.jdbc-resource.jdbc/__default.pool-name",
+                "resources.jdbc-resource.jdbc/__default.enabled",
+                "resources.jdbc-resource.jdbc/app\\.ds.pool-name",
+                "resources.jdbc-resource.jdbc/__TimerPool.pool-name",
+                "resources.jdbc-connection-pool.DerbyPool.property.PortNumber",
+                "resources.admin-object-resource.jms/queue.res-type",
+                "resources.mail-resource.mail/session.host",
+                "resources.jdbc-resource.jdbc/cluster.pool-name",
+                "resources.custom-resource.custom/cluster.res-type",
+                "resources",
+                "servers.server.server.name"), referenced);
+
+        assertEquals(Arrays.asList("jdbc/__TimerPool", "jdbc/__default", "jdbc/app.ds"),
+                resources.get("jdbc-resource"));
+        assertEquals(Arrays.asList("DerbyPool"), resources.get("jdbc-connection-pool"));
+        assertEquals(Arrays.asList("jms/queue"), resources.get("admin-object"));
+        assertEquals(Arrays.asList("mail/session"), resources.get("javamail-resource"));
+        assertFalse(resources.containsKey("admin-object-resource"));
+        assertFalse(resources.containsKey("custom-resource"));
+        assertEquals(4, resources.size());
+    }
+}
@@ -0,0 +1,46 @@
+/** ****************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ***************************************************************************** */
+package org.eclipse.payara.tools.sdk.admin;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+
+/**
+ * List result value test.
+ * <p>
+ * Decodes items of the list view only when they are read.
+ */
+public class ResultListTest {
+
+    /**
+     * Test that size is known without decoding and only read items are decoded.
+     */
+    @Test
+    public void decodeOnRead() {
+        List<String> source = Arrays.asList(" jdbc/__TimerPool", " jdbc/__default", " jdbc/app");
+        AtomicInteger decoded = new AtomicInteger();
+        List<String> value = ResultList.decodedValue(source, item -> {
+            decoded.incrementAndGet();
+            return item.trim();
+        });
+
+        assertEquals(3, value.size());
+        assertEquals(0, decoded.get());
+
+        assertEquals("jdbc/__default", value.get(1));
+        assertEquals(1, decoded.get());
+
+        assertEquals(Arrays.asList("jdbc/__TimerPool", "jdbc/__default", "jdbc/app"), value);
+        assertEquals(4, decoded.get());
+    }
+}
@@ -0,0 +1,56 @@
+/** ****************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ***************************************************************************** */
+package org.eclipse.payara.tools.sdk.admin;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+
+/**
+ * Map result value test.
+ * <p>
+ * Decodes values of the map view only when they are read.
+ */
+public class ResultMapTest {
+
+    /**
+     * Test that keys are read without decoding and every value is decoded once on first read.
+     */
+    @Test
+    public void decodeOnRead() {
+        Map<String, String> raw = new HashMap<>();
+        raw.put("resources.jdbc-resource.jdbc/__default.enabled", "true");
+        raw.put("resources.jdbc-resource.jdbc/__default.description", "Default%2520resource");
+        AtomicInteger decoded = new AtomicInteger();
+        Map<String, String> value = ResultMap.decodedValue(raw, rawValue -> {
+            decoded.incrementAndGet();
+            return rawValue.replace("%2520", " ");
+        });
+
+        assertEquals(2, value.size());
+        assertTrue(value.containsKey("resources.jdbc-resource.jdbc/__default.enabled"));
+        assertEquals(raw.keySet(), value.keySet());
+        assertEquals(0, decoded.get());
+
+        assertEquals("Default resource", value.get("resources.jdbc-resource.jdbc/__default.description"));
+        assertEquals(1, decoded.get());
+        assertEquals("Default resource", value.get("resources.jdbc-resource.jdbc/__default.description"));
+        assertEquals(1, decoded.get());
+        assertNull(value.get("resources.jdbc-resource.jdbc/__default.pool-name"));
+        assertEquals(1, decoded.get());
+
+        assertEquals("true", value.get("resources.jdbc-resource.jdbc/__default.enabled"));
+        assertEquals(2, decoded.get());
+    }
+}
@@ -0,0 +1,131 @@
+/** ****************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ***************************************************************************** */
+package org.eclipse.payara.tools.sdk.admin.response;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+
+/**
+ * REST XML response parser test.
+ * <p>
+ * Parses responses in the format of the REST admin command resource.
+ */
+public class RestXMLResponseParserTest {
+
+    /** Response of list command with nested and skipped entries. */
+    private static final String LIST_RESPONSE
+            = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+            + "<map>\n"
+            + "  <entry key=\"extraProperties\">\n"
+            + "    <map><entry key=\"methods\"><list><map><entry key=\"name\" value=\"GET\"/></map></list></entry></map>\n"
+            + "  </entry>\n"
+            + "  <entry key=\"message\" value=\"jdbc/__TimerPool&#10;jdbc/__default\"/>\n"
+            + "  <entry key=\"exit_code\" value=\"SUCCESS\"/>\n"
+            + "  <entry key=\"command\" value=\"list-jdbc-resources AdminCommand\"/>\n"
+            + "  <entry key=\"children\">\n"
+            + "    <list>\n"
+            + "      <map>\n"
+            + "        <entry key=\"message\" value=\"jdbc/__TimerPool\"/>\n"
+            + "        <entry key=\"properties\"><map><entry key=\"pool\" value=\"__TimerPool\"/>"
+            + "<entry key=\"nested\"><map/></entry></map></entry>\n"
+            + "      </map>\n"
+            + "      <map>\n"
+            + "        <entry key=\"message\" value=\"jdbc/__default\"/>\n"
+            + "        <entry key=\"children\"><list><map><entry key=\"message\" value=\"inner\"/></map></list></entry>\n"
+            + "      </map>\n"
+            + "    </list>\n"
+            + "  </entry>\n"
+            + "  <entry key=\"subReports\"><list><map><entry key=\"message\" value=\"sub\"/></map></list></entry>\n"
+            + "  <entry key=\"properties\"><map><entry key=\"location\" value=\"/payara/domains/domain1\"/></map></entry>\n"
+            + "</map>\n";
+
+    /** Response of __locations command, locations are in top level properties. */
+    private static final String LOCATION_RESPONSE
+            = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+            + "<map>\n"
+            + "  <entry key=\"message\" value=\"/payara/glassfish/domains/domain1\"/>\n"
+            + "  <entry key=\"exit_code\" value=\"SUCCESS\"/>\n"
+            + "  <entry key=\"command\" value=\"__locations AdminCommand\"/>\n"
+            + "  <entry key=\"properties\">\n"
+            + "    <map>\n"
+            + "      <entry key=\"Base-Root_value\" value=\"/payara/glassfish\"/>\n"
+            + "      <entry key=\"Domain-Root_value\" value=\"/payara/glassfish/domains/domain1\"/>\n"
+            + "      <entry key=\"Instance-Root_value\" value=\"/payara/glassfish/domains/domain1\"/>\n"
+            + "      <entry key=\"Config-Dir_value\" value=\"/payara/glassfish/domains/domain1/config\"/>\n"
+            + "      <entry key=\"Uptime_value\" value=\"12345\"/>\n"
+            + "    </map>\n"
+            + "  </entry>\n"
+            + "  <entry key=\"extraProperties\"><map><entry key=\"methods\"><list/></entry></map></entry>\n"
+            + "</map>\n";
+
+    /**
+     * Parse response.
+     * <p/>
+     * @return Parsed response.
+     */
+    private static RestActionReport parse(String response) {
+        return new RestXMLResponseParser().parse(new ByteArrayInputStream(response.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Test that messages, exit code, properties and children are parsed and other entries skipped.
+     */
+    @Test
+    public void parseList() {
+        RestActionReport report = parse(LIST_RESPONSE);
+
+        assertTrue(report.isSuccess());
+        assertEquals("jdbc/__TimerPool\njdbc/__default", report.getMessage());
+        assertEquals("list-jdbc-resources AdminCommand", report.getCommand());
+        assertTrue(report.getSubActionsReport().isEmpty());
+        assertEquals("/payara/domains/domain1", report.getTopMessagePart().getProperties().getProperty("location"));
+
+        assertEquals(2, report.getTopMessagePart().getChildren().size());
+        MessagePart timerPool = report.getTopMessagePart().getChildren().get(0);
+        assertEquals("jdbc/__TimerPool", timerPool.getMessage());
+        assertEquals("__TimerPool", timerPool.getProperties().getProperty("pool"));
+        assertEquals(1, timerPool.getProperties().size());
+        assertNull(timerPool.getChildren());
+        MessagePart defaultPool = report.getTopMessagePart().getChildren().get(1);
+        assertEquals("jdbc/__default", defaultPool.getMessage());
+        assertEquals("inner", defaultPool.getChildren().get(0).getMessage());
+    }
+
+    /**
+     * Test that locations are read from top level properties.
+     * <p/>
+     * Domain root is compared with domain of local server to tell whether the server running on the
+     * admin port is the configured one, it was not read before top level properties were parsed.
+     */
+    @Test
+    public void parseLocation() {
+        RestActionReport report = parse(LOCATION_RESPONSE);
+
+        assertTrue(report.isSuccess());
+        assertEquals("__locations AdminCommand", report.getCommand());
+        assertEquals(5, report.getTopMessagePart().getProperties().size());
+        assertEquals("/payara/glassfish/domains/domain1",
+                report.getTopMessagePart().getProperties().getProperty("Domain-Root_value"));
+        assertEquals("/payara/glassfish", report.getTopMessagePart().getProperties().getProperty("Base-Root_value"));
+        assertNull(report.getTopMessagePart().getChildren());
+    }
+
+    /**
+     * Test that response without report map is not parsed.
+     */
+    @Test
+    public void parseOther() {
+        assertNull(parse("<?xml version=\"1.0\"?><html><body>Not found</body></html>"));
+    }
+}
@@ -0,0 +1,149 @@
+/** ****************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ***************************************************************************** */
+package org.eclipse.payara.tools.sdk.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.logging.Level;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+
+/**
+ * Server log records gate test.
+ */
+public class LogRecordGateTest {
+
+    /** ODL records of several levels and loggers. */
+    private static final String ODL_LOG
+            = "[2020-04-23T10:53:40.123+0200] [Payara 5.201] [INFO] [] [javax.enterprise.web] "
+            + "[tid: _ThreadID=1 _ThreadName=main] [timeMillis: 1587635620123] [levelValue: 800] [[\n"
+            + "  Request served]]\n"
+            + "\n"
+            + "[2020-04-23T10:53:40.124+0200] [Payara 5.201] [WARNING] [] [javax.enterprise.web] "
+            + "[tid: _ThreadID=1 _ThreadName=main] [timeMillis: 1587635620124] [levelValue: 900] [[\n"
+            + "  Context path is not set]]\n"
+            + "\n"
+            + "[2020-04-23T10:53:40.125+0200] [Payara 5.201] [SEVERE] [] [fish.payara.deployment] "
+            + "[tid: _ThreadID=1 _ThreadName=main] [timeMillis: 1587635620125] [levelValue: 1000] [[\n"
+            + "  Deployment failed\n"
+            + "java.lang.IllegalStateException\n"
+            + "\tat fish.payara.Deployer.deploy(Deployer.java:42)]]\n"
+            + "\n";
+
+    /** ULF records of two levels. */
+    private static final String ULF_LOG
+            = "[#|2020-04-23T10:53:40.123+0200|FINE|Payara 5.201|javax.enterprise.web|_ThreadID=1;|\n"
+            + "  Request served|#]\n"
+            + "\n"
+            + "[#|2020-04-23T10:53:40.124+0200|SEVERE|Payara 5.201|javax.enterprise.web|_ThreadID=1;|\n"
+            + "  Request failed|#]\n"
+            + "\n";
+
+    /**
+     * Write log through gate in chunks of given size.
+     */
+    private static String filter(String log, LogFilterSpec filter, int chunk) throws IOException {
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        LogRecordGate gate = new LogRecordGate(target, filter);
+        byte[] bytes = log.getBytes(StandardCharsets.UTF_8);
+        for (int off = 0; off < bytes.length; off += chunk) {
+            gate.write(bytes, off, Math.min(chunk, bytes.length - off));
+        }
+        gate.close();
+        return new String(target.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Test that ODL records are filtered by level whatever the chunks of written log are.
+     */
+    @Test
+    public void filterOdlLevel() throws IOException {
+        LogFilterSpec warnings = new LogFilterSpec(Level.WARNING, null, null);
+        String expected = ODL_LOG.substring(ODL_LOG.indexOf("[2020-04-23T10:53:40.124"));
+        for (int chunk : new int[] { 1, 7, 100, ODL_LOG.length() }) {
+            assertEquals(expected, filter(ODL_LOG, warnings, chunk));
+        }
+        assertEquals(ODL_LOG, filter(ODL_LOG, LogFilterSpec.ALL, 64));
+    }
+
+    /**
+     * Test that ODL records are filtered by logger prefixes.
+     */
+    @Test
+    public void filterOdlLogger() throws IOException {
+        String deployment = ODL_LOG.substring(ODL_LOG.indexOf("[2020-04-23T10:53:40.125"));
+        assertEquals(deployment, filter(ODL_LOG,
+                new LogFilterSpec(Level.ALL, Arrays.asList("fish.payara"), null), 50));
+        assertEquals(ODL_LOG.substring(0, ODL_LOG.length() - deployment.length()), filter(ODL_LOG,
+                new LogFilterSpec(Level.ALL, null, Arrays.asList("fish.payara.deploy")), 50));
+    }
+
+    /**
+     * Test that ULF records are filtered by level and text around records is passed.
+     */
+    @Test
+    public void filterUlf() throws IOException {
+        String log = "Launching server\n" + ULF_LOG + "Server stopped";
+        String severe = ULF_LOG.substring(ULF_LOG.indexOf("[#|2020-04-23T10:53:40.124"));
+        assertEquals("Launching server\n" + severe + "Server stopped",
+                filter(log, new LogFilterSpec(Level.INFO, null, null), 16));
+    }
+
+    /**
+     * Test that JSON records are filtered by level value and logger.
+     */
+    @Test
+    public void filterJson() throws IOException {
+        String info = "{\"Timestamp\":\"2020-04-23T10:53:40.123+0200\",\"Level\":\"INFO\",\"LoggerName\":"
+                + "\"javax.enterprise.web\",\"LevelValue\":\"800\",\"LogMessage\":\"Request served\"}\n";
+        String severe = "{\"Timestamp\":\"2020-04-23T10:53:40.124+0200\",\"Level\":\"SEVERE\",\"LoggerName\":"
+                + "\"fish.payara.deployment\",\"LogMessage\":\"Deployment failed\"}\n";
+        assertEquals(severe, filter(info + severe, new LogFilterSpec(Level.WARNING, null, null), 10));
+        assertEquals(info, filter(info + severe,
+                new LogFilterSpec(Level.ALL, null, Arrays.asList("fish.payara")), 10));
+    }
+
+    /**
+     * Test that filter is built from preference values.
+     */
+    @Test
+    public void createFromPreferences() {
+        assertEquals(LogFilterSpec.ALL, LogFilterSpec.create("ALL", " ", ""));
+        assertEquals(LogFilterSpec.ALL, LogFilterSpec.create("NO_SUCH_LEVEL", null, null));
+        LogFilterSpec filter = LogFilterSpec.create("WARNING", "fish.payara, javax.enterprise ,", "org.glassfish");
+        assertEquals(Arrays.asList("fish.payara", "javax.enterprise"), filter.getIncludes());
+        assertEquals(Arrays.asList("org.glassfish"), filter.getExcludes());
+        assertTrue(filter.accepts(Level.SEVERE.intValue(), "fish.payara.web"));
+        assertFalse(filter.accepts(Level.INFO.intValue(), "fish.payara.web"));
+        assertFalse(filter.accepts(Level.SEVERE.intValue(), "org.glassfish.web"));
+    }
+
+    /**
+     * Test that joined filters pass records accepted by any of them.
+     */
+    @Test
+    public void joinFilters() throws IOException {
+        LogFilterSpec console = LogFilterSpec.create("SEVERE", "fish.payara", null);
+        LogFilterSpec store = LogFilterSpec.create("INFO", null, null);
+        assertEquals(LogFilterSpec.ALL, console.or(LogFilterSpec.ALL));
+        LogFilterSpec joined = console.or(store);
+        assertTrue(joined.accepts(Level.INFO.intValue(), "javax.enterprise.web"));
+        assertTrue(joined.accepts(Level.SEVERE.intValue(), "fish.payara.web"));
+        assertFalse(joined.accepts(Level.FINE.intValue(), "fish.payara.web"));
+        assertFalse(joined.acceptsAll());
+
+        String warnings = ODL_LOG.substring(ODL_LOG.indexOf("[2020-04-23T10:53:40.124"));
+        assertEquals(warnings, filter(ODL_LOG, console.or(LogFilterSpec.create("WARNING", null, null)), 10));
+    }
+}
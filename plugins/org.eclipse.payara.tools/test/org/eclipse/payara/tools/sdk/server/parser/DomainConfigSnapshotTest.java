@@ -0,0 +1,92 @@
+/** ****************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ***************************************************************************** */
+package org.eclipse.payara.tools.sdk.server.parser;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+
+/**
+ * Domain configuration snapshot test.
+ * <p>
+ * Reads listeners of domain.xml through snapshots of changing file.
+ */
+public class DomainConfigSnapshotTest {
+
+    /** Domain configuration with admin port placeholder. */
+    private static final String DOMAIN_XML
+            = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<!DOCTYPE domain SYSTEM \"http://example.com/unreachable.dtd\">\n"
+            + "<domain log-root=\"${com.sun.aas.instanceRoot}/logs\">\n"
+            + "  <servers>\n"
+            + "    <server name=\"server\" config-ref=\"server-config\"/>\n"
+            + "  </servers>\n"
+            + "  <configs>\n"
+            + "    <config name=\"server-config\">\n"
+            + "      <network-config>\n"
+            + "        <network-listeners>\n"
+            + "          <network-listener name=\"admin-listener\" port=\"%d\" protocol=\"admin-listener\"/>\n"
+            + "          <network-listener name=\"http-listener-1\" port=\"8080\" protocol=\"http-listener-1\"/>\n"
+            + "        </network-listeners>\n"
+            + "      </network-config>\n"
+            + "    </config>\n"
+            + "  </configs>\n"
+            + "</domain>\n";
+
+    /**
+     * Read admin port from snapshot.
+     * <p/>
+     * @return Port of admin listener.
+     */
+    private static int adminPort(DomainConfigSnapshot snapshot) {
+        TargetConfigNameReader configNameReader = new TargetConfigNameReader();
+        assertTrue(TreeParser.readXml(snapshot, configNameReader));
+        assertEquals("server-config", configNameReader.getTargetConfigName());
+        NetworkListenerReader reader = new NetworkListenerReader(configNameReader.getTargetConfigName());
+        TreeParser.readXml(snapshot, reader);
+        assertEquals(8080, reader.getResult().get("http-listener-1").getPort());
+        return reader.getResult().get("admin-listener").getPort();
+    }
+
+    /**
+     * Test that file is parsed again only when its content changes.
+     */
+    @Test
+    public void parseOnChange() throws Exception {
+        File file = File.createTempFile("domain", ".xml");
+        try {
+            Files.write(file.toPath(), String.format(DOMAIN_XML, 4848).getBytes(StandardCharsets.UTF_8));
+            DomainConfigSnapshot snapshot = DomainConfigSnapshotService.getSnapshot(file);
+            assertEquals(4848, adminPort(snapshot));
+            assertSame(snapshot, DomainConfigSnapshotService.getSnapshot(file));
+
+            // Touched file keeps its content
+            Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(snapshot.getLastModified() - 60000));
+            DomainConfigSnapshot touched = DomainConfigSnapshotService.getSnapshot(file);
+            assertEquals(snapshot.getHash(), touched.getHash());
+            assertEquals(snapshot.getLastModified() - 60000, touched.getLastModified());
+            assertEquals(4848, adminPort(touched));
+
+            Files.write(file.toPath(), String.format(DOMAIN_XML, 4849).getBytes(StandardCharsets.UTF_8));
+            Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(snapshot.getLastModified() + 60000));
+            DomainConfigSnapshot changed = DomainConfigSnapshotService.getSnapshot(file);
+            assertNotSame(snapshot, changed);
+            assertEquals(4849, adminPort(changed));
+        } finally {
+            file.delete();
+        }
+    }
+}
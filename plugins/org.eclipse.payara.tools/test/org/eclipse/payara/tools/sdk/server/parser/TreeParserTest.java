@@ -0,0 +1,129 @@
+/** ****************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ***************************************************************************** */
+package org.eclipse.payara.tools.sdk.server.parser;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+
+/**
+ * Tree parser test.
+ * <p>
+ * Reads domain.xml by many readers in single parse session.
+ */
+public class TreeParserTest {
+
+    /** Domain configuration with two servers using different configs. */
+    private static final String DOMAIN_XML
+            = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<domain>\n"
+            + "  <resources>\n"
+            + "    <jdbc-resource pool-name=\"DerbyPool\" jndi-name=\"jdbc/__default\"/>\n"
+            + "    <jdbc-connection-pool name=\"DerbyPool\">\n"
+            + "      <property name=\"PortNumber\" value=\"1527\"/>\n"
+            + "    </jdbc-connection-pool>\n"
+            + "  </resources>\n"
+            + "  <servers>\n"
+            + "    <server name=\"server\" config-ref=\"server-config\"/>\n"
+            + "    <server name=\"instance1\" config-ref=\"instance1-config\"/>\n"
+            + "  </servers>\n"
+            + "  <configs>\n"
+            + "    <config name=\"instance1-config\">\n"
+            + "      <network-config><network-listeners>\n"
+            + "        <network-listener name=\"admin-listener\" port=\"24848\"/>\n"
+            + "      </network-listeners></network-config>\n"
+            + "      <java-config><jvm-options>-Xmx256m</jvm-options></java-config>\n"
+            + "    </config>\n"
+            + "    <config name=\"server-config\">\n"
+            + "      <http-service><http-listener id=\"http-listener-1\" port=\"8080\"/></http-service>\n"
+            + "      <network-config><network-listeners>\n"
+            + "        <network-listener name=\"admin-listener\" port=\"4848\"/>\n"
+            + "      </network-listeners></network-config>\n"
+            + "      <java-config><jvm-options>-Xmx512m</jvm-options><jvm-options>-server</jvm-options></java-config>\n"
+            + "    </config>\n"
+            + "  </configs>\n"
+            + "</domain>\n";
+
+    /**
+     * Test that readers listening to the same paths are all read in one pass.
+     */
+    @Test
+    public void readSession() throws Exception {
+        File file = File.createTempFile("domain", ".xml");
+        try {
+            Files.write(file.toPath(), DOMAIN_XML.getBytes(StandardCharsets.UTF_8));
+
+            TargetConfigNameReader serverName = new TargetConfigNameReader();
+            TargetConfigNameReader instanceName = new TargetConfigNameReader("instance1");
+            NetworkListenerReader serverListeners = new NetworkListenerReader(serverName);
+            HttpListenerReader serverHttpListeners = new HttpListenerReader(serverName);
+            NetworkListenerReader instanceListeners = new NetworkListenerReader(instanceName);
+            JvmConfigReader serverJvm = new JvmConfigReader("server");
+            JvmConfigReader instanceJvm = new JvmConfigReader("instance1");
+            ResourcesReader jdbcResources = new ResourcesReader("/domain/resources/jdbc-resource", "jndi-name");
+            ResourcesReader jdbcPools = new ResourcesReader("/domain/resources/jdbc-connection-pool", "name");
+
+            TreeParser.Session session = new TreeParser.Session()
+                    .add(serverName, instanceName, serverListeners, serverHttpListeners, instanceListeners)
+                    .add(serverJvm, instanceJvm)
+                    .add(jdbcResources, jdbcPools);
+            assertTrue(session.readXml(file));
+            assertEquals(1, session.getPasses());
+
+            assertEquals("server-config", serverName.getTargetConfigName());
+            assertEquals("instance1-config", instanceName.getTargetConfigName());
+            assertEquals(4848, serverListeners.getResult().get("admin-listener").getPort());
+            assertEquals(8080, serverHttpListeners.getResult().get("http-listener-1").getPort());
+            assertEquals(24848, instanceListeners.getResult().get("admin-listener").getPort());
+            assertEquals(1, instanceListeners.getResult().size());
+            assertEquals(2, serverJvm.getJvmOptions().size());
+            assertEquals("-Xmx512m", serverJvm.getJvmOptions().get(0).option);
+            assertEquals(1, instanceJvm.getJvmOptions().size());
+            assertEquals("DerbyPool", jdbcResources.getResourceData().get("jdbc/__default").get("pool-name"));
+            assertEquals("1527", jdbcPools.getResourceData().get("DerbyPool").get("property.PortNumber"));
+        } finally {
+            file.delete();
+        }
+    }
+
+    /**
+     * Test that readers of target config are read again when configs precede servers.
+     */
+    @Test
+    public void readConfigsBeforeServers() throws Exception {
+        String configsFirst = DOMAIN_XML.substring(0, DOMAIN_XML.indexOf("  <servers>"))
+                + DOMAIN_XML.substring(DOMAIN_XML.indexOf("  <configs>"), DOMAIN_XML.indexOf("</domain>"))
+                + DOMAIN_XML.substring(DOMAIN_XML.indexOf("  <servers>"), DOMAIN_XML.indexOf("  <configs>"))
+                + "</domain>\n";
+        File file = File.createTempFile("domain", ".xml");
+        try {
+            Files.write(file.toPath(), configsFirst.getBytes(StandardCharsets.UTF_8));
+
+            TargetConfigNameReader serverName = new TargetConfigNameReader();
+            NetworkListenerReader serverListeners = new NetworkListenerReader(serverName);
+            HttpListenerReader serverHttpListeners = new HttpListenerReader(serverName);
+
+            TreeParser.Session session = new TreeParser.Session()
+                    .add(serverName, serverListeners, serverHttpListeners);
+            assertTrue(session.readXml(file));
+            assertEquals(2, session.getPasses());
+
+            assertEquals("server-config", serverName.getTargetConfigName());
+            assertEquals(4848, serverListeners.getResult().get("admin-listener").getPort());
+            assertEquals(1, serverListeners.getResult().size());
+            assertEquals(8080, serverHttpListeners.getResult().get("http-listener-1").getPort());
+        } finally {
+            file.delete();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/** ****************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ***************************************************************************** */
+package org.eclipse.payara.tools.sdk.server.state;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+
+/**
+ * Non-blocking port prober stress test.
+ * <p>
+ * Probes hundreds of listening and non-listening local ports at once.
+ */
+public class AdminPortProberTest {
+
+    /** Number of listening and of non-listening ports. */
+    private static final int PORTS = 300;
+
+    /** Connect timeout of single probe [ms]. */
+    private static final int TIMEOUT = 3000;
+
+    /**
+     * Test that all listening ports are reported as listening and all closed ports as failed.
+     */
+    @Test
+    public void probeManyPorts() throws Exception {
+        InetAddress loopback = InetAddress.getLoopbackAddress();
+        List<ServerSocket> listening = new ArrayList<>(PORTS);
+        List<Integer> closed = new ArrayList<>(PORTS);
+        try {
+            // Reserve all ports at once so no closed port is handed out again as listening one
+            List<ServerSocket> reserved = new ArrayList<>(PORTS);
+            for (int i = 0; i < PORTS; i++) {
+                listening.add(new ServerSocket(0, 50, loopback));
+                reserved.add(new ServerSocket(0, 50, loopback));
+            }
+            for (ServerSocket socket : reserved) {
+                closed.add(socket.getLocalPort());
+                socket.close();
+            }
+
+            AdminPortProber prober = new AdminPortProber();
+            List<CompletableFuture<Boolean>> listeningResults = new ArrayList<>(PORTS);
+            List<CompletableFuture<Boolean>> closedResults = new ArrayList<>(PORTS);
+            for (int i = 0; i < PORTS; i++) {
+                listeningResults.add(prober.probe(loopback.getHostAddress(), listening.get(i).getLocalPort(), TIMEOUT));
+                closedResults.add(prober.probe(loopback.getHostAddress(), closed.get(i), TIMEOUT));
+            }
+
+            for (CompletableFuture<Boolean> result : listeningResults) {
+                assertTrue(result.get());
+            }
+            for (CompletableFuture<Boolean> result : closedResults) {
+                try {
+                    result.get();
+                    fail("Closed port reported as listening");
+                } catch (ExecutionException e) {
+                    assertTrue(e.getCause() instanceof IOException);
+                }
+            }
+            assertEquals(0, prober.pendingProbes());
+        } finally {
+            for (ServerSocket socket : listening) {
+                socket.close();
+            }
+        }
+    }
+
+    /**
+     * Test that probe of port which does not answer is finished by its own timeout.
+     * <p>
+     * Connections to listening socket with full backlog are not answered.
+     */
+    @Test
+    public void probeTimeout() throws Exception {
+        InetAddress loopback = InetAddress.getLoopbackAddress();
+        List<Socket> backlog = new ArrayList<>();
+        try (ServerSocket server = new ServerSocket(0, 1, loopback)) {
+            for (int i = 0; i < 3; i++) {
+                Socket socket = new Socket();
+                try {
+                    socket.connect(new InetSocketAddress(loopback, server.getLocalPort()), 200);
+                } catch (SocketTimeoutException e) {
+                    // Backlog is full
+                }
+                backlog.add(socket);
+            }
+
+            AdminPortProber prober = new AdminPortProber();
+            CompletableFuture<Boolean> result = prober.probe(loopback.getHostAddress(), server.getLocalPort(), 500);
+            try {
+                result.get();
+                fail("expected timeout");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof SocketTimeoutException);
+            }
+            assertEquals(0, prober.pendingProbes());
+        } finally {
+            for (Socket socket : backlog) {
+                socket.close();
+            }
+        }
+    }
+
+    /**
+     * Test that unknown host fails without being passed to prober thread.
+     */
+    @Test
+    public void probeUnknownHost() throws Exception {
+        AdminPortProber prober = new AdminPortProber();
+        CompletableFuture<Boolean> result = prober.probe("unknown.host.invalid", 4848, TIMEOUT);
+        assertTrue(result.isCompletedExceptionally());
+        assertEquals(0, prober.pendingProbes());
+    }
+}
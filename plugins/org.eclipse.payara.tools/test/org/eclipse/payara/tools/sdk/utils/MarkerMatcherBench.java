@@ -0,0 +1,64 @@
+/** ****************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ***************************************************************************** */
+package org.eclipse.payara.tools.sdk.utils;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Multiple markers matcher microbenchmark.
+ * <p>
+ * Compares the automaton with prefix tree walked from every offset on long process output. Not part
+ * of the test suite, run it from its <code>main</code> method.
+ */
+public class MarkerMatcherBench {
+
+    /** Number of lines of process output. */
+    private static final int LINES = 100_000;
+
+    /** Number of measured rounds, the best one is reported. */
+    private static final int ROUNDS = 5;
+
+    /**
+     * Run benchmark and print the best times of both matchers.
+     */
+    public static void main(String[] args) {
+        StringBuilder output = MarkerMatcherTest.createOutput(LINES);
+        MarkerMatcher<String> matcher = new MarkerMatcher<>(false);
+        StringPrefixTree<String> tree = new StringPrefixTree<>(false);
+        for (String marker : MarkerMatcherTest.MARKERS) {
+            matcher.add(marker, marker);
+            tree.add(marker, marker);
+        }
+
+        int[] automatonFound = new int[1];
+        int treeFound = 0;
+        long automatonTime = Long.MAX_VALUE;
+        long treeTime = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            automatonFound[0] = 0;
+            matcher.scan(output, MarkerMatcher.START, (marker, end) -> ++automatonFound[0] > 0);
+            automatonTime = Math.min(automatonTime, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            treeFound = 0;
+            for (int i = 0; i < output.length(); i++) {
+                if (tree.prefixMatch(output, i) != null) {
+                    treeFound++;
+                }
+            }
+            treeTime = Math.min(treeTime, System.nanoTime() - start);
+        }
+
+        System.out.println("Markers in " + output.length() + " characters: automaton "
+                + automatonFound[0] + " in " + TimeUnit.NANOSECONDS.toMillis(automatonTime)
+                + " ms, prefix tree " + treeFound + " in " + TimeUnit.NANOSECONDS.toMillis(treeTime) + " ms");
+    }
+}
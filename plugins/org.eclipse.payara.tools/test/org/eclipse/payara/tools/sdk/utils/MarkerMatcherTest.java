@@ -0,0 +1,135 @@
+/** ****************************************************************************
+ * Copyright (c) 2026 Payara Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * SPDX-License-Identifier: EPL-2.0
+ ***************************************************************************** */
+package org.eclipse.payara.tools.sdk.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+
+/**
+ * Multiple markers matcher test.
+ * <p>
+ * Checks the automaton against prefix tree walked from every offset.
+ */
+public class MarkerMatcherTest {
+
+    /** Markers looked for in process output. */
+    static final String[] MARKERS = {
+        "Command", "executed successfully", "Command start-domain failed",
+        "Command restore-domain failed", "Command change-admin-password failed",
+        "Waiting for domain1 to start", "Successfully started the domain",
+        "There is a process already using the admin port", "Admin Port", "Debugging is enabled",
+        "startup time", "total(", "bound to [", ":4848]", "No such file or directory",
+        "java.lang.OutOfMemoryError", "Address already in use", "Exception in thread",
+        "CLI130", "Remote server does not listen"
+    };
+
+    /** Number of lines of process output. */
+    private static final int LINES = 10_000;
+
+    /**
+     * Build process output with four markers in every thousand lines, the rest are log records
+     * containing none of them.
+     */
+    static StringBuilder createOutput(int lines) {
+        StringBuilder output = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            switch (i % 1000) {
+            case 0:
+                output.append("Command start-domain executed successfully.\n");
+                break;
+            case 500:
+                output.append("Grizzly Framework started in: 24ms - bound to [/0.0.0.0:4848]\n");
+                break;
+            default:
+                output.append("[2020-04-23T10:53:40.123+0200] [Payara 5.201] [INFO] [] [javax.enterprise.web] ")
+                        .append("[tid: _ThreadID=").append(i % 64).append("] Loading application #")
+                        .append(i).append(" done in ").append(i % 997).append(" ms\n");
+            }
+        }
+        return output;
+    }
+
+    /**
+     * Find markers in string and return them as <code>marker@end</code>.
+     */
+    private static List<String> find(MarkerMatcher<String> matcher, CharSequence str) {
+        List<String> found = new ArrayList<>();
+        matcher.scan(str, MarkerMatcher.START, (marker, end) -> found.add(marker + "@" + end));
+        return found;
+    }
+
+    /**
+     * Test that all markers are found including overlapping ones.
+     */
+    @Test
+    public void findOverlappingMarkers() {
+        MarkerMatcher<String> matcher = new MarkerMatcher<>(true);
+        for (String marker : new String[] { "he", "she", "his", "hers" }) {
+            matcher.add(marker, marker);
+        }
+        assertEquals("[she@4, he@4, hers@6]", find(matcher, "ushers").toString());
+        assertEquals("[his@3, she@5, he@5]", find(matcher, "hishe").toString());
+        assertEquals("[]", find(matcher, "HERS").toString());
+
+        MarkerMatcher<String> ignoreCase = new MarkerMatcher<>(false);
+        ignoreCase.add("Executed successfully", "done");
+        assertEquals("[done@29]", find(ignoreCase, "Command EXECUTED SUCCESSFULLY.").toString());
+    }
+
+    /**
+     * Test that markers are found in cyclic buffer and across input chunks.
+     */
+    @Test
+    public void scanCyclicBuffer() {
+        MarkerMatcher<String> matcher = new MarkerMatcher<>(true);
+        matcher.add("prompt>", "prompt");
+        char[] buff = "pt> Enter prom".toCharArray();
+        List<String> found = new ArrayList<>();
+        matcher.scan(buff, 10, 7, MarkerMatcher.START, (marker, end) -> found.add(marker + "@" + end));
+        assertEquals("[prompt@7]", found.toString());
+
+        int state = matcher.scan("Enter pro", MarkerMatcher.START, (marker, end) -> false);
+        assertEquals(null, matcher.match(state));
+        state = matcher.step(matcher.step(matcher.step(matcher.step(state, 'm'), 'p'), 't'), '>');
+        assertEquals("prompt", matcher.match(state));
+    }
+
+    /**
+     * Compare automaton with prefix tree walked from every offset on long process output.
+     * <p/>
+     * Prefix tree finds at most one marker at every offset. "Command" is prefix of the failure
+     * markers, but no failure is in the output, so both find the same markers.
+     */
+    @Test
+    public void matchPrefixTree() {
+        StringBuilder output = createOutput(LINES);
+        MarkerMatcher<String> matcher = new MarkerMatcher<>(false);
+        StringPrefixTree<String> tree = new StringPrefixTree<>(false);
+        for (String marker : MARKERS) {
+            matcher.add(marker, marker);
+            tree.add(marker, marker);
+        }
+
+        int[] automatonFound = new int[1];
+        matcher.scan(output, MarkerMatcher.START, (marker, end) -> ++automatonFound[0] > 0);
+
+        int treeFound = 0;
+        for (int i = 0; i < output.length(); i++) {
+            if (tree.prefixMatch(output, i) != null) {
+                treeFound++;
+            }
+        }
+
+        assertEquals(LINES / 1000 * 4, treeFound);
+        assertEquals(treeFound, automatonFound[0]);
+    }
+}